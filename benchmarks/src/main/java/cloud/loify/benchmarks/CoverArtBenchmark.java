@@ -0,0 +1,41 @@
+package cloud.loify.benchmarks;
+
+import cloud.loify.benchmarks.baseline.LegacyImageUtils;
+import cloud.loify.packages.utils.ImageUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders a loify cover from a Spotify-sized JPEG source with the current single-pass JPEG path ({@code current}) and
+ * the PNG path it replaced ({@code legacy}). Run with {@code -prof gc} to compare allocation per cover as well as time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class CoverArtBenchmark {
+
+    @Param({"current", "legacy"})
+    public String renderer;
+
+    @Param({"640", "300"}) // The sizes Spotify serves playlist covers in
+    public int sourceSize;
+
+    private byte[] source;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.source = SpotifyPayloads.coverImage(42, this.sourceSize);
+    }
+
+    @Benchmark
+    public String renderCover() throws IOException {
+        return "legacy".equals(this.renderer)
+                ? LegacyImageUtils.loifyPlaylistImage(this.source)
+                : ImageUtils.loifyPlaylistImage(this.source);
+    }
+}
@@ -0,0 +1,69 @@
+package cloud.loify.benchmarks;
+
+import cloud.loify.benchmarks.baseline.TreeDeserializers;
+import cloud.loify.packages.me.dto.GetUserPlaylistsResponseDTO;
+import cloud.loify.packages.track.dto.GetTracksFromPlaylistResponseDTO;
+import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes 100-item Spotify pages with the streaming deserializers ({@code streaming}) and the tree-based ones they
+ * replaced ({@code tree}). Run with {@code -prof gc} to compare allocation per page as well as time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DeserializerBenchmark {
+
+    @Param({"streaming", "tree"})
+    public String deserializer;
+
+    private ObjectReader searchReader;
+    private ObjectReader playlistTracksReader;
+    private ObjectReader userPlaylistsReader;
+
+    private byte[] searchResponse;
+    private byte[] playlistTracksResponse;
+    private byte[] userPlaylistsResponse;
+
+    @Setup
+    public void setUp() {
+        // Same leniency as the WebClient's Boot-configured mapper
+        ObjectMapper mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if ("tree".equals(this.deserializer)) {
+            TreeDeserializers.register(mapper);
+        }
+
+        this.searchReader = mapper.readerFor(SearchTrackResponseDTO.class);
+        this.playlistTracksReader = mapper.readerFor(GetTracksFromPlaylistResponseDTO.class);
+        this.userPlaylistsReader = mapper.readerFor(GetUserPlaylistsResponseDTO.class);
+
+        this.searchResponse = SpotifyPayloads.searchResponse(42);
+        this.playlistTracksResponse = SpotifyPayloads.playlistTracksResponse(42);
+        this.userPlaylistsResponse = SpotifyPayloads.userPlaylistsResponse(42);
+    }
+
+    @Benchmark
+    public SearchTrackResponseDTO searchPage() throws IOException {
+        return this.searchReader.readValue(this.searchResponse);
+    }
+
+    @Benchmark
+    public GetTracksFromPlaylistResponseDTO playlistTracksPage() throws IOException {
+        return this.playlistTracksReader.readValue(this.playlistTracksResponse);
+    }
+
+    @Benchmark
+    public GetUserPlaylistsResponseDTO userPlaylistsPage() throws IOException {
+        return this.userPlaylistsReader.readValue(this.userPlaylistsResponse);
+    }
+}
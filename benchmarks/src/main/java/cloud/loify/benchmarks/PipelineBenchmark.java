@@ -0,0 +1,87 @@
+package cloud.loify.benchmarks;
+
+import cloud.loify.packages.common.client.SingleFlightWebClient;
+import cloud.loify.packages.common.client.SpotifyFields;
+import cloud.loify.packages.common.ratelimit.AdaptiveRateLimiter;
+import cloud.loify.packages.playlist.PlaylistService;
+import cloud.loify.packages.track.TrackSearchEngine;
+import cloud.loify.packages.track.TrackService;
+import cloud.loify.packages.track.dto.TrackMatchDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link PlaylistService#getAndLoifyAllTracksInPlaylist} end to end - paging, name customization, rate limiting,
+ * searching, decoding and ranking - against a {@link SpotifyStubServer} on loopback.
+ * <p>
+ * Each invocation loifys one whole playlist with a cold search cache, so the score is playlists per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    @Param({"100", "1000"})
+    public int playlistSize;
+
+    @Param({"1", "8", "32"})
+    public int searchConcurrency;
+
+    @Param({"0", "5"})
+    public long upstreamLatencyMs;
+
+    private SpotifyStubServer spotify;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private TrackService trackService;
+    private AdaptiveRateLimiter rateLimiter;
+    private SingleFlightWebClient singleFlightClient;
+    private SpotifyFields fields;
+    private PlaylistService playlistService;
+
+    @Setup(Level.Trial)
+    public void startStub() {
+        this.spotify = new SpotifyStubServer(Duration.ofMillis(this.upstreamLatencyMs));
+        this.connectionProvider = ConnectionProvider.builder("benchmark").maxConnections(256).build();
+        this.webClient = WebClient.builder()
+                .baseUrl(this.spotify.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(this.connectionProvider)))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+        this.trackService = new TrackService(this.webClient);
+        // Never throttles - the benchmark measures loify, not Spotify's rate limit
+        this.rateLimiter = new AdaptiveRateLimiter("benchmark", 1_000_000, 1_000_000, 1_000_000);
+        this.singleFlightClient = new SingleFlightWebClient(this.webClient);
+        this.fields = new SpotifyFields(new StandardEnvironment());
+    }
+
+    @Setup(Level.Invocation)
+    public void coldSearchCache() {
+        TrackSearchEngine search = new TrackSearchEngine(this.trackService, this.rateLimiter, this.searchConcurrency, 5, 10_000, Duration.ofHours(1));
+        this.playlistService = new PlaylistService(search, this.webClient, this.singleFlightClient, this.fields);
+    }
+
+    @Benchmark
+    public List<TrackMatchDTO> loifyPlaylist() {
+        return this.playlistService.getAndLoifyAllTracksInPlaylist("benchmark-" + this.playlistSize, "lofi")
+                .collectList()
+                .block();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub() {
+        this.connectionProvider.dispose();
+        this.spotify.close();
+    }
+}
@@ -0,0 +1,193 @@
+package cloud.loify.benchmarks;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Builds Spotify Web API response bodies shaped like the real ones - including the fields loify throws away, such as
+ * the ~185-entry `available_markets` arrays, which dominate the size of track objects.
+ */
+public final class SpotifyPayloads {
+
+    public static final int PAGE_SIZE = 100;
+
+    private static final String MARKETS;
+
+    static {
+        StringBuilder markets = new StringBuilder("[");
+        for (int i = 0; i < 185; i++) {
+            markets.append(i == 0 ? "" : ",").append('"').append((char) ('A' + i / 26 % 26)).append((char) ('A' + i % 26)).append('"');
+        }
+        MARKETS = markets.append(']').toString();
+    }
+
+    private SpotifyPayloads() {
+    }
+
+    /**
+     * A square JPEG playlist cover of `size` pixels - gradients, shapes and noise, so it compresses like a photo would
+     * rather than like a flat test pattern.
+     */
+    public static byte[] coverImage(long seed, int size) throws IOException {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)), size, size, new Color(random.nextInt(0xFFFFFF))));
+        g2d.fillRect(0, 0, size, size);
+        for (int i = 0; i < 40; i++) {
+            g2d.setColor(new Color(random.nextInt(0xFFFFFF) | 0x80000000, true));
+            g2d.fillOval(random.nextInt(size), random.nextInt(size), random.nextInt(size / 2) + 1, random.nextInt(size / 2) + 1);
+        }
+        g2d.dispose();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int noise = random.nextInt(17) - 8;
+                int rgb = image.getRGB(x, y);
+                image.setRGB(x, y, (clamp((rgb >> 16 & 0xFF) + noise) << 16) | (clamp((rgb >> 8 & 0xFF) + noise) << 8) | clamp((rgb & 0xFF) + noise));
+            }
+        }
+
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        return jpeg.toByteArray();
+    }
+
+    private static int clamp(int channel) {
+        return Math.max(0, Math.min(255, channel));
+    }
+
+    /**
+     * A `GET /search?type=track&limit=100` response.
+     */
+    public static byte[] searchResponse(long seed) {
+        return searchResponse(seed, PAGE_SIZE);
+    }
+
+    /**
+     * A `GET /search?type=track&limit={items}` response.
+     */
+    public static byte[] searchResponse(long seed, int items) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder(items * 4096).append("{\"tracks\":{\"href\":\"https://api.spotify.com/v1/search?query=lofi&type=track&offset=0&limit=").append(items).append("\",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            appendTrack(json.append(i == 0 ? "" : ","), random, "Rainy Window (lofi) - " + i);
+        }
+        json.append("],\"limit\":").append(items).append(",\"next\":\"https://api.spotify.com/v1/search?query=lofi&type=track&offset=").append(items)
+                .append("&limit=").append(items).append("\",\"offset\":0,\"previous\":null,\"total\":1000}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A `GET /playlists/{id}/tracks?limit=100` response.
+     */
+    public static byte[] playlistTracksResponse(long seed) {
+        return playlistTracksPage(seed, "https://api.spotify.com/v1", "37i9dQZF1DX8Uebhn9wzrS", 0, PAGE_SIZE);
+    }
+
+    /**
+     * One page of a `GET /playlists/{id}/tracks?offset={offset}&limit=100` response for a playlist of `total` tracks,
+     * with `next` pointing at `{baseUrl}/playlists/{id}/tracks`. Track names are unique per playlist and position.
+     */
+    public static byte[] playlistTracksPage(long seed, String baseUrl, String playlistId, int offset, int total) {
+        Random random = new Random(seed ^ offset);
+        String href = baseUrl + "/playlists/" + playlistId + "/tracks";
+        int items = Math.max(0, Math.min(PAGE_SIZE, total - offset));
+        StringBuilder json = new StringBuilder(items * 4096 + 512).append("{\"href\":\"").append(href).append("?offset=").append(offset).append("&limit=100\",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"added_at\":\"2024-03-0").append(i % 9 + 1).append("T12:00:00Z\",")
+                    .append("\"added_by\":{\"external_urls\":{\"spotify\":\"https://open.spotify.com/user/loify\"},\"href\":\"https://api.spotify.com/v1/users/loify\",\"id\":\"loify\",\"type\":\"user\",\"uri\":\"spotify:user:loify\"},")
+                    .append("\"is_local\":false,\"primary_color\":null,\"track\":");
+            appendTrack(json, random, "Rainy Window (Remastered 2011) - " + playlistId + " " + (offset + i));
+            json.append(",\"video_thumbnail\":{\"url\":null}}");
+        }
+        json.append("],\"limit\":100,\"next\":");
+        if (offset + PAGE_SIZE < total) {
+            json.append('"').append(href).append("?offset=").append(offset + PAGE_SIZE).append("&limit=100\"");
+        } else {
+            json.append("null");
+        }
+        json.append(",\"offset\":").append(offset).append(",\"previous\":null,\"total\":").append(total).append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A `GET /me/playlists` page of 100 playlists.
+     */
+    public static byte[] userPlaylistsResponse(long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder(1 << 18).append("{\"href\":\"https://api.spotify.com/v1/me/playlists?offset=0&limit=100\",\"items\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String id = id(random);
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"collaborative\":false,\"description\":\"Beats to relax and study to, vol. ").append(i).append("\",")
+                    .append("\"external_urls\":{\"spotify\":\"https://open.spotify.com/playlist/").append(id).append("\"},")
+                    .append("\"href\":\"https://api.spotify.com/v1/playlists/").append(id).append("\",\"id\":\"").append(id).append("\",");
+            appendImages(json, random);
+            json.append(",\"name\":\"Playlist ").append(i).append(" [loify-lofi]\",")
+                    .append("\"owner\":{\"display_name\":\"loify\",\"external_urls\":{\"spotify\":\"https://open.spotify.com/user/loify\"},\"href\":\"https://api.spotify.com/v1/users/loify\",\"id\":\"loify\",\"type\":\"user\",\"uri\":\"spotify:user:loify\"},")
+                    .append("\"primary_color\":null,\"public\":true,\"snapshot_id\":\"").append(id).append(id).append("\",")
+                    .append("\"tracks\":{\"href\":\"https://api.spotify.com/v1/playlists/").append(id).append("/tracks\",\"total\":").append(random.nextInt(500)).append("},")
+                    .append("\"type\":\"playlist\",\"uri\":\"spotify:playlist:").append(id).append("\"}");
+        }
+        json.append("],\"limit\":100,\"next\":null,\"offset\":0,\"previous\":null,\"total\":100}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendTrack(StringBuilder json, Random random, String name) {
+        String id = id(random);
+        String albumId = id(random);
+        json.append("{\"album\":{\"album_type\":\"single\",\"artists\":[");
+        appendArtist(json, random);
+        json.append("],\"available_markets\":").append(MARKETS).append(",")
+                .append("\"external_urls\":{\"spotify\":\"https://open.spotify.com/album/").append(albumId).append("\"},")
+                .append("\"href\":\"https://api.spotify.com/v1/albums/").append(albumId).append("\",\"id\":\"").append(albumId).append("\",");
+        appendImages(json, random);
+        json.append(",\"name\":\"Late Night Tapes ").append(random.nextInt(100)).append("\",\"release_date\":\"2023-11-17\",\"release_date_precision\":\"day\",")
+                .append("\"total_tracks\":").append(1 + random.nextInt(12)).append(",\"type\":\"album\",\"uri\":\"spotify:album:").append(albumId).append("\"},")
+                .append("\"artists\":[");
+        int artists = 1 + random.nextInt(3);
+        for (int a = 0; a < artists; a++) {
+            appendArtist(json.append(a == 0 ? "" : ","), random);
+        }
+        json.append("],\"available_markets\":").append(MARKETS).append(",")
+                .append("\"disc_number\":1,\"duration_ms\":").append(120_000 + random.nextInt(120_000)).append(",")
+                .append("\"explicit\":").append(random.nextInt(10) == 0).append(",")
+                .append("\"external_ids\":{\"isrc\":\"QZ").append(id, 0, 10).append("\"},")
+                .append("\"external_urls\":{\"spotify\":\"https://open.spotify.com/track/").append(id).append("\"},")
+                .append("\"href\":\"https://api.spotify.com/v1/tracks/").append(id).append("\",\"id\":\"").append(id).append("\",")
+                .append("\"is_local\":false,\"name\":\"").append(name).append("\",")
+                .append("\"popularity\":").append(random.nextInt(100)).append(",")
+                .append("\"preview_url\":\"https://p.scdn.co/mp3-preview/").append(id).append(id).append("\",")
+                .append("\"track_number\":").append(1 + random.nextInt(12)).append(",\"type\":\"track\",\"uri\":\"spotify:track:").append(id).append("\"}");
+    }
+
+    private static void appendArtist(StringBuilder json, Random random) {
+        String id = id(random);
+        json.append("{\"external_urls\":{\"spotify\":\"https://open.spotify.com/artist/").append(id).append("\"},")
+                .append("\"href\":\"https://api.spotify.com/v1/artists/").append(id).append("\",\"id\":\"").append(id).append("\",")
+                .append("\"name\":\"Artist ").append(id, 0, 6).append("\",\"type\":\"artist\",\"uri\":\"spotify:artist:").append(id).append("\"}");
+    }
+
+    private static void appendImages(StringBuilder json, Random random) {
+        String imageId = id(random);
+        json.append("\"images\":[")
+                .append("{\"height\":640,\"url\":\"https://i.scdn.co/image/ab67616d0000b273").append(imageId).append("\",\"width\":640},")
+                .append("{\"height\":300,\"url\":\"https://i.scdn.co/image/ab67616d00001e02").append(imageId).append("\",\"width\":300},")
+                .append("{\"height\":64,\"url\":\"https://i.scdn.co/image/ab67616d00004851").append(imageId).append("\",\"width\":64}]");
+    }
+
+    private static String id(Random random) {
+        char[] id = new char[22];
+        for (int i = 0; i < id.length; i++) {
+            int c = random.nextInt(62);
+            id[i] = (char) (c < 10 ? '0' + c : c < 36 ? 'a' + c - 10 : 'A' + c - 36);
+        }
+        return new String(id);
+    }
+}
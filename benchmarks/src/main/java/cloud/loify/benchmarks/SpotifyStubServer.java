@@ -0,0 +1,77 @@
+package cloud.loify.benchmarks;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process Reactor Netty server standing in for the Spotify Web API, serving just what the loify pipeline reads:
+ * paged playlist tracks, five-candidate searches and track adds. Every response is delayed by a fixed `latency`.
+ * <p>
+ * Playlist IDs encode their size as `{name}-{trackCount}`, so benchmarks can ask for any playlist without setup.
+ * Pages are rendered once and then served from memory, to keep the stub's own CPU out of the measurement.
+ */
+public final class SpotifyStubServer implements AutoCloseable {
+
+    private static final byte[] SNAPSHOT_RESPONSE = "{\"snapshot_id\":\"AAAAAbenchmark\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final DisposableServer server;
+    private final Duration latency;
+    private final byte[] searchResponse = SpotifyPayloads.searchResponse(7, 5);
+    private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+
+    public SpotifyStubServer(Duration latency) {
+        this.latency = latency;
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/v1/playlists/{playlistId}/tracks", this::playlistTracks)
+                        .post("/v1/playlists/{playlistId}/tracks", (request, response) -> this.send(response, SNAPSHOT_RESPONSE, request.receive().then()))
+                        .get("/v1/search", (request, response) -> this.send(response, this.searchResponse, Mono.empty())))
+                .bindNow();
+    }
+
+    /**
+     * The base URL to configure the WebClient with, e.g. `http://127.0.0.1:51234/v1`.
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + this.server.port() + "/v1";
+    }
+
+    private Mono<Void> playlistTracks(HttpServerRequest request, HttpServerResponse response) {
+        String playlistId = request.param("playlistId");
+        int total = Integer.parseInt(playlistId.substring(playlistId.lastIndexOf('-') + 1));
+        List<String> offset = new QueryStringDecoder(request.uri()).parameters().get("offset");
+        int pageOffset = offset == null ? 0 : Integer.parseInt(offset.get(0));
+
+        byte[] body = this.pages.computeIfAbsent(playlistId + ":" + pageOffset,
+                key -> SpotifyPayloads.playlistTracksPage(1, this.baseUrl(), playlistId, pageOffset, total));
+        return this.send(response, body, Mono.empty());
+    }
+
+    private Mono<Void> send(HttpServerResponse response, byte[] body, Mono<Void> consumeRequest) {
+        return consumeRequest
+                .then(this.latency.isZero() ? Mono.empty() : Mono.delay(this.latency).then())
+                .then(response
+                        .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                        .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.length))
+                        .sendByteArray(Mono.just(body))
+                        .then());
+    }
+
+    @Override
+    public void close() {
+        this.server.disposeNow();
+    }
+}
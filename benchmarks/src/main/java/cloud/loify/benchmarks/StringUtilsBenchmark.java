@@ -0,0 +1,66 @@
+package cloud.loify.benchmarks;
+
+import cloud.loify.packages.utils.StringUtils;
+import cloud.loify.packages.utils.TrackNameNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Customizes and normalizes a mix of real-world track names, as the loify pipeline does once per track.
+ * {@code legacyCustomizeTrackName} is the regex-based implementation {@link TrackNameNormalizer} replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StringUtilsBenchmark {
+
+    static final String[] TRACK_NAMES = {
+            "Bohemian Rhapsody - Remastered 2011",
+            "Blinding Lights",
+            "Dreams (2004 Remaster)",
+            "Old Town Road (feat. Billy Ray Cyrus) - Remix",
+            "Hotel California - 2013 Remaster",
+            "Strobe (Radio Edit)",
+            "Despacito (Featuring Daddy Yankee) [Remix]",
+            "Smells Like Teen Spirit",
+            "Lose Yourself - From \"8 Mile\" Soundtrack",
+            "  Clair de Lune,  L. 32   (Live at Carnegie Hall)  ",
+    };
+
+    private final StringBuilder buffer = new StringBuilder(128);
+
+    @Benchmark
+    public void legacyCustomizeTrackName(Blackhole blackhole) {
+        for (String trackName : TRACK_NAMES) {
+            blackhole.consume(trackName.toLowerCase().replaceAll("\\(.*?\\)", "").trim() + " " + "Lofi".toLowerCase());
+        }
+    }
+
+    @Benchmark
+    public void normalizeIntoReusedBuilder(Blackhole blackhole) {
+        for (String trackName : TRACK_NAMES) {
+            this.buffer.setLength(0);
+            TrackNameNormalizer.normalize(trackName, this.buffer);
+            blackhole.consume(this.buffer.length());
+        }
+    }
+
+    @Benchmark
+    public void customizeTrackName(Blackhole blackhole) {
+        for (String trackName : TRACK_NAMES) {
+            blackhole.consume(StringUtils.customizeTrackName(trackName, "Lofi"));
+        }
+    }
+
+    @Benchmark
+    public void normalizeSearchQuery(Blackhole blackhole) {
+        for (String trackName : TRACK_NAMES) {
+            blackhole.consume(StringUtils.normalizeSearchQuery(trackName));
+        }
+    }
+}
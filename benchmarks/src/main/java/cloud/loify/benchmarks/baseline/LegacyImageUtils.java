@@ -0,0 +1,86 @@
+package cloud.loify.benchmarks.baseline;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Copy of the cover rendering {@code ImageUtils} used before the single-pass JPEG path, kept as the baseline:
+ * full-size decode, resize into a fresh ARGB image, a second draw of that image onto itself, a new {@code Font} per
+ * cover and a PNG encoded into a throwaway buffer and then Base64-encoded as a whole. Reads from bytes instead of a URL.
+ */
+public class LegacyImageUtils {
+
+    private static final float IMAGE_OPACITY = 0.9f;
+    private static final String EMOJI = "\uf06c";
+    private static final int EMOJI_FONT_SIZE = 70;
+    private static final float EMOJI_OPACITY = 0.7f;
+    private static final String FONT_FAMILY = "SansSerif";
+    private static final Color FONT_COLOUR = Color.WHITE;
+    private static final double REDUCTION_FACTOR = 0.85;
+    private static final int MAX_DIMENSION = 200;
+
+    public static String loifyPlaylistImage(byte[] image) throws IOException {
+
+        BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(image));
+        BufferedImage resizedImage = resizeImage(originalImage);
+
+        Graphics2D g2d = resizedImage.createGraphics(); // Use resizedImage as the base and add an overlay
+
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, IMAGE_OPACITY));   // Set the composite for partial opacity
+
+        g2d.drawImage(resizedImage, 0, 0, null);    // Draw the resized image onto itself for opacity effect
+
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, EMOJI_OPACITY));    // Set composite to full opacity and prepare to draw the emoji
+        g2d.setColor(FONT_COLOUR);
+        g2d.setFont(new Font(FONT_FAMILY, Font.PLAIN, EMOJI_FONT_SIZE));
+
+        // Calculate position to center the emoji
+        FontMetrics fontMetrics = g2d.getFontMetrics();
+        int centerX = (resizedImage.getWidth() - fontMetrics.stringWidth(EMOJI)) / 2;
+        int centerY = (resizedImage.getHeight() + fontMetrics.getAscent() - fontMetrics.getDescent()) / 2;
+
+        g2d.drawString(EMOJI, centerX, centerY); // Draw the emoji in the center
+
+        g2d.dispose(); // Release graphics resources
+
+        // Convert final image with emoji overlay to Base64
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            ImageIO.write(resizedImage, "png", baos);
+            return Base64.getEncoder().encodeToString(baos.toByteArray());
+        }
+    }
+
+    public static BufferedImage resizeImage(BufferedImage originalImage) {
+        int originalWidth = originalImage.getWidth();
+        int originalHeight = originalImage.getHeight();
+
+        int newWidth;
+        int newHeight;
+
+        if (originalWidth <= MAX_DIMENSION && originalHeight <= MAX_DIMENSION) {    // Reduce by 15% if the image is already within the limit
+            newWidth = (int) (originalWidth * REDUCTION_FACTOR);
+            newHeight = (int) (originalHeight * REDUCTION_FACTOR);
+        } else if (originalWidth > originalHeight) {    // Resize to fit within the max width while maintaining aspect ratio
+            newWidth = MAX_DIMENSION;
+            newHeight = (int) (originalHeight * ((double) MAX_DIMENSION / originalWidth));
+        } else {    // Resize to fit within the max height while maintaining aspect ratio
+            newHeight = MAX_DIMENSION;
+            newWidth = (int) (originalWidth * ((double) MAX_DIMENSION / originalHeight));
+        }
+
+        // Create resized image with calculated dimensions
+        BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = resizedImage.createGraphics();
+
+        // Draw the original image into the resized image with scaling
+        g2d.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
+        g2d.dispose();
+
+        return resizedImage;
+    }
+}
@@ -0,0 +1,30 @@
+package cloud.loify.benchmarks.baseline;
+
+import cloud.loify.packages.playlist.dto.PlaylistDetailsDTO;
+import cloud.loify.packages.track.dto.TrackDetailsDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Swaps the baseline deserializers in through mix-ins - the DTOs' own {@code @JsonDeserialize} would otherwise win
+ * over anything registered in a module.
+ */
+public final class TreeDeserializers {
+
+    @JsonDeserialize(using = TreeTrackDetailsDTODeserializer.class)
+    private interface TrackDetailsMixIn {
+    }
+
+    @JsonDeserialize(using = TreePlaylistDetailsDTODeserializer.class)
+    private interface PlaylistDetailsMixIn {
+    }
+
+    private TreeDeserializers() {
+    }
+
+    public static ObjectMapper register(ObjectMapper mapper) {
+        return mapper
+                .addMixIn(TrackDetailsDTO.class, TrackDetailsMixIn.class)
+                .addMixIn(PlaylistDetailsDTO.class, PlaylistDetailsMixIn.class);
+    }
+}
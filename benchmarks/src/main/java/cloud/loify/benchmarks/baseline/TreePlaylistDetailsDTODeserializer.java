@@ -0,0 +1,39 @@
+package cloud.loify.benchmarks.baseline;
+
+import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
+import cloud.loify.packages.playlist.dto.PlaylistDetailsDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Verbatim copy of the tree-based deserializer the streaming {@code PlaylistDetailsDTODeserializer} replaced, kept as the baseline.
+ */
+public class TreePlaylistDetailsDTODeserializer extends JsonDeserializer<PlaylistDetailsDTO> {
+    @Override
+    public PlaylistDetailsDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        ObjectMapper mapper = (ObjectMapper) parser.getCodec();
+        ObjectNode node = mapper.readTree(parser);
+
+        String id = node.get("id").asText();
+        String description = node.get("description").asText();
+        String name = node.get("name").asText();
+
+        // Deserialize images into a list
+        List<CoverImageDetailsDTO> images = mapper.convertValue(
+                node.get("images"),
+                mapper.getTypeFactory().constructCollectionType(List.class, CoverImageDetailsDTO.class)
+        );
+
+        // Extract the first image
+        CoverImageDetailsDTO firstImage = (images != null && !images.isEmpty()) ? images.get(0) : null;
+
+        String url = node.get("external_urls").get("spotify").asText();
+        return new PlaylistDetailsDTO(id, description, name, firstImage, url);
+    }
+}
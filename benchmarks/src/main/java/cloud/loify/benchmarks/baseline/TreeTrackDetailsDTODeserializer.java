@@ -0,0 +1,47 @@
+package cloud.loify.benchmarks.baseline;
+
+import cloud.loify.packages.common.dto.AlbumDetailsDTO;
+import cloud.loify.packages.common.dto.ArtistDetailsDTO;
+import cloud.loify.packages.track.dto.TrackDetailsDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Copy of the tree-based deserializer the streaming {@code TrackDetailsDTODeserializer} replaced, kept as the baseline.
+ * Only `duration_ms`, added to the DTO since, was added to it.
+ */
+public class TreeTrackDetailsDTODeserializer extends JsonDeserializer<TrackDetailsDTO> {
+    @Override
+    public TrackDetailsDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        ObjectMapper mapper = (ObjectMapper) parser.getCodec();
+        ObjectNode node = mapper.readTree(parser);
+
+        // Extract basic fields
+        String id = node.get("id").asText();
+        String name = node.get("name").asText();
+        Boolean explicit = node.get("explicit").asBoolean();
+        Integer durationMs = node.get("duration_ms").asInt();
+        String url = node.get("external_urls").get("spotify").asText();
+
+        // Deserialize the album details
+        AlbumDetailsDTO album = mapper.convertValue(
+                node.get("album"),
+                AlbumDetailsDTO.class
+        );
+
+        // Deserialize the artists into a list
+        List<ArtistDetailsDTO> artists = mapper.convertValue(
+                node.get("artists"),
+                mapper.getTypeFactory().constructCollectionType(List.class, ArtistDetailsDTO.class)
+        );
+
+        // Create and return the TrackDetailsDTO instance
+        return new TrackDetailsDTO(id, name, album, artists, explicit, durationMs, url);
+    }
+}
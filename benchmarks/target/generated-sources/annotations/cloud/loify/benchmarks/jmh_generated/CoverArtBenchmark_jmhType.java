@@ -0,0 +1,4 @@
+package cloud.loify.benchmarks.jmh_generated;
+public class CoverArtBenchmark_jmhType extends CoverArtBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package cloud.loify.benchmarks.jmh_generated;
+public class DeserializerBenchmark_jmhType extends DeserializerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package cloud.loify.benchmarks.jmh_generated;
+public class PipelineBenchmark_jmhType extends PipelineBenchmark_jmhType_B3 {
+}
+
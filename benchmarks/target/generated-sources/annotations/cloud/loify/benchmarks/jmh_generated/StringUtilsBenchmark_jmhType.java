@@ -0,0 +1,4 @@
+package cloud.loify.benchmarks.jmh_generated;
+public class StringUtilsBenchmark_jmhType extends StringUtilsBenchmark_jmhType_B3 {
+}
+
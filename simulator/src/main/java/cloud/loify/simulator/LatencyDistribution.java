@@ -0,0 +1,61 @@
+package cloud.loify.simulator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How long a simulated endpoint takes to respond. Parsed from specs such as:
+ * <ul>
+ *     <li>`none`</li>
+ *     <li>`fixed:40ms`</li>
+ *     <li>`uniform:20ms-80ms`</li>
+ *     <li>`lognormal:median=40ms,p99=400ms` - the long-tailed shape real upstream latencies tend to have</li>
+ * </ul>
+ */
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = () -> Duration.ZERO;
+
+    // z-score of the 99th percentile of a standard normal distribution
+    double Z_99 = 2.3263478740408408;
+
+    Duration sample();
+
+    static LatencyDistribution parse(String spec) {
+        String[] kindAndArgs = spec.trim().split(":", 2);
+        String kind = kindAndArgs[0];
+        String args = kindAndArgs.length > 1 ? kindAndArgs[1] : "";
+
+        switch (kind) {
+            case "none":
+                return NONE;
+            case "fixed": {
+                Duration fixed = SimulatorConfig.parseDuration(args);
+                return () -> fixed;
+            }
+            case "uniform": {
+                String[] bounds = args.split("-");
+                long min = SimulatorConfig.parseDuration(bounds[0]).toNanos();
+                long max = SimulatorConfig.parseDuration(bounds[1]).toNanos();
+                if (min > max) {
+                    throw new IllegalArgumentException("Invalid uniform latency (min > max): " + spec);
+                }
+                return () -> Duration.ofNanos(min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+            }
+            case "lognormal": {
+                Map<String, String> params = SimulatorConfig.parseParams(args);
+                double median = SimulatorConfig.parseDuration(params.get("median")).toNanos();
+                double p99 = SimulatorConfig.parseDuration(params.get("p99")).toNanos();
+                if (median <= 0 || p99 < median) {
+                    throw new IllegalArgumentException("Invalid lognormal latency (needs 0 < median <= p99): " + spec);
+                }
+                double mu = Math.log(median);
+                double sigma = (Math.log(p99) - mu) / Z_99;
+                return () -> Duration.ofNanos((long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+}
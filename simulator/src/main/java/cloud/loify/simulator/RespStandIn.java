@@ -0,0 +1,214 @@
+package cloud.loify.simulator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory stand-in for a Redis server, speaking just enough RESP2 for the API's `loify.store.type=redis` store:
+ * `PING`, `AUTH`, `SELECT`, `GET`, `SET` (with `EX`/`PX`), `DEL`, `EXISTS`, `DBSIZE`, `FLUSHALL` and `QUIT`.
+ * One thread per connection, one keyspace; expired keys are dropped when next read.
+ */
+public class RespStandIn {
+
+    private static final Logger logger = LoggerFactory.getLogger(RespStandIn.class);
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+        boolean isExpired(long nowMillis) {
+            return this.expiresAtMillis != 0 && this.expiresAtMillis <= nowMillis;
+        }
+    }
+
+    private final Map<String, Entry> keyspace = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0].replace("--port=", "")) : 6379;
+        new RespStandIn().serve(port);
+    }
+
+    public void serve(int port) throws IOException {
+        this.serve(new ServerSocket(port));
+    }
+
+    /**
+     * Accepts connections on `server` until it is closed.
+     */
+    public void serve(ServerSocket server) throws IOException {
+        try (server) {
+            logger.info("RESP stand-in listening on localhost:{}", server.getLocalPort());
+            while (true) {
+                Socket socket = server.accept();
+                Thread thread = new Thread(() -> this.handle(socket), "resp-" + socket.getPort());
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                boolean quit = this.execute(command, out);
+                out.flush();
+                if (quit) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Connection closed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs a command and writes its reply. Returns whether the client asked to close the connection.
+     */
+    private boolean execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        switch (name) {
+            case "PING" -> writeStatus(out, "PONG");
+            case "AUTH", "SELECT" -> writeStatus(out, "OK"); // Any password, any database
+            case "QUIT" -> {
+                writeStatus(out, "OK");
+                return true;
+            }
+            case "GET" -> {
+                if (command.size() != 2) {
+                    writeError(out, "ERR wrong number of arguments for 'get' command");
+                    break;
+                }
+                Entry entry = this.read(key(command, 1), now);
+                writeBulk(out, entry == null ? null : entry.value());
+            }
+            case "SET" -> {
+                if (command.size() < 3) {
+                    writeError(out, "ERR wrong number of arguments for 'set' command");
+                    break;
+                }
+                long expiresAtMillis = 0;
+                for (int i = 3; i + 1 < command.size(); i += 2) {
+                    String option = new String(command.get(i), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+                    long amount = Long.parseLong(new String(command.get(i + 1), StandardCharsets.US_ASCII));
+                    expiresAtMillis = now + ("EX".equals(option) ? amount * 1000 : amount);
+                }
+                this.keyspace.put(key(command, 1), new Entry(command.get(2), expiresAtMillis));
+                writeStatus(out, "OK");
+            }
+            case "DEL", "EXISTS" -> {
+                long count = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    String key = key(command, i);
+                    if (this.read(key, now) != null) {
+                        count++;
+                        if ("DEL".equals(name)) {
+                            this.keyspace.remove(key);
+                        }
+                    }
+                }
+                writeInteger(out, count);
+            }
+            case "DBSIZE" -> writeInteger(out, this.keyspace.size());
+            case "FLUSHALL", "FLUSHDB" -> {
+                this.keyspace.clear();
+                writeStatus(out, "OK");
+            }
+            default -> writeError(out, "ERR unknown command '" + name + "'");
+        }
+        return false;
+    }
+
+    private Entry read(String key, long nowMillis) {
+        Entry entry = this.keyspace.get(key);
+        if (entry != null && entry.isExpired(nowMillis)) {
+            this.keyspace.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static String key(List<byte[]> command, int index) {
+        return new String(command.get(index), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a command sent as an array of bulk strings - the only form clients send. Null once the client hangs up.
+     */
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("Expected an array, got: " + (char) type);
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected a bulk string");
+            }
+            int length = Integer.parseInt(readLine(in));
+            byte[] value = in.readNBytes(length);
+            if (value.length < length || in.read() != '\r' || in.read() != '\n') {
+                throw new EOFException("Truncated bulk string");
+            }
+            command.add(value);
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new EOFException("Connection closed mid-line");
+            }
+            line.append((char) c);
+        }
+        in.read(); // '\n'
+        return line.toString();
+    }
+
+    private static void writeStatus(OutputStream out, String status) throws IOException {
+        out.write(("+" + status + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void writeError(OutputStream out, String message) throws IOException {
+        out.write(("-" + message + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void writeInteger(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void writeBulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+}
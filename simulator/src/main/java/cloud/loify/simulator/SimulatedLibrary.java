@@ -0,0 +1,325 @@
+package cloud.loify.simulator;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The simulator's in-memory Spotify: users, their tokens and playlists, and a catalogue of tracks.
+ * <p>
+ * Every authorization creates a fresh user with `playlists-per-user` generated playlists. Generated tracks are
+ * derived from their playlist ID and position, so nothing but the playlists users create themselves is stored.
+ */
+public class SimulatedLibrary {
+
+    private static final String[] WORDS = {"rain", "midnight", "coffee", "window", "city", "lights", "slow", "summer",
+            "dreams", "paper", "moon", "ocean", "velvet", "echo", "golden", "static", "drift", "neon", "quiet", "autumn"};
+    private static final String[] SUFFIXES = {"", "", "", " (Remastered 2011)", " - Radio Edit", " (feat. Someone Else)", " [Live]"};
+
+    public record User(String id, String displayName, List<String> playlistIds) {
+    }
+
+    public record Playlist(String id, String ownerId, String name, String description, int generatedTracks,
+                           List<String> addedTrackUris) {
+
+        public int totalTracks() {
+            return this.generatedTracks + this.addedTrackUris.size();
+        }
+    }
+
+    private record Grant(String userId, long expiresAtNanos) {
+    }
+
+    private final int playlistsPerUser;
+    private final int minTracks;
+    private final int maxTracks;
+    private final Duration tokenExpiresIn;
+
+    private final AtomicLong userSequence = new AtomicLong();
+    private final Map<String, String> authorizationCodes = new ConcurrentHashMap<>();
+    private final Map<String, Grant> accessTokens = new ConcurrentHashMap<>();
+    private final Map<String, String> refreshTokens = new ConcurrentHashMap<>();
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final Map<String, Playlist> playlists = new ConcurrentHashMap<>();
+
+    public SimulatedLibrary(SimulatorConfig config) {
+        this.playlistsPerUser = config.playlistsPerUser();
+        int[] tracks = config.tracksPerPlaylist();
+        this.minTracks = tracks[0];
+        this.maxTracks = tracks[1];
+        this.tokenExpiresIn = config.tokenExpiresIn();
+    }
+
+    // --- Accounts (OAuth) ---
+
+    /**
+     * Signs up a new user and returns an authorization code for them.
+     */
+    public String authorize() {
+        String userId = "sim-user-" + this.userSequence.incrementAndGet();
+        List<String> playlistIds = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < this.playlistsPerUser; i++) {
+            int size = this.minTracks == this.maxTracks ? this.minTracks : ThreadLocalRandom.current().nextInt(this.minTracks, this.maxTracks + 1);
+            Playlist playlist = new Playlist(randomId(), userId, capitalize(word(userId.hashCode() + i)) + " Mix " + (i + 1),
+                    "Generated by the loify Spotify simulator", size, new CopyOnWriteArrayList<>());
+            this.playlists.put(playlist.id(), playlist);
+            playlistIds.add(playlist.id());
+        }
+        this.users.put(userId, new User(userId, "Simulated User " + userId.substring(9), playlistIds));
+
+        String code = UUID.randomUUID().toString();
+        this.authorizationCodes.put(code, userId);
+        return code;
+    }
+
+    /**
+     * Redeems an authorization code (once) for a `[accessToken, refreshToken]` pair, or null if the code is unknown.
+     */
+    public String[] redeemAuthorizationCode(String code) {
+        String userId = code == null ? null : this.authorizationCodes.remove(code);
+        if (userId == null) {
+            return null;
+        }
+        String refreshToken = UUID.randomUUID().toString();
+        this.refreshTokens.put(refreshToken, userId);
+        return new String[]{this.issueAccessToken(userId), refreshToken};
+    }
+
+    /**
+     * Issues a new access token for a refresh token, or null if the refresh token is unknown.
+     */
+    public String refresh(String refreshToken) {
+        String userId = refreshToken == null ? null : this.refreshTokens.get(refreshToken);
+        return userId == null ? null : this.issueAccessToken(userId);
+    }
+
+    public Duration tokenExpiresIn() {
+        return this.tokenExpiresIn;
+    }
+
+    /**
+     * Resolves a bearer token to its user, or null if the token is unknown or expired.
+     */
+    public User userForToken(String accessToken) {
+        Grant grant = accessToken == null ? null : this.accessTokens.get(accessToken);
+        if (grant == null) {
+            return null;
+        }
+        if (System.nanoTime() - grant.expiresAtNanos() > 0) {
+            this.accessTokens.remove(accessToken);
+            return null;
+        }
+        return this.users.get(grant.userId());
+    }
+
+    private String issueAccessToken(String userId) {
+        String accessToken = UUID.randomUUID().toString();
+        this.accessTokens.put(accessToken, new Grant(userId, System.nanoTime() + this.tokenExpiresIn.toNanos()));
+        return accessToken;
+    }
+
+    // --- Library ---
+
+    public User user(String userId) {
+        return this.users.get(userId);
+    }
+
+    public Playlist playlist(String playlistId) {
+        return this.playlists.get(playlistId);
+    }
+
+    public Playlist createPlaylist(User owner, String name, String description) {
+        Playlist playlist = new Playlist(randomId(), owner.id(), name, description, 0, new CopyOnWriteArrayList<>());
+        this.playlists.put(playlist.id(), playlist);
+        owner.playlistIds().add(0, playlist.id()); // Newest first, like Spotify
+        return playlist;
+    }
+
+    /**
+     * Inserts `uris` at `position` (or appends them), returning false if the position is out of range.
+     */
+    public boolean addTracks(Playlist playlist, List<String> uris, Integer position) {
+        synchronized (playlist) {
+            int insertAt = position == null ? playlist.addedTrackUris().size() : position - playlist.generatedTracks();
+            if (insertAt < 0 || insertAt > playlist.addedTrackUris().size()) {
+                return false;
+            }
+            playlist.addedTrackUris().addAll(insertAt, uris);
+            return true;
+        }
+    }
+
+    public void unfollow(User user, String playlistId) {
+        user.playlistIds().remove(playlistId);
+        Playlist playlist = this.playlists.get(playlistId);
+        if (playlist != null && playlist.ownerId().equals(user.id())) {
+            this.playlists.remove(playlistId); // Nobody else can see it - drop it to keep long runs bounded
+        }
+    }
+
+    // --- Rendering ---
+
+    public Map<String, Object> renderUser(User user) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("country", "US");
+        json.put("display_name", user.displayName());
+        json.put("email", user.id() + "@simulator.loify.me");
+        json.put("external_urls", Map.of("spotify", "https://open.spotify.com/user/" + user.id()));
+        json.put("followers", Map.of("total", 0));
+        json.put("id", user.id());
+        json.put("product", "premium");
+        json.put("type", "user");
+        json.put("uri", "spotify:user:" + user.id());
+        return json;
+    }
+
+    public Map<String, Object> renderPlaylist(Playlist playlist, boolean simplified, String baseUrl) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("collaborative", false);
+        json.put("description", playlist.description());
+        json.put("external_urls", Map.of("spotify", "https://open.spotify.com/playlist/" + playlist.id()));
+        json.put("id", playlist.id());
+        json.put("images", List.of(image(playlist.id(), 640), image(playlist.id(), 300), image(playlist.id(), 60)));
+        json.put("name", playlist.name());
+        json.put("owner", Map.of("id", playlist.ownerId(), "type", "user", "uri", "spotify:user:" + playlist.ownerId()));
+        json.put("public", true);
+        json.put("snapshot_id", Integer.toHexString(playlist.totalTracks()) + playlist.id());
+        String tracksHref = baseUrl + "/playlists/" + playlist.id() + "/tracks";
+        json.put("tracks", simplified
+                ? Map.of("href", tracksHref, "total", playlist.totalTracks())
+                : this.renderPlaylistTracks(playlist, 0, 100, baseUrl));
+        json.put("type", "playlist");
+        json.put("uri", "spotify:playlist:" + playlist.id());
+        return json;
+    }
+
+    public Map<String, Object> renderPlaylistTracks(Playlist playlist, int offset, int limit, String baseUrl) {
+        int total = playlist.totalTracks();
+        List<Object> items = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        for (int i = offset; i < Math.min(total, offset + limit); i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("added_at", "2024-01-01T00:00:00Z");
+            item.put("added_by", Map.of("id", playlist.ownerId(), "type", "user"));
+            item.put("is_local", false);
+            item.put("track", i < playlist.generatedTracks()
+                    ? renderTrack(trackId(playlist.id(), i), trackName(playlist.id(), i))
+                    : renderTrack(trackIdOf(playlist.addedTrackUris().get(i - playlist.generatedTracks())), "Added track"));
+            items.add(item);
+        }
+        return page(baseUrl + "/playlists/" + playlist.id() + "/tracks", items, offset, limit, total, null);
+    }
+
+    public Map<String, Object> renderUserPlaylists(User user, int offset, int limit, String baseUrl, String path) {
+        List<String> playlistIds = List.copyOf(user.playlistIds());
+        List<Object> items = new ArrayList<>();
+        for (int i = offset; i < Math.min(playlistIds.size(), offset + limit); i++) {
+            Playlist playlist = this.playlists.get(playlistIds.get(i));
+            if (playlist != null) {
+                items.add(this.renderPlaylist(playlist, true, baseUrl));
+            }
+        }
+        return page(baseUrl + path, items, offset, limit, playlistIds.size(), null);
+    }
+
+    public Map<String, Object> renderSearch(String query, int offset, int limit, String baseUrl) {
+        List<Object> items = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            items.add(renderTrack(trackId(query, offset + i), query + (i == 0 ? "" : " " + word(i))));
+        }
+        return Map.of("tracks", page(baseUrl + "/search", items, offset, limit, 1000,
+                "query=" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&type=track"));
+    }
+
+    public static Map<String, Object> renderTrack(String id, String name) {
+        Random random = new Random(id.hashCode());
+        String albumId = randomId(random);
+        String artistId = randomId(random);
+        Map<String, Object> artist = Map.of("id", artistId, "name", capitalize(word(random.nextInt())) + " Collective", "type", "artist",
+                "external_urls", Map.of("spotify", "https://open.spotify.com/artist/" + artistId));
+
+        Map<String, Object> album = new LinkedHashMap<>();
+        album.put("album_type", "single");
+        album.put("artists", List.of(artist));
+        album.put("available_markets", List.of("US", "GB", "DE", "SE", "JP", "BR", "CA", "AU"));
+        album.put("id", albumId);
+        album.put("images", List.of(image(albumId, 640), image(albumId, 300), image(albumId, 64)));
+        album.put("name", capitalize(word(random.nextInt())) + " Sessions");
+        album.put("release_date", "2023-11-17");
+
+        Map<String, Object> track = new LinkedHashMap<>();
+        track.put("album", album);
+        track.put("artists", List.of(artist));
+        track.put("available_markets", List.of("US", "GB", "DE", "SE", "JP", "BR", "CA", "AU"));
+        track.put("duration_ms", 120_000 + random.nextInt(120_000));
+        track.put("explicit", random.nextInt(10) == 0);
+        track.put("external_urls", Map.of("spotify", "https://open.spotify.com/track/" + id));
+        track.put("id", id);
+        track.put("name", name);
+        track.put("popularity", random.nextInt(100));
+        track.put("preview_url", null);
+        track.put("type", "track");
+        track.put("uri", "spotify:track:" + id);
+        return track;
+    }
+
+    private static Map<String, Object> page(String href, List<Object> items, int offset, int limit, int total, String extraQuery) {
+        String query = extraQuery == null ? "" : extraQuery + "&";
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("href", href + "?" + query + "offset=" + offset + "&limit=" + limit);
+        page.put("items", items);
+        page.put("limit", limit);
+        page.put("next", offset + limit < total ? href + "?" + query + "offset=" + (offset + limit) + "&limit=" + limit : null);
+        page.put("offset", offset);
+        page.put("previous", offset > 0 ? href + "?" + query + "offset=" + Math.max(0, offset - limit) + "&limit=" + limit : null);
+        page.put("total", total);
+        return page;
+    }
+
+    private static Map<String, Object> image(String id, int size) {
+        return Map.of("height", size, "width", size, "url", "https://i.scdn.co/image/" + size + id);
+    }
+
+    private static String trackName(String playlistId, int index) {
+        Random random = new Random(playlistId.hashCode() * 31L + index);
+        return capitalize(word(random.nextInt())) + " " + word(random.nextInt()) + SUFFIXES[random.nextInt(SUFFIXES.length)];
+    }
+
+    private static String trackId(String seed, int index) {
+        return randomId(new Random(seed.hashCode() * 31L + index));
+    }
+
+    private static String trackIdOf(String uri) {
+        return uri.substring(uri.lastIndexOf(':') + 1);
+    }
+
+    private static String word(int seed) {
+        return WORDS[Math.floorMod(seed, WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String randomId() {
+        return randomId(ThreadLocalRandom.current());
+    }
+
+    private static String randomId(Random random) {
+        char[] id = new char[22];
+        for (int i = 0; i < id.length; i++) {
+            int c = random.nextInt(62);
+            id[i] = (char) (c < 10 ? '0' + c : c < 36 ? 'a' + c - 10 : 'A' + c - 36);
+        }
+        return new String(id);
+    }
+}
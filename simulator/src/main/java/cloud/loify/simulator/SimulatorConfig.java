@@ -0,0 +1,114 @@
+package cloud.loify.simulator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Simulator settings, given on the command line as `--key=value`. See the README for the full list.
+ */
+public class SimulatorConfig {
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "port", "8090",
+            "latency", "lognormal:median=40ms,p99=400ms",
+            "throttle.probability", "0",
+            "throttle.max-requests-per-second", "0",
+            "throttle.retry-after", "1s",
+            "playlists-per-user", "20",
+            "tracks-per-playlist", "50-500",
+            "token.expires-in", "1h"
+    );
+
+    private final Map<String, String> values;
+
+    private SimulatorConfig(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static SimulatorConfig fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new SimulatorConfig(values);
+    }
+
+    public int port() {
+        return Integer.parseInt(this.values.get("port"));
+    }
+
+    /**
+     * The latency of `endpoint`, from `latency.<endpoint>` if set, otherwise from `latency`.
+     */
+    public LatencyDistribution latency(String endpoint) {
+        return LatencyDistribution.parse(this.values.getOrDefault("latency." + endpoint, this.values.get("latency")));
+    }
+
+    public ThrottlePolicy throttlePolicy() {
+        return new ThrottlePolicy(
+                Double.parseDouble(this.values.get("throttle.probability")),
+                Double.parseDouble(this.values.get("throttle.max-requests-per-second")),
+                parseDuration(this.values.get("throttle.retry-after")));
+    }
+
+    public int playlistsPerUser() {
+        return Integer.parseInt(this.values.get("playlists-per-user"));
+    }
+
+    /**
+     * The `[min, max]` number of tracks in each generated playlist.
+     */
+    public int[] tracksPerPlaylist() {
+        String[] bounds = this.values.get("tracks-per-playlist").split("-");
+        int min = Integer.parseInt(bounds[0]);
+        return new int[]{min, bounds.length > 1 ? Integer.parseInt(bounds[1]) : min};
+    }
+
+    public Duration tokenExpiresIn() {
+        return parseDuration(this.values.get("token.expires-in"));
+    }
+
+    @Override
+    public String toString() {
+        return new TreeMap<>(this.values).toString();
+    }
+
+    /**
+     * Parses `250ms`, `2s`, `5m` or `1h`.
+     */
+    public static Duration parseDuration(String value) {
+        String trimmed = value.trim();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        long amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+        return switch (trimmed.charAt(trimmed.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+
+    /**
+     * Parses `a=1,b=2` into an ordered map.
+     */
+    static Map<String, String> parseParams(String value) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (String param : value.split(",")) {
+            String[] keyAndValue = param.split("=", 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value, got: " + param);
+            }
+            params.put(keyAndValue[0].trim(), keyAndValue[1].trim());
+        }
+        return params;
+    }
+}
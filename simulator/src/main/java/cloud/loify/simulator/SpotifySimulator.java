@@ -0,0 +1,314 @@
+package cloud.loify.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * A local stand-in for the Spotify accounts service and Web API, for load-testing loify without touching Spotify.
+ * <p>
+ * Implements the OAuth authorization-code flow (every login signs up a new user) and the Web API endpoints loify
+ * calls, with paging, per-endpoint latency distributions and 429 injection. `fields=` projections are ignored -
+ * full objects are always returned.
+ */
+public class SpotifySimulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotifySimulator.class);
+    private static final Duration REPORT_INTERVAL = Duration.ofSeconds(10);
+
+    private final SimulatorConfig config;
+    private final SimulatedLibrary library;
+    private final ThrottlePolicy throttlePolicy;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, LatencyDistribution> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private record Reply(int status, Object body) {
+
+        static Reply ok(Object body) {
+            return new Reply(200, body);
+        }
+
+        static Reply error(int status, String message) {
+            return new Reply(status, Map.of("error", Map.of("status", status, "message", message)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ApiHandler {
+        Reply handle(HttpServerRequest request, SimulatedLibrary.User user, String body) throws JsonProcessingException;
+    }
+
+    public SpotifySimulator(SimulatorConfig config) {
+        this.config = config;
+        this.library = new SimulatedLibrary(config);
+        this.throttlePolicy = config.throttlePolicy();
+    }
+
+    public static void main(String[] args) {
+        SimulatorConfig config = SimulatorConfig.fromArgs(args);
+        DisposableServer server = new SpotifySimulator(config).start();
+        logger.info("Spotify simulator listening on http://localhost:{} with {}", server.port(), config);
+        server.onDispose().block();
+    }
+
+    public DisposableServer start() {
+        Flux.interval(REPORT_INTERVAL, REPORT_INTERVAL).subscribe(tick -> this.report());
+
+        return HttpServer.create()
+                .port(this.config.port())
+                .route(routes -> routes
+                        // Accounts service
+                        .get("/authorize", this::authorize)
+                        .post("/api/token", this::token)
+                        // Web API
+                        .get("/v1/me", this.api("me", (request, user, body) -> Reply.ok(this.library.renderUser(user))))
+                        .get("/v1/me/playlists", this.api("me-playlists", (request, user, body) ->
+                                Reply.ok(this.library.renderUserPlaylists(user, offset(request), limit(request, 20, 50), baseUrl(request), "/me/playlists"))))
+                        .get("/v1/users/{userId}/playlists", this.api("user-playlists", this::getUserPlaylists))
+                        .post("/v1/users/{userId}/playlists", this.api("create-playlist", this::createPlaylist))
+                        .get("/v1/playlists/{playlistId}", this.api("playlist", this::getPlaylist))
+                        .get("/v1/playlists/{playlistId}/tracks", this.api("playlist-tracks", this::getPlaylistTracks))
+                        .post("/v1/playlists/{playlistId}/tracks", this.api("add-tracks", this::addTracks))
+                        .delete("/v1/playlists/{playlistId}/followers", this.api("unfollow", this::unfollow))
+                        .get("/v1/search", this.api("search", this::search)))
+                .bindNow();
+    }
+
+    // --- Accounts service ---
+
+    private Mono<Void> authorize(HttpServerRequest request, HttpServerResponse response) {
+        Map<String, List<String>> params = new QueryStringDecoder(request.uri()).parameters();
+        String redirectUri = first(params, "redirect_uri");
+        if (redirectUri == null) {
+            return this.send(response, Reply.error(400, "Missing redirect_uri"));
+        }
+
+        String state = first(params, "state");
+        String location = redirectUri + (redirectUri.contains("?") ? "&" : "?") + "code=" + this.library.authorize()
+                + (state == null ? "" : "&state=" + state);
+        this.count("authorize", 302);
+        return response.status(HttpResponseStatus.FOUND)
+                .header(HttpHeaderNames.LOCATION, location)
+                .send();
+    }
+
+    private Mono<Void> token(HttpServerRequest request, HttpServerResponse response) {
+        return request.receive().aggregate().asString().defaultIfEmpty("")
+                .flatMap(form -> this.delay("token").then(Mono.defer(() -> {
+                    Map<String, List<String>> params = new QueryStringDecoder(form, StandardCharsets.UTF_8, false).parameters();
+                    String grantType = first(params, "grant_type");
+
+                    String accessToken;
+                    String refreshToken = null;
+                    if ("authorization_code".equals(grantType)) {
+                        String[] tokens = this.library.redeemAuthorizationCode(first(params, "code"));
+                        accessToken = tokens == null ? null : tokens[0];
+                        refreshToken = tokens == null ? null : tokens[1];
+                    } else if ("refresh_token".equals(grantType)) {
+                        accessToken = this.library.refresh(first(params, "refresh_token"));
+                    } else {
+                        return this.send(response, new Reply(400, Map.of("error", "unsupported_grant_type")), "token");
+                    }
+                    if (accessToken == null) {
+                        return this.send(response, new Reply(400, Map.of("error", "invalid_grant")), "token");
+                    }
+
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("access_token", accessToken);
+                    body.put("token_type", "Bearer");
+                    body.put("expires_in", this.library.tokenExpiresIn().toSeconds());
+                    body.put("scope", "user-read-private user-read-email playlist-read-private playlist-modify-public playlist-modify-private ugc-image-upload");
+                    if (refreshToken != null) {
+                        body.put("refresh_token", refreshToken);
+                    }
+                    return this.send(response, Reply.ok(body), "token");
+                })));
+    }
+
+    // --- Web API ---
+
+    private Reply getUserPlaylists(HttpServerRequest request, SimulatedLibrary.User user, String body) {
+        SimulatedLibrary.User owner = this.library.user(request.param("userId"));
+        if (owner == null) {
+            return Reply.error(404, "User not found");
+        }
+        return Reply.ok(this.library.renderUserPlaylists(owner, offset(request), limit(request, 20, 50), baseUrl(request),
+                "/users/" + owner.id() + "/playlists"));
+    }
+
+    private Reply createPlaylist(HttpServerRequest request, SimulatedLibrary.User user, String body) throws JsonProcessingException {
+        if (!user.id().equals(request.param("userId"))) {
+            return Reply.error(403, "You cannot create a playlist for another user");
+        }
+        JsonNode json = this.mapper.readTree(body.isEmpty() ? "{}" : body);
+        if (!json.hasNonNull("name")) {
+            return Reply.error(400, "Missing required field: name");
+        }
+        SimulatedLibrary.Playlist playlist = this.library.createPlaylist(user, json.get("name").asText(), json.path("description").asText(null));
+        return new Reply(201, this.library.renderPlaylist(playlist, false, baseUrl(request)));
+    }
+
+    private Reply getPlaylist(HttpServerRequest request, SimulatedLibrary.User user, String body) {
+        SimulatedLibrary.Playlist playlist = this.library.playlist(request.param("playlistId"));
+        return playlist == null ? Reply.error(404, "Resource not found") : Reply.ok(this.library.renderPlaylist(playlist, false, baseUrl(request)));
+    }
+
+    private Reply getPlaylistTracks(HttpServerRequest request, SimulatedLibrary.User user, String body) {
+        SimulatedLibrary.Playlist playlist = this.library.playlist(request.param("playlistId"));
+        return playlist == null
+                ? Reply.error(404, "Resource not found")
+                : Reply.ok(this.library.renderPlaylistTracks(playlist, offset(request), limit(request, 100, 100), baseUrl(request)));
+    }
+
+    private Reply addTracks(HttpServerRequest request, SimulatedLibrary.User user, String body) throws JsonProcessingException {
+        SimulatedLibrary.Playlist playlist = this.library.playlist(request.param("playlistId"));
+        if (playlist == null) {
+            return Reply.error(404, "Resource not found");
+        }
+        if (!playlist.ownerId().equals(user.id())) {
+            return Reply.error(403, "You cannot add tracks to a playlist you don't own");
+        }
+
+        JsonNode json = this.mapper.readTree(body.isEmpty() ? "{}" : body);
+        List<String> uris = new ArrayList<>();
+        json.path("uris").forEach(uri -> uris.add(uri.asText()));
+        if (uris.isEmpty() || uris.size() > 100) {
+            return Reply.error(400, "You can add a maximum of 100 tracks per request");
+        }
+        Integer position = json.hasNonNull("position") ? json.get("position").asInt() : null;
+        if (!this.library.addTracks(playlist, uris, position)) {
+            return Reply.error(400, "Index out of bounds");
+        }
+        return new Reply(201, Map.of("snapshot_id", Integer.toHexString(playlist.totalTracks()) + playlist.id()));
+    }
+
+    private Reply unfollow(HttpServerRequest request, SimulatedLibrary.User user, String body) {
+        this.library.unfollow(user, request.param("playlistId"));
+        return new Reply(200, null);
+    }
+
+    private Reply search(HttpServerRequest request, SimulatedLibrary.User user, String body) {
+        String query = first(new QueryStringDecoder(request.uri()).parameters(), "q");
+        if (query == null || query.isBlank()) {
+            return Reply.error(400, "No search query");
+        }
+        return Reply.ok(this.library.renderSearch(query, offset(request), limit(request, 20, 50), baseUrl(request)));
+    }
+
+    /**
+     * Wraps a Web API handler with what every endpoint does: bearer authentication, throttling and latency.
+     */
+    private BiFunction<HttpServerRequest, HttpServerResponse, Mono<Void>> api(String endpoint, ApiHandler handler) {
+        return (request, response) -> request.receive().aggregate().asString().defaultIfEmpty("")
+                .flatMap(body -> this.delay(endpoint).then(Mono.defer(() -> {
+                    if (this.throttlePolicy.shouldThrottle()) {
+                        response.header(HttpHeaderNames.RETRY_AFTER, this.throttlePolicy.retryAfterHeader());
+                        return this.send(response, Reply.error(429, "API rate limit exceeded"), endpoint);
+                    }
+
+                    String authorization = request.requestHeaders().get(HttpHeaderNames.AUTHORIZATION);
+                    SimulatedLibrary.User user = authorization != null && authorization.startsWith("Bearer ")
+                            ? this.library.userForToken(authorization.substring("Bearer ".length()))
+                            : null;
+                    if (user == null) {
+                        return this.send(response, Reply.error(401, authorization == null ? "No token provided" : "The access token expired"), endpoint);
+                    }
+
+                    try {
+                        return this.send(response, handler.handle(request, user, body), endpoint);
+                    } catch (JsonProcessingException e) {
+                        return this.send(response, Reply.error(400, "Error parsing JSON."), endpoint);
+                    }
+                })));
+    }
+
+    private Mono<Void> delay(String endpoint) {
+        Duration latency = this.latencies.computeIfAbsent(endpoint, this.config::latency).sample();
+        return latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+    }
+
+    private Mono<Void> send(HttpServerResponse response, Reply reply, String endpoint) {
+        this.count(endpoint, reply.status());
+        return this.send(response, reply);
+    }
+
+    private Mono<Void> send(HttpServerResponse response, Reply reply) {
+        response.status(reply.status());
+        if (reply.body() == null) {
+            return response.send();
+        }
+        try {
+            byte[] json = this.mapper.writeValueAsBytes(reply.body());
+            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json; charset=utf-8")
+                    .sendByteArray(Mono.just(json))
+                    .then();
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    // --- Reporting ---
+
+    private void count(String endpoint, int status) {
+        this.requestCounts.computeIfAbsent(endpoint + " " + status, key -> new LongAdder()).increment();
+    }
+
+    private void report() {
+        StringBuilder report = new StringBuilder("Requests in the last ").append(REPORT_INTERVAL.toSeconds()).append("s:");
+        long total = 0;
+        for (Map.Entry<String, LongAdder> count : new TreeMap<>(this.requestCounts).entrySet()) {
+            long requests = count.getValue().sumThenReset();
+            if (requests > 0) {
+                report.append("\n  ").append(count.getKey()).append(": ").append(requests);
+                total += requests;
+            }
+        }
+        if (total > 0) {
+            logger.info("{}\n  total: {} ({}/s)", report, total, total / REPORT_INTERVAL.toSeconds());
+        }
+    }
+
+    // --- Request helpers ---
+
+    private static String baseUrl(HttpServerRequest request) {
+        return "http://" + request.requestHeaders().get(HttpHeaderNames.HOST) + "/v1";
+    }
+
+    private static int offset(HttpServerRequest request) {
+        String offset = first(new QueryStringDecoder(request.uri()).parameters(), "offset");
+        return offset == null ? 0 : Math.max(0, Integer.parseInt(offset));
+    }
+
+    private static int limit(HttpServerRequest request, int defaultLimit, int maxLimit) {
+        String limit = first(new QueryStringDecoder(request.uri()).parameters(), "limit");
+        return limit == null ? defaultLimit : Math.max(1, Math.min(maxLimit, Integer.parseInt(limit)));
+    }
+
+    private static String first(Map<String, List<String>> params, String name) {
+        List<String> values = params.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
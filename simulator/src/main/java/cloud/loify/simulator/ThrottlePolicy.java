@@ -0,0 +1,56 @@
+package cloud.loify.simulator;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which requests get a `429 Too Many Requests`. Spotify throttles per app over a rolling window, so besides
+ * random injection this can also enforce an app-wide request rate (a token bucket, refilled continuously).
+ */
+public class ThrottlePolicy {
+
+    private final double probability;
+    private final double maxRequestsPerSecond;
+    private final Duration retryAfter;
+
+    private double availablePermits;
+    private long lastRefillNanos = System.nanoTime();
+
+    /**
+     * @param probability          chance that any request is throttled regardless of load, 0 to disable.
+     * @param maxRequestsPerSecond app-wide request rate above which requests are throttled, 0 to disable.
+     * @param retryAfter           the `Retry-After` to send along with every 429.
+     */
+    public ThrottlePolicy(double probability, double maxRequestsPerSecond, Duration retryAfter) {
+        this.probability = probability;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.retryAfter = retryAfter;
+        this.availablePermits = maxRequestsPerSecond; // One second of burst
+    }
+
+    public boolean shouldThrottle() {
+        if (this.probability > 0 && ThreadLocalRandom.current().nextDouble() < this.probability) {
+            return true;
+        }
+        return this.maxRequestsPerSecond > 0 && !this.tryAcquire();
+    }
+
+    /**
+     * The `Retry-After` header value, in whole seconds (rounded up, as Spotify does).
+     */
+    public String retryAfterHeader() {
+        return String.valueOf((this.retryAfter.toMillis() + 999) / 1000);
+    }
+
+    private synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        this.availablePermits = Math.min(this.maxRequestsPerSecond,
+                this.availablePermits + (now - this.lastRefillNanos) / 1e9 * this.maxRequestsPerSecond);
+        this.lastRefillNanos = now;
+        if (this.availablePermits < 1) {
+            return false;
+        }
+        this.availablePermits -= 1;
+        return true;
+    }
+}
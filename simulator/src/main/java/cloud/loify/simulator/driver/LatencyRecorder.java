@@ -0,0 +1,81 @@
+package cloud.loify.simulator.driver;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects every latency sample per operation, so percentiles are exact rather than bucketed - a run produces at
+ * most a few million samples.
+ */
+public class LatencyRecorder {
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void record(long latencyNanos, boolean error) {
+            if (this.count == this.nanos.length) {
+                this.nanos = Arrays.copyOf(this.nanos, this.nanos.length * 2);
+            }
+            this.nanos[this.count++] = latencyNanos;
+            if (error) {
+                this.errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(this.nanos, this.count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized long errors() {
+            return this.errors;
+        }
+    }
+
+    private final Map<String, Samples> operations = new ConcurrentHashMap<>();
+
+    public void record(String operation, long latencyNanos, boolean error) {
+        this.operations.computeIfAbsent(operation, op -> new Samples()).record(latencyNanos, error);
+    }
+
+    /**
+     * Renders a throughput and latency table, one row per operation plus a total.
+     */
+    public String report(double elapsedSeconds) {
+        StringBuilder report = new StringBuilder(String.format("%-16s %9s %8s %10s %10s %10s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50 (ms)", "p99 (ms)", "max (ms)"));
+        Samples all = new Samples();
+        for (Map.Entry<String, Samples> operation : new TreeMap<>(this.operations).entrySet()) {
+            long[] sorted = operation.getValue().sorted();
+            long errors = operation.getValue().errors();
+            appendRow(report, operation.getKey(), sorted, errors, elapsedSeconds);
+            for (int i = 0; i < sorted.length; i++) {
+                all.record(sorted[i], i < errors);
+            }
+        }
+        appendRow(report, "total", all.sorted(), all.errors(), elapsedSeconds);
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String operation, long[] sorted, long errors, double elapsedSeconds) {
+        report.append(String.format("%-16s %9d %8d %10.1f %10.1f %10.1f %10.1f%n", operation, sorted.length, errors,
+                sorted.length / elapsedSeconds, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1])));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
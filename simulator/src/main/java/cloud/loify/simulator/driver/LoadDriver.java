@@ -0,0 +1,69 @@
+package cloud.loify.simulator.driver;
+
+import cloud.loify.simulator.SimulatorConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Drives many concurrent frontend sessions through loify's `PlaylistController` and `MeController` - with loify
+ * configured against the simulator - and reports throughput and latency percentiles per operation.
+ * <p>
+ * Options (`--key=value`): `app-url` (http://localhost:8080), `sessions` (50), `duration` (60s), `ramp-up` (10s),
+ * `genre` (lofi) and `loify-ratio` (0.1), the share of iterations that also loify the browsed playlist.
+ */
+public class LoadDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "app-url", "http://localhost:8080",
+                "sessions", "50",
+                "duration", "60s",
+                "ramp-up", "10s",
+                "genre", "lofi",
+                "loify-ratio", "0.1"));
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String appUrl = options.get("app-url");
+        int sessions = Integer.parseInt(options.get("sessions"));
+        Duration duration = SimulatorConfig.parseDuration(options.get("duration"));
+        Duration rampUp = SimulatorConfig.parseDuration(options.get("ramp-up"));
+        double loifyRatio = Double.parseDouble(options.get("loify-ratio"));
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-driver").maxConnections(sessions * 2).build();
+        HttpClient httpClient = HttpClient.create(connectionProvider).followRedirect(false);
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        logger.info("Driving {} sessions against {} for {} (ramp-up {}) ...", sessions, appUrl, duration, rampUp);
+        long start = System.nanoTime();
+        long deadline = start + rampUp.toNanos() + duration.toNanos();
+
+        Flux.range(0, sessions)
+                .flatMap(i -> {
+                    Session session = new Session(httpClient, appUrl, options.get("genre"), loifyRatio, recorder);
+                    return Mono.delay(rampUp.multipliedBy(i).dividedBy(sessions))
+                            .then(session.login())
+                            .then(session.iteration().repeat(() -> System.nanoTime() < deadline).then());
+                }, sessions)
+                .blockLast();
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%nCompleted in %.1fs (%d sessions)%n%s", elapsedSeconds, sessions, recorder.report(elapsedSeconds));
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,153 @@
+package cloud.loify.simulator.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated user of the loify frontend: logs in through the full OAuth redirect dance (against the simulator),
+ * then repeatedly browses a playlist and, now and then, loifys it.
+ */
+public class Session {
+
+    private record Response(int status, HttpHeaders headers, String body) {
+
+        boolean isSuccess() {
+            return this.status >= 200 && this.status < 300;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String appUrl;
+    private final String genre;
+    private final double loifyRatio;
+    private final LatencyRecorder recorder;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    public Session(HttpClient httpClient, String appUrl, String genre, double loifyRatio, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.appUrl = appUrl;
+        this.genre = genre;
+        this.loifyRatio = loifyRatio;
+        this.recorder = recorder;
+    }
+
+    /**
+     * app `/oauth2/authorization/spotify` -> simulator `/authorize` -> app `/login/oauth2/code/spotify`, which exchanges
+     * the code with the simulator and establishes the session.
+     */
+    public Mono<Void> login() {
+        long start = System.nanoTime();
+        return this.exchange(HttpMethod.GET, this.appUrl + "/oauth2/authorization/spotify")
+                .flatMap(toAuthorize -> this.exchange(HttpMethod.GET, location(toAuthorize)))
+                .flatMap(toCallback -> this.exchange(HttpMethod.GET, this.resolve(location(toCallback))))
+                .doOnNext(loggedIn -> {
+                    String location = loggedIn.headers().get(HttpHeaderNames.LOCATION, "");
+                    this.recorder.record("login", System.nanoTime() - start, loggedIn.status() != 302 || location.contains("error"));
+                })
+                .doOnError(error -> this.recorder.record("login", System.nanoTime() - start, true))
+                .then();
+    }
+
+    /**
+     * One pass through the frontend's main flow. Failed steps are recorded and end the iteration early.
+     */
+    public Mono<Void> iteration() {
+        return this.call("me-playlists", HttpMethod.GET, "/v1/me/playlists")
+                .flatMap(playlists -> {
+                    List<String> ids = new ArrayList<>();
+                    playlists.path("items").forEach(item -> ids.add(item.path("id").asText()));
+                    if (ids.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    String playlistId = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+
+                    Mono<Void> browse = this.call("playlist", HttpMethod.GET, "/v1/playlists/" + playlistId)
+                            .then(this.call("playlist-tracks", HttpMethod.GET, "/v1/playlists/" + playlistId + "/tracks"))
+                            .then();
+                    if (ThreadLocalRandom.current().nextDouble() >= this.loifyRatio) {
+                        return browse;
+                    }
+                    return browse
+                            .then(this.call("loify", HttpMethod.POST, "/v1/playlists/" + playlistId + "/loify?genre=" + this.genre))
+                            .flatMap(created -> this.call("delete-playlist", HttpMethod.DELETE, "/v1/me/playlists/" + created.path("id").asText()))
+                            .then();
+                })
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Calls a loify endpoint, records it, and parses the (JSON) response - empty if the call failed.
+     */
+    private Mono<JsonNode> call(String operation, HttpMethod method, String path) {
+        long start = System.nanoTime();
+        return this.exchange(method, this.appUrl + path)
+                .doOnNext(response -> this.recorder.record(operation, System.nanoTime() - start, !response.isSuccess()))
+                .doOnError(error -> this.recorder.record(operation, System.nanoTime() - start, true))
+                .filter(Response::isSuccess)
+                .map(response -> {
+                    try {
+                        return response.body().isEmpty() ? MAPPER.nullNode() : MAPPER.readTree(response.body());
+                    } catch (IOException e) {
+                        return MAPPER.nullNode(); // Plain-text responses, e.g. from the delete endpoints
+                    }
+                });
+    }
+
+    private Mono<Response> exchange(HttpMethod method, String url) {
+        return this.httpClient
+                .headers(headers -> {
+                    if (!this.cookies.isEmpty()) {
+                        headers.set(HttpHeaderNames.COOKIE, this.cookieHeader());
+                    }
+                })
+                .request(method)
+                .uri(url)
+                .responseSingle((response, content) -> {
+                    response.responseHeaders().getAll(HttpHeaderNames.SET_COOKIE).forEach(this::storeCookie);
+                    return content.asString().defaultIfEmpty("")
+                            .map(text -> new Response(response.status().code(), response.responseHeaders(), text));
+                });
+    }
+
+    private synchronized String cookieHeader() {
+        StringBuilder header = new StringBuilder();
+        this.cookies.forEach((name, value) -> header.append(header.isEmpty() ? "" : "; ").append(name).append('=').append(value));
+        return header.toString();
+    }
+
+    private synchronized void storeCookie(String setCookie) {
+        String pair = setCookie.split(";", 2)[0];
+        int separator = pair.indexOf('=');
+        if (separator > 0) {
+            this.cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+        }
+    }
+
+    private String resolve(String location) {
+        return location.startsWith("/") ? this.appUrl + location : location;
+    }
+
+    private static String location(Response redirect) {
+        String location = redirect.headers().get(HttpHeaderNames.LOCATION);
+        if (redirect.status() / 100 != 3 || location == null) {
+            throw new UncheckedIOException(new IOException("Expected a redirect, got HTTP " + redirect.status()));
+        }
+        return location;
+    }
+}
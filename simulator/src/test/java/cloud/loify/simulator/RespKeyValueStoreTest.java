@@ -0,0 +1,74 @@
+package cloud.loify.simulator;
+
+import cloud.loify.packages.common.store.RespKeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Round trips through the API's Redis store client against the stand-in, over a real socket.
+ */
+class RespKeyValueStoreTest {
+
+    private ServerSocket server;
+    private RespKeyValueStore store;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = new ServerSocket(0);
+        Thread thread = new Thread(() -> {
+            try {
+                new RespStandIn().serve(this.server);
+            } catch (IOException e) {
+                // Closed by stop()
+            }
+        }, "resp-stand-in");
+        thread.setDaemon(true);
+        thread.start();
+        this.store = new RespKeyValueStore("localhost", this.server.getLocalPort(), "secret", 1, "test:", 2,
+                Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        this.store.close();
+        this.server.close();
+    }
+
+    @Test
+    void storesReadsAndDeletes() {
+        byte[] value = {0, '\r', '\n', (byte) 0xFF, '$'}; // Binary-safe, including RESP delimiters
+
+        this.store.put("session", value, null).block();
+        assertArrayEquals(value, this.store.get("session").block());
+
+        this.store.put("session", bytes("replaced"), null).block();
+        assertArrayEquals(bytes("replaced"), this.store.get("session").block());
+
+        this.store.delete("session").block();
+        assertNull(this.store.get("session").block());
+        assertNull(this.store.get("never-stored").block());
+    }
+
+    @Test
+    void expiresValues() throws InterruptedException {
+        this.store.put("short", bytes("lived"), Duration.ofMillis(20)).block();
+        this.store.put("long", bytes("lived"), Duration.ofHours(1)).block();
+
+        Thread.sleep(50);
+        assertNull(this.store.get("short").block());
+        assertArrayEquals(bytes("lived"), this.store.get("long").block());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
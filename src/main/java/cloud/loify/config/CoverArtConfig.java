@@ -0,0 +1,60 @@
+package cloud.loify.config;
+
+import cloud.loify.packages.cover.CoverDiskStore;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Resources for generating loify cover art, kept apart from the Spotify API client's.
+ */
+@Configuration
+public class CoverArtConfig {
+
+    /**
+     * Client for downloading source cover images from Spotify's image CDN - no OAuth (the CDN needs none, and it
+     * shouldn't see our tokens) and no rate limiting, since CDN requests don't count against the API's limits.
+     */
+    @Bean
+    public WebClient coverImageWebClient(
+            @Value("${loify.cover.download.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${loify.cover.download.response-timeout:10s}") Duration responseTimeout,
+            @Value("${loify.cover.download.max-size:4194304}") int maxSize) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxSize)) // Caps the size of a source image
+                .build();
+    }
+
+    /**
+     * Second tier of the generated-cover cache, behind {@code CoverArtService}'s in-memory LRU.
+     */
+    @Bean
+    public CoverDiskStore coverDiskStore(
+            @Value("${loify.cover.cache.disk.directory:${java.io.tmpdir}/loify/covers}") Path directory,
+            @Value("${loify.cover.cache.disk.max-bytes:268435456}") long maxBytes) {
+        return new CoverDiskStore("cover-disk", directory, maxBytes);
+    }
+
+    /**
+     * Fixed pool of threads for Java2D rendering and image encoding, so that work never lands on an event loop.
+     * Sized well below the core count - covers are cosmetic and must not compete with request handling.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler coverRenderScheduler(@Value("${loify.cover.render-threads:2}") int renderThreads) {
+        return Schedulers.newParallel("cover-render", renderThreads, true);
+    }
+}
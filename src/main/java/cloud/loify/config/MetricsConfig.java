@@ -0,0 +1,148 @@
+package cloud.loify.config;
+
+import cloud.loify.packages.auth.AuthService;
+import cloud.loify.packages.auth.TokenRefreshScheduler;
+import cloud.loify.packages.common.cache.CacheStats;
+import cloud.loify.packages.common.ratelimit.AdaptiveRateLimiter;
+import cloud.loify.packages.common.ratelimit.RetryBudget;
+import cloud.loify.packages.common.store.MappedLogStore;
+import cloud.loify.packages.cover.CoverArtService;
+import cloud.loify.packages.track.TrackSearchEngine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Exposes loify's own components as Micrometer meters, scraped through the actuator Prometheus endpoint.
+ * Upstream Spotify calls are instrumented separately by {@link cloud.loify.packages.common.client.SpotifyMetricsFilter}.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder trackSearchMetrics(TrackSearchEngine trackSearchEngine) {
+        return registry -> bindCache(registry, "track-search", trackSearchEngine::getCacheStats);
+    }
+
+    @Bean
+    public MeterBinder userProfileCacheMetrics(AuthService authService) {
+        return registry -> bindCache(registry, "user-profile", authService::getProfileCacheStats);
+    }
+
+    @Bean
+    public MeterBinder tokenRefreshMetrics(TokenRefreshScheduler tokenRefreshScheduler) {
+        return registry -> {
+            // Background refreshes are timed by the scheduler itself, as loify.auth.token.refresh
+            FunctionCounter.builder("loify.auth.token.refreshes", tokenRefreshScheduler, TokenRefreshScheduler::getRefreshedInlineCount)
+                    .description("Token refreshes on the request path, which background refreshes are there to avoid")
+                    .tags("path", "request", "result", "success")
+                    .register(registry);
+            Gauge.builder("loify.auth.token.tracked", tokenRefreshScheduler, TokenRefreshScheduler::getTrackedCount)
+                    .description("Principals whose tokens are being kept fresh")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder spotifyRateLimiterMetrics(AdaptiveRateLimiter spotifyRateLimiter) {
+        return registry -> Gauge.builder("loify.ratelimiter.permits", spotifyRateLimiter, AdaptiveRateLimiter::getPermitsPerSecond)
+                .description("Current permitted request rate, per second")
+                .tag("limiter", spotifyRateLimiter.getName())
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder spotifyRetryBudgetMetrics(RetryBudget spotifyRetryBudget) {
+        return registry -> Gauge.builder("loify.retry.budget", spotifyRetryBudget, RetryBudget::getBalance)
+                .description("Retries the budget can currently afford")
+                .tag("budget", spotifyRetryBudget.getName())
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder coverArtMetrics(CoverArtService coverArtService) {
+        return registry -> {
+            Gauge.builder("loify.cover.queue.depth", coverArtService, CoverArtService::getQueueDepth)
+                    .description("Covers waiting for a render thread")
+                    .register(registry);
+            Gauge.builder("loify.cover.active", coverArtService, CoverArtService::getActiveRenders)
+                    .description("Covers being rendered")
+                    .register(registry);
+            FunctionCounter.builder("loify.cover.renders", coverArtService, CoverArtService::getRenderedCount)
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("loify.cover.renders", coverArtService, CoverArtService::getFailedCount)
+                    .tag("result", "failure")
+                    .register(registry);
+            FunctionCounter.builder("loify.cover.renders", coverArtService, CoverArtService::getRejectedCount)
+                    .tag("result", "rejected")
+                    .register(registry);
+            bindCache(registry, "cover-memory", coverArtService::getMemoryCacheStats);
+            bindCache(registry, "cover-disk", coverArtService::getDiskCacheStats);
+            Gauge.builder("loify.cover.cache.disk.usage", coverArtService, CoverArtService::getDiskUsageBytes)
+                    .description("Bytes of generated covers stored on disk")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("loify.cover.render.time", coverArtService, s -> s.getTotalRenderTime(TimeUnit.SECONDS))
+                    .description("Total time spent rendering covers")
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Only bound for the local store - a Redis-compatible one is monitored on the server's side.
+     */
+    @Bean
+    public MeterBinder localStoreMetrics(ObjectProvider<MappedLogStore> localStore) {
+        return registry -> localStore.ifAvailable(store -> {
+            Gauge.builder("loify.store.entries", store, MappedLogStore::getEntryCount)
+                    .tag("store", store.getName())
+                    .register(registry);
+            Gauge.builder("loify.store.live", store, MappedLogStore::getLiveBytes)
+                    .description("Bytes of the log still in use")
+                    .tag("store", store.getName())
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("loify.store.used", store, MappedLogStore::getUsedBytes)
+                    .description("Bytes of the log written since the last compaction")
+                    .tag("store", store.getName())
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("loify.store.capacity", store, MappedLogStore::getCapacity)
+                    .tag("store", store.getName())
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("loify.store.compactions", store, MappedLogStore::getCompactionCount)
+                    .tag("store", store.getName())
+                    .register(registry);
+        });
+    }
+
+    static void bindCache(MeterRegistry registry, String cache, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("loify.cache.gets", stats, s -> s.get().hits())
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("loify.cache.gets", stats, s -> s.get().misses())
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("loify.cache.evictions", stats, s -> s.get().evictions())
+                .tags("cache", cache, "cause", "size")
+                .register(registry);
+        FunctionCounter.builder("loify.cache.evictions", stats, s -> s.get().expirations())
+                .tags("cache", cache, "cause", "expired")
+                .register(registry);
+        Gauge.builder("loify.cache.size", stats, s -> s.get().size())
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
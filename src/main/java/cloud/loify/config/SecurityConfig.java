@@ -1,21 +1,28 @@
 package cloud.loify.config;
 
+import cloud.loify.packages.auth.AuthService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.logout.DelegatingServerLogoutHandler;
 import org.springframework.security.web.server.authentication.logout.SecurityContextServerLogoutHandler;
+import org.springframework.security.web.server.util.matcher.AndServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsConfigurationSource;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 import org.springframework.web.server.session.CookieWebSessionIdResolver;
 import org.springframework.web.server.session.WebSessionIdResolver;
+import reactor.core.publisher.Mono;
 
+import java.net.InetSocketAddress;
 import java.util.List;
 
 import static org.springframework.security.config.Customizer.withDefaults;
+import static org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers.pathMatchers;
 
 @Configuration
 @EnableWebFluxSecurity
@@ -23,22 +30,45 @@ public class SecurityConfig {
     @Value("${frontend.url}")
     private String frontendUrl;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
-    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, AuthService authService) {
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .authorizeExchange(auth -> auth
+                        .pathMatchers("/actuator/health").permitAll() // Probes
+                        .matchers(new AndServerWebExchangeMatcher(onManagementPort(), pathMatchers("/actuator/prometheus"))).permitAll() // Scraping, internal port only
                         .anyExchange().authenticated() // Require authentication for all other requests
                 )
                 .oauth2Login(withDefaults())
                 .logout(logout -> logout
                         .logoutUrl("/v1/auth/session/logout")
-                        .logoutHandler(new SecurityContextServerLogoutHandler())
+                        .logoutHandler(new DelegatingServerLogoutHandler(
+                                new SecurityContextServerLogoutHandler(),
+                                (exchange, authentication) -> Mono.fromRunnable(() -> {
+                                    if (authentication != null) {
+                                        authService.evictUserProfile(authentication.getName()); // Drop the cached /me profile
+                                    }
+                                })))
                 )
                 .build();
     }
 
+    /**
+     * Matches requests that came in on the internal management port rather than the public one.
+     */
+    private ServerWebExchangeMatcher onManagementPort() {
+        return exchange -> {
+            InetSocketAddress localAddress = exchange.getRequest().getLocalAddress();
+            return localAddress != null && localAddress.getPort() == managementPort
+                    ? ServerWebExchangeMatcher.MatchResult.match()
+                    : ServerWebExchangeMatcher.MatchResult.notMatch();
+        };
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
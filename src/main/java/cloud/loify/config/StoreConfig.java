@@ -0,0 +1,69 @@
+package cloud.loify.config;
+
+import cloud.loify.packages.auth.StoreBackedAuthorizedClientService;
+import cloud.loify.packages.auth.StoreBackedSessionRepository;
+import cloud.loify.packages.common.store.KeyValueStore;
+import cloud.loify.packages.common.store.MappedLogStore;
+import cloud.loify.packages.common.store.RespKeyValueStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.session.config.annotation.web.server.EnableSpringWebSession;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Where sessions and authorized clients live - in place of Boot's in-memory defaults, so that a restart doesn't log
+ * everyone out. `loify.store.type=local` (the default) keeps them in a memory-mapped file on this node;
+ * `loify.store.type=redis` keeps them in a Redis-compatible server, for running more than one replica.
+ */
+@Configuration
+@EnableSpringWebSession
+public class StoreConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "loify.store.type", havingValue = "local", matchIfMissing = true)
+    public MappedLogStore localStore(
+            @Value("${loify.store.local.directory:${java.io.tmpdir}/loify/store}") Path directory,
+            @Value("${loify.store.local.initial-capacity:4194304}") int initialCapacity,
+            @Value("${loify.store.local.max-capacity:536870912}") int maxCapacity,
+            @Value("${loify.store.local.sync-writes:false}") boolean syncWrites) {
+        return new MappedLogStore("local", directory, initialCapacity, maxCapacity, syncWrites);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "loify.store.type", havingValue = "redis")
+    public RespKeyValueStore redisStore(
+            @Value("${loify.store.redis.host:localhost}") String host,
+            @Value("${loify.store.redis.port:6379}") int port,
+            @Value("${loify.store.redis.password:}") String password,
+            @Value("${loify.store.redis.database:0}") int database,
+            @Value("${loify.store.redis.key-prefix:loify:}") String keyPrefix,
+            @Value("${loify.store.redis.max-connections:16}") int maxConnections,
+            @Value("${loify.store.redis.timeout:2s}") Duration timeout) {
+        return new RespKeyValueStore(host, port, password, database, keyPrefix, maxConnections, timeout);
+    }
+
+    /**
+     * Replaces Boot's in-memory service - the OAuth2 login flow and {@code authorizedClientManager} both pick this up.
+     */
+    @Bean
+    public ReactiveOAuth2AuthorizedClientService authorizedClientService(
+            KeyValueStore store,
+            ReactiveClientRegistrationRepository clientRegistrationRepository,
+            @Value("${loify.store.authorized-client-ttl:30d}") Duration ttl) {
+        return new StoreBackedAuthorizedClientService(store, clientRegistrationRepository, ttl);
+    }
+
+    @Bean
+    public StoreBackedSessionRepository sessionRepository(
+            KeyValueStore store,
+            @Value("${server.reactive.session.timeout:30m}") Duration maxInactiveInterval,
+            @Value("${loify.session.touch-interval:1m}") Duration touchInterval) {
+        return new StoreBackedSessionRepository(store, maxInactiveInterval, touchInterval);
+    }
+}
@@ -1,8 +1,25 @@
 package cloud.loify.config;
 
+import cloud.loify.packages.auth.TokenRefreshScheduler;
+import cloud.loify.packages.common.client.SpotifyIsolationFilter;
+import cloud.loify.packages.common.client.SpotifyMetricsFilter;
+import cloud.loify.packages.common.client.SpotifyRetryFilter;
+import cloud.loify.packages.common.ratelimit.AdaptiveRateLimiter;
+import cloud.loify.packages.common.ratelimit.Bulkhead;
+import cloud.loify.packages.common.ratelimit.CircuitBreaker;
+import cloud.loify.packages.common.ratelimit.RetryBudget;
+import cloud.loify.packages.utils.HttpUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.security.oauth2.client.AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientProviderBuilder;
@@ -11,35 +28,60 @@ import org.springframework.security.oauth2.client.registration.ReactiveClientReg
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServerOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebClientConfig.class);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
     @Bean
-    public WebClient webClient(ReactiveOAuth2AuthorizedClientManager authorizedClientManager) {
+    @Primary // The Spotify API client - other WebClients (e.g. for cover images) are injected by qualifier
+    public WebClient webClient(ReactiveOAuth2AuthorizedClientManager authorizedClientManager,
+                               AdaptiveRateLimiter spotifyRateLimiter,
+                               SpotifyRetryFilter spotifyRetryFilter,
+                               SpotifyIsolationFilter spotifyIsolationFilter,
+                               ReactorClientHttpConnector spotifyHttpConnector,
+                               MeterRegistry meterRegistry,
+                               @Value("${loify.spotify.api.base-url:https://api.spotify.com/v1}") String spotifyBaseUrl) {
         ServerOAuth2AuthorizedClientExchangeFilterFunction oauth2FilterFunction = new ServerOAuth2AuthorizedClientExchangeFilterFunction(authorizedClientManager);
         oauth2FilterFunction.setDefaultOAuth2AuthorizedClient(true); // Use default client if none is specified
 
         return WebClient.builder()
-                .baseUrl("https://api.spotify.com/v1")
+                .baseUrl(spotifyBaseUrl) // Overridable to point loify at the Spotify simulator
+                .clientConnector(spotifyHttpConnector)
                 .filter(oauth2FilterFunction) // Apply the OAuth2 filter
-                .filter(retryFilter()) // Apply the retry filter for 429 responses
+                .filter(spotifyRetryFilter) // Retries throttled and failed attempts - see SpotifyRetryFilter
+                .filter(spotifyIsolationFilter) // Per-endpoint bulkheads and circuit breakers, checked on every attempt
+                .filter(rateLimitFeedbackFilter(spotifyRateLimiter)) // Inner filters see every attempt's response
+                .filter(new SpotifyMetricsFilter(meterRegistry))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024)) // 16 MB
                 .build();
     }
 
+    /**
+     * Authorizes Spotify calls, refreshing tokens in the background shortly before they expire - see
+     * {@link TokenRefreshScheduler}. Only the inner request-path manager still refreshes inline, for tokens that were
+     * let expire (e.g. because their user had been idle).
+     */
     @Bean
-    public ReactiveOAuth2AuthorizedClientManager authorizedClientManager(
+    public TokenRefreshScheduler authorizedClientManager(
             ReactiveClientRegistrationRepository clientRegistrationRepository,
-            ReactiveOAuth2AuthorizedClientService authorizedClientService) {
+            ReactiveOAuth2AuthorizedClientService authorizedClientService,
+            MeterRegistry meterRegistry,
+            @Value("${loify.auth.token-refresh.ahead:5m}") Duration refreshAhead,
+            @Value("${loify.auth.token-refresh.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${loify.auth.token-refresh.retry-delay:30s}") Duration retryDelay) {
 
-        AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager manager =
+        AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager requestManager =
                 new AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager(clientRegistrationRepository, authorizedClientService);
 
-        manager.setAuthorizedClientProvider(
+        requestManager.setAuthorizedClientProvider(
                 ReactiveOAuth2AuthorizedClientProviderBuilder.builder()
                         .authorizationCode()
                         .refreshToken()
@@ -48,22 +90,130 @@ public class WebClientConfig {
                         .build()
         );
 
-        return manager;
+        AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager refreshManager =
+                new AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager(clientRegistrationRepository, authorizedClientService);
+        refreshManager.setAuthorizedClientProvider(
+                ReactiveOAuth2AuthorizedClientProviderBuilder.builder()
+                        .refreshToken(refresh -> refresh.clockSkew(refreshAhead.multipliedBy(2))) // Covers refreshAhead plus its jitter
+                        .build()
+        );
+
+        return new TokenRefreshScheduler(requestManager, refreshManager, meterRegistry, refreshAhead, idleTimeout, retryDelay);
+    }
+
+    /**
+     * Dedicated connection pool for Spotify calls, sized so that fan-out bursts queue (briefly and boundedly) for a
+     * connection instead of surfacing as unexplained latency. Idle and long-lived connections are evicted in the
+     * background so requests don't pick up connections the server or a proxy has already dropped.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider spotifyConnectionProvider(
+            @Value("${loify.spotify.http.max-connections:200}") int maxConnections,
+            @Value("${loify.spotify.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${loify.spotify.http.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${loify.spotify.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${loify.spotify.http.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${loify.spotify.http.eviction-interval:30s}") Duration evictionInterval) {
+        return ConnectionProvider.builder("spotify")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true) // Active/idle/pending connection gauges, published through the global Micrometer registry
+                .build();
+    }
+
+    @Bean
+    public ReactorClientHttpConnector spotifyHttpConnector(
+            ConnectionProvider spotifyConnectionProvider,
+            @Value("${loify.spotify.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${loify.spotify.http.response-timeout:10s}") Duration responseTimeout,
+            @Value("${loify.spotify.http.http2-enabled:true}") boolean http2Enabled,
+            @Value("${loify.spotify.api.base-url:https://api.spotify.com/v1}") String spotifyBaseUrl) {
+        HttpClient httpClient = HttpClient.create(spotifyConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        if (!spotifyBaseUrl.startsWith("https:")) {
+            // Plain-text upstream (e.g. the simulator) - HTTP/2 would need prior knowledge, so stick to HTTP/1.1
+            httpClient = httpClient.protocol(HttpProtocol.HTTP11);
+        } else if (http2Enabled) {
+            // Negotiated via ALPN - falls back to HTTP/1.1 if the server doesn't offer HTTP/2
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        logger.info("Spotify HTTP client configured for {} (HTTP/2: {}, response timeout: {})", spotifyBaseUrl,
+                http2Enabled && spotifyBaseUrl.startsWith("https:"), responseTimeout);
+
+        return new ReactorClientHttpConnector(httpClient);
     }
 
-    private ExchangeFilterFunction retryFilter() {
+    /**
+     * Node-wide limiter for Spotify calls - Spotify rate limits per app, so all users share the same budget.
+     */
+    @Bean
+    public AdaptiveRateLimiter spotifyRateLimiter(
+            @Value("${loify.spotify.rate-limit.max-permits-per-second:10}") double maxPermitsPerSecond,
+            @Value("${loify.spotify.rate-limit.min-permits-per-second:1}") double minPermitsPerSecond,
+            @Value("${loify.spotify.rate-limit.burst-capacity:10}") int burstCapacity) {
+        return new AdaptiveRateLimiter("spotify", maxPermitsPerSecond, minPermitsPerSecond, burstCapacity);
+    }
+
+    /**
+     * Node-wide cap on retries: up to `ratio` of a retry per request made, plus `min-per-second` regardless of traffic.
+     */
+    @Bean
+    public RetryBudget spotifyRetryBudget(
+            @Value("${loify.spotify.retry.budget.ratio:0.2}") double ratio,
+            @Value("${loify.spotify.retry.budget.min-per-second:5}") double minRetriesPerSecond,
+            @Value("${loify.spotify.retry.budget.max-balance:100}") int maxBalance) {
+        return new RetryBudget("spotify", ratio, minRetriesPerSecond, maxBalance);
+    }
+
+    @Bean
+    public SpotifyRetryFilter spotifyRetryFilter(
+            RetryBudget spotifyRetryBudget,
+            MeterRegistry meterRegistry,
+            @Value("${loify.spotify.retry.max-attempts:3}") int maxAttempts,
+            @Value("${loify.spotify.retry.base-delay:250ms}") Duration baseDelay,
+            @Value("${loify.spotify.retry.max-delay:5s}") Duration maxDelay,
+            @Value("${loify.spotify.retry.max-retry-after:30s}") Duration maxRetryAfter) {
+        return new SpotifyRetryFilter(spotifyRetryBudget, meterRegistry, maxAttempts, baseDelay, maxDelay, maxRetryAfter);
+    }
+
+    /**
+     * Per-endpoint bulkheads and circuit breakers. By default, every endpoint gets a quarter of the connection pool, so
+     * a single slow one can't take all of it.
+     */
+    @Bean
+    public SpotifyIsolationFilter spotifyIsolationFilter(
+            MeterRegistry meterRegistry,
+            @Value("${loify.spotify.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${loify.spotify.bulkhead.max-waiting-calls:500}") int maxWaitingCalls,
+            @Value("${loify.spotify.bulkhead.max-wait:5s}") Duration maxWait,
+            @Value("${loify.spotify.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${loify.spotify.circuit-breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+            @Value("${loify.spotify.circuit-breaker.slow-call-duration:4s}") Duration slowCallDuration,
+            @Value("${loify.spotify.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${loify.spotify.circuit-breaker.window:30s}") Duration window,
+            @Value("${loify.spotify.circuit-breaker.open-duration:15s}") Duration openDuration,
+            @Value("${loify.spotify.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        return new SpotifyIsolationFilter(meterRegistry,
+                endpoint -> new Bulkhead(endpoint, maxConcurrentCalls, maxWaitingCalls, maxWait),
+                endpoint -> new CircuitBreaker(endpoint, failureRateThreshold, slowCallRateThreshold, slowCallDuration,
+                        minimumCalls, window, openDuration, halfOpenCalls));
+    }
+
+    private ExchangeFilterFunction rateLimitFeedbackFilter(AdaptiveRateLimiter rateLimiter) {
         return (request, next) -> next.exchange(request)
-                .flatMap(response -> {
+                .doOnNext(response -> {
                     if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                        String retryAfterHeader = response.headers().asHttpHeaders().getFirst("Retry-After");
-                        long retryAfterSeconds = retryAfterHeader != null ? Long.parseLong(retryAfterHeader) : 1;
-                        System.out.printf("Received 429 Too Many Requests. Retrying after %d seconds.%n", retryAfterSeconds);
-
-                        // Delay before retrying the operation
-                        return Mono.delay(Duration.ofSeconds(retryAfterSeconds))
-                                .then(next.exchange(request));
+                        String retryAfterHeader = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                        rateLimiter.onThrottled(HttpUtils.parseRetryAfter(retryAfterHeader, DEFAULT_RETRY_AFTER));
+                    } else if (response.statusCode().is2xxSuccessful()) {
+                        rateLimiter.onSuccess();
                     }
-                    return Mono.just(response);
                 });
     }
 }
@@ -1,48 +1,71 @@
 package cloud.loify.packages.auth;
 
+import cloud.loify.packages.common.cache.CacheStats;
+import cloud.loify.packages.common.cache.ExpiringLruCache;
+import cloud.loify.packages.common.client.SingleFlight;
+import cloud.loify.packages.common.client.SingleFlightWebClient;
 import cloud.loify.packages.me.dto.GetUserResponseDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServerOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
+/**
+ * Handles logins and serves the current user's Spotify profile.
+ * <p>
+ * Profiles are fetched once at login and then cached per principal, so session checks and playlist creation don't
+ * each cost a `/me` round trip. A profile older than `loify.auth.profile-cache.revalidate-after` is still served, but
+ * triggers a background refresh; one that couldn't be refreshed expires after `loify.auth.profile-cache.ttl`.
+ * Logging out evicts the profile, and so does a refresh that finds the user's authorization gone.
+ */
 @Service
 public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+    private static final String REGISTRATION_ID = "spotify";
 
     private final ReactiveOAuth2AuthorizedClientService authorizedClientService;
+    private final SingleFlightWebClient singleFlightClient;
     public WebClient webClient;
+    private final ExpiringLruCache<String, CachedProfile> profiles;
+    private final SingleFlight<String, GetUserResponseDTO> inFlightProfiles = new SingleFlight<>();
+    private final long revalidateAfterNanos;
 
-    public AuthService(ReactiveOAuth2AuthorizedClientService reactiveAuthorizedClientService, WebClient webClient) {
+    public AuthService(ReactiveOAuth2AuthorizedClientService reactiveAuthorizedClientService, WebClient webClient, SingleFlightWebClient singleFlightClient,
+                       @Value("${loify.auth.profile-cache.max-size:10000}") int profileCacheMaxSize,
+                       @Value("${loify.auth.profile-cache.ttl:12h}") Duration profileCacheTtl,
+                       @Value("${loify.auth.profile-cache.revalidate-after:15m}") Duration revalidateAfter) {
         this.authorizedClientService = reactiveAuthorizedClientService;
         this.webClient = webClient;
+        this.singleFlightClient = singleFlightClient;
+        this.profiles = new ExpiringLruCache<>("user-profile", profileCacheMaxSize, profileCacheTtl);
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
     }
 
     /**
-     * Handles the login process for the authenticated user.
+     * Handles the login process for the authenticated user - fetches their profile and caches it.
      *
      * @param principalName Username of the authenticated OAuth2User.
      */
     public Mono<Void> handleLogin(String principalName) {
-        return authorizedClientService.loadAuthorizedClient("spotify", principalName)
-                .flatMap(authorizedClient -> {
-                    logger.info("REACHED;");
-                    return webClient.get()
-                            .uri("/me")
-                            .attributes(ServerOAuth2AuthorizedClientExchangeFilterFunction.oauth2AuthorizedClient(authorizedClient))
-                            .retrieve()
-                            .bodyToMono(Void.class)
-                            .doOnSuccess(response ->
-                                    System.out.println("Authenticated and session created for: " + principalName)
-                            );
-                });
+        return this.refreshUserProfile(principalName)
+                .doOnSuccess(profile -> logger.info("Authenticated and session created for: {}", principalName))
+                .then();
     }
 
     /**
-     * Retrieves the user profile from the API.
+     * Retrieves the current user's profile - from the cache if possible.
      *
      * @return Mono containing the GetUserResponseDTO.
      */
@@ -52,11 +75,65 @@ public class AuthService {
             return Mono.error(new IllegalStateException("WebClient is not initialized.")); // Fail fast if WebClient is missing
         }
 
-        return this.webClient.get()
-                .uri("/me")
-                .retrieve()
-                .bodyToMono(GetUserResponseDTO.class)
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getName)
+                .flatMap(this::getUserProfile)
+                .switchIfEmpty(Mono.defer(() -> this.singleFlightClient.get("/me", GetUserResponseDTO.class))) // No principal to cache for
+                .switchIfEmpty(Mono.error(new IllegalStateException("User is not authorized with Spotify.")))
                 .doOnSuccess(userDetails -> logger.info("User profile retrieved successfully: {}", userDetails))
                 .doOnError(error -> logger.error("Error retrieving user profile: {}", error.getMessage()));
     }
+
+    /**
+     * Retrieves a principal's profile, from the cache if possible. A stale profile is served while it is refreshed.
+     */
+    public Mono<GetUserResponseDTO> getUserProfile(String principalName) {
+        return Mono.defer(() -> {
+            CachedProfile cached = this.profiles.getIfPresent(principalName);
+            if (cached == null) {
+                return this.refreshUserProfile(principalName);
+            }
+            if (System.nanoTime() - cached.fetchedAtNanos() >= this.revalidateAfterNanos) {
+                this.refreshUserProfile(principalName)
+                        .subscribe(null, error -> logger.warn("Could not revalidate profile of {}: {}", principalName, error.getMessage()));
+            }
+            return Mono.just(cached.profile());
+        });
+    }
+
+    /**
+     * Drops a principal's cached profile, e.g. on logout.
+     */
+    public void evictUserProfile(String principalName) {
+        this.profiles.invalidate(principalName);
+    }
+
+    public CacheStats getProfileCacheStats() {
+        return this.profiles.stats();
+    }
+
+    /**
+     * Fetches a principal's profile with their own authorized client and as that principal - not the caller's security
+     * context, so this also works for background revalidation, which has none - and caches it. Concurrent refreshes for
+     * the same principal share one call.
+     */
+    private Mono<GetUserResponseDTO> refreshUserProfile(String principalName) {
+        // The OAuth2 filter re-authorizes - and, if it refreshes the token, saves - the client for the context's principal,
+        // which would otherwise be "anonymousUser" in the background
+        Authentication principal = UsernamePasswordAuthenticationToken.authenticated(principalName, null, AuthorityUtils.NO_AUTHORITIES);
+        return this.inFlightProfiles.execute(principalName, name -> this.authorizedClientService.loadAuthorizedClient(REGISTRATION_ID, name)
+                .flatMap(authorizedClient -> this.webClient.get()
+                        .uri("/me")
+                        .attributes(ServerOAuth2AuthorizedClientExchangeFilterFunction.oauth2AuthorizedClient(authorizedClient))
+                        .retrieve()
+                        .bodyToMono(GetUserResponseDTO.class)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(principal)))
+                .doOnNext(profile -> this.profiles.put(name, new CachedProfile(profile, System.nanoTime())))
+                .switchIfEmpty(Mono.fromRunnable(() -> this.profiles.invalidate(name))) // No longer authorized
+                .doOnError(WebClientResponseException.Unauthorized.class, error -> this.profiles.invalidate(name)));
+    }
+
+    private record CachedProfile(GetUserResponseDTO profile, long fetchedAtNanos) {
+    }
 }
@@ -0,0 +1,146 @@
+package cloud.loify.packages.auth;
+
+import cloud.loify.packages.common.store.KeyValueStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Keeps users' authorized clients - their Spotify access and refresh tokens - in a {@link KeyValueStore} instead of
+ * in memory, so they survive restarts and are visible to every replica.
+ * <p>
+ * Clients are stored in a small binary form rather than with Java serialization: only the tokens and the IDs are
+ * written, and the {@link ClientRegistration} is looked up again on load, so changes to the registration (e.g. a
+ * rotated client secret) take effect for stored clients too. Every save resets the client's `ttl`, so users who stay
+ * away longer than that have to log in again - and the store doesn't fill up with clients nobody will use again.
+ */
+public class StoreBackedAuthorizedClientService implements ReactiveOAuth2AuthorizedClientService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreBackedAuthorizedClientService.class);
+    private static final String KEY_PREFIX = "oauth2-client:";
+    private static final byte FORMAT_VERSION = 1;
+    private static final long NO_INSTANT = Long.MIN_VALUE;
+
+    private final KeyValueStore store;
+    private final ReactiveClientRegistrationRepository clientRegistrationRepository;
+    private final Duration ttl;
+
+    public StoreBackedAuthorizedClientService(KeyValueStore store, ReactiveClientRegistrationRepository clientRegistrationRepository,
+                                              Duration ttl) {
+        this.store = store;
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OAuth2AuthorizedClient> Mono<T> loadAuthorizedClient(String clientRegistrationId, String principalName) {
+        return this.store.get(keyOf(clientRegistrationId, principalName))
+                .flatMap(bytes -> this.clientRegistrationRepository.findByRegistrationId(clientRegistrationId)
+                        .map(registration -> (T) decode(registration, principalName, bytes)))
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    logger.warn("Discarding unreadable authorized client of {}: {}", principalName, error.getMessage());
+                    return this.store.delete(keyOf(clientRegistrationId, principalName)).then(Mono.empty());
+                });
+    }
+
+    @Override
+    public Mono<Void> saveAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
+        return Mono.fromCallable(() -> encode(authorizedClient))
+                .flatMap(bytes -> this.store.put(keyOf(authorizedClient.getClientRegistration().getRegistrationId(),
+                        principal.getName()), bytes, this.ttl));
+    }
+
+    @Override
+    public Mono<Void> removeAuthorizedClient(String clientRegistrationId, String principalName) {
+        return this.store.delete(keyOf(clientRegistrationId, principalName));
+    }
+
+    private static String keyOf(String clientRegistrationId, String principalName) {
+        return KEY_PREFIX + clientRegistrationId + ':' + principalName;
+    }
+
+    private static byte[] encode(OAuth2AuthorizedClient client) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            OAuth2AccessToken accessToken = client.getAccessToken();
+            out.writeUTF(accessToken.getTokenType().getValue());
+            out.writeUTF(accessToken.getTokenValue());
+            writeInstant(out, accessToken.getIssuedAt());
+            writeInstant(out, accessToken.getExpiresAt());
+            out.writeShort(accessToken.getScopes().size());
+            for (String scope : accessToken.getScopes()) {
+                out.writeUTF(scope);
+            }
+
+            OAuth2RefreshToken refreshToken = client.getRefreshToken();
+            out.writeBoolean(refreshToken != null);
+            if (refreshToken != null) {
+                out.writeUTF(refreshToken.getTokenValue());
+                writeInstant(out, refreshToken.getIssuedAt());
+                writeInstant(out, refreshToken.getExpiresAt());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Can't happen writing to memory
+        }
+        return bytes.toByteArray();
+    }
+
+    private static OAuth2AuthorizedClient decode(ClientRegistration registration, String principalName, byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown format version: " + version);
+            }
+            String tokenType = in.readUTF();
+            if (!OAuth2AccessToken.TokenType.BEARER.getValue().equalsIgnoreCase(tokenType)) {
+                throw new IllegalArgumentException("Unsupported token type: " + tokenType); // The only type there is
+            }
+            String tokenValue = in.readUTF();
+            Instant issuedAt = readInstant(in);
+            Instant expiresAt = readInstant(in);
+            int scopeCount = in.readUnsignedShort();
+            Set<String> scopes = new LinkedHashSet<>(scopeCount * 2);
+            for (int i = 0; i < scopeCount; i++) {
+                scopes.add(in.readUTF());
+            }
+            OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, tokenValue, issuedAt, expiresAt, scopes);
+
+            OAuth2RefreshToken refreshToken = null;
+            if (in.readBoolean()) {
+                refreshToken = new OAuth2RefreshToken(in.readUTF(), readInstant(in), readInstant(in));
+            }
+            return new OAuth2AuthorizedClient(registration, principalName, accessToken, refreshToken);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated authorized client", e);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant == null ? NO_INSTANT : instant.toEpochMilli());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        long millis = in.readLong();
+        return millis == NO_INSTANT ? null : Instant.ofEpochMilli(millis);
+    }
+}
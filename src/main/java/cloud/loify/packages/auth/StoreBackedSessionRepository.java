@@ -0,0 +1,211 @@
+package cloud.loify.packages.auth;
+
+import cloud.loify.packages.common.store.KeyValueStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.UuidSessionIdGenerator;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Keeps web sessions - and with them the security context of every logged-in user - in a {@link KeyValueStore}, so
+ * they survive restarts and any replica can serve any request without sticky sessions.
+ * <p>
+ * Sessions are written with Java serialization, like Spring Session's own stores, since their attributes are
+ * Spring Security objects; reading them back only accepts JDK, Spring and loify classes. Only attributes set
+ * through {@link Session#setAttribute} mark a session as changed - an object mutated in place is not saved.
+ * <p>
+ * Every request touches its session, but an unchanged one is only written back once its last write is
+ * `touchInterval` old, rather than on every request; a session therefore expires between `maxInactiveInterval`
+ * and `maxInactiveInterval + touchInterval` after its last use.
+ */
+public class StoreBackedSessionRepository implements ReactiveSessionRepository<StoreBackedSessionRepository.StoredSession> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreBackedSessionRepository.class);
+    private static final String KEY_PREFIX = "session:";
+    private static final ObjectInputFilter ALLOWED_CLASSES =
+            ObjectInputFilter.Config.createFilter("java.**;org.springframework.**;cloud.loify.**;!*");
+
+    private final KeyValueStore store;
+    private final Duration maxInactiveInterval;
+    private final Duration touchInterval;
+
+    public StoreBackedSessionRepository(KeyValueStore store, Duration maxInactiveInterval, Duration touchInterval) {
+        this.store = store;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.touchInterval = touchInterval;
+    }
+
+    @Override
+    public Mono<StoredSession> createSession() {
+        return Mono.fromSupplier(() -> {
+            MapSession session = new MapSession();
+            session.setMaxInactiveInterval(this.maxInactiveInterval);
+            return new StoredSession(session, null);
+        });
+    }
+
+    @Override
+    public Mono<Void> save(StoredSession session) {
+        return Mono.defer(() -> {
+            MapSession delegate = session.delegate;
+            boolean idChanged = !delegate.getId().equals(session.persistedId);
+            if (!idChanged && !session.changed
+                    && Duration.between(session.persistedLastAccessedTime, delegate.getLastAccessedTime()).compareTo(this.touchInterval) < 0) {
+                return Mono.empty(); // Only touched, and recently written - skip the write
+            }
+
+            Mono<Void> deletePrevious = idChanged && session.persistedId != null
+                    ? this.store.delete(KEY_PREFIX + session.persistedId) // E.g. the ID was changed on login
+                    : Mono.empty();
+            Duration ttl = delegate.getMaxInactiveInterval().isNegative()
+                    ? null // Never expires
+                    : delegate.getMaxInactiveInterval().plus(this.touchInterval);
+            return deletePrevious
+                    .then(this.store.put(KEY_PREFIX + delegate.getId(), serialize(delegate), ttl))
+                    .doOnSuccess(ignored -> session.markPersisted());
+        });
+    }
+
+    @Override
+    public Mono<StoredSession> findById(String id) {
+        return this.store.get(KEY_PREFIX + id)
+                .flatMap(bytes -> {
+                    MapSession session;
+                    try {
+                        session = deserialize(bytes);
+                    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                        logger.warn("Discarding unreadable session: {}", e.getMessage());
+                        return this.deleteById(id).then(Mono.empty());
+                    }
+                    Instant expiresAt = session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).plus(this.touchInterval);
+                    if (!session.getMaxInactiveInterval().isNegative() && expiresAt.isBefore(Instant.now())) {
+                        return this.deleteById(id).then(Mono.empty());
+                    }
+                    return Mono.just(new StoredSession(session, session.getId()));
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return this.store.delete(KEY_PREFIX + id);
+    }
+
+    private static byte[] serialize(MapSession session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(session);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize session " + session.getId(), e); // E.g. an attribute isn't Serializable
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MapSession deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(ALLOWED_CLASSES);
+            MapSession session = (MapSession) in.readObject();
+            session.setSessionIdGenerator(UuidSessionIdGenerator.getInstance()); // Transient - needed to change the ID
+            return session;
+        }
+    }
+
+    /**
+     * A {@link MapSession} that remembers what was last written for it, so unchanged sessions aren't written back.
+     */
+    public static final class StoredSession implements Session {
+        private final MapSession delegate;
+        private String persistedId;
+        private Instant persistedLastAccessedTime;
+        private boolean changed;
+
+        private StoredSession(MapSession delegate, String persistedId) {
+            this.delegate = delegate;
+            this.persistedId = persistedId;
+            this.persistedLastAccessedTime = delegate.getLastAccessedTime();
+            this.changed = persistedId == null; // A new session has to be written
+        }
+
+        private void markPersisted() {
+            this.persistedId = this.delegate.getId();
+            this.persistedLastAccessedTime = this.delegate.getLastAccessedTime();
+            this.changed = false;
+        }
+
+        @Override
+        public String getId() {
+            return this.delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return this.delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return this.delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return this.delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            this.delegate.setAttribute(attributeName, attributeValue);
+            this.changed = true;
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            this.delegate.removeAttribute(attributeName);
+            this.changed = true;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return this.delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            this.delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return this.delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            this.delegate.setMaxInactiveInterval(interval);
+            this.changed = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return this.delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return this.delegate.isExpired();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package cloud.loify.packages.auth;
+
+import cloud.loify.packages.common.client.SingleFlight;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renews users' access tokens shortly before they expire, in the background, so requests don't pay for the refresh.
+ * <p>
+ * Sits in front of the request path's {@link ReactiveOAuth2AuthorizedClientManager}: every authorized client it hands
+ * out has a refresh scheduled `refreshAhead` (minus some jitter, so clients loaded together don't all refresh together)
+ * before its token expires. When that comes around, the token is refreshed through `refreshManager`, whose provider
+ * treats tokens within `refreshAhead` of expiry as expired already. Both paths go through one {@link SingleFlight} per
+ * principal, so a principal never has more than one refresh - or load - in flight, and concurrent requests share it.
+ * <p>
+ * Only principals who made a request within `idleTimeout` are kept fresh - the others are dropped from the schedule
+ * when their refresh comes around, and their next request refreshes inline like before. A refresh that fails is
+ * retried after `retryDelay`; a refresh token that has been revoked removes the authorized client altogether (the
+ * managers' default failure handling), which ends the schedule too.
+ */
+public class TokenRefreshScheduler implements ReactiveOAuth2AuthorizedClientManager, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRefreshScheduler.class);
+
+    private final ReactiveOAuth2AuthorizedClientManager requestManager;
+    private final ReactiveOAuth2AuthorizedClientManager refreshManager;
+    private final Duration refreshAhead;
+    private final Duration idleTimeout;
+    private final Duration retryDelay;
+    private final Scheduler scheduler = Schedulers.newSingle("token-refresh", true);
+    private final SingleFlight<String, OAuth2AuthorizedClient> inFlight = new SingleFlight<>();
+    private final Map<String, TrackedPrincipal> tracked = new ConcurrentHashMap<>();
+
+    private final Timer refreshed;
+    private final Timer failed;
+    private final AtomicLong refreshedInline = new AtomicLong();
+
+    /**
+     * A principal with a refresh scheduled, as of their first request.
+     */
+    private static final class TrackedPrincipal {
+        private final String clientRegistrationId;
+        private final Authentication principal;
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        TrackedPrincipal(String clientRegistrationId, Authentication principal) {
+            this.clientRegistrationId = clientRegistrationId;
+            this.principal = principal;
+        }
+    }
+
+    public TokenRefreshScheduler(ReactiveOAuth2AuthorizedClientManager requestManager, ReactiveOAuth2AuthorizedClientManager refreshManager,
+                                 MeterRegistry registry, Duration refreshAhead, Duration idleTimeout, Duration retryDelay) {
+        this.requestManager = requestManager;
+        this.refreshManager = refreshManager;
+        this.refreshAhead = refreshAhead;
+        this.idleTimeout = idleTimeout;
+        this.retryDelay = retryDelay;
+        this.refreshed = refreshTimer(registry, "success");
+        this.failed = refreshTimer(registry, "failure");
+    }
+
+    /**
+     * Requests are coalesced and tracked under the principal their authorized client belongs to, if one is attached -
+     * the request's own principal may be anonymous, e.g. outside a request's security context. Anonymous requests
+     * without a client pass straight through: they could belong to anyone, so are neither shared nor kept fresh.
+     */
+    @Override
+    public Mono<OAuth2AuthorizedClient> authorize(OAuth2AuthorizeRequest authorizeRequest) {
+        OAuth2AuthorizedClient attachedClient = authorizeRequest.getAuthorizedClient();
+        boolean anonymous = authorizeRequest.getPrincipal() instanceof AnonymousAuthenticationToken;
+        if (anonymous && attachedClient == null) {
+            return this.requestManager.authorize(authorizeRequest);
+        }
+        String principalName = attachedClient != null ? attachedClient.getPrincipalName() : authorizeRequest.getPrincipal().getName();
+        String key = keyOf(authorizeRequest.getClientRegistrationId(), principalName);
+        return Mono.defer(() -> {
+            Instant startedAt = Instant.now();
+            TrackedPrincipal principal = this.tracked.get(key);
+            if (principal != null) {
+                principal.lastUsedNanos = System.nanoTime();
+            }
+            return this.inFlight.execute(key, k -> this.requestManager.authorize(authorizeRequest)
+                            .doOnNext(client -> {
+                                if (isIssuedSince(client, startedAt)) {
+                                    this.refreshedInline.incrementAndGet(); // What this class is here to avoid
+                                }
+                            }))
+                    .doOnNext(client -> {
+                        if (principal == null && !anonymous) { // A refresh needs the principal to save the client for
+                            this.track(key, client, authorizeRequest.getPrincipal());
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Refreshes that happened on the request path after all - e.g. because the principal had been idle.
+     */
+    public long getRefreshedInlineCount() {
+        return this.refreshedInline.get();
+    }
+
+    public int getTrackedCount() {
+        return this.tracked.size();
+    }
+
+    @Override
+    public void destroy() {
+        this.scheduler.dispose();
+    }
+
+    private void track(String key, OAuth2AuthorizedClient client, Authentication authentication) {
+        TrackedPrincipal principal = new TrackedPrincipal(client.getClientRegistration().getRegistrationId(), authentication);
+        if (this.tracked.putIfAbsent(key, principal) == null) {
+            this.schedule(key, principal, client);
+        }
+    }
+
+    private void schedule(String key, TrackedPrincipal principal, OAuth2AuthorizedClient client) {
+        Instant expiresAt = client.getAccessToken().getExpiresAt();
+        if (expiresAt == null || client.getRefreshToken() == null) {
+            this.tracked.remove(key, principal); // Nothing to refresh ahead of
+            return;
+        }
+        long jitterMillis = ThreadLocalRandom.current().nextLong(this.refreshAhead.toMillis() / 4 + 1);
+        Duration delay = Duration.between(Instant.now(), expiresAt.minus(this.refreshAhead).minusMillis(jitterMillis));
+        this.scheduleIn(key, principal, delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    private void scheduleIn(String key, TrackedPrincipal principal, Duration delay) {
+        Mono.delay(delay, this.scheduler) // Cancelled with the scheduler on shutdown
+                .subscribe(tick -> this.refresh(key, principal));
+    }
+
+    private void refresh(String key, TrackedPrincipal principal) {
+        if (System.nanoTime() - principal.lastUsedNanos > this.idleTimeout.toNanos()) {
+            logger.debug("Not refreshing idle principal {}", principal.principal.getName());
+            this.tracked.remove(key, principal);
+            return;
+        }
+
+        OAuth2AuthorizeRequest request = OAuth2AuthorizeRequest.withClientRegistrationId(principal.clientRegistrationId)
+                .principal(principal.principal)
+                .build();
+        Instant startedAt = Instant.now();
+        long startNanos = System.nanoTime();
+        this.inFlight.execute(key, k -> this.refreshManager.authorize(request))
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    logger.debug("No authorized client left to refresh for {}", principal.principal.getName());
+                    this.tracked.remove(key, principal);
+                }))
+                .subscribe(client -> {
+                    if (isIssuedSince(client, startedAt)) { // Otherwise a request refreshed it first
+                        this.refreshed.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
+                    this.schedule(key, principal, client);
+                }, error -> {
+                    this.failed.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    logger.warn("Could not refresh the token of {}: {}", principal.principal.getName(), error.getMessage());
+                    this.scheduleIn(key, principal, this.retryDelay); // Dropped on retry if the client is gone by then
+                });
+    }
+
+    private static Timer refreshTimer(MeterRegistry registry, String result) {
+        return Timer.builder("loify.auth.token.refresh")
+                .description("Latency of background token refreshes")
+                .tags("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static boolean isIssuedSince(OAuth2AuthorizedClient client, Instant instant) {
+        Instant issuedAt = client.getAccessToken().getIssuedAt();
+        return issuedAt != null && !issuedAt.isBefore(instant);
+    }
+
+    private static String keyOf(String clientRegistrationId, String principalName) {
+        return clientRegistrationId + ':' + principalName;
+    }
+}
@@ -0,0 +1,9 @@
+package cloud.loify.packages.common.cache;
+
+public record CacheStats(String name, long hits, long misses, long evictions, long expirations, int size, int maxSize) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,93 @@
+package cloud.loify.packages.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, in-process LRU cache whose entries also expire a fixed time after being written.
+ * <p>
+ * Reads and writes are guarded by a single lock - lookups are O(1) and the cache only holds small DTOs,
+ * so contention stays negligible next to the upstream calls it saves. Expired entries are dropped when looked up, or
+ * evicted like any other once they are the least recently used - the size bound caps what they can hold on to.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public ExpiringLruCache(String name, int maxSize, Duration ttl) {
+        if (maxSize < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Invalid cache configuration for: " + name);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true); // Access order, so the eldest entry is the least recently used
+    }
+
+    /**
+     * Returns the cached value, or null if it is missing or has expired.
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        if (entries.size() > maxSize) {
+            evictEldest();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, hits, misses, evictions, expirations, entries.size(), maxSize);
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package cloud.loify.packages.common.client;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Merges concurrent calls for the same key into a single execution.
+ * <p>
+ * The first caller for a key starts the call; everyone arriving while it is still in flight subscribes to the same
+ * result. Once it terminates the key is released, so the next caller triggers a fresh call - nothing is cached.
+ * <p>
+ * The call is detached from its callers: it runs to completion even if every one of them cancels, so that work others
+ * rely on - a token refresh, a cover being rendered - isn't lost halfway through.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Function<K, Mono<V>> call) {
+        return Mono.defer(() -> this.inFlightCalls.computeIfAbsent(key, k -> call.apply(k)
+                .doFinally(signal -> this.inFlightCalls.remove(k))
+                .cache())); // Never cancels its source, so subscribers leaving - even all of them - don't abort the call
+    }
+
+    public int inFlightCount() {
+        return this.inFlightCalls.size();
+    }
+}
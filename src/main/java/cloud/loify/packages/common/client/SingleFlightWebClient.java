@@ -0,0 +1,60 @@
+package cloud.loify.packages.common.client;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Single-flight layer over the shared Spotify {@link WebClient} for idempotent GETs.
+ * <p>
+ * Identical GETs (same principal, URI and response type) that are in flight at the same time share one upstream
+ * exchange, and every subscriber receives the same result - e.g. the parallel calls the frontend fires on page load.
+ */
+@Component
+public class SingleFlightWebClient {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final WebClient webClient;
+    private final SingleFlight<RequestKey, Object> inFlightGets = new SingleFlight<>();
+
+    public SingleFlightWebClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    /**
+     * Performs a GET, joining an identical in-flight request for the current user if there is one.
+     *
+     * @param uri          the URI template (relative to the Spotify base URL) to retrieve.
+     * @param responseType the type to decode the response body into.
+     * @param uriVariables the variables to expand the URI template with.
+     * @return a Mono containing the decoded response body.
+     */
+    public <T> Mono<T> get(String uri, Class<T> responseType, Object... uriVariables) {
+        return currentCallerKey()
+                .flatMap(caller -> this.inFlightGets.execute(new RequestKey(caller, uri, List.of(uriVariables), responseType), key -> this.webClient.get()
+                        .uri(uri, uriVariables)
+                        .retrieve()
+                        .bodyToMono(responseType)
+                        .cast(Object.class)))
+                .cast(responseType);
+    }
+
+    /**
+     * The principal's name - it identifies the access token the call is made with, without looking the token up.
+     */
+    private Mono<String> currentCallerKey() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getName)
+                .defaultIfEmpty(ANONYMOUS);
+    }
+
+    private record RequestKey(String caller, String uri, List<Object> uriVariables, Class<?> responseType) {
+    }
+}
@@ -0,0 +1,33 @@
+package cloud.loify.packages.common.client;
+
+import java.util.Set;
+
+public class SpotifyEndpoints {
+
+    // Path segments that are followed by a resource ID, e.g. /playlists/{id}
+    private static final Set<String> ID_COLLECTIONS = Set.of("playlists", "users", "tracks", "albums", "artists", "episodes", "shows");
+    private static final String API_VERSION_PREFIX = "/v1";
+
+    /**
+     * Maps a raw Spotify API path to its URI template, e.g. `/v1/playlists/37i9dQ/tracks` -> `/playlists/{id}/tracks`,
+     * so that metrics and limits are keyed per logical endpoint rather than per resource.
+     */
+    public static String templateOf(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String relativePath = path.startsWith(API_VERSION_PREFIX + "/") ? path.substring(API_VERSION_PREFIX.length()) : path;
+
+        StringBuilder template = new StringBuilder(relativePath.length());
+        String previousSegment = null;
+        for (String segment : relativePath.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/');
+            template.append(previousSegment != null && ID_COLLECTIONS.contains(previousSegment) ? "{id}" : segment);
+            previousSegment = segment;
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package cloud.loify.packages.common.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the upstream Spotify field a DTO record component is read from, when it isn't the component's own name
+ * in snake case - e.g. `image` read from `images`, or `url` read from `external_urls(spotify)`.
+ * <p>
+ * If the component's type is itself a record, its own selector is appended in parentheses; otherwise the value is
+ * used verbatim.
+ *
+ * @see SpotifyFields
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface SpotifyField {
+    String value();
+}
@@ -0,0 +1,84 @@
+package cloud.loify.packages.common.client;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the `fields=` projection for Spotify endpoints that support one, so that upstream only sends what our DTOs
+ * actually keep.
+ * <p>
+ * Projections are generated from the DTO's record components (see {@link SpotifyField}), e.g. `GetPlaylistResponseDTO`
+ * becomes `id,name,tracks(items(track(id,name,...)),next,total),images(url)`. A generated projection can be replaced
+ * per endpoint with `loify.spotify.fields.<endpoint>` - set it to an empty value to fetch full objects again.
+ */
+@Component
+public class SpotifyFields {
+
+    private static final String OVERRIDE_PREFIX = "loify.spotify.fields.";
+
+    private final Environment environment;
+    private final Map<Class<?>, String> generated = new ConcurrentHashMap<>();
+
+    public SpotifyFields(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Returns the projection to request for `endpoint`, or null if none should be sent.
+     *
+     * @param endpoint     the endpoint's override key, e.g. `playlist` or `playlist-tracks`.
+     * @param responseType the record the response is decoded into.
+     */
+    public String forEndpoint(String endpoint, Class<? extends Record> responseType) {
+        String override = this.environment.getProperty(OVERRIDE_PREFIX + endpoint);
+        if (override != null) {
+            return override.isBlank() ? null : override;
+        }
+        return this.generated.computeIfAbsent(responseType, SpotifyFields::selectorOf);
+    }
+
+    static String selectorOf(Class<?> recordType) {
+        StringBuilder selector = new StringBuilder();
+        for (RecordComponent component : recordType.getRecordComponents()) {
+            if (!selector.isEmpty()) {
+                selector.append(',');
+            }
+            SpotifyField field = component.getAnnotation(SpotifyField.class);
+            selector.append(field != null ? field.value() : toSnakeCase(component.getName()));
+
+            Class<?> valueType = valueTypeOf(component.getGenericType());
+            if (valueType.isRecord()) {
+                selector.append('(').append(selectorOf(valueType)).append(')');
+            }
+        }
+        return selector.toString();
+    }
+
+    // Unwraps List<T> and friends to T
+    private static Class<?> valueTypeOf(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            return valueTypeOf(arguments[arguments.length - 1]);
+        }
+        return type instanceof Class<?> clazz ? clazz : Object.class;
+    }
+
+    private static String toSnakeCase(String name) {
+        StringBuilder snakeCase = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                snakeCase.append('_').append(Character.toLowerCase(c));
+            } else {
+                snakeCase.append(c);
+            }
+        }
+        return snakeCase.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package cloud.loify.packages.common.client;
+
+import cloud.loify.packages.common.exception.SpotifyCallRejectedException;
+import cloud.loify.packages.common.ratelimit.Bulkhead;
+import cloud.loify.packages.common.ratelimit.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Isolates Spotify endpoints from each other, so that one that degrades - typically `/search` - fails on its own
+ * instead of tying up the connection pool and every caller waiting behind it.
+ * <p>
+ * Every endpoint (by URI template, see {@link SpotifyEndpoints}) gets its own {@link Bulkhead}, capping its calls in
+ * flight, and its own {@link CircuitBreaker}, which refuses its calls for a while once too many of them fail (`5xx`
+ * or transport errors) or are slow. `429`s count as neither - throttling is the rate limiter's business. A refused call
+ * fails at once with a {@link SpotifyCallRejectedException}, which the retry filter doesn't retry.
+ * <p>
+ * Registered inside the retry filter, so each attempt needs its own permit, and backoff doesn't hold one.
+ */
+public class SpotifyIsolationFilter implements ExchangeFilterFunction {
+
+    public static final String REJECTED_METRIC = "spotify.client.rejected";
+    public static final String CIRCUIT_BREAKER_STATE_METRIC = "spotify.client.circuitbreaker.state";
+    public static final String CIRCUIT_BREAKER_OPENED_METRIC = "spotify.client.circuitbreaker.opened";
+    public static final String BULKHEAD_ACTIVE_METRIC = "spotify.client.bulkhead.active";
+    public static final String BULKHEAD_WAITING_METRIC = "spotify.client.bulkhead.waiting";
+
+    private final MeterRegistry registry;
+    private final Function<String, Bulkhead> bulkheadFactory;
+    private final Function<String, CircuitBreaker> circuitBreakerFactory;
+    private final Map<String, Isolation> isolations = new ConcurrentHashMap<>();
+
+    private record Isolation(Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+    }
+
+    /**
+     * @param bulkheadFactory       creates the bulkhead of the endpoint with the given URI template.
+     * @param circuitBreakerFactory creates the circuit breaker of the endpoint with the given URI template.
+     */
+    public SpotifyIsolationFilter(MeterRegistry registry, Function<String, Bulkhead> bulkheadFactory,
+                                  Function<String, CircuitBreaker> circuitBreakerFactory) {
+        this.registry = registry;
+        this.bulkheadFactory = bulkheadFactory;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = SpotifyEndpoints.templateOf(request.url().getPath());
+        Isolation isolation = this.isolations.computeIfAbsent(endpoint, this::isolate);
+        CircuitBreaker circuitBreaker = isolation.circuitBreaker();
+
+        return Mono.defer(() -> {
+            long stamp = circuitBreaker.tryAcquire();
+            if (stamp == CircuitBreaker.REFUSED) {
+                return Mono.error(new SpotifyCallRejectedException("Circuit breaker open for Spotify endpoint: " + endpoint));
+            }
+            return isolation.bulkhead().acquire()
+                    .switchIfEmpty(Mono.defer(() -> {
+                        circuitBreaker.onIgnored(stamp);
+                        return Mono.error(new SpotifyCallRejectedException("Too many calls in flight to Spotify endpoint: " + endpoint));
+                    }))
+                    .flatMap(permit -> {
+                        long startNanos = System.nanoTime();
+                        AtomicBoolean reported = new AtomicBoolean();
+                        return next.exchange(request)
+                                .doOnNext(response -> {
+                                    if (reported.compareAndSet(false, true)) {
+                                        if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                                            circuitBreaker.onIgnored(stamp);
+                                        } else {
+                                            circuitBreaker.onResult(stamp, response.statusCode().is5xxServerError(), System.nanoTime() - startNanos);
+                                        }
+                                    }
+                                })
+                                .doOnError(error -> {
+                                    if (reported.compareAndSet(false, true)) {
+                                        circuitBreaker.onResult(stamp, true, System.nanoTime() - startNanos);
+                                    }
+                                })
+                                .doOnCancel(() -> {
+                                    if (reported.compareAndSet(false, true)) {
+                                        circuitBreaker.onIgnored(stamp);
+                                    }
+                                })
+                                .doFinally(signal -> permit.release()); // Once the response headers are in
+                    });
+        });
+    }
+
+    private Isolation isolate(String endpoint) {
+        Isolation isolation = new Isolation(this.bulkheadFactory.apply(endpoint), this.circuitBreakerFactory.apply(endpoint));
+
+        FunctionCounter.builder(REJECTED_METRIC, isolation.circuitBreaker(), CircuitBreaker::getRefusedCount)
+                .description("Spotify calls refused before being made")
+                .tags("endpoint", endpoint, "reason", "circuit-open")
+                .register(this.registry);
+        FunctionCounter.builder(REJECTED_METRIC, isolation.bulkhead(), Bulkhead::getRejectedCount)
+                .description("Spotify calls refused before being made")
+                .tags("endpoint", endpoint, "reason", "bulkhead-full")
+                .register(this.registry);
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder(CIRCUIT_BREAKER_STATE_METRIC, isolation.circuitBreaker(), breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("1 for the circuit breaker's current state, 0 for the others")
+                    .tag("endpoint", endpoint)
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .register(this.registry);
+        }
+        FunctionCounter.builder(CIRCUIT_BREAKER_OPENED_METRIC, isolation.circuitBreaker(), CircuitBreaker::getOpenedCount)
+                .description("Times the circuit breaker opened")
+                .tag("endpoint", endpoint)
+                .register(this.registry);
+        Gauge.builder(BULKHEAD_ACTIVE_METRIC, isolation.bulkhead(), Bulkhead::getActiveCount)
+                .description("Spotify calls in flight")
+                .tag("endpoint", endpoint)
+                .register(this.registry);
+        Gauge.builder(BULKHEAD_WAITING_METRIC, isolation.bulkhead(), Bulkhead::getWaitingCount)
+                .description("Spotify calls waiting for one in flight to finish")
+                .tag("endpoint", endpoint)
+                .register(this.registry);
+        return isolation;
+    }
+}
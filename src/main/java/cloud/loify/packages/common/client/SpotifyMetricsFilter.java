@@ -0,0 +1,120 @@
+package cloud.loify.packages.common.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records a Micrometer timer, 429 counter and request/response size summaries for every upstream Spotify call.
+ * <p>
+ * Calls are tagged by endpoint URI template (see {@link SpotifyEndpoints}) rather than raw URI to keep the number
+ * of time series bounded. Registered as the innermost filter, so each retry attempt is measured on its own.
+ */
+public class SpotifyMetricsFilter implements ExchangeFilterFunction {
+
+    public static final String REQUESTS_METRIC = "spotify.client.requests";
+    public static final String THROTTLED_METRIC = "spotify.client.throttled";
+    public static final String RETRIES_METRIC = "spotify.client.retries";
+    public static final String REQUEST_SIZE_METRIC = "spotify.client.request.size";
+    public static final String RESPONSE_SIZE_METRIC = "spotify.client.response.size";
+
+    private final MeterRegistry registry;
+
+    public SpotifyMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = SpotifyEndpoints.templateOf(request.url().getPath());
+        Tags endpointTags = Tags.of("method", request.method().name(), "endpoint", endpoint);
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(this.registry);
+            return next.exchange(this.measureRequestBody(request, endpointTags))
+                    .doOnNext(response -> {
+                        sample.stop(this.requestTimer(endpointTags.and("status", String.valueOf(response.statusCode().value()),
+                                "outcome", outcomeOf(response))));
+                        if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                            Counter.builder(THROTTLED_METRIC)
+                                    .description("Spotify calls rejected with 429 Too Many Requests")
+                                    .tags(endpointTags)
+                                    .register(this.registry)
+                                    .increment();
+                        }
+                    })
+                    .doOnError(error -> sample.stop(this.requestTimer(endpointTags.and("status", "IO_ERROR", "outcome", "UNKNOWN"))))
+                    .map(response -> this.measureResponseBody(response, endpointTags));
+        });
+    }
+
+    private Timer requestTimer(Tags tags) {
+        return Timer.builder(REQUESTS_METRIC)
+                .description("Latency of upstream Spotify calls, until response headers are received")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(this.registry);
+    }
+
+    private ClientRequest measureRequestBody(ClientRequest request, Tags tags) {
+        DistributionSummary requestSize = DistributionSummary.builder(REQUEST_SIZE_METRIC)
+                .description("Bytes sent to Spotify per request body")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(this.registry);
+
+        return ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        AtomicLong bytesSent = new AtomicLong();
+                        return super.writeWith(Flux.from(body)
+                                .doOnNext(buffer -> bytesSent.addAndGet(buffer.readableByteCount()))
+                                .doOnComplete(() -> requestSize.record(bytesSent.get())));
+                    }
+                }, context))
+                .build();
+    }
+
+    private ClientResponse measureResponseBody(ClientResponse response, Tags tags) {
+        DistributionSummary responseSize = DistributionSummary.builder(RESPONSE_SIZE_METRIC)
+                .description("Bytes received from Spotify per response body")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(this.registry);
+
+        AtomicLong bytesReceived = new AtomicLong();
+        return response.mutate()
+                .body(body -> body
+                        .doOnNext(buffer -> bytesReceived.addAndGet(buffer.readableByteCount()))
+                        .doOnComplete(() -> responseSize.record(bytesReceived.get())))
+                .build();
+    }
+
+    private static String outcomeOf(ClientResponse response) {
+        if (response.statusCode().is2xxSuccessful()) {
+            return "SUCCESS";
+        }
+        if (response.statusCode().is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (response.statusCode().is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        return "OTHER";
+    }
+}
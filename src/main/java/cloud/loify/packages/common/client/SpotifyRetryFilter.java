@@ -0,0 +1,172 @@
+package cloud.loify.packages.common.client;
+
+import cloud.loify.packages.common.ratelimit.RetryBudget;
+import cloud.loify.packages.utils.HttpUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries Spotify calls that failed in a way worth retrying, with exponential backoff and jitter.
+ * <p>
+ * What is retried depends on whether a call is safe to repeat:
+ * <ul>
+ *     <li>`429 Too Many Requests` - for every method, as Spotify rejects the call before acting on it;</li>
+ *     <li>`500`, `502`, `503`, `504` and transport failures (connection resets, timeouts) - only for idempotent methods,
+ *     since a POST such as adding tracks may have taken effect before it failed, and repeating it would duplicate it;</li>
+ *     <li>failures to connect - for every method, as nothing was sent.</li>
+ * </ul>
+ * The n-th retry waits between half and all of `baseDelay * 2^(n-1)`, capped at `maxDelay`, but never less than the
+ * response's `Retry-After`. A `Retry-After` beyond `maxRetryAfter` isn't waited out - the response goes back to the
+ * caller instead. Each call gets at most `maxAttempts` attempts, and every retry also needs a withdrawal from the
+ * shared {@link RetryBudget}, so retries stop when upstream is failing broadly. The body of every response that is
+ * retried is released, so its connection goes back to the pool.
+ */
+public class SpotifyRetryFilter implements ExchangeFilterFunction {
+
+    public static final String SKIPPED_RETRIES_METRIC = "spotify.client.retries.skipped";
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotifyRetryFilter.class);
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS,
+            HttpMethod.PUT, HttpMethod.DELETE);
+    private static final Set<Integer> RETRYABLE_SERVER_ERRORS = Set.of(500, 502, 503, 504);
+
+    private final RetryBudget budget;
+    private final MeterRegistry registry;
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRetryAfter;
+
+    /**
+     * What to do after an attempt: hand back its response or error, or retry after `delay`.
+     */
+    private record Outcome(ClientResponse response, Throwable error, Duration delay) {
+    }
+
+    public SpotifyRetryFilter(RetryBudget budget, MeterRegistry registry, int maxAttempts, Duration baseDelay, Duration maxDelay,
+                              Duration maxRetryAfter) {
+        if (maxAttempts < 1 || baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Invalid retry configuration");
+        }
+        this.budget = budget;
+        this.registry = registry;
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            this.budget.onRequest();
+            return this.attempt(request, next, 1);
+        });
+    }
+
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next, int attempt) {
+        return next.exchange(request)
+                .flatMap(response -> this.onResponse(request, response, attempt))
+                .onErrorResume(WebClientRequestException.class, error -> Mono.just(this.onError(request, error, attempt)))
+                .flatMap(outcome -> {
+                    if (outcome.delay() != null) {
+                        return Mono.delay(outcome.delay()).then(Mono.defer(() -> this.attempt(request, next, attempt + 1)));
+                    }
+                    return outcome.error() != null ? Mono.error(outcome.error()) : Mono.just(outcome.response());
+                });
+    }
+
+    private Mono<Outcome> onResponse(ClientRequest request, ClientResponse response, int attempt) {
+        int status = response.statusCode().value();
+        boolean throttled = status == HttpStatus.TOO_MANY_REQUESTS.value();
+        if (!throttled && !(RETRYABLE_SERVER_ERRORS.contains(status) && isIdempotent(request))) {
+            return Mono.just(new Outcome(response, null, null));
+        }
+
+        Duration retryAfter = HttpUtils.parseRetryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER), null);
+        Duration delay = this.delayBefore(request, attempt, String.valueOf(status), retryAfter);
+        if (delay == null) {
+            return Mono.just(new Outcome(response, null, null));
+        }
+        return response.releaseBody() // Drained, so the connection goes back to the pool
+                .onErrorResume(error -> Mono.empty())
+                .thenReturn(new Outcome(null, null, delay));
+    }
+
+    private Outcome onError(ClientRequest request, WebClientRequestException error, int attempt) {
+        boolean notSent = hasCause(error, ConnectException.class); // Includes connect timeouts
+        if (!notSent && !isIdempotent(request)) {
+            return new Outcome(null, error, null);
+        }
+        Duration delay = this.delayBefore(request, attempt, notSent ? "connect" : "io", null);
+        return new Outcome(null, error, delay);
+    }
+
+    /**
+     * How long to wait before the next attempt, or null if there shouldn't be one.
+     */
+    private Duration delayBefore(ClientRequest request, int attempt, String reason, Duration retryAfter) {
+        String endpoint = SpotifyEndpoints.templateOf(request.url().getPath());
+        if (attempt >= this.maxAttempts) {
+            this.skipped(endpoint, "attempts");
+            return null;
+        }
+        if (retryAfter != null && retryAfter.compareTo(this.maxRetryAfter) > 0) {
+            this.skipped(endpoint, "retry-after");
+            return null;
+        }
+        if (!this.budget.tryAcquireRetry()) {
+            this.skipped(endpoint, "budget");
+            return null;
+        }
+
+        long ceilingMillis = Math.min(this.maxDelay.toMillis(), this.baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        long backoffMillis = ceilingMillis / 2 + ThreadLocalRandom.current().nextLong(ceilingMillis / 2 + 1);
+        Duration delay = Duration.ofMillis(backoffMillis);
+        if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+            delay = retryAfter;
+        }
+
+        this.registry.counter(SpotifyMetricsFilter.RETRIES_METRIC, "endpoint", endpoint, "reason", reason).increment();
+        logger.debug("Retrying {} {} in {} ms (attempt {} of {}, reason: {})", request.method(), endpoint, delay.toMillis(),
+                attempt + 1, this.maxAttempts, reason);
+        return delay;
+    }
+
+    private void skipped(String endpoint, String cause) {
+        Counter.builder(SKIPPED_RETRIES_METRIC)
+                .description("Retryable Spotify calls that were not retried")
+                .tags("endpoint", endpoint, "cause", cause)
+                .register(this.registry)
+                .increment();
+    }
+
+    private static boolean isIdempotent(ClientRequest request) {
+        return IDEMPOTENT_METHODS.contains(request.method());
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
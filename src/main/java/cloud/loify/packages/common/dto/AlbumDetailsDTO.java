@@ -1,5 +1,6 @@
 package cloud.loify.packages.common.dto;
 
+import cloud.loify.packages.common.client.SpotifyField;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -8,7 +9,7 @@ import java.util.List;
 public record AlbumDetailsDTO(
         String id,
         String name,
-        CoverImageDetailsDTO image
+        @SpotifyField("images") CoverImageDetailsDTO image
 ) {
     @JsonCreator
     public AlbumDetailsDTO(
@@ -0,0 +1,10 @@
+package cloud.loify.packages.common.exception;
+
+/**
+ * A Spotify call that was never made, because its endpoint's bulkhead was full or its circuit breaker open.
+ */
+public class SpotifyCallRejectedException extends RuntimeException {
+    public SpotifyCallRejectedException(String message) {
+        super(message);
+    }
+}
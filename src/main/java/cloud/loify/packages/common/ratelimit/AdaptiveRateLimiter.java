@@ -0,0 +1,111 @@
+package cloud.loify.packages.common.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Token-bucket rate limiter whose refill rate adapts to upstream throttling.
+ * <p>
+ * Every 429 halves the rate (once per throttling window) and pauses all callers until `Retry-After` has elapsed;
+ * every successful call then nudges the rate back up towards the configured maximum.
+ * Callers never block: {@link #acquire()} completes after the delay their reserved permit requires.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private static final double BACKOFF_FACTOR = 0.5;
+    private static final double RECOVERY_STEPS = 100; // Successful calls needed to climb from min back to max rate
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String name;
+    private final double maxPermitsPerSecond;
+    private final double minPermitsPerSecond;
+    private final double burstCapacity;
+    private final double recoveryStep;
+
+    private double permitsPerSecond;
+    private double availablePermits;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    public AdaptiveRateLimiter(String name, double maxPermitsPerSecond, double minPermitsPerSecond, int burstCapacity) {
+        if (maxPermitsPerSecond <= 0 || minPermitsPerSecond <= 0 || minPermitsPerSecond > maxPermitsPerSecond || burstCapacity < 1) {
+            throw new IllegalArgumentException("Invalid rate limiter configuration for: " + name);
+        }
+        this.name = name;
+        this.maxPermitsPerSecond = maxPermitsPerSecond;
+        this.minPermitsPerSecond = minPermitsPerSecond;
+        this.burstCapacity = burstCapacity;
+        this.recoveryStep = (maxPermitsPerSecond - minPermitsPerSecond) / RECOVERY_STEPS;
+        this.permitsPerSecond = maxPermitsPerSecond;
+        this.availablePermits = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.pausedUntilNanos = this.lastRefillNanos;
+    }
+
+    /**
+     * Reserves a permit, completing once the caller is allowed to proceed.
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            Duration wait = reserve();
+            return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+        });
+    }
+
+    /**
+     * Reserves a permit and returns how long the caller must wait before using it.
+     */
+    public synchronized Duration reserve() {
+        long now = System.nanoTime();
+        refill(now);
+        availablePermits -= 1;
+
+        long startNanos = Math.max(now, pausedUntilNanos);
+        long deficitNanos = availablePermits >= 0 ? 0 : (long) (-availablePermits / permitsPerSecond * NANOS_PER_SECOND);
+        return Duration.ofNanos(startNanos - now + deficitNanos);
+    }
+
+    /**
+     * Records an upstream 429 - pauses callers for `retryAfter` and backs the rate off.
+     */
+    public synchronized void onThrottled(Duration retryAfter) {
+        long now = System.nanoTime();
+        refill(now);
+
+        if (now >= pausedUntilNanos) { // Only back off once per throttling window, not once per concurrent 429
+            permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond * BACKOFF_FACTOR);
+            logger.warn("Rate limiter [{}] throttled upstream - pausing for {} and reducing rate to {}/s", name, retryAfter, permitsPerSecond);
+        }
+        pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+        availablePermits = Math.min(availablePermits, 0);
+    }
+
+    /**
+     * Records a successful upstream call - slowly restores the rate after throttling.
+     */
+    public synchronized void onSuccess() {
+        if (permitsPerSecond < maxPermitsPerSecond) {
+            permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + recoveryStep);
+        }
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void refill(long now) {
+        long refillFrom = Math.max(lastRefillNanos, pausedUntilNanos); // No permits accrue while paused
+        if (now > refillFrom) {
+            availablePermits = Math.min(burstCapacity, availablePermits + (now - refillFrom) * permitsPerSecond / NANOS_PER_SECOND);
+        }
+        lastRefillNanos = Math.max(lastRefillNanos, now);
+    }
+}
@@ -0,0 +1,175 @@
+package cloud.loify.packages.common.ratelimit;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many calls run at once, so that one slow dependency can only tie up its own share of connections and
+ * callers.
+ * <p>
+ * Up to `maxConcurrentCalls` calls hold a {@link Permit} at a time. Beyond that, up to `maxWaitingCalls` callers queue
+ * for one, in order, for at most `maxWait`; everyone else is turned away at once. Callers never block - waiting is a
+ * pending {@link Mono}.
+ */
+public class Bulkhead {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int ABANDONED = 2;
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final int maxWaitingCalls;
+    private final Duration maxWait;
+
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private int active;
+    private long rejected;
+
+    /**
+     * The right to make one call - release it once the call is done. Releasing more than once has no effect.
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        public void release() {
+            if (this.released.compareAndSet(false, true)) {
+                Bulkhead.this.handOver();
+            }
+        }
+    }
+
+    private final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile Disposable timeout;
+        private volatile Permit permit;
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    public Bulkhead(String name, int maxConcurrentCalls, int maxWaitingCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1 || maxWaitingCalls < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Invalid bulkhead configuration for: " + name);
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitingCalls = maxWaitingCalls;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Acquires a permit, waiting for one if the bulkhead is full. Completes empty if the caller is turned away.
+     */
+    public Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = null;
+            boolean granted = false;
+            synchronized (this) {
+                if (this.active < this.maxConcurrentCalls) {
+                    this.active++;
+                    granted = true;
+                } else if (this.waiting.size() < this.maxWaitingCalls && !this.maxWait.isZero()) {
+                    waiter = new Waiter(sink);
+                    this.waiting.addLast(waiter);
+                } else {
+                    this.rejected++;
+                }
+            }
+
+            if (granted) {
+                Permit permit = new Permit();
+                sink.onCancel(permit::release); // Cancelled before the permit got through
+                sink.success(permit);
+            } else if (waiter == null) {
+                sink.success();
+            } else {
+                Waiter queued = waiter;
+                sink.onCancel(() -> this.abandon(queued, false));
+                queued.timeout = Schedulers.parallel().schedule(() -> this.abandon(queued, true), this.maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    public synchronized int getActiveCount() {
+        return this.active;
+    }
+
+    public synchronized int getWaitingCount() {
+        return this.waiting.size();
+    }
+
+    /**
+     * Callers turned away, whether at once or after waiting `maxWait`.
+     */
+    public synchronized long getRejectedCount() {
+        return this.rejected;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Passes a released permit on to the longest-waiting caller, or returns it to the pool.
+     */
+    private void handOver() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = this.waiting.pollFirst();
+                if (next == null) {
+                    this.active--;
+                    return;
+                }
+            }
+            Permit permit = new Permit();
+            next.permit = permit; // Before the state change, so a cancel racing with it finds the permit to return
+            if (next.state.compareAndSet(WAITING, GRANTED)) {
+                Disposable timeout = next.timeout;
+                if (timeout != null) {
+                    timeout.dispose();
+                }
+                next.sink.success(permit);
+                return;
+            }
+            // Gave up in the meantime - try the next one
+        }
+    }
+
+    /**
+     * Drops a waiting caller that timed out or cancelled. A caller that cancels just as it is granted a permit hands
+     * the permit straight back.
+     */
+    private void abandon(Waiter waiter, boolean timedOut) {
+        if (waiter.state.compareAndSet(WAITING, ABANDONED)) {
+            synchronized (this) {
+                this.waiting.remove(waiter);
+                if (timedOut) {
+                    this.rejected++;
+                }
+            }
+            if (timedOut) {
+                waiter.sink.success();
+            } else if (waiter.timeout != null) {
+                waiter.timeout.dispose();
+            }
+        } else if (!timedOut && waiter.permit != null) {
+            waiter.permit.release();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package cloud.loify.packages.common.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Stops calling a dependency that is failing or too slow, and lets a few trial calls through later to find out whether
+ * it has recovered.
+ * <p>
+ * While closed, outcomes are counted over a rolling `window`. Once at least `minimumCalls` have been made in it, and
+ * `failureRateThreshold` of them failed or `slowCallRateThreshold` of them took `slowCallDuration` or longer, the
+ * breaker opens: every call is refused for `openDuration`. It then half-opens and lets `halfOpenCalls` trial calls
+ * through - if they all succeed in time it closes again, and the first one that doesn't opens it again.
+ * <p>
+ * {@link #tryAcquire()} hands out a stamp that the call's outcome is reported with, so that calls started before a
+ * state change can't count towards the next state.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Returned by {@link #tryAcquire()} when the call is refused.
+     */
+    public static final long REFUSED = -1;
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final int WINDOW_BUCKETS = 10;
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // Rolling window, one bucket per `window / WINDOW_BUCKETS`
+    private final long[] bucketEpochs = new long[WINDOW_BUCKETS];
+    private final int[] bucketCalls = new int[WINDOW_BUCKETS];
+    private final int[] bucketFailures = new int[WINDOW_BUCKETS];
+    private final int[] bucketSlowCalls = new int[WINDOW_BUCKETS];
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int trialsStarted;
+    private int trialsSucceeded;
+    private long refused;
+    private long opened;
+
+    public CircuitBreaker(String name, double failureRateThreshold, double slowCallRateThreshold, Duration slowCallDuration,
+                          int minimumCalls, Duration window, Duration openDuration, int halfOpenCalls) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1 || slowCallRateThreshold <= 0 || slowCallRateThreshold > 1
+                || minimumCalls < 1 || window.toNanos() < WINDOW_BUCKETS || openDuration.isNegative() || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Invalid circuit breaker configuration for: " + name);
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.minimumCalls = minimumCalls;
+        this.bucketNanos = window.toNanos() / WINDOW_BUCKETS;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.resetWindow();
+    }
+
+    /**
+     * Asks to make a call. Returns the stamp to report its outcome with, or {@link #REFUSED}.
+     */
+    public synchronized long tryAcquire() {
+        if (this.state == State.OPEN) {
+            if (System.nanoTime() - this.openedAtNanos < this.openNanos) {
+                this.refused++;
+                return REFUSED;
+            }
+            this.transitionTo(State.HALF_OPEN);
+        }
+        if (this.state == State.HALF_OPEN) {
+            if (this.trialsStarted >= this.halfOpenCalls) {
+                this.refused++;
+                return REFUSED;
+            }
+            this.trialsStarted++;
+        }
+        return this.generation;
+    }
+
+    /**
+     * Reports the outcome of a call made with `stamp`, which took `durationNanos`.
+     */
+    public synchronized void onResult(long stamp, boolean failed, long durationNanos) {
+        if (stamp != this.generation) {
+            return; // Started before the last state change
+        }
+        boolean slow = durationNanos >= this.slowCallNanos;
+        if (this.state == State.HALF_OPEN) {
+            if (failed || slow) {
+                logger.warn("Circuit breaker [{}] trial call {} - opening again for {} ms", this.name, failed ? "failed" : "was slow",
+                        this.openNanos / 1_000_000);
+                this.transitionTo(State.OPEN);
+            } else if (++this.trialsSucceeded >= this.halfOpenCalls) {
+                this.transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (this.state == State.CLOSED) {
+            this.record(failed, slow);
+        }
+    }
+
+    /**
+     * Reports a call made with `stamp` that ended without telling anything about the dependency's health - e.g. it was
+     * cancelled, or throttled. Frees its trial slot while half-open.
+     */
+    public synchronized void onIgnored(long stamp) {
+        if (stamp == this.generation && this.state == State.HALF_OPEN) {
+            this.trialsStarted--;
+        }
+    }
+
+    public synchronized State getState() {
+        if (this.state == State.OPEN && System.nanoTime() - this.openedAtNanos >= this.openNanos) {
+            return State.HALF_OPEN; // Effectively - the transition itself waits for the next call
+        }
+        return this.state;
+    }
+
+    public synchronized long getRefusedCount() {
+        return this.refused;
+    }
+
+    public synchronized long getOpenedCount() {
+        return this.opened;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        long epoch = System.nanoTime() / this.bucketNanos;
+        int bucket = (int) Math.floorMod(epoch, (long) WINDOW_BUCKETS);
+        if (this.bucketEpochs[bucket] != epoch) {
+            this.bucketEpochs[bucket] = epoch;
+            this.bucketCalls[bucket] = 0;
+            this.bucketFailures[bucket] = 0;
+            this.bucketSlowCalls[bucket] = 0;
+        }
+        this.bucketCalls[bucket]++;
+        this.bucketFailures[bucket] += failed ? 1 : 0;
+        this.bucketSlowCalls[bucket] += slow ? 1 : 0;
+
+        int calls = 0;
+        int failures = 0;
+        int slowCalls = 0;
+        for (int i = 0; i < WINDOW_BUCKETS; i++) {
+            if (this.bucketEpochs[i] > epoch - WINDOW_BUCKETS) {
+                calls += this.bucketCalls[i];
+                failures += this.bucketFailures[i];
+                slowCalls += this.bucketSlowCalls[i];
+            }
+        }
+        if (calls < this.minimumCalls) {
+            return;
+        }
+        double failureRate = (double) failures / calls;
+        double slowCallRate = (double) slowCalls / calls;
+        if (failureRate >= this.failureRateThreshold || slowCallRate >= this.slowCallRateThreshold) {
+            logger.warn("Circuit breaker [{}] opening for {} ms - {} calls, {}% failed, {}% slow", this.name,
+                    this.openNanos / 1_000_000, calls, Math.round(failureRate * 100), Math.round(slowCallRate * 100));
+            this.transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (next == State.OPEN) {
+            this.openedAtNanos = System.nanoTime();
+            this.opened++;
+        } else if (next == State.CLOSED) {
+            this.resetWindow();
+            logger.info("Circuit breaker [{}] closed again", this.name);
+        }
+        this.state = next;
+        this.trialsStarted = 0;
+        this.trialsSucceeded = 0;
+        this.generation++;
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < WINDOW_BUCKETS; i++) {
+            this.bucketEpochs[i] = Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package cloud.loify.packages.common.ratelimit;
+
+/**
+ * Caps retries at a share of the traffic they retry, so that retrying can't multiply the load on an upstream that is
+ * already failing.
+ * <p>
+ * Every original request deposits `ratio` of a retry into the budget, and every retry withdraws a whole one; on top of
+ * that, `minRetriesPerSecond` trickle in regardless of traffic, so a quiet node can still retry the odd failure. The
+ * balance is capped at `maxBalance`. While everything succeeds, the budget fills up; once an upstream fails broadly,
+ * it drains, and retries stop until enough fresh requests have paid for more - at most `ratio` extra load, instead of
+ * one extra call per failing request and attempt.
+ */
+public class RetryBudget {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final String name;
+    private final double ratio;
+    private final double minRetriesPerSecond;
+    private final double maxBalance;
+
+    private double balance;
+    private long lastRefillNanos;
+
+    public RetryBudget(String name, double ratio, double minRetriesPerSecond, int maxBalance) {
+        if (ratio < 0 || minRetriesPerSecond < 0 || maxBalance < 1) {
+            throw new IllegalArgumentException("Invalid retry budget configuration for: " + name);
+        }
+        this.name = name;
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxBalance = maxBalance;
+        this.balance = maxBalance;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Records an original request - not a retry.
+     */
+    public synchronized void onRequest() {
+        this.refill();
+        this.balance = Math.min(this.maxBalance, this.balance + this.ratio);
+    }
+
+    /**
+     * Withdraws a retry, returning false if the budget can't afford one.
+     */
+    public synchronized boolean tryAcquireRetry() {
+        this.refill();
+        if (this.balance < 1) {
+            return false;
+        }
+        this.balance -= 1;
+        return true;
+    }
+
+    public synchronized double getBalance() {
+        this.refill();
+        return this.balance;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        this.balance = Math.min(this.maxBalance, this.balance + (now - this.lastRefillNanos) / NANOS_PER_SECOND * this.minRetriesPerSecond);
+        this.lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,27 @@
+package cloud.loify.packages.common.store;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Byte-valued key-value store backing state that has to outlive the process - sessions and authorized clients.
+ * Selected with `loify.store.type`: {@link MappedLogStore} (`local`, the default) keeps it in a file on this node,
+ * {@link RespKeyValueStore} (`redis`) in a Redis-compatible server shared by every replica.
+ */
+public interface KeyValueStore {
+
+    /**
+     * Returns the value stored under `key`, or an empty Mono if there is none or it has expired.
+     */
+    Mono<byte[]> get(String key);
+
+    /**
+     * Stores `value` under `key`, replacing whatever was there.
+     *
+     * @param ttl how long the value lives for, or null for no expiry.
+     */
+    Mono<Void> put(String key, byte[] value, Duration ttl);
+
+    Mono<Void> delete(String key);
+}
@@ -0,0 +1,422 @@
+package cloud.loify.packages.common.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * {@link KeyValueStore} kept in a single memory-mapped, append-only log file on local disk.
+ * <p>
+ * Every write appends a record - a put or a delete tombstone - and an in-memory index points each key at its latest
+ * put, so reads are a hash lookup and a copy out of the mapping. Once the log reaches the end of its mapping, it is
+ * compacted: the live, unexpired records are copied into a fresh file, which is moved over the old one. The new file
+ * is sized to stay at most half full, doubling up to `maxCapacity` as the data grows (and shrinking back as it goes).
+ * <p>
+ * Records carry a checksum, and their length is written last, so a record torn by a crash is detected when the log is
+ * replayed on startup and dropped. Writes land in the page cache as soon as they are made, so they survive the
+ * process dying; they only reach the disk itself when the OS flushes them, on compaction and on {@link #close()},
+ * unless `syncWrites` forces every write. The file is only ever opened by one process - for replicas sharing state,
+ * use {@link RespKeyValueStore}.
+ * <p>
+ * Reads never wait for disk I/O, so they can run on the event loop. Writes are serialized among themselves and append
+ * past the end of the log, where no reader looks; compaction copies the records into the new file and flushes it before
+ * swapping it in. Readers only wait while a write updates the index or a compaction swaps the file, under a
+ * {@link ReadWriteLock}.
+ */
+public class MappedLogStore implements KeyValueStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedLogStore.class);
+    private static final String FILE_NAME = "store.log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final int MAGIC = 0x4C4F4653; // "LOFS"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER = 8; // Magic, version
+
+    // Record layout: length (of everything after it), CRC32 (of everything after it), type, expiry, key length, key, value
+    private static final int RECORD_HEADER = 4 + 4 + 1 + 8 + 2;
+    private static final int CHECKSUMMED_FROM = 8;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final long NEVER = 0;
+
+    private final String name;
+    private final Path directory;
+    private final Path file;
+    private final int initialCapacity;
+    private final int maxCapacity;
+    private final boolean syncWrites;
+    private final CRC32 crc = new CRC32();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Changed only by writers (holding the monitor), under the write lock - writers can read them without the lock
+    private Map<String, Slot> index = new HashMap<>();
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int position;
+    private long liveBytes;
+    private long compactions;
+
+    /**
+     * Where a key's latest put lives in the log.
+     */
+    private record Slot(int offset, int size, int valueOffset, int valueLength, long expiresAtMillis) {
+        boolean isExpired(long nowMillis) {
+            return this.expiresAtMillis != NEVER && this.expiresAtMillis <= nowMillis;
+        }
+    }
+
+    public MappedLogStore(String name, Path directory, int initialCapacity, int maxCapacity, boolean syncWrites) {
+        if (initialCapacity < FILE_HEADER + RECORD_HEADER || maxCapacity < initialCapacity) {
+            throw new IllegalArgumentException("Invalid store configuration for: " + name);
+        }
+        this.name = name;
+        this.directory = directory;
+        this.file = directory.resolve(FILE_NAME);
+        this.initialCapacity = initialCapacity;
+        this.maxCapacity = maxCapacity;
+        this.syncWrites = syncWrites;
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(FILE_NAME + COMPACTING_SUFFIX)); // A compaction the process died in
+            this.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open store at " + this.file, e);
+        }
+        logger.info("Store {} at {} holds {} entries ({} of {} bytes live)", name, this.file, this.index.size(),
+                this.liveBytes, this.position);
+    }
+
+    /**
+     * Served straight from the mapping, without a thread hop - a read is a hash lookup and a copy, and never waits for a
+     * write or compaction to reach the disk.
+     */
+    @Override
+    public Mono<byte[]> get(String key) {
+        return Mono.fromCallable(() -> this.read(key));
+    }
+
+    /**
+     * Writes run on the bounded elastic scheduler, as one may have to compact the log first.
+     */
+    @Override
+    public Mono<Void> put(String key, byte[] value, Duration ttl) {
+        return Mono.<Void>fromRunnable(() -> this.write(key, value, ttl == null ? NEVER : System.currentTimeMillis() + ttl.toMillis()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Void> delete(String key) {
+        return Mono.<Void>fromRunnable(() -> this.remove(key))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public byte[] read(String key) {
+        this.lock.readLock().lock();
+        try {
+            Slot slot = this.index.get(key);
+            if (slot == null || slot.isExpired(System.currentTimeMillis())) {
+                return null; // An expired put stays indexed until the next compaction, which drops it
+            }
+            byte[] value = new byte[slot.valueLength()];
+            this.buffer.get(slot.valueOffset(), value);
+            return value;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public synchronized void write(String key, byte[] value, long expiresAtMillis) {
+        byte[] keyBytes = encodeKey(key);
+        int size = RECORD_HEADER + keyBytes.length + value.length;
+        this.ensureRoom(size);
+        Slot slot = this.append(PUT, keyBytes, value, expiresAtMillis);
+        this.lock.writeLock().lock();
+        try {
+            this.position += size;
+            Slot previous = this.index.put(key, slot);
+            this.liveBytes += size - (previous == null ? 0 : previous.size());
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void remove(String key) {
+        if (!this.index.containsKey(key)) {
+            return; // Nothing in the log to shadow
+        }
+        byte[] keyBytes = encodeKey(key);
+        int size = RECORD_HEADER + keyBytes.length;
+        this.ensureRoom(size);
+        this.append(DELETE, keyBytes, new byte[0], NEVER);
+        this.lock.writeLock().lock();
+        try {
+            this.position += size;
+            this.forget(key); // The tombstone itself is never live - compaction drops it along with the put it shadows
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Entries in the index - including expired ones the next compaction drops.
+     */
+    public int getEntryCount() {
+        return (int) this.readLocked(() -> this.index.size());
+    }
+
+    /**
+     * Bytes of records still in use - everything else in the log is reclaimed by the next compaction.
+     */
+    public long getLiveBytes() {
+        return this.readLocked(() -> this.liveBytes);
+    }
+
+    /**
+     * Bytes of the log written so far, live or not.
+     */
+    public long getUsedBytes() {
+        return this.readLocked(() -> this.position);
+    }
+
+    public long getCapacity() {
+        return this.readLocked(() -> this.capacity);
+    }
+
+    public long getCompactionCount() {
+        return this.readLocked(() -> this.compactions);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Flushes the log to disk.
+     */
+    @Override
+    public synchronized void close() {
+        this.buffer.force();
+    }
+
+    private void open() throws IOException {
+        boolean exists = Files.exists(this.file);
+        if (!exists) {
+            createPrivateFile(this.file);
+        }
+        int size = (int) Math.min(Files.size(this.file), this.maxCapacity);
+        this.capacity = Math.max(size, this.initialCapacity);
+        this.buffer = map(this.file, this.capacity);
+
+        if (!exists || size == 0) {
+            writeHeader(this.buffer);
+        } else if (this.buffer.getInt(0) != MAGIC || this.buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a store file, or written by an incompatible version: " + this.file);
+        }
+        if (this.replay()) {
+            logger.warn("Store {} ends in a torn record at offset {} - dropping it", this.name, this.position);
+            this.compact(0); // Rewrites the log without whatever follows the last intact record
+        }
+    }
+
+    /**
+     * Rebuilds the index from the log. Returns whether it stopped at a torn or corrupt record rather than at its end.
+     */
+    private boolean replay() {
+        long now = System.currentTimeMillis();
+        int offset = FILE_HEADER;
+        boolean torn = false;
+        while (offset + 4 <= this.capacity) {
+            int length = this.buffer.getInt(offset);
+            if (length == 0) {
+                break; // Never written
+            }
+            if (length < RECORD_HEADER - 4 || offset + 4L + length > this.capacity
+                    || this.buffer.getInt(offset + 4) != this.checksum(this.buffer, offset + CHECKSUMMED_FROM, length - 4)) {
+                torn = true;
+                break;
+            }
+            int size = 4 + length;
+            byte type = this.buffer.get(offset + 8);
+            long expiresAtMillis = this.buffer.getLong(offset + 9);
+            int keyLength = Short.toUnsignedInt(this.buffer.getShort(offset + 17));
+            int valueOffset = offset + RECORD_HEADER + keyLength;
+            if (valueOffset > offset + size) {
+                torn = true;
+                break;
+            }
+            byte[] keyBytes = new byte[keyLength];
+            this.buffer.get(offset + RECORD_HEADER, keyBytes);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+
+            this.forget(key);
+            Slot slot = new Slot(offset, size, valueOffset, offset + size - valueOffset, expiresAtMillis);
+            if (type == PUT && !slot.isExpired(now)) {
+                this.index.put(key, slot);
+                this.liveBytes += size;
+            }
+            offset += size;
+        }
+        this.position = offset;
+        return torn;
+    }
+
+    /**
+     * Writes a record at the end of the log. Readers can't see it until the caller indexes it and moves the end past it.
+     */
+    private Slot append(byte type, byte[] key, byte[] value, long expiresAtMillis) {
+        int offset = this.position;
+        int size = RECORD_HEADER + key.length + value.length;
+        this.buffer.put(offset + 8, type);
+        this.buffer.putLong(offset + 9, expiresAtMillis);
+        this.buffer.putShort(offset + 17, (short) key.length);
+        this.buffer.put(offset + RECORD_HEADER, key);
+        this.buffer.put(offset + RECORD_HEADER + key.length, value);
+        this.buffer.putInt(offset + 4, this.checksum(this.buffer, offset + CHECKSUMMED_FROM, size - CHECKSUMMED_FROM));
+        this.buffer.putInt(offset, size - 4); // Last, so a record cut short reads as the end of the log
+        if (this.syncWrites) {
+            this.buffer.force(offset, size);
+        }
+        return new Slot(offset, size, offset + RECORD_HEADER + key.length, value.length, expiresAtMillis);
+    }
+
+    private void ensureRoom(int size) {
+        if (this.position + size > this.capacity) {
+            this.compact(size);
+        }
+    }
+
+    /**
+     * Copies every live record into a new log with room for at least `reserve` more bytes, and swaps it in. Readers
+     * carry on with the old log until the new one is on disk.
+     */
+    private void compact(int reserve) {
+        long now = System.currentTimeMillis();
+        long unexpiredBytes = 0;
+        for (Slot slot : this.index.values()) {
+            if (!slot.isExpired(now)) {
+                unexpiredBytes += slot.size();
+            }
+        }
+
+        long needed = FILE_HEADER + unexpiredBytes + reserve;
+        long newCapacity = this.initialCapacity;
+        while (newCapacity < needed * 2 && newCapacity < this.maxCapacity) {
+            newCapacity = Math.min(newCapacity * 2, this.maxCapacity);
+        }
+        if (needed > newCapacity) {
+            throw new IllegalStateException("Store " + this.name + " is full: " + unexpiredBytes + " bytes live, "
+                    + reserve + " more needed, at most " + this.maxCapacity + " allowed");
+        }
+
+        Path compacting = this.directory.resolve(FILE_NAME + COMPACTING_SUFFIX);
+        try {
+            Files.deleteIfExists(compacting);
+            createPrivateFile(compacting);
+            MappedByteBuffer target = map(compacting, (int) newCapacity);
+            writeHeader(target);
+
+            Map<String, Slot> compacted = new HashMap<>();
+            int offset = FILE_HEADER;
+            for (Map.Entry<String, Slot> entry : this.index.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.isExpired(now)) {
+                    continue;
+                }
+                target.put(offset, this.buffer, slot.offset(), slot.size()); // Checksums don't cover offsets - copy as is
+                compacted.put(entry.getKey(), new Slot(offset, slot.size(), offset + slot.valueOffset() - slot.offset(),
+                        slot.valueLength(), slot.expiresAtMillis()));
+                offset += slot.size();
+            }
+            target.force();
+            Files.move(compacting, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            logger.debug("Compacted store {}: {} -> {} bytes, {} entries, capacity {}", this.name, this.position, offset,
+                    compacted.size(), newCapacity);
+            this.lock.writeLock().lock();
+            try {
+                this.index = compacted;
+                this.buffer = target; // The old mapping is released once it is garbage collected
+                this.capacity = (int) newCapacity;
+                this.position = offset;
+                this.liveBytes = unexpiredBytes;
+                this.compactions++;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact store " + this.name, e);
+        }
+    }
+
+    private long readLocked(LongSupplier value) {
+        this.lock.readLock().lock();
+        try {
+            return value.getAsLong();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void forget(String key) {
+        Slot slot = this.index.remove(key);
+        if (slot != null) {
+            this.liveBytes -= slot.size();
+        }
+    }
+
+    private int checksum(MappedByteBuffer source, int offset, int length) {
+        this.crc.reset();
+        this.crc.update(source.slice(offset, length));
+        return (int) this.crc.getValue();
+    }
+
+    private static byte[] encodeKey(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Key too long: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static void writeHeader(MappedByteBuffer target) {
+        target.putInt(0, MAGIC);
+        target.putInt(4, VERSION);
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size); // Grows the file - sparsely, where supported
+        }
+    }
+
+    /**
+     * Creates the file readable by its owner only where the file system allows it - it holds tokens and sessions.
+     */
+    private static void createPrivateFile(Path path) throws IOException {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(path);
+        }
+    }
+}
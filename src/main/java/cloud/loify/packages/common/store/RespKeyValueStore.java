@@ -0,0 +1,260 @@
+package cloud.loify.packages.common.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KeyValueStore} in a Redis-compatible server, spoken to over RESP2 - shared by every replica, so sessions and
+ * authorized clients follow users across them and survive any one replica restarting.
+ * <p>
+ * Only needs `GET`, `SET ... PX` and `DEL` (plus `AUTH` and `SELECT` when configured), so it works against Redis,
+ * Valkey, KeyDB and the simulator's stand-in alike. Commands go over a small pool of blocking connections, run on
+ * the bounded elastic scheduler; a connection that fails mid-command is closed rather than returned to the pool, as
+ * its replies may be out of step.
+ */
+public class RespKeyValueStore implements KeyValueStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RespKeyValueStore.class);
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final String host;
+    private final int port;
+    private final String password;
+    private final int database;
+    private final String keyPrefix;
+    private final int timeoutMillis;
+    private final Semaphore permits;
+    private final BlockingQueue<Connection> idle;
+
+    public RespKeyValueStore(String host, int port, String password, int database, String keyPrefix,
+                             int maxConnections, Duration timeout) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Invalid store configuration for: " + host + ":" + port);
+        }
+        this.host = host;
+        this.port = port;
+        this.password = password == null || password.isEmpty() ? null : password;
+        this.database = database;
+        this.keyPrefix = keyPrefix;
+        this.timeoutMillis = (int) timeout.toMillis();
+        this.permits = new Semaphore(maxConnections);
+        this.idle = new ArrayBlockingQueue<>(maxConnections);
+    }
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return this.execute("GET", this.keyOf(key))
+                .map(reply -> (byte[]) reply); // Empty for a nil reply
+    }
+
+    @Override
+    public Mono<Void> put(String key, byte[] value, Duration ttl) {
+        Mono<Object> command = ttl == null
+                ? this.execute("SET", this.keyOf(key), value)
+                : this.execute("SET", this.keyOf(key), value, ascii("PX"), ascii(Long.toString(Math.max(ttl.toMillis(), 1))));
+        return command.then();
+    }
+
+    @Override
+    public Mono<Void> delete(String key) {
+        return this.execute("DEL", this.keyOf(key)).then();
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = this.idle.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    private Mono<Object> execute(String command, byte[]... args) {
+        return Mono.fromCallable(() -> {
+                    Connection connection = this.borrow();
+                    try {
+                        Object reply = connection.execute(ascii(command), args);
+                        this.idle.offer(connection); // Before releasing the permit, so the pool never outgrows it
+                        return reply;
+                    } catch (RespErrorException e) {
+                        this.idle.offer(connection); // The error reply was read in full - the connection is fine
+                        throw e;
+                    } catch (IOException e) {
+                        connection.close();
+                        throw new UncheckedIOException(command + " failed against " + this.host + ":" + this.port, e);
+                    } finally {
+                        this.permits.release();
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Connection borrow() throws IOException, InterruptedException {
+        if (!this.permits.tryAcquire(this.timeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new IOException("Timed out waiting for a connection to " + this.host + ":" + this.port);
+        }
+        Connection connection = this.idle.poll();
+        if (connection != null) {
+            return connection;
+        }
+        try {
+            return this.connect();
+        } catch (IOException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    private Connection connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(this.host, this.port), this.timeoutMillis);
+            socket.setSoTimeout(this.timeoutMillis);
+            socket.setTcpNoDelay(true);
+            Connection connection = new Connection(socket);
+            if (this.password != null) {
+                connection.execute(ascii("AUTH"), this.password.getBytes(StandardCharsets.UTF_8));
+            }
+            if (this.database != 0) {
+                connection.execute(ascii("SELECT"), ascii(Integer.toString(this.database)));
+            }
+            logger.debug("Connected to {}:{}", this.host, this.port);
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private byte[] keyOf(String key) {
+        return (this.keyPrefix + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * The server answered a command with an error reply.
+     */
+    public static class RespErrorException extends RuntimeException {
+        public RespErrorException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Connection {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        /**
+         * Sends a command as an array of bulk strings and reads its reply: a byte[] for a bulk string, null for nil,
+         * a Long for an integer and a String for a status.
+         */
+        Object execute(byte[] command, byte[]... args) throws IOException {
+            this.out.write('*');
+            this.writeNumber(1 + args.length);
+            this.writeBulk(command);
+            for (byte[] arg : args) {
+                this.writeBulk(arg);
+            }
+            this.out.flush();
+            return this.readReply();
+        }
+
+        private void writeBulk(byte[] value) throws IOException {
+            this.out.write('$');
+            this.writeNumber(value.length);
+            this.out.write(value);
+            this.out.write(CRLF);
+        }
+
+        private void writeNumber(long value) throws IOException {
+            this.out.write(ascii(Long.toString(value)));
+            this.out.write(CRLF);
+        }
+
+        private Object readReply() throws IOException {
+            int type = this.in.read();
+            switch (type) {
+                case '+':
+                    return this.readLine();
+                case '-':
+                    throw new RespErrorException(this.readLine());
+                case ':':
+                    return this.readNumber();
+                case '$': {
+                    int length = (int) this.readNumber();
+                    if (length < 0) {
+                        return null;
+                    }
+                    byte[] value = this.in.readNBytes(length);
+                    if (value.length < length || this.in.read() != '\r' || this.in.read() != '\n') {
+                        throw new EOFException("Truncated bulk reply");
+                    }
+                    return value;
+                }
+                case -1:
+                    throw new EOFException("Connection closed by server");
+                default:
+                    throw new IOException("Unexpected reply type: " + (char) type); // No command used here returns arrays
+            }
+        }
+
+        private long readNumber() throws IOException {
+            String line = this.readLine();
+            try {
+                return Long.parseLong(line);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed number in reply: " + line, e);
+            }
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = this.in.read()) != '\r') {
+                if (c == -1) {
+                    throw new EOFException("Connection closed by server");
+                }
+                line.append((char) c);
+            }
+            if (this.in.read() != '\n') {
+                throw new IOException("Malformed reply line");
+            }
+            return line.toString();
+        }
+
+        void close() {
+            try {
+                this.socket.close();
+            } catch (IOException e) {
+                logger.debug("Could not close connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package cloud.loify.packages.cover;
+
+import cloud.loify.packages.common.cache.CacheStats;
+import cloud.loify.packages.common.cache.ExpiringLruCache;
+import cloud.loify.packages.common.client.SingleFlight;
+import cloud.loify.packages.utils.ImageUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates loify cover art for playlists.
+ * <p>
+ * Source images are downloaded through a non-blocking {@link WebClient}; rendering and encoding run on the bounded
+ * `coverRenderScheduler`, never on an event loop. At most `loify.cover.max-queued` covers wait for a render thread -
+ * beyond that, covers are rejected straight away rather than queueing up behind each other.
+ * <p>
+ * Generated covers are cached in two tiers, both keyed by a SHA-256 of the source URL and the render settings:
+ * a small in-memory LRU in front of a larger {@link CoverDiskStore}. Popular playlists are converted by many users,
+ * and a hit in either tier skips both the download and the rendering. Concurrent requests for the same cover share
+ * a single generation.
+ * <p>
+ * Disabled unless `loify.cover.enabled` is set.
+ */
+@Service
+public class CoverArtService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoverArtService.class);
+    private final WebClient imageClient;
+    private final Scheduler renderScheduler;
+    private final boolean enabled;
+    private final int maxQueued;
+    private final ExpiringLruCache<String, String> memoryCache;
+    private final CoverDiskStore diskStore;
+    private final SingleFlight<String, String> inFlightCovers = new SingleFlight<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger rendering = new AtomicInteger();
+    private final LongAdder rendered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+
+    public CoverArtService(@Qualifier("coverImageWebClient") WebClient coverImageWebClient,
+                           Scheduler coverRenderScheduler,
+                           CoverDiskStore coverDiskStore,
+                           @Value("${loify.cover.enabled:false}") boolean enabled,
+                           @Value("${loify.cover.max-queued:32}") int maxQueued,
+                           @Value("${loify.cover.cache.max-size:256}") int cacheMaxSize,
+                           @Value("${loify.cover.cache.ttl:24h}") Duration cacheTtl) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("loify.cover.max-queued must not be negative");
+        }
+        this.imageClient = coverImageWebClient;
+        this.renderScheduler = coverRenderScheduler;
+        this.enabled = enabled;
+        this.maxQueued = maxQueued;
+        this.memoryCache = new ExpiringLruCache<>("cover-memory", cacheMaxSize, cacheTtl);
+        this.diskStore = coverDiskStore;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the loify version of the image at `imageUrl` - from the cache, or downloaded and rendered.
+     *
+     * @param imageUrl the source cover's URL.
+     * @return a Mono containing the Base64-encoded cover; fails with a {@link RejectedExecutionException} if too
+     * many covers are already waiting to be rendered.
+     */
+    public Mono<String> loifyCover(String imageUrl) {
+        String key = cacheKey(imageUrl);
+        return Mono.defer(() -> {
+            String cached = this.memoryCache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return this.inFlightCovers.execute(key, k -> Mono.fromCallable(() -> this.diskStore.get(k))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .switchIfEmpty(Mono.defer(() -> this.generate(imageUrl).flatMap(cover -> this.store(k, cover))))
+                    .doOnNext(cover -> this.memoryCache.put(k, cover)));
+        });
+    }
+
+    private Mono<String> generate(String imageUrl) {
+        return this.imageClient.get()
+                .uri(URI.create(imageUrl))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .flatMap(this::render)
+                .doOnError(err -> logger.warn("Could not generate loify cover from {}: {}", imageUrl, err.getMessage()));
+    }
+
+    private Mono<String> store(String key, String cover) {
+        return Mono.fromCallable(() -> {
+                    this.diskStore.put(key, cover);
+                    return cover;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(err -> {
+                    logger.warn("Could not store cover {} on disk: {}", key, err.getMessage());
+                    return Mono.just(cover); // Still a perfectly good cover
+                });
+    }
+
+    static String cacheKey(String imageUrl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ImageUtils.RENDER_SIGNATURE.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(imageUrl.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Every JRE is required to provide it
+        }
+    }
+
+    private Mono<String> render(byte[] image) {
+        return Mono.defer(() -> {
+            if (this.queued.incrementAndGet() > this.maxQueued) {
+                this.queued.decrementAndGet();
+                this.rejected.increment();
+                return Mono.error(new RejectedExecutionException("Cover render queue is full (" + this.maxQueued + ")"));
+            }
+
+            AtomicBoolean started = new AtomicBoolean();
+            return Mono.fromCallable(() -> {
+                        started.set(true);
+                        this.queued.decrementAndGet();
+                        this.rendering.incrementAndGet();
+                        long start = System.nanoTime();
+                        try {
+                            String cover = ImageUtils.loifyPlaylistImage(image);
+                            this.rendered.increment();
+                            return cover;
+                        } catch (Exception e) {
+                            this.failed.increment();
+                            throw e;
+                        } finally {
+                            this.renderNanos.add(System.nanoTime() - start);
+                            this.rendering.decrementAndGet();
+                        }
+                    })
+                    .subscribeOn(this.renderScheduler)
+                    .doFinally(signal -> {
+                        if (!started.get()) {
+                            this.queued.decrementAndGet(); // Cancelled while still waiting for a render thread
+                        }
+                    });
+        });
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getActiveRenders() {
+        return rendering.get();
+    }
+
+    public long getRenderedCount() {
+        return rendered.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public CacheStats getMemoryCacheStats() {
+        return memoryCache.stats();
+    }
+
+    public CacheStats getDiskCacheStats() {
+        return diskStore.stats();
+    }
+
+    public long getDiskUsageBytes() {
+        return diskStore.getUsedBytes();
+    }
+
+    public double getTotalRenderTime(TimeUnit unit) {
+        return (double) renderNanos.sum() / unit.toNanos(1);
+    }
+}
@@ -0,0 +1,199 @@
+package cloud.loify.packages.cover;
+
+import cloud.loify.packages.common.cache.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed, size-bounded store for generated covers on local disk - one file per cover, named after its key.
+ * <p>
+ * Covers are read back through a memory mapping, straight from the page cache instead of through an intermediate
+ * heap buffer. Writes go to a temporary file that is then moved into place, so readers never see half a cover.
+ * Once the store grows past `maxBytes`, the least recently used covers are deleted.
+ * <p>
+ * Files already in the directory are picked up on startup, so the store survives restarts. Every method does blocking
+ * file I/O - call them from a scheduler meant for it.
+ */
+public class CoverDiskStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoverDiskStore.class);
+    private static final String SUFFIX = ".b64";
+
+    private final String name;
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true); // Access order - eldest is LRU
+    private long usedBytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public CoverDiskStore(String name, Path directory, long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Invalid disk store configuration for: " + name);
+        }
+        this.name = name;
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+            this.loadIndex();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open cover store at " + directory, e);
+        }
+        logger.info("Cover store {} at {} holds {} covers ({} bytes)", name, directory, this.sizes.size(), this.usedBytes);
+    }
+
+    /**
+     * Returns the stored cover, or null if there is none.
+     */
+    public String get(String key) {
+        synchronized (this) {
+            if (this.sizes.get(key) == null) {
+                this.misses++;
+                return null;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(this.fileOf(key), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            String cover = StandardCharsets.ISO_8859_1.decode(mapped).toString(); // Base64 is plain ASCII
+            synchronized (this) {
+                this.hits++;
+            }
+            return cover;
+        } catch (NoSuchFileException e) {
+            this.forget(key); // Deleted behind our back
+        } catch (IOException e) {
+            logger.warn("Could not read cover {} from store {}: {}", key, this.name, e.getMessage());
+            this.forget(key);
+        }
+        synchronized (this) {
+            this.misses++;
+        }
+        return null;
+    }
+
+    public void put(String key, String cover) throws IOException {
+        byte[] bytes = cover.getBytes(StandardCharsets.ISO_8859_1);
+        Path temp = Files.createTempFile(this.directory, key, ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, this.fileOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        List<String> evicted;
+        synchronized (this) {
+            Long previous = this.sizes.put(key, (long) bytes.length);
+            this.usedBytes += bytes.length - (previous == null ? 0 : previous);
+            evicted = this.evictOverflow(key);
+        }
+        for (String eldest : evicted) {
+            Files.deleteIfExists(this.fileOf(eldest));
+        }
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, hits, misses, evictions, 0, sizes.size(), -1); // Bounded by bytes, not entries
+    }
+
+    private List<String> evictOverflow(String keep) {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = this.sizes.entrySet().iterator();
+        while (this.usedBytes > this.maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue; // Just written - never evict a cover to make room for itself
+            }
+            iterator.remove();
+            this.usedBytes -= eldest.getValue();
+            this.evictions++;
+            evicted.add(eldest.getKey());
+        }
+        return evicted;
+    }
+
+    private synchronized void forget(String key) {
+        Long size = this.sizes.remove(key);
+        if (size != null) {
+            this.usedBytes -= size;
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            List<Path> covers = files.filter(file -> file.getFileName().toString().endsWith(SUFFIX) || deleteIfTemporary(file))
+                    .sorted(Comparator.comparingLong(CoverDiskStore::lastModified)) // Oldest first, as if least recently used
+                    .toList();
+            for (Path file : covers) {
+                String fileName = file.getFileName().toString();
+                long size = Files.size(file);
+                this.sizes.put(fileName.substring(0, fileName.length() - SUFFIX.length()), size);
+                this.usedBytes += size;
+            }
+        }
+        for (String eldest : this.evictOverflow(null)) { // In case maxBytes was lowered since
+            Files.deleteIfExists(this.fileOf(eldest));
+        }
+    }
+
+    private Path fileOf(String key) {
+        return this.directory.resolve(key + SUFFIX);
+    }
+
+    /**
+     * Deletes a write that never made it into place (e.g. because the process died mid-write). Always false, as a filter.
+     */
+    private static boolean deleteIfTemporary(Path file) {
+        if (file.getFileName().toString().endsWith(".tmp")) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete leftover temporary file {}: {}", file, e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
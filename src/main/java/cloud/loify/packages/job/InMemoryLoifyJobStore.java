@@ -0,0 +1,36 @@
+package cloud.loify.packages.job;
+
+import cloud.loify.packages.common.cache.ExpiringLruCache;
+import cloud.loify.packages.job.dto.LoifyJobDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Keeps job state in process memory - jobs are forgotten after `loify.jobs.retention` or on restart.
+ */
+@Component
+public class InMemoryLoifyJobStore implements LoifyJobStore {
+
+    private final ExpiringLruCache<String, LoifyJobDTO> jobs;
+
+    public InMemoryLoifyJobStore(@Value("${loify.jobs.max-retained:10000}") int maxRetained,
+                                 @Value("${loify.jobs.retention:24h}") Duration retention) {
+        this.jobs = new ExpiringLruCache<>("loify-jobs", maxRetained, retention);
+    }
+
+    @Override
+    public Mono<LoifyJobDTO> save(LoifyJobDTO job) {
+        return Mono.fromSupplier(() -> {
+            this.jobs.put(job.id(), job);
+            return job;
+        });
+    }
+
+    @Override
+    public Mono<LoifyJobDTO> findById(String jobId) {
+        return Mono.fromSupplier(() -> this.jobs.getIfPresent(jobId));
+    }
+}
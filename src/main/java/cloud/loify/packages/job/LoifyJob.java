@@ -0,0 +1,148 @@
+package cloud.loify.packages.job;
+
+import cloud.loify.packages.job.dto.LoifyJobDTO;
+import cloud.loify.packages.job.dto.LoifyJobStatus;
+import cloud.loify.packages.playlist.LoifyProgressListener;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.Disposable;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live state of a queued or running loify job. Progress counters are updated from the pipeline's threads,
+ * status transitions are serialized on the job itself.
+ */
+class LoifyJob implements LoifyProgressListener {
+
+    private final String id;
+    private final String owner;
+    private final String playlistId;
+    private final String genre;
+    private final SecurityContext securityContext;
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicInteger tracksResolved = new AtomicInteger();
+    private final AtomicInteger tracksNotFound = new AtomicInteger();
+    private final AtomicInteger chunksWritten = new AtomicInteger();
+
+    private volatile LoifyJobStatus status = LoifyJobStatus.QUEUED;
+    private volatile String loifyPlaylistId;
+    private volatile String error;
+    private volatile Instant updatedAt = createdAt;
+    private Disposable execution; // Guarded by this
+
+    LoifyJob(String id, String playlistId, String genre, SecurityContext securityContext) {
+        this.id = id;
+        this.owner = securityContext.getAuthentication().getName();
+        this.playlistId = playlistId;
+        this.genre = genre;
+        this.securityContext = securityContext;
+    }
+
+    @Override
+    public void onPlaylistCreated(String loifyPlaylistId) {
+        this.loifyPlaylistId = loifyPlaylistId;
+        touch();
+    }
+
+    @Override
+    public void onResumed(int tracksResolved, int tracksNotFound, int chunksWritten) {
+        this.tracksResolved.set(tracksResolved);
+        this.tracksNotFound.set(tracksNotFound);
+        this.chunksWritten.set(chunksWritten);
+        touch();
+    }
+
+    @Override
+    public void onTrackResolved(boolean matched) {
+        tracksResolved.incrementAndGet();
+        if (!matched) {
+            tracksNotFound.incrementAndGet();
+        }
+        touch();
+    }
+
+    @Override
+    public void onChunkWritten() {
+        chunksWritten.incrementAndGet();
+        touch();
+    }
+
+    /**
+     * Moves a queued job to running. Returns false if it was cancelled in the meantime.
+     */
+    synchronized boolean start() {
+        if (status != LoifyJobStatus.QUEUED) {
+            return false;
+        }
+        status = LoifyJobStatus.RUNNING;
+        touch();
+        return true;
+    }
+
+    synchronized void attach(Disposable execution) {
+        if (status == LoifyJobStatus.CANCELLED) {
+            execution.dispose(); // Cancelled between start() and subscription
+        } else {
+            this.execution = execution;
+        }
+    }
+
+    synchronized void succeed() {
+        finish(LoifyJobStatus.SUCCEEDED, null);
+    }
+
+    synchronized void fail(String error) {
+        finish(LoifyJobStatus.FAILED, error);
+    }
+
+    synchronized void cancel() {
+        if (finish(LoifyJobStatus.CANCELLED, null) && execution != null) {
+            execution.dispose();
+        }
+    }
+
+    private boolean finish(LoifyJobStatus terminalStatus, String error) {
+        if (status.isTerminal()) {
+            return false;
+        }
+        this.status = terminalStatus;
+        this.error = error;
+        touch();
+        return true;
+    }
+
+    private void touch() {
+        updatedAt = Instant.now();
+    }
+
+    LoifyJobDTO snapshot() {
+        return new LoifyJobDTO(id, owner, playlistId, genre, status, tracksResolved.get(), tracksNotFound.get(),
+                chunksWritten.get(), loifyPlaylistId, error, createdAt, updatedAt);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    String getPlaylistId() {
+        return playlistId;
+    }
+
+    String getGenre() {
+        return genre;
+    }
+
+    SecurityContext getSecurityContext() {
+        return securityContext;
+    }
+
+    LoifyJobStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,108 @@
+package cloud.loify.packages.job;
+
+import cloud.loify.packages.job.dto.CreateLoifyJobRequestDTO;
+import cloud.loify.packages.job.dto.LoifyJobResponseDTO;
+import cloud.loify.packages.job.exceptions.LoifyJobQueueFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Controller for running loify conversions as background jobs.
+ */
+@RestController
+@RequestMapping("/v1/jobs")
+public class LoifyJobController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoifyJobController.class);
+    private final LoifyJobService loifyJobService;
+
+    public LoifyJobController(LoifyJobService loifyJobService) {
+        this.loifyJobService = loifyJobService;
+    }
+
+    /**
+     * Queues a job that creates a loifyed playlist and adds the loifyed tracks.
+     *
+     * @param requestBody the playlist to loify and the genre to loify it into.
+     * @return a Mono containing the queued job, with its status URL in the Location header.
+     * - 202 ACCEPTED if the job was queued.
+     * - 400 BAD_REQUEST if the playlist ID or genre is missing.
+     * - 503 SERVICE_UNAVAILABLE if the job queue is full.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<LoifyJobResponseDTO>> createJob(@RequestBody CreateLoifyJobRequestDTO requestBody) {
+        if (requestBody == null || isBlank(requestBody.playlistId()) || isBlank(requestBody.genre())) {
+            logger.warn("Received invalid loify job request: {}", requestBody);
+            return Mono.just(ResponseEntity.badRequest().body(null));
+        }
+
+        logger.info("Request to queue loify job for playlist with ID: {}", requestBody.playlistId());
+        return loifyJobService.submit(requestBody.playlistId(), requestBody.genre())
+                .map(LoifyJobResponseDTO::from)
+                .map(job -> ResponseEntity.accepted().location(URI.create("/v1/jobs/" + job.id())).body(job))
+                .onErrorResume(LoifyJobQueueFullException.class, error -> {
+                    logger.warn("Rejected loify job: {}", error.getMessage());
+                    return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, error.getMessage(), error));
+                });
+    }
+
+    /**
+     * Retrieves the status and progress of a job.
+     *
+     * @param jobId the ID of the job.
+     * @return a Mono containing the job, or 404 NOT_FOUND if it does not exist or belongs to another user.
+     */
+    @GetMapping("/{jobId}")
+    public Mono<ResponseEntity<LoifyJobResponseDTO>> getJob(@PathVariable String jobId) {
+        return loifyJobService.getJob(jobId)
+                .map(LoifyJobResponseDTO::from)
+                .map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null)));
+    }
+
+    /**
+     * Cancels a queued or running job. Its progress is checkpointed, so it can be resumed through the retry endpoint.
+     *
+     * @param jobId the ID of the job.
+     * @return a Mono containing the job, or 404 NOT_FOUND if it does not exist or belongs to another user.
+     */
+    @DeleteMapping("/{jobId}")
+    public Mono<ResponseEntity<LoifyJobResponseDTO>> cancelJob(@PathVariable String jobId) {
+        logger.info("Request to cancel loify job: {}", jobId);
+        return loifyJobService.cancel(jobId)
+                .map(LoifyJobResponseDTO::from)
+                .map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null)));
+    }
+
+    /**
+     * Retries a failed or cancelled job under the same ID, resuming a cancelled job from its last checkpoint.
+     *
+     * @param jobId the ID of the job.
+     * @return a Mono containing the re-queued job, or 404 NOT_FOUND if it does not exist or belongs to another user.
+     * - 503 SERVICE_UNAVAILABLE if the job queue is full.
+     */
+    @PostMapping("/{jobId}/retry")
+    public Mono<ResponseEntity<LoifyJobResponseDTO>> retryJob(@PathVariable String jobId) {
+        logger.info("Request to retry loify job: {}", jobId);
+        return loifyJobService.retry(jobId)
+                .map(LoifyJobResponseDTO::from)
+                .map(job -> ResponseEntity.accepted().location(URI.create("/v1/jobs/" + job.id())).body(job))
+                .switchIfEmpty(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null)))
+                .onErrorResume(LoifyJobQueueFullException.class, error -> {
+                    logger.warn("Rejected loify job retry: {}", error.getMessage());
+                    return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, error.getMessage(), error));
+                });
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,190 @@
+package cloud.loify.packages.job;
+
+import cloud.loify.packages.job.dto.LoifyJobDTO;
+import cloud.loify.packages.job.exceptions.LoifyJobQueueFullException;
+import cloud.loify.packages.job.dto.LoifyJobStatus;
+import cloud.loify.packages.playlist.LoifyPlaylistSaga;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs the create-search-add loify pipeline as background jobs.
+ * <p>
+ * At most `loify.jobs.max-concurrent` jobs run at once; further jobs wait in a bounded queue and are rejected once
+ * `loify.jobs.max-queued` are waiting. Each job runs with the security context of the user who submitted it.
+ * <p>
+ * Jobs run as {@link LoifyPlaylistSaga} sagas keyed by job ID, so retrying a cancelled job resumes from its last checkpoint.
+ */
+@Service
+public class LoifyJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoifyJobService.class);
+    private final LoifyPlaylistSaga loifyPlaylistSaga;
+    private final LoifyJobStore store;
+    private final int maxConcurrentJobs;
+    private final int maxQueuedJobs;
+
+    private final Map<String, LoifyJob> activeJobs = new ConcurrentHashMap<>();
+    private final Queue<LoifyJob> pendingJobs = new ArrayDeque<>(); // Guarded by this
+    private int runningJobs; // Guarded by this
+
+    public LoifyJobService(LoifyPlaylistSaga loifyPlaylistSaga,
+                           LoifyJobStore loifyJobStore,
+                           @Value("${loify.jobs.max-concurrent:4}") int maxConcurrentJobs,
+                           @Value("${loify.jobs.max-queued:100}") int maxQueuedJobs) {
+        this.loifyPlaylistSaga = loifyPlaylistSaga;
+        this.store = loifyJobStore;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.maxQueuedJobs = maxQueuedJobs;
+    }
+
+    /**
+     * Queues a loify job for the current user.
+     *
+     * @return a Mono containing the queued job.
+     */
+    public Mono<LoifyJobDTO> submit(String playlistId, String genre) {
+        return ReactiveSecurityContextHolder.getContext()
+                .switchIfEmpty(Mono.error(new IllegalStateException("Loify jobs require an authenticated user.")))
+                .flatMap(securityContext -> {
+                    LoifyJob job = new LoifyJob(UUID.randomUUID().toString(), playlistId, genre, securityContext);
+                    return this.enqueue(job);
+                });
+    }
+
+    /**
+     * Re-queues a failed or cancelled job owned by the current user under the same ID.
+     * A cancelled job resumes from its last checkpoint; a failed one was rolled back and starts over.
+     *
+     * @return a Mono containing the re-queued job, or the job unchanged if it is not failed or cancelled.
+     */
+    public Mono<LoifyJobDTO> retry(String jobId) {
+        return ReactiveSecurityContextHolder.getContext()
+                .flatMap(securityContext -> this.getJob(jobId).flatMap(existing -> {
+                    if (existing.status() != LoifyJobStatus.FAILED && existing.status() != LoifyJobStatus.CANCELLED) {
+                        return Mono.just(existing);
+                    }
+                    logger.info("Retrying loify job {}", jobId);
+                    return this.enqueue(new LoifyJob(jobId, existing.playlistId(), existing.genre(), securityContext));
+                }));
+    }
+
+    /**
+     * Retrieves a job owned by the current user - live state while it is active, stored state afterwards.
+     */
+    public Mono<LoifyJobDTO> getJob(String jobId) {
+        return currentUser().flatMap(owner -> {
+            LoifyJob job = activeJobs.get(jobId);
+            if (job != null) {
+                return job.getOwner().equals(owner) ? Mono.just(job.snapshot()) : Mono.empty();
+            }
+            return this.store.findById(jobId).filter(stored -> owner.equals(stored.owner()));
+        });
+    }
+
+    /**
+     * Cancels a queued or running job owned by the current user. Finished jobs are returned unchanged.
+     */
+    public Mono<LoifyJobDTO> cancel(String jobId) {
+        return currentUser().flatMap(owner -> {
+            LoifyJob job = activeJobs.get(jobId);
+            if (job == null || !job.getOwner().equals(owner)) {
+                return this.getJob(jobId);
+            }
+
+            boolean wasQueued;
+            synchronized (this) {
+                wasQueued = pendingJobs.remove(job);
+            }
+            job.cancel(); // A running job's pipeline is disposed, which releases its worker via onFinished()
+            if (wasQueued) {
+                activeJobs.remove(jobId);
+            }
+            logger.info("Cancelled loify job {}", jobId);
+            return this.store.save(job.snapshot());
+        });
+    }
+
+    private Mono<LoifyJobDTO> enqueue(LoifyJob job) {
+        synchronized (this) {
+            if (pendingJobs.size() >= maxQueuedJobs) {
+                return Mono.error(new LoifyJobQueueFullException("Too many loify jobs queued - try again later."));
+            }
+            if (activeJobs.putIfAbsent(job.getId(), job) != null) {
+                return Mono.just(activeJobs.get(job.getId()).snapshot()); // Already queued or running
+            }
+            pendingJobs.add(job);
+        }
+        logger.info("Queued loify job {} for playlist ID: {}", job.getId(), job.getPlaylistId());
+        return this.store.save(job.snapshot())
+                .doOnSuccess(saved -> this.drain());
+    }
+
+    private void drain() {
+        List<LoifyJob> jobsToStart = new ArrayList<>();
+        synchronized (this) {
+            while (runningJobs < maxConcurrentJobs && !pendingJobs.isEmpty()) {
+                runningJobs++;
+                jobsToStart.add(pendingJobs.poll());
+            }
+        }
+        jobsToStart.forEach(this::start);
+    }
+
+    private void start(LoifyJob job) {
+        if (!job.start()) {
+            this.onFinished(job, SignalType.CANCEL);
+            return;
+        }
+        logger.info("Starting loify job {}", job.getId());
+        this.store.save(job.snapshot()).subscribe();
+
+        job.attach(this.loifyPlaylistSaga.createLoifyedPlaylistAndAddLoifyedTracks(job.getId(), job.getPlaylistId(), job.getGenre(), job)
+                .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(job.getSecurityContext())))
+                .doFinally(signal -> this.onFinished(job, signal))
+                .subscribe(
+                        response -> job.succeed(),
+                        error -> {
+                            logger.error("Loify job {} failed: {}", job.getId(), error.getMessage());
+                            job.fail(error.getMessage());
+                        }
+                ));
+    }
+
+    private void onFinished(LoifyJob job, SignalType signal) {
+        if (signal == SignalType.CANCEL) {
+            job.cancel();
+        } else {
+            job.fail("Loify run completed without creating a playlist."); // No-op if it already succeeded or failed
+        }
+
+        synchronized (this) {
+            runningJobs--;
+        }
+        activeJobs.remove(job.getId());
+        this.store.save(job.snapshot()).subscribe();
+        logger.info("Loify job {} finished with status: {}", job.getId(), job.getStatus());
+        this.drain();
+    }
+
+    private Mono<String> currentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getName);
+    }
+}
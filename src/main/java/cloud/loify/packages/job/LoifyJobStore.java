@@ -0,0 +1,14 @@
+package cloud.loify.packages.job;
+
+import cloud.loify.packages.job.dto.LoifyJobDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Persists loify job state. The in-memory store is the default; register a {@code @Primary} bean to replace it.
+ */
+public interface LoifyJobStore {
+
+    Mono<LoifyJobDTO> save(LoifyJobDTO job);
+
+    Mono<LoifyJobDTO> findById(String jobId);
+}
@@ -0,0 +1,4 @@
+package cloud.loify.packages.job.dto;
+
+public record CreateLoifyJobRequestDTO(String playlistId, String genre) {
+}
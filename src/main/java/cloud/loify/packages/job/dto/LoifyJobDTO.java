@@ -0,0 +1,22 @@
+package cloud.loify.packages.job.dto;
+
+import java.time.Instant;
+
+/**
+ * A job's state as stored, owner included - responses use {@link LoifyJobResponseDTO}, which leaves the owner out.
+ */
+public record LoifyJobDTO(
+        String id,
+        String owner,
+        String playlistId,
+        String genre,
+        LoifyJobStatus status,
+        int tracksResolved,
+        int tracksNotFound,
+        int chunksWritten,
+        String loifyPlaylistId,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
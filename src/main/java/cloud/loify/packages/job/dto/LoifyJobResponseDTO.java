@@ -0,0 +1,22 @@
+package cloud.loify.packages.job.dto;
+
+import java.time.Instant;
+
+public record LoifyJobResponseDTO(
+        String id,
+        String playlistId,
+        String genre,
+        LoifyJobStatus status,
+        int tracksResolved,
+        int tracksNotFound,
+        int chunksWritten,
+        String loifyPlaylistId,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static LoifyJobResponseDTO from(LoifyJobDTO job) {
+        return new LoifyJobResponseDTO(job.id(), job.playlistId(), job.genre(), job.status(), job.tracksResolved(),
+                job.tracksNotFound(), job.chunksWritten(), job.loifyPlaylistId(), job.error(), job.createdAt(), job.updatedAt());
+    }
+}
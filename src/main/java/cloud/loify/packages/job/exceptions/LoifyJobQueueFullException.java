@@ -0,0 +1,7 @@
+package cloud.loify.packages.job.exceptions;
+
+public class LoifyJobQueueFullException extends RuntimeException {
+    public LoifyJobQueueFullException(String message) {
+        super(message);
+    }
+}
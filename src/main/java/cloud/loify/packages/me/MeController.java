@@ -1,6 +1,8 @@
 package cloud.loify.packages.me;
 
+import cloud.loify.packages.me.dto.DeleteLoifyPlaylistsResponseDTO;
 import cloud.loify.packages.me.dto.GetUserPlaylistsResponseDTO;
+import cloud.loify.packages.me.dto.PlaylistDeletionResultDTO;
 import cloud.loify.packages.me.exceptions.InvalidRequestException;
 import cloud.loify.packages.me.exceptions.PlaylistCreationException;
 import cloud.loify.packages.playlist.dto.CreatePlaylistRequestDTO;
@@ -8,9 +10,11 @@ import cloud.loify.packages.playlist.dto.CreatePlaylistResponseDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -116,18 +120,41 @@ public class MeController {
     /**
      * Deletes all playlists with "loify" in the name for the current user.
      *
-     * @return Mono<Void> upon completion, with status indicating success or error.
+     * @return a Mono containing the report of which playlists were deleted, and why any weren't.
+     * @throws ResponseStatusException if the user's playlists could not be listed.
      */
     @DeleteMapping("/playlists/loify")
-    public Mono<ResponseEntity<String>> deleteAllLoifyedPlaylists() {
+    public Mono<ResponseEntity<DeleteLoifyPlaylistsResponseDTO>> deleteAllLoifyedPlaylists() {
         logger.info("Request to delete all playlists with 'loify' in the name.");
 
         return meService.deleteAllLoifyPlaylists()
-                .then(Mono.just(ResponseEntity.ok("Successfully deleted all playlists with 'loify' in the name.")))
-                .switchIfEmpty(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body("No playlists with 'loify' in the name found.")))
+                .collectList()
+                .map(results -> {
+                    DeleteLoifyPlaylistsResponseDTO report = DeleteLoifyPlaylistsResponseDTO.of(results);
+                    logger.info("Deleted {} playlists with 'loify' in the name ({} failed).", report.deleted(), report.failed());
+                    return ResponseEntity.ok(report);
+                })
+                .onErrorResume(e -> {
+                    logger.error("An error occurred during playlist deletion: {}", e.getMessage(), e);
+                    return Mono.error(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to delete playlists", e));
+                });
+    }
+
+    /**
+     * Deletes all playlists with "loify" in the name for the current user, streaming each playlist's outcome as
+     * server-sent events or NDJSON as soon as its delete completes.
+     *
+     * @return a Flux of PlaylistDeletionResultDTOs, in the order the deletes complete.
+     * @throws ResponseStatusException if the user's playlists could not be listed.
+     */
+    @DeleteMapping(value = "/playlists/loify", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PlaylistDeletionResultDTO> streamDeleteAllLoifyedPlaylists() {
+        logger.info("Request to delete all playlists with 'loify' in the name (streamed).");
+
+        return meService.deleteAllLoifyPlaylists()
                 .onErrorResume(e -> {
                     logger.error("An error occurred during playlist deletion: {}", e.getMessage(), e);
-                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to delete playlists due to an internal error."));
+                    return Flux.error(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to delete playlists", e));
                 });
     }
 }
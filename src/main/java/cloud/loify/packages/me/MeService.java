@@ -1,39 +1,53 @@
 package cloud.loify.packages.me;
 
 import cloud.loify.packages.auth.AuthService;
+import cloud.loify.packages.common.client.SingleFlightWebClient;
+import cloud.loify.packages.common.ratelimit.AdaptiveRateLimiter;
 import cloud.loify.packages.me.dto.GetUserPlaylistsResponseDTO;
 import cloud.loify.packages.me.dto.GetUserResponseDTO;
+import cloud.loify.packages.me.dto.PlaylistDeletionResultDTO;
 import cloud.loify.packages.playlist.dto.CreatePlaylistRequestDTO;
 import cloud.loify.packages.playlist.dto.CreatePlaylistResponseDTO;
 import cloud.loify.packages.playlist.dto.PlaylistDetailsDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.net.URI;
+import java.util.List;
 
 @Service
 public class MeService {
 
     private static final Logger logger = LoggerFactory.getLogger(MeService.class);
+    private static final int PLAYLISTS_PAGE_SIZE = 50; // Spotify's maximum page size for the user's playlists
     private final WebClient webClient;
+    private final SingleFlightWebClient singleFlightClient;
     private final AuthService auth;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final int deleteConcurrency;
 
-    public MeService(AuthService auth, WebClient webClient) {
+    public MeService(AuthService auth, WebClient webClient, SingleFlightWebClient singleFlightClient,
+                     AdaptiveRateLimiter spotifyRateLimiter,
+                     @Value("${loify.me.delete.max-concurrency:4}") int deleteConcurrency) {
+        if (deleteConcurrency < 1) {
+            throw new IllegalArgumentException("loify.me.delete.max-concurrency must be at least 1");
+        }
         this.auth = auth;
         this.webClient = webClient;
+        this.singleFlightClient = singleFlightClient;
+        this.rateLimiter = spotifyRateLimiter;
+        this.deleteConcurrency = deleteConcurrency;
     }
 
     public Mono<GetUserPlaylistsResponseDTO> getAllPlaylistsByCurrentUser() {
         logger.info("Retrieving all playlists for the current user.");
-        return this.webClient.get()
-                .uri("/me/playlists")
-                .retrieve()
-                .bodyToMono(GetUserPlaylistsResponseDTO.class)
+        return this.singleFlightClient.get("/me/playlists", GetUserPlaylistsResponseDTO.class)
                 .doOnSuccess(playlists -> {
                     logger.info("Successfully retrieved playlists for the current user.");
                     logger.info(String.valueOf(playlists));
@@ -41,6 +55,24 @@ public class MeService {
                 .doOnError(err -> logger.error("Error retrieving playlists: {}", err.getMessage()));
     }
 
+    /**
+     * Streams every playlist the current user follows, however many pages that takes.
+     * Pages are fetched lazily - the next page is only requested once downstream has demand for it.
+     */
+    public Flux<PlaylistDetailsDTO> streamAllPlaylistsByCurrentUser() {
+        return this.getPlaylistsPage(this.webClient.get().uri("/me/playlists?limit={limit}", PLAYLISTS_PAGE_SIZE))
+                .expand(page -> page.next() == null
+                        ? Mono.empty()
+                        : this.getPlaylistsPage(this.webClient.get().uri(URI.create(page.next()))))
+                .concatMapIterable(page -> page.items() == null ? List.of() : page.items())
+                .filter(playlist -> playlist != null && playlist.id() != null)
+                .doOnError(err -> logger.error("Error paging playlists: {}", err.getMessage()));
+    }
+
+    private Mono<GetUserPlaylistsResponseDTO> getPlaylistsPage(WebClient.RequestHeadersSpec<?> request) {
+        return request.retrieve().bodyToMono(GetUserPlaylistsResponseDTO.class);
+    }
+
     public Mono<CreatePlaylistResponseDTO> createPlaylistForCurrentUser(CreatePlaylistRequestDTO requestBody) {
         logger.info("Creating a new playlist for the current user with request body: {}", requestBody);
         return this.auth.getUserProfile()
@@ -66,19 +98,29 @@ public class MeService {
                 .doOnError(err -> logger.error("Error deleting playlist with ID {}: {}", playlistId, err.getMessage()));
     }
 
-
-    public Mono<Void> deleteAllLoifyPlaylists() {
+    /**
+     * Deletes every playlist with "loify" in the name, reporting the outcome per playlist as each delete completes.
+     * <p>
+     * All of the user's playlists are listed before the first delete: unfollowing shifts the offsets the `next` links
+     * are built on, so deleting while paging would skip playlists. Deletes then run up to
+     * `loify.me.delete.max-concurrency` at a time, each waiting for a permit from the shared Spotify rate limiter -
+     * so a large cleanup goes as fast as Spotify currently allows, and slows down by itself when it throttles.
+     * A failed delete is reported and doesn't stop the others.
+     */
+    public Flux<PlaylistDeletionResultDTO> deleteAllLoifyPlaylists() {
         logger.info("Deleting all playlists with 'loify' in the name.");
-        return getAllPlaylistsByCurrentUser()
-                .flatMapMany(response -> Flux.fromIterable(response.items()))
-                .filter(playlist -> playlist != null && playlist.name() != null && playlist.name().toLowerCase().contains("loify"))
-                .map(PlaylistDetailsDTO::id)
-                .delayElements(Duration.ofMillis(200))
-                .flatMap(this::deletePlaylistById)
-                .then()
-                .doOnSuccess(v -> logger.info("Successfully deleted all playlists with 'loify' in the name."))
+        return this.streamAllPlaylistsByCurrentUser()
+                .filter(playlist -> playlist.name() != null && playlist.name().toLowerCase().contains("loify"))
+                .collectList()
+                .doOnNext(playlists -> logger.info("Found {} playlists with 'loify' in the name.", playlists.size()))
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(playlist -> this.rateLimiter.acquire()
+                        .then(this.deletePlaylistById(playlist.id()))
+                        .thenReturn(PlaylistDeletionResultDTO.deleted(playlist.id(), playlist.name()))
+                        .onErrorResume(err -> Mono.just(PlaylistDeletionResultDTO.failed(playlist.id(), playlist.name(), err))),
+                        this.deleteConcurrency)
+                .doOnComplete(() -> logger.info("Finished deleting playlists with 'loify' in the name."))
                 .doOnError(err -> logger.error("Error deleting playlists: {}", err.getMessage()));
-
     }
 
 }
@@ -0,0 +1,18 @@
+package cloud.loify.packages.me.dto;
+
+import java.util.List;
+
+/**
+ * Report of a bulk delete of loify playlists.
+ *
+ * @param deleted   number of playlists deleted.
+ * @param failed    number of playlists that could not be deleted.
+ * @param playlists the outcome for every playlist, in the order the deletes completed.
+ */
+public record DeleteLoifyPlaylistsResponseDTO(int deleted, int failed, List<PlaylistDeletionResultDTO> playlists) {
+
+    public static DeleteLoifyPlaylistsResponseDTO of(List<PlaylistDeletionResultDTO> playlists) {
+        int deleted = (int) playlists.stream().filter(PlaylistDeletionResultDTO::deleted).count();
+        return new DeleteLoifyPlaylistsResponseDTO(deleted, playlists.size() - deleted, playlists);
+    }
+}
@@ -0,0 +1,20 @@
+package cloud.loify.packages.me.dto;
+
+/**
+ * The outcome of deleting a single playlist as part of a bulk delete.
+ *
+ * @param playlistId the ID of the playlist.
+ * @param name       the name of the playlist.
+ * @param deleted    whether the playlist was deleted.
+ * @param error      why it wasn't, or null if it was.
+ */
+public record PlaylistDeletionResultDTO(String playlistId, String name, boolean deleted, String error) {
+
+    public static PlaylistDeletionResultDTO deleted(String playlistId, String name) {
+        return new PlaylistDeletionResultDTO(playlistId, name, true, null);
+    }
+
+    public static PlaylistDeletionResultDTO failed(String playlistId, String name, Throwable error) {
+        return new PlaylistDeletionResultDTO(playlistId, name, false, error.getMessage());
+    }
+}
@@ -0,0 +1,41 @@
+package cloud.loify.packages.playlist;
+
+import cloud.loify.packages.common.cache.ExpiringLruCache;
+import cloud.loify.packages.playlist.dto.LoifySagaCheckpointDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Keeps saga checkpoints in process memory - unfinished runs can be resumed for `loify.saga.checkpoint-retention`.
+ */
+@Component
+public class InMemoryLoifySagaCheckpointStore implements LoifySagaCheckpointStore {
+
+    private final ExpiringLruCache<String, LoifySagaCheckpointDTO> checkpoints;
+
+    public InMemoryLoifySagaCheckpointStore(@Value("${loify.saga.max-checkpoints:10000}") int maxCheckpoints,
+                                            @Value("${loify.saga.checkpoint-retention:24h}") Duration retention) {
+        this.checkpoints = new ExpiringLruCache<>("loify-saga-checkpoints", maxCheckpoints, retention);
+    }
+
+    @Override
+    public Mono<LoifySagaCheckpointDTO> save(LoifySagaCheckpointDTO checkpoint) {
+        return Mono.fromSupplier(() -> {
+            this.checkpoints.put(checkpoint.sagaId(), checkpoint);
+            return checkpoint;
+        });
+    }
+
+    @Override
+    public Mono<LoifySagaCheckpointDTO> findById(String sagaId) {
+        return Mono.fromSupplier(() -> this.checkpoints.getIfPresent(sagaId));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String sagaId) {
+        return Mono.fromRunnable(() -> this.checkpoints.invalidate(sagaId));
+    }
+}
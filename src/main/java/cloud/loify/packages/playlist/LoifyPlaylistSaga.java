@@ -0,0 +1,354 @@
+package cloud.loify.packages.playlist;
+
+import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
+import cloud.loify.packages.common.exception.SpotifyCallRejectedException;
+import cloud.loify.packages.cover.CoverArtService;
+import cloud.loify.packages.me.MeService;
+import cloud.loify.packages.playlist.dto.CreatePlaylistRequestDTO;
+import cloud.loify.packages.playlist.dto.CreatePlaylistResponseDTO;
+import cloud.loify.packages.playlist.dto.LoifySagaCheckpointDTO;
+import cloud.loify.packages.utils.ImageUtils;
+import cloud.loify.packages.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the create-search-add loify flow as a saga.
+ * <p>
+ * A checkpoint is saved after each completed step - playlist created, tracks resolved, chunks written - and a retry
+ * resumes from the last checkpoint instead of repeating upstream calls that already succeeded. If the run still fails
+ * once retries are exhausted (or on a non-retryable error), the half-filled loify playlist is deleted again.
+ * <p>
+ * Creating the playlist and adding tracks are POSTs, which can't be repeated blindly: one that timed out or failed with
+ * a `5xx` may have taken effect all the same, without the checkpoint knowing. Before a rerun after such a failure - or
+ * when resuming a run that was cancelled mid-call - the saga checks what actually happened: it looks for a loify
+ * playlist the failed attempt created, and counts the tracks already in the loify playlist to work out how many chunks
+ * were written. Only failures that never reached Spotify - refused or unable to connect - are rerun without checking.
+ */
+@Component
+public class LoifyPlaylistSaga {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoifyPlaylistSaga.class);
+    private final PlaylistService playlistService;
+    private final MeService me;
+    private final LoifySagaCheckpointStore checkpoints;
+    private final CoverArtService covers;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public LoifyPlaylistSaga(PlaylistService playlistService,
+                             MeService meService,
+                             LoifySagaCheckpointStore loifySagaCheckpointStore,
+                             CoverArtService coverArtService,
+                             @Value("${loify.saga.max-retries:3}") int maxRetries,
+                             @Value("${loify.saga.retry-backoff:2s}") Duration retryBackoff) {
+        this.playlistService = playlistService;
+        this.me = meService;
+        this.checkpoints = loifySagaCheckpointStore;
+        this.covers = coverArtService;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Creates a loifyed playlist and adds the loifyed tracks under a saga ID nobody can resume, so a cancelled run - e.g.
+     * the client went away - is compensated like a failed one instead of keeping a checkpoint.
+     *
+     * @return a Mono containing the created loify playlist.
+     */
+    public Mono<CreatePlaylistResponseDTO> createLoifyedPlaylistAndAddLoifyedTracks(String playlistId, String genre) {
+        return this.run(UUID.randomUUID().toString(), playlistId, genre, LoifyProgressListener.NONE, false);
+    }
+
+    /**
+     * Creates a loifyed playlist and adds the loifyed tracks, resuming from the saga's last checkpoint if it has one.
+     * A cancelled run keeps its checkpoint, so calling this again with the same `sagaId` picks up where it stopped.
+     *
+     * @param sagaId the ID under which progress is checkpointed.
+     * @return a Mono containing the created loify playlist.
+     */
+    public Mono<CreatePlaylistResponseDTO> createLoifyedPlaylistAndAddLoifyedTracks(String sagaId, String playlistId, String genre, LoifyProgressListener progress) {
+        return this.run(sagaId, playlistId, genre, progress, true);
+    }
+
+    private Mono<CreatePlaylistResponseDTO> run(String sagaId, String playlistId, String genre, LoifyProgressListener progress, boolean resumable) {
+        logger.info("Running loify saga {} for playlist ID: {}", sagaId, playlistId);
+
+        AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+        Mono<CreatePlaylistResponseDTO> saga = Mono.defer(() -> this.runFromCheckpoint(sagaId, playlistId, genre, progress, lastFailure.get(), resumable))
+                .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                        .filter(LoifyPlaylistSaga::isRetryable)
+                        .doBeforeRetry(signal -> {
+                            lastFailure.set(signal.failure());
+                            logger.warn("Loify saga {} failed (retry {}), resuming from last checkpoint: {}",
+                                    sagaId, signal.totalRetries() + 1, signal.failure().getMessage());
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .flatMap(response -> this.checkpoints.deleteById(sagaId).thenReturn(response))
+                .doOnSuccess(response -> logger.info("Loify saga {} completed - created playlist ID: {}", sagaId, response.id()))
+                .onErrorResume(error -> this.compensate(sagaId, playlistId, genre, error).then(Mono.error(error)));
+        if (resumable) {
+            return saga;
+        }
+        // With the user's security context, which the compensating calls need
+        return Mono.deferContextual(context -> saga.doOnCancel(() -> this.compensate(sagaId, playlistId, genre, new CancellationException("Loify saga cancelled"))
+                .subscribe(null, null, null, Context.of(context))));
+    }
+
+    /**
+     * @param lastFailure what the previous attempt failed with, or null on the first attempt.
+     */
+    private Mono<CreatePlaylistResponseDTO> runFromCheckpoint(String sagaId, String playlistId, String genre, LoifyProgressListener progress,
+                                                              Throwable lastFailure, boolean resumable) {
+        // On the first attempt, a checkpoint means an earlier run was cancelled - possibly mid-call
+        boolean afterUncertainFailure = lastFailure != null && mayHaveTakenEffect(lastFailure);
+        return this.checkpoints.findById(sagaId)
+                .doOnNext(checkpoint -> {
+                    logger.info("Resuming loify saga {}: {} tracks resolved, {} chunks written",
+                            sagaId, checkpoint.tracksResolved(), checkpoint.chunksWritten());
+                    progress.onResumed(checkpoint.tracksResolved(), checkpoint.tracksResolved() - checkpoint.tracksMatched(), checkpoint.chunksWritten());
+                })
+                .map(checkpoint -> Tuples.of(checkpoint, lastFailure == null || afterUncertainFailure))
+                .switchIfEmpty(Mono.fromSupplier(() -> Tuples.of(LoifySagaCheckpointDTO.start(sagaId, playlistId, genre), afterUncertainFailure)))
+                .flatMap(attempt -> {
+                    boolean reconcile = attempt.getT2();
+                    return this.createLoifyPlaylist(attempt.getT1(), progress, reconcile)
+                            .flatMap(checkpoint -> reconcile ? this.reconcileWrittenChunks(checkpoint, progress) : Mono.just(checkpoint))
+                            .flatMap(checkpoint -> this.resolveAndWriteTracks(checkpoint, progress, resumable));
+                });
+    }
+
+    // STEP 1: Create the new playlist (skipped if an earlier attempt already did, whether it got to checkpoint it or not)
+    private Mono<LoifySagaCheckpointDTO> createLoifyPlaylist(LoifySagaCheckpointDTO checkpoint, LoifyProgressListener progress, boolean reconcile) {
+        if (checkpoint.loifyPlaylist() != null) {
+            progress.onPlaylistCreated(checkpoint.loifyPlaylist().id());
+            return Mono.just(checkpoint);
+        }
+
+        return this.playlistService.getPlaylistById(checkpoint.sourcePlaylistId())
+                .flatMap(currentPlaylist -> {
+                    String currentPlaylistName = currentPlaylist.name();
+                    String loifyPlaylistName = StringUtils.customizePlaylistName(currentPlaylistName, checkpoint.genre());
+                    String loifyPlaylistDescription = StringUtils.customizePlaylistDescription(currentPlaylistName, checkpoint.genre());
+
+                    Mono<CreatePlaylistResponseDTO> create = this.me.createPlaylistForCurrentUser(
+                            new CreatePlaylistRequestDTO(loifyPlaylistName, loifyPlaylistDescription, true, true));
+                    Mono<CreatePlaylistResponseDTO> created = reconcile
+                            ? this.findCreatedPlaylist(loifyPlaylistName, loifyPlaylistDescription)
+                                    .doOnNext(found -> logger.info("Loify saga {} found loify playlist ID {} created by a failed attempt",
+                                            checkpoint.sagaId(), found.id()))
+                                    .switchIfEmpty(create)
+                            : create;
+                    return created.flatMap(loifyPlaylist -> this.generateCover(loifyPlaylist.id(), currentPlaylist.image()).thenReturn(loifyPlaylist));
+                })
+                .flatMap(loifyPlaylist -> {
+                    progress.onPlaylistCreated(loifyPlaylist.id());
+                    return this.checkpoints.save(checkpoint.withLoifyPlaylist(loifyPlaylist));
+                });
+    }
+
+    /**
+     * The loify playlist a failed attempt created, if it did: the current user's newest playlist with the same name and
+     * description, as long as it is still empty - a filled one is an earlier, finished conversion of the same playlist.
+     */
+    private Mono<CreatePlaylistResponseDTO> findCreatedPlaylist(String name, String description) {
+        return this.me.streamAllPlaylistsByCurrentUser()
+                .filter(playlist -> name.equals(playlist.name()) && description.equals(playlist.description()))
+                .next() // Spotify lists the newest first
+                .filterWhen(playlist -> this.playlistService.getTrackCount(playlist.id()).map(count -> count == 0))
+                .map(playlist -> new CreatePlaylistResponseDTO(playlist.id(), playlist.name(), playlist.description(), playlist.image(),
+                        playlist.url(), true, true));
+    }
+
+    /**
+     * Works out how many of the checkpoint's unwritten URIs a failed attempt did write, from the number of tracks in the
+     * loify playlist - chunks go in whole, in order - so that they aren't added a second time.
+     */
+    private Mono<LoifySagaCheckpointDTO> reconcileWrittenChunks(LoifySagaCheckpointDTO checkpoint, LoifyProgressListener progress) {
+        int checkpointedTracks = checkpoint.chunksWritten() * PlaylistService.MAX_URIS_PER_ADD;
+        return this.playlistService.getTrackCount(checkpoint.loifyPlaylist().id())
+                .map(trackCount -> {
+                    int alreadyWritten = Math.max(0, Math.min(trackCount - checkpointedTracks, checkpoint.unwrittenUris().size()));
+                    if (alreadyWritten == 0) {
+                        return checkpoint;
+                    }
+                    int chunks = (alreadyWritten + PlaylistService.MAX_URIS_PER_ADD - 1) / PlaylistService.MAX_URIS_PER_ADD;
+                    logger.info("Loify saga {}: {} tracks ({} chunks) were written by a failed attempt", checkpoint.sagaId(), alreadyWritten, chunks);
+                    for (int i = 0; i < chunks; i++) {
+                        progress.onChunkWritten();
+                    }
+                    return checkpoint.withUrisWritten(alreadyWritten, chunks);
+                });
+    }
+
+    // Side step: cover art is cosmetic, so it is generated alongside the saga - it never delays or fails it. It still
+    // runs with the saga's context, which holds the user's security context - and so the token the upload needs
+    private Mono<Void> generateCover(String loifyPlaylistId, CoverImageDetailsDTO sourceImage) {
+        if (!this.covers.isEnabled() || sourceImage == null || sourceImage.url() == null) {
+            return Mono.empty();
+        }
+        return Mono.deferContextual(context -> {
+            this.covers.loifyCover(sourceImage.url())
+                    .onErrorResume(error -> Mono.fromCallable(ImageUtils::defaultCover))
+                    .flatMap(cover -> this.playlistService.updatePlaylistImage(loifyPlaylistId, cover))
+                    .subscribe(null, error -> logger.warn("Could not set the cover of loify playlist ID {}: {}", loifyPlaylistId, error.getMessage()),
+                            null, Context.of(context));
+            return Mono.empty();
+        });
+    }
+
+    // STEP 2: Resolve the remaining tracks, STEP 3: write them chunk by chunk, checkpointing after every chunk
+    private Mono<CreatePlaylistResponseDTO> resolveAndWriteTracks(LoifySagaCheckpointDTO checkpoint, LoifyProgressListener progress, boolean resumable) {
+        String loifyPlaylistId = checkpoint.loifyPlaylist().id();
+        SagaProgress state = new SagaProgress(checkpoint);
+
+        Flux<String> newlyResolvedUris = this.playlistService.getAndLoifyAllTracksInPlaylist(checkpoint.sourcePlaylistId(), checkpoint.genre(), checkpoint.tracksResolved())
+                .mapNotNull(match -> {
+                    String uri = PlaylistService.toTrackUri(match.result());
+                    state.onTrackResolved(uri);
+                    progress.onTrackResolved(uri != null);
+                    return uri;
+                });
+
+        logger.info("Adding loifyed tracks to new playlist ID: {}", loifyPlaylistId);
+        return this.playlistService.addTracksToPlaylistInChunks(loifyPlaylistId, Flux.concat(Flux.fromIterable(checkpoint.unwrittenUris()), newlyResolvedUris), checkpoint.chunksWritten())
+                .concatMap(snapshotId -> {
+                    progress.onChunkWritten();
+                    return this.checkpoints.save(state.onChunkWritten());
+                })
+                .then(Mono.just(checkpoint.loifyPlaylist()))
+                .doOnCancel(() -> {
+                    if (resumable) { // Otherwise the run is compensated instead
+                        this.checkpoints.save(state.snapshot()).subscribe();
+                    }
+                })
+                .onErrorResume(error -> this.checkpoints.save(state.snapshot()).then(Mono.error(error)));
+    }
+
+    // Compensation: delete the half-filled loify playlist so a failed run leaves nothing behind - including one created
+    // by a final attempt that failed before it could checkpoint it
+    private Mono<Void> compensate(String sagaId, String playlistId, String genre, Throwable error) {
+        return this.checkpoints.findById(sagaId)
+                .defaultIfEmpty(LoifySagaCheckpointDTO.start(sagaId, playlistId, genre))
+                .flatMap(checkpoint -> {
+                    Mono<CreatePlaylistResponseDTO> loifyPlaylist;
+                    if (checkpoint.loifyPlaylist() != null) {
+                        loifyPlaylist = Mono.just(checkpoint.loifyPlaylist());
+                    } else if (mayHaveTakenEffect(error)) {
+                        loifyPlaylist = this.playlistService.getPlaylistById(playlistId)
+                                .flatMap(currentPlaylist -> this.findCreatedPlaylist(StringUtils.customizePlaylistName(currentPlaylist.name(), genre),
+                                        StringUtils.customizePlaylistDescription(currentPlaylist.name(), genre)));
+                    } else {
+                        loifyPlaylist = Mono.empty();
+                    }
+                    return loifyPlaylist
+                            .flatMap(playlist -> {
+                                logger.warn("Loify saga {} failed permanently ({}) - deleting loify playlist ID: {}", sagaId, error.getMessage(), playlist.id());
+                                return this.me.deletePlaylistById(playlist.id());
+                            })
+                            .then(this.checkpoints.deleteById(sagaId))
+                            .onErrorResume(compensationError -> {
+                                logger.error("Could not compensate loify saga {} - keeping its checkpoint: {}", sagaId, compensationError.getMessage());
+                                return Mono.empty();
+                            });
+                });
+    }
+
+    /**
+     * Whether a failed call may have taken effect all the same: it was sent, but timed out, lost its connection, failed
+     * with a `5xx` or was cancelled. A call that was refused before being sent, couldn't connect or got a `4xx` did not.
+     */
+    private static boolean mayHaveTakenEffect(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SpotifyCallRejectedException || cause instanceof ConnectException) { // Includes connect timeouts
+                return false;
+            }
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException responseError) {
+                return responseError.getStatusCode().is5xxServerError();
+            }
+            if (cause instanceof WebClientRequestException || cause instanceof IOException || cause instanceof TimeoutException
+                    || cause instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException responseError) {
+                return responseError.getStatusCode().is5xxServerError() || responseError.getStatusCode().value() == 429;
+            }
+            if (cause instanceof WebClientRequestException || cause instanceof IOException || cause instanceof TimeoutException
+                    || cause instanceof SpotifyCallRejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Progress of the current attempt, on top of the checkpoint it started from. Only matches that are not yet written
+     * are kept, so a checkpoint stays as small as the gap between resolving and writing, however long the playlist.
+     */
+    private static final class SagaProgress {
+
+        private final LoifySagaCheckpointDTO base;
+        private final List<String> unwrittenUris;
+        private int tracksResolved;
+        private int tracksMatched;
+        private int chunksWritten;
+
+        SagaProgress(LoifySagaCheckpointDTO base) {
+            this.base = base;
+            this.unwrittenUris = new ArrayList<>(base.unwrittenUris());
+            this.tracksResolved = base.tracksResolved();
+            this.tracksMatched = base.tracksMatched();
+            this.chunksWritten = base.chunksWritten();
+        }
+
+        synchronized void onTrackResolved(String uri) {
+            tracksResolved++;
+            if (uri != null) {
+                tracksMatched++;
+                unwrittenUris.add(uri);
+            }
+        }
+
+        /**
+         * Chunks are written in resolution order, and only the last one is short - so the chunk just written is the
+         * first 100 unwritten URIs, or all of them.
+         */
+        synchronized LoifySagaCheckpointDTO onChunkWritten() {
+            chunksWritten++;
+            unwrittenUris.subList(0, Math.min(PlaylistService.MAX_URIS_PER_ADD, unwrittenUris.size())).clear();
+            return snapshot();
+        }
+
+        synchronized LoifySagaCheckpointDTO snapshot() {
+            return new LoifySagaCheckpointDTO(base.sagaId(), base.sourcePlaylistId(), base.genre(), base.loifyPlaylist(),
+                    tracksResolved, tracksMatched, List.copyOf(unwrittenUris), chunksWritten);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package cloud.loify.packages.playlist;
+
+/**
+ * Receives progress updates from a create-search-add loify run.
+ * Callbacks may arrive on any thread and must not block.
+ */
+public interface LoifyProgressListener {
+
+    LoifyProgressListener NONE = new LoifyProgressListener() {
+    };
+
+    default void onPlaylistCreated(String loifyPlaylistId) {
+    }
+
+    /**
+     * Called instead of replaying earlier progress when a run resumes from a checkpoint.
+     */
+    default void onResumed(int tracksResolved, int tracksNotFound, int chunksWritten) {
+    }
+
+    default void onTrackResolved(boolean matched) {
+    }
+
+    default void onChunkWritten() {
+    }
+}
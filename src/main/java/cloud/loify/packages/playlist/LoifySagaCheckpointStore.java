@@ -0,0 +1,16 @@
+package cloud.loify.packages.playlist;
+
+import cloud.loify.packages.playlist.dto.LoifySagaCheckpointDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Persists loify saga checkpoints. The in-memory store is the default; register a {@code @Primary} bean to replace it.
+ */
+public interface LoifySagaCheckpointStore {
+
+    Mono<LoifySagaCheckpointDTO> save(LoifySagaCheckpointDTO checkpoint);
+
+    Mono<LoifySagaCheckpointDTO> findById(String sagaId);
+
+    Mono<Void> deleteById(String sagaId);
+}
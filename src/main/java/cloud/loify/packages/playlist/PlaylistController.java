@@ -3,12 +3,15 @@ package cloud.loify.packages.playlist;
 import cloud.loify.packages.playlist.dto.AddTracksToPlaylistRequestDTO;
 import cloud.loify.packages.playlist.dto.CreatePlaylistResponseDTO;
 import cloud.loify.packages.playlist.dto.GetPlaylistResponseDTO;
+import cloud.loify.packages.playlist.dto.LoifyedTrackEventDTO;
 import cloud.loify.packages.playlist.exceptions.PlaylistNotFoundException;
 import cloud.loify.packages.track.dto.GetTracksFromPlaylistResponseDTO;
 import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
+import cloud.loify.packages.track.dto.TrackMatchDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -24,9 +27,11 @@ public class PlaylistController {
 
     private static final Logger logger = LoggerFactory.getLogger(PlaylistController.class);
     private final PlaylistService playlistService;
+    private final LoifyPlaylistSaga loifyPlaylistSaga;
 
-    public PlaylistController(PlaylistService playlistService) {
+    public PlaylistController(PlaylistService playlistService, LoifyPlaylistSaga loifyPlaylistSaga) {
         this.playlistService = playlistService;
+        this.loifyPlaylistSaga = loifyPlaylistSaga;
     }
 
     /**
@@ -115,6 +120,7 @@ public class PlaylistController {
     public Mono<ResponseEntity<Flux<SearchTrackResponseDTO>>> getAndLoifyAllTracksInPlaylist(@PathVariable String playlistId, @RequestParam String genre) {
         logger.info("Request to loify all tracks in playlist with ID: {}", playlistId);
         return playlistService.getAndLoifyAllTracksInPlaylist(playlistId, genre)
+                .map(TrackMatchDTO::result)
                 .collectList()
                 .map(loifyedTracks -> {
                     logger.info("Successfully loifyed tracks for playlist: {}", playlistId);
@@ -126,6 +132,25 @@ public class PlaylistController {
                 });
     }
 
+    /**
+     * Streams "loifyed" tracks in a specific playlist as server-sent events or NDJSON.
+     * Each track is emitted as soon as its search resolves, tagged with its source index and progress counters.
+     *
+     * @param playlistId the ID of the playlist.
+     * @return a Flux of LoifyedTrackEventDTOs, in the order the searches resolve.
+     * @throws ResponseStatusException if an error occurs while streaming.
+     */
+    @GetMapping(value = "/{playlistId}/loify", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<LoifyedTrackEventDTO> streamLoifyedTracksInPlaylist(@PathVariable String playlistId, @RequestParam String genre) {
+        logger.info("Request to stream loifyed tracks in playlist with ID: {}", playlistId);
+        return playlistService.streamLoifyedTracksInPlaylist(playlistId, genre)
+                .doOnComplete(() -> logger.info("Successfully streamed loifyed tracks for playlist: {}", playlistId))
+                .onErrorResume(error -> {
+                    logger.error("Error streaming loifyed tracks for playlist {}: {}", playlistId, error.getMessage());
+                    return Flux.error(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error loifying tracks", error));
+                });
+    }
+
     // NOTE: This method is a combination of: [`createPlaylist()`, `addTracksToPlaylist()`]
 
     /**
@@ -137,6 +162,6 @@ public class PlaylistController {
      */
     @PostMapping("/{playlistId}/loify")
     public Mono<CreatePlaylistResponseDTO> createLoifyedPlaylistAndAddLoifyedTracks(@PathVariable String playlistId, @RequestParam String genre) {
-        return playlistService.createLoifyedPlaylistAndAddLoifyedTracks(playlistId, genre);
+        return loifyPlaylistSaga.createLoifyedPlaylistAndAddLoifyedTracks(playlistId, genre);
     }
 }
@@ -1,15 +1,16 @@
 package cloud.loify.packages.playlist;
 
-import cloud.loify.packages.me.MeService;
+import cloud.loify.packages.common.client.SingleFlightWebClient;
+import cloud.loify.packages.common.client.SpotifyFields;
 import cloud.loify.packages.playlist.dto.AddTracksToPlaylistRequestDTO;
-import cloud.loify.packages.playlist.dto.CreatePlaylistRequestDTO;
-import cloud.loify.packages.playlist.dto.CreatePlaylistResponseDTO;
 import cloud.loify.packages.playlist.dto.GetPlaylistResponseDTO;
-import cloud.loify.packages.track.TrackService;
+import cloud.loify.packages.playlist.dto.LoifyedTrackEventDTO;
+import cloud.loify.packages.track.TrackSearchEngine;
 import cloud.loify.packages.track.dto.GetTracksFromPlaylistResponseDTO;
 import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
-import cloud.loify.packages.utils.ImageUtils;
-import cloud.loify.packages.utils.StringUtils;
+import cloud.loify.packages.track.dto.TrackDetailsDTO;
+import cloud.loify.packages.track.dto.TrackDetailsFromPlaylistDTO;
+import cloud.loify.packages.track.dto.TrackMatchDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
@@ -18,31 +19,36 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class PlaylistService {
 
     // Logger instance
     private static final Logger logger = LoggerFactory.getLogger(PlaylistService.class);
+    private static final int TRACKS_PAGE_SIZE = 100; // Spotify's maximum page size for playlist items
+    static final int MAX_URIS_PER_ADD = 100; // Spotify rejects adds with more than 100 URIs
     private final WebClient webClient;
-    private final TrackService track;
-    private final MeService me;
+    private final SingleFlightWebClient singleFlightClient;
+    private final SpotifyFields fields;
+    private final TrackSearchEngine search;
 
-    // TODO: should TrackService be injected here? or should the method required (getFirstTrackByTrackName) be made static?
-    public PlaylistService(MeService meService, TrackService trackService, WebClient webClient) {
-        this.me = meService;
-        this.track = trackService;
+    public PlaylistService(TrackSearchEngine trackSearchEngine, WebClient webClient, SingleFlightWebClient singleFlightClient,
+                           SpotifyFields fields) {
+        this.search = trackSearchEngine;
         this.webClient = webClient;
+        this.singleFlightClient = singleFlightClient;
+        this.fields = fields;
     }
 
     public Mono<GetPlaylistResponseDTO> getPlaylistById(String playlistId) {
         logger.info("Retrieving playlist details for ID: {}", playlistId);
-        return this.webClient.get()
-                .uri("/playlists/" + playlistId)
-                .retrieve()
-                .bodyToMono(GetPlaylistResponseDTO.class)
+        return this.singleFlightClient.get(withFields("/playlists/{playlistId}", "playlist", GetPlaylistResponseDTO.class),
+                        GetPlaylistResponseDTO.class, playlistId)
                 .doOnSuccess(playlist -> logger.info("Successfully retrieved playlist: {}", playlist))
                 .doOnError(err -> logger.error("Error retrieving playlist ID {}: {}", playlistId, err.getMessage()));
     }
@@ -51,13 +57,64 @@ public class PlaylistService {
     public Mono<GetTracksFromPlaylistResponseDTO> getAllTracksInPlaylist(String playlistId) {
         logger.info("Retrieving all tracks for playlist ID: {}", playlistId);
         return this.webClient.get()
-                .uri("/playlists/" + playlistId + "/tracks")
+                .uri(withFields("/playlists/{playlistId}/tracks", "playlist-tracks", GetTracksFromPlaylistResponseDTO.class), playlistId)
                 .retrieve()
                 .bodyToMono(GetTracksFromPlaylistResponseDTO.class)
                 .doOnSuccess(tracks -> logger.info("Successfully retrieved tracks for playlist ID: {}", playlistId))
                 .doOnError(err -> logger.error("Error retrieving tracks for playlist ID {}: {}", playlistId, err.getMessage()));
     }
 
+    /**
+     * Counts the items in a playlist without retrieving them.
+     */
+    public Mono<Integer> getTrackCount(String playlistId) {
+        return this.webClient.get()
+                .uri("/playlists/{playlistId}/tracks?limit=1&fields=total", playlistId)
+                .retrieve()
+                .bodyToMono(GetTracksFromPlaylistResponseDTO.class)
+                .map(page -> page.total() == null ? 0 : page.total());
+    }
+
+    /**
+     * Retrieves every page of tracks in a playlist by following the `next` links.
+     * Pages are fetched lazily - the next page is only requested once downstream has demand for it.
+     * Spotify carries the `fields` projection over into the `next` links.
+     */
+    public Flux<GetTracksFromPlaylistResponseDTO> getTrackPagesInPlaylist(String playlistId) {
+        String firstPage = withFields("/playlists/{playlistId}/tracks?limit={limit}", "playlist-tracks", GetTracksFromPlaylistResponseDTO.class);
+        return this.getTracksPage(this.webClient.get().uri(firstPage, playlistId, TRACKS_PAGE_SIZE))
+                .expand(page -> page.next() == null
+                        ? Mono.empty()
+                        : this.getTracksPage(this.webClient.get().uri(URI.create(page.next()))))
+                .doOnError(err -> logger.error("Error paging tracks for playlist ID {}: {}", playlistId, err.getMessage()));
+    }
+
+    /**
+     * Streams every track in a playlist, however many pages it spans, in playlist order.
+     * While the current page is being consumed, the next one is already being fetched.
+     */
+    public Flux<TrackDetailsFromPlaylistDTO> streamAllTracksInPlaylist(String playlistId) {
+        logger.info("Streaming all tracks for playlist ID: {}", playlistId);
+        return this.getTrackPagesInPlaylist(playlistId)
+                .concatMapIterable(PlaylistService::tracksOf, 1);
+    }
+
+    /**
+     * Appends the endpoint's `fields=` projection to a URI template, if it has one.
+     * Projections only use characters that are legal in a query string (`,` `(` `)`), so they need no encoding.
+     */
+    private String withFields(String uriTemplate, String endpoint, Class<? extends Record> responseType) {
+        String projection = this.fields.forEndpoint(endpoint, responseType);
+        if (projection == null) {
+            return uriTemplate;
+        }
+        return uriTemplate + (uriTemplate.contains("?") ? "&" : "?") + "fields=" + projection;
+    }
+
+    private Mono<GetTracksFromPlaylistResponseDTO> getTracksPage(WebClient.RequestHeadersSpec<?> request) {
+        return request.retrieve().bodyToMono(GetTracksFromPlaylistResponseDTO.class);
+    }
+
     // TODO: Fix - "spotify:track:54eCPwH8hZqAJBMlZ9YEyJ" --> "54eCPwH8hZqAJBMlZ9YEyJ" (if deemed possible)
     public Mono<String> addTracksToPlaylist(String playlistId, AddTracksToPlaylistRequestDTO requestBody) {
         logger.info("Adding tracks to playlist ID: {} with request body: {}", playlistId, requestBody);
@@ -71,19 +128,78 @@ public class PlaylistService {
                 .doOnError(err -> logger.error("Error adding tracks to playlist ID [{}]: {}", playlistId, err.getMessage()));
     }
 
-    public Flux<SearchTrackResponseDTO> getAndLoifyAllTracksInPlaylist(String playlistId, String genre) {
-        logger.info("Getting all tracks in playlist ID: {}", playlistId);
-        return this.getAllTracksInPlaylist(playlistId)
-                .flatMapMany(tracks -> {
-                    if (tracks == null || tracks.items() == null || tracks.items().isEmpty()) {
-                        logger.warn("No tracks found in playlist ID: {}", playlistId);
-                        return Flux.empty(); // Return an empty Flux if no tracks are found
-                    }
+    /**
+     * Adds tracks to a playlist in ordered chunks of up to 100 URIs.
+     * Each chunk is posted at its position as soon as it fills, while the URIs for the next chunk are still
+     * being resolved; chunks are written one at a time so the playlist ends up in the same order as `trackUris`.
+     *
+     * @return a Flux of snapshot IDs, one per chunk written.
+     */
+    public Flux<String> addTracksToPlaylistInChunks(String playlistId, Flux<String> trackUris) {
+        return this.addTracksToPlaylistInChunks(playlistId, trackUris, 0);
+    }
+
+    /**
+     * Same as {@link #addTracksToPlaylistInChunks(String, Flux)}, but for resuming a partially written playlist:
+     * `trackUris` starts at chunk `firstChunkIndex`, i.e. at position `firstChunkIndex * 100`.
+     */
+    public Flux<String> addTracksToPlaylistInChunks(String playlistId, Flux<String> trackUris, int firstChunkIndex) {
+        return trackUris
+                .buffer(MAX_URIS_PER_ADD)
+                .index()
+                .concatMap(chunk -> {
+                    long chunkIndex = firstChunkIndex + chunk.getT1();
+                    int position = (int) (chunkIndex * MAX_URIS_PER_ADD); // Every chunk but the last is full
+                    logger.info("Writing chunk {} ({} tracks) to playlist ID: {}", chunkIndex, chunk.getT2().size(), playlistId);
+                    return this.addTracksToPlaylist(playlistId, new AddTracksToPlaylistRequestDTO(chunk.getT2(), position));
+                }, 2);
+    }
+
+    /**
+     * Loifys every track in a playlist, emitting each one as soon as its search resolves - not in playlist order.
+     * Every event carries the source track's index and the match's confidence, together with progress counters.
+     * Unavailable and local tracks aren't searched for, but still get an event - without a result - so that `resolved`
+     * reaches `total`.
+     */
+    public Flux<LoifyedTrackEventDTO> streamLoifyedTracksInPlaylist(String playlistId, String genre) {
+        logger.info("Streaming loifyed tracks for playlist ID: {}", playlistId);
+        return Flux.defer(() -> {
+            AtomicReference<Integer> total = new AtomicReference<>();
+            AtomicInteger resolved = new AtomicInteger();
+
+            return this.getTrackPagesInPlaylist(playlistId)
+                    .doOnNext(page -> total.compareAndSet(null, page.total()))
+                    .concatMapIterable(PlaylistService::sourceTracksOf, 1)
+                    .index()
+                    .flatMap(indexedTrack -> indexedTrack.getT2()
+                                    .map(track -> this.search.resolve(track, genre)
+                                            .map(match -> new LoifyedTrackEventDTO(indexedTrack.getT1(), resolved.incrementAndGet(),
+                                                    total.get(), match.result(), match.confidence())))
+                                    .orElseGet(() -> Mono.fromSupplier(() -> new LoifyedTrackEventDTO(indexedTrack.getT1(),
+                                            resolved.incrementAndGet(), total.get(), null, 0))),
+                            this.search.getMaxConcurrency());
+        });
+    }
 
-                    return Flux.fromIterable(tracks.items())
-                            .map(t -> StringUtils.customizeTrackName(t.track().name(), genre))
-                            .flatMap(this.track::getFirstTrackByTrackName);
-                })
+    public Flux<TrackMatchDTO> getAndLoifyAllTracksInPlaylist(String playlistId, String genre) {
+        return this.getAndLoifyAllTracksInPlaylist(playlistId, genre, 0);
+    }
+
+    /**
+     * Loifys the tracks in a playlist, skipping the first `alreadyLoifyed` of them - used to resume a conversion.
+     * Skipped tracks are still paged through, but never searched for.
+     */
+    public Flux<TrackMatchDTO> getAndLoifyAllTracksInPlaylist(String playlistId, String genre, long alreadyLoifyed) {
+        logger.info("Getting all tracks in playlist ID: {} (skipping {} already loifyed)", playlistId, alreadyLoifyed);
+        Flux<TrackDetailsDTO> tracks = this.streamAllTracksInPlaylist(playlistId)
+                .skip(alreadyLoifyed)
+                .map(TrackDetailsFromPlaylistDTO::track)
+                .switchIfEmpty(Flux.defer(() -> {
+                    logger.warn("No tracks found in playlist ID: {}", playlistId);
+                    return Flux.empty();
+                }));
+
+        return this.search.resolveAll(tracks, genre)
                 .doOnComplete(() -> logger.info("Successfully loifyed all tracks in playlist ID: {}", playlistId))
                 .doOnError(err -> {
                     logger.error("Error loifying tracks in playlist ID {}: {}", playlistId, err.getMessage());
@@ -91,120 +207,55 @@ public class PlaylistService {
                 });
     }
 
-    // TODO: Make this atomic - because sometimes the playlist is created, but the songs aren't added
-    // TODO: ^ need to make it so that if one fails, then it's as if the method was never called
-    // TODO: ^ (might involve deleting the playlist if the transaction fails)
-    public Mono<CreatePlaylistResponseDTO> createLoifyedPlaylistAndAddLoifyedTracks(String playlistId, String genre) {
-        // STEP 0: Get current playlist details
-        logger.info("Creating loifyed playlist and adding loifyed tracks for playlist ID: {}", playlistId);
-
-        return this.getPlaylistById(playlistId)  // Get the current playlist details reactively
-                .flatMap(currentPlaylist -> {
-                    String currentPlaylistName = currentPlaylist.name();
-                    String loifyPlaylistName = StringUtils.customizePlaylistName(currentPlaylistName, genre);
-                    String loifyPlaylistDescription = StringUtils.customizePlaylistDescription(currentPlaylistName, genre);
-
-                    // Create the request body for the new playlist
-                    CreatePlaylistRequestDTO createPlaylistReqBody = new CreatePlaylistRequestDTO(loifyPlaylistName, loifyPlaylistDescription, true, true);
-
-                    // STEP 1: Create the new playlist
-                    return this.me.createPlaylistForCurrentUser(createPlaylistReqBody)
-                            .flatMap(response -> {
-                                String loifyPlaylistId = response.id();
-
-                                // STEP 2: Update the playlist image
-                                // NOTE: This has been removed to comply with Spotify brand design guidelines - return this.updatePlaylistImage(loifyPlaylistId, loifyPlaylistImage)
-//                                String currentPlaylistImage = currentPlaylist.image().url();
-//                                String loifyPlaylistImage = null;
-//                                try {
-//                                    loifyPlaylistImage = ImageUtils.loifyPlaylistImage(currentPlaylistImage);
-//                                } catch (IOException e) {
-//                                    throw new RuntimeException(e);
-//                                }
-//
-//                                return this.updatePlaylistImage(loifyPlaylistId, loifyPlaylistImage)
-//
-//                                        .then(this.getAndLoifyAllTracksInPlaylist(playlistId, genre) // STEP 3: Get loifyed tracks
-//                                                .collectList() // Collect all loifyed tracks into a List
-//                                                .flatMap(loifyedTracks -> {
-//                                                    // STEP 4: Prepare the list of track URIs
-//                                                    List<String> uris = loifyedTracks.stream()
-//                                                            .map(t -> {
-//                                                                try {
-//                                                                    return t.tracks().items().get(0);
-//                                                                } catch (Exception e) {
-//                                                                    logger.warn("No track found - skipping item...");
-//                                                                    return null;
-//                                                                }
-//                                                            })
-//                                                            .map(t -> {
-//                                                                try {
-//                                                                    return "spotify:track:" + t.id(); // Construct URI
-//                                                                } catch (Exception e) {
-//                                                                    logger.warn("No track found - skipping item again...");
-//                                                                    return null;
-//                                                                }
-//                                                            })
-//                                                            .filter(t -> t != null)
-//                                                            .collect(Collectors.toList());
-//
-//                                                    // Prepare the request body for adding tracks
-//                                                    AddTracksToPlaylistRequestDTO addTracksReqBody = new AddTracksToPlaylistRequestDTO(uris);
-//                                                    logger.info("Adding loifyed tracks to new playlist ID: {}", loifyPlaylistId);
-//
-//                                                    // Add loifyed tracks to the new playlist
-//                                                    return this.addTracksToPlaylist(loifyPlaylistId, addTracksReqBody).then(Mono.just(response)); // Return the response after adding tracks
-//                                                }))
-                                return this.getAndLoifyAllTracksInPlaylist(playlistId, genre) // STEP 3: Get loifyed tracks
-                                        .collectList() // Collect all loifyed tracks into a List
-                                        .flatMap(loifyedTracks -> {
-                                            // STEP 4: Prepare the list of track URIs
-                                            List<String> uris = loifyedTracks.stream()
-                                                    .map(t -> {
-                                                        try {
-                                                            return t.tracks().items().get(0);
-                                                        } catch (Exception e) {
-                                                            logger.warn("No track found - skipping item...");
-                                                            return null;
-                                                        }
-                                                    })
-                                                    .map(t -> {
-                                                        try {
-                                                            return "spotify:track:" + t.id(); // Construct URI
-                                                        } catch (Exception e) {
-                                                            logger.warn("No track found - skipping item again...");
-                                                            return null;
-                                                        }
-                                                    })
-                                                    .filter(t -> t != null)
-                                                    .collect(Collectors.toList());
-
-                                            // Prepare the request body for adding tracks
-                                            AddTracksToPlaylistRequestDTO addTracksReqBody = new AddTracksToPlaylistRequestDTO(uris);
-                                            logger.info("Adding loifyed tracks to new playlist ID: {}", loifyPlaylistId);
-
-                                            // Add loifyed tracks to the new playlist
-                                            return this.addTracksToPlaylist(loifyPlaylistId, addTracksReqBody).then(Mono.just(response)); // Return the response after adding tracks
-                                        });
-                            });
-                });
+    private static List<TrackDetailsFromPlaylistDTO> tracksOf(GetTracksFromPlaylistResponseDTO page) {
+        if (page.items() == null) {
+            return List.of();
+        }
+        return page.items().stream()
+                .filter(item -> item != null && item.track() != null) // Skip unavailable/local tracks
+                .toList();
     }
 
-    @Deprecated
-    private Mono<String> updatePlaylistImage(String playlistId, String base64Image) {
+    /**
+     * Every item on a page, in order - empty for unavailable/local tracks, which Spotify still counts in `total`.
+     */
+    private static List<Optional<TrackDetailsDTO>> sourceTracksOf(GetTracksFromPlaylistResponseDTO page) {
+        if (page.items() == null) {
+            return List.of();
+        }
+        return page.items().stream()
+                .map(item -> Optional.ofNullable(item).map(TrackDetailsFromPlaylistDTO::track))
+                .toList();
+    }
+
+    static boolean hasMatch(SearchTrackResponseDTO loifyedTrack) {
+        return loifyedTrack != null && loifyedTrack.tracks() != null
+                && loifyedTrack.tracks().items() != null && !loifyedTrack.tracks().items().isEmpty();
+    }
+
+    static String toTrackUri(SearchTrackResponseDTO loifyedTrack) {
+        if (!hasMatch(loifyedTrack)) {
+            logger.warn("No track found - skipping item...");
+            return null;
+        }
+        return "spotify:track:" + loifyedTrack.tracks().items().get(0).id(); // Construct URI
+    }
+
+    /**
+     * Replaces a playlist's cover image.
+     *
+     * @param base64Image the Base64-encoded JPEG, at most 256 KB.
+     */
+    public Mono<String> updatePlaylistImage(String playlistId, String base64Image) {
         logger.info("Updating playlist image for playlist ID: {}", playlistId);
 
         return this.webClient.put()
                 .uri("/playlists/" + playlistId + "/images")
-                .contentType(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.IMAGE_JPEG) // The body is the Base64 text itself, as Spotify expects
                 .bodyValue(base64Image)
                 .retrieve()
                 .bodyToMono(String.class)
                 .doOnSuccess(success -> logger.info("Successfully updated playlist image for playlist ID: {}", playlistId))
-                .doOnError(err -> logger.error("Error updating playlist image for playlist ID {}: {}", playlistId, err.getMessage()))
-                .onErrorResume(err -> {
-                    logger.warn("Error while updating playlist image: {}. Falling back to default image.", err.getMessage());
-                    return this.updatePlaylistImage(playlistId, ImageUtils.DEFAULT_BASE_IMAGE_64);
-                });
+                .doOnError(err -> logger.error("Error updating playlist image for playlist ID {}: {}", playlistId, err.getMessage()));
     }
 }
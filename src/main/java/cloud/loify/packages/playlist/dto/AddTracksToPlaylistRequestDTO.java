@@ -1,6 +1,13 @@
 package cloud.loify.packages.playlist.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
-public record AddTracksToPlaylistRequestDTO(List<String> uris) {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AddTracksToPlaylistRequestDTO(List<String> uris, Integer position) {
+
+    public AddTracksToPlaylistRequestDTO(List<String> uris) {
+        this(uris, null); // Spotify appends to the end of the playlist when no position is given
+    }
 }
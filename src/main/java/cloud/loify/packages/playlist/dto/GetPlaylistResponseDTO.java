@@ -1,5 +1,6 @@
 package cloud.loify.packages.playlist.dto;
 
+import cloud.loify.packages.common.client.SpotifyField;
 import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
 import cloud.loify.packages.track.dto.GetTracksFromPlaylistResponseDTO;
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,7 +12,7 @@ public record GetPlaylistResponseDTO(
         String id,
         String name,
         GetTracksFromPlaylistResponseDTO tracks,
-        CoverImageDetailsDTO image
+        @SpotifyField("images") CoverImageDetailsDTO image
 ) {
     @JsonCreator
     public GetPlaylistResponseDTO(
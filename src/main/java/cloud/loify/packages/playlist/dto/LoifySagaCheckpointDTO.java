@@ -0,0 +1,40 @@
+package cloud.loify.packages.playlist.dto;
+
+import java.util.List;
+
+/**
+ * Progress of a create-search-add loify run, saved after every completed step so a retry can pick up from here.
+ *
+ * @param loifyPlaylist  the created playlist, or null if it has not been created yet.
+ * @param tracksResolved number of source tracks searched for, in playlist order.
+ * @param tracksMatched  number of those tracks a match was found for.
+ * @param unwrittenUris  URIs of the matches not yet added to the loify playlist, in playlist order - they go in at
+ *                       position `chunksWritten * 100`.
+ * @param chunksWritten  number of 100-URI chunks of matches already added to the loify playlist.
+ */
+public record LoifySagaCheckpointDTO(
+        String sagaId,
+        String sourcePlaylistId,
+        String genre,
+        CreatePlaylistResponseDTO loifyPlaylist,
+        int tracksResolved,
+        int tracksMatched,
+        List<String> unwrittenUris,
+        int chunksWritten
+) {
+    public static LoifySagaCheckpointDTO start(String sagaId, String sourcePlaylistId, String genre) {
+        return new LoifySagaCheckpointDTO(sagaId, sourcePlaylistId, genre, null, 0, 0, List.of(), 0);
+    }
+
+    public LoifySagaCheckpointDTO withLoifyPlaylist(CreatePlaylistResponseDTO loifyPlaylist) {
+        return new LoifySagaCheckpointDTO(sagaId, sourcePlaylistId, genre, loifyPlaylist, tracksResolved, tracksMatched, unwrittenUris, chunksWritten);
+    }
+
+    /**
+     * The same progress, with the first `count` unwritten URIs written in `chunks` chunks.
+     */
+    public LoifySagaCheckpointDTO withUrisWritten(int count, int chunks) {
+        return new LoifySagaCheckpointDTO(sagaId, sourcePlaylistId, genre, loifyPlaylist, tracksResolved, tracksMatched,
+                List.copyOf(unwrittenUris.subList(count, unwrittenUris.size())), chunksWritten + chunks);
+    }
+}
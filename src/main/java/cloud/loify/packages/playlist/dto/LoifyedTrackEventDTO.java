@@ -0,0 +1,16 @@
+package cloud.loify.packages.playlist.dto;
+
+import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
+
+/**
+ * A single loifyed track, streamed as soon as its search resolves.
+ *
+ * @param index      position of the source track in the playlist (results arrive out of order).
+ * @param resolved   number of tracks resolved so far, including this one - reaches `total` once all are.
+ * @param total      total number of tracks in the source playlist, including unavailable and local ones.
+ * @param result     the search result for the loifyed track, best match first - null for an unavailable or local
+ *                   track, which is skipped.
+ * @param confidence how well the best match fits the source track, from 0 to 1.
+ */
+public record LoifyedTrackEventDTO(long index, int resolved, Integer total, SearchTrackResponseDTO result, double confidence) {
+}
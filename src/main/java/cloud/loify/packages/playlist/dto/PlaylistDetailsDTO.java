@@ -1,9 +1,11 @@
 package cloud.loify.packages.playlist.dto;
 
+import cloud.loify.packages.common.client.SpotifyField;
 import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 
 @JsonDeserialize(using = PlaylistDetailsDTODeserializer.class)
-public record PlaylistDetailsDTO(String id, String description, String name, CoverImageDetailsDTO image, String url) {
+public record PlaylistDetailsDTO(String id, String description, String name, @SpotifyField("images") CoverImageDetailsDTO image,
+                                 @SpotifyField("external_urls(spotify)") String url) {
 }
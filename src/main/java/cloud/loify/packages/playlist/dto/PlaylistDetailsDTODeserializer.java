@@ -1,35 +1,41 @@
 package cloud.loify.packages.playlist.dto;
 
 import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
+import cloud.loify.packages.utils.JsonUtils;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
-import java.util.List;
 
+/**
+ * Reads a playlist straight off the token stream, keeping only the fields {@link PlaylistDetailsDTO} needs.
+ * Owner, tracks summary, snapshot ID etc. are skipped without building a tree.
+ */
 public class PlaylistDetailsDTODeserializer extends JsonDeserializer<PlaylistDetailsDTO> {
     @Override
     public PlaylistDetailsDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-        ObjectMapper mapper = (ObjectMapper) parser.getCodec();
-        ObjectNode node = mapper.readTree(parser);
+        String id = null;
+        String description = null;
+        String name = null;
+        CoverImageDetailsDTO firstImage = null;
+        String url = null;
 
-        String id = node.get("id").asText();
-        String description = node.get("description").asText();
-        String name = node.get("name").asText();
+        JsonToken token = parser.isExpectedStartObjectToken() ? parser.nextToken() : parser.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = JsonUtils.readText(parser);
+                case "description" -> description = JsonUtils.readText(parser);
+                case "name" -> name = JsonUtils.readText(parser);
+                case "images" -> firstImage = JsonUtils.readFirstImage(parser);
+                case "external_urls" -> url = JsonUtils.readSpotifyUrl(parser);
+                default -> parser.skipChildren();
+            }
+        }
 
-        // Deserialize images into a list
-        List<CoverImageDetailsDTO> images = mapper.convertValue(
-                node.get("images"),
-                mapper.getTypeFactory().constructCollectionType(List.class, CoverImageDetailsDTO.class)
-        );
-
-        // Extract the first image
-        CoverImageDetailsDTO firstImage = (images != null && !images.isEmpty()) ? images.get(0) : null;
-
-        String url = node.get("external_urls").get("spotify").asText();
         return new PlaylistDetailsDTO(id, description, name, firstImage, url);
     }
 }
@@ -0,0 +1,274 @@
+package cloud.loify.packages.track;
+
+import cloud.loify.packages.common.dto.ArtistDetailsDTO;
+import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
+import cloud.loify.packages.track.dto.TrackDetailsDTO;
+import cloud.loify.packages.track.dto.TrackDetailsFromSearchDTO;
+import cloud.loify.packages.track.dto.TrackMatchDTO;
+import cloud.loify.packages.utils.TrackNameNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ranks search candidates against the source track they should stand in for, instead of trusting Spotify's first hit.
+ * Every candidate scores between 0 and 1, as a weighted sum of:
+ * <ul>
+ *     <li>name similarity (35%) - the Dice coefficient over character bigrams of both normalized names, with the
+ *     genre's words left out of the candidate's (`blinding lights lofi` vs `blinding lights`);</li>
+ *     <li>genre (30%) - whether the genre is named in the candidate's title, album or artists (`lo-fi` counts for
+ *     `lofi`);</li>
+ *     <li>artist overlap (15%) - the share of the source's artists that are credited on the candidate or named in its title;</li>
+ *     <li>duration (12%) - full marks within 10% of the source's length, none beyond 50%;</li>
+ *     <li>explicit flag (8%) - whether both agree.</li>
+ * </ul>
+ * A candidate by the source's own artists that doesn't name the genre is most likely the original recording - the one
+ * thing the search is not looking for - so its score is halved. Fields either side is missing score half marks, so
+ * missing data neither rewards nor sinks a candidate. Ties keep Spotify's order. Everything about the source is
+ * prepared once, in the constructor.
+ */
+final class TrackMatchRanker {
+
+    private static final double NAME_WEIGHT = 0.35;
+    private static final double GENRE_WEIGHT = 0.30;
+    private static final double ARTIST_WEIGHT = 0.15;
+    private static final double DURATION_WEIGHT = 0.12;
+    private static final double EXPLICIT_WEIGHT = 0.08;
+    private static final double ORIGINAL_PENALTY = 0.5;
+    private static final double UNKNOWN = 0.5;
+
+    private final String[] genreWords; // Compacted, like compactGenre
+    private final String compactGenre; // Letters and digits only, lower-cased - empty if there is no genre
+    private final int[] sourceBigrams;
+    private final String[] sourceArtistIds;
+    private final String[] sourceArtistNames; // Lower-cased
+    private final Integer sourceDurationMs;
+    private final Boolean sourceExplicit;
+
+    TrackMatchRanker(TrackDetailsDTO source, String genre) {
+        this.compactGenre = genre == null ? "" : compact(genre);
+        this.genreWords = genre == null ? new String[0] : Arrays.stream(TrackNameNormalizer.normalize(genre).split(" "))
+                .map(TrackMatchRanker::compact)
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+        this.sourceBigrams = bigrams(source.name() == null ? "" : TrackNameNormalizer.normalize(source.name()));
+
+        List<ArtistDetailsDTO> artists = source.artists() == null ? List.of() : source.artists();
+        List<String> ids = new ArrayList<>(artists.size());
+        List<String> names = new ArrayList<>(artists.size());
+        for (ArtistDetailsDTO artist : artists) {
+            if (artist != null && (artist.id() != null || artist.name() != null)) {
+                ids.add(artist.id());
+                names.add(artist.name() == null ? null : artist.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.sourceArtistIds = ids.toArray(String[]::new);
+        this.sourceArtistNames = names.toArray(String[]::new);
+        this.sourceDurationMs = source.durationMs();
+        this.sourceExplicit = source.explicit();
+    }
+
+    /**
+     * Scores every candidate in `result` and returns them best first, together with the best candidate's score.
+     */
+    TrackMatchDTO rank(SearchTrackResponseDTO result) {
+        if (result == null || result.tracks() == null || result.tracks().items() == null || result.tracks().items().isEmpty()) {
+            return new TrackMatchDTO(result, 0);
+        }
+
+        List<TrackDetailsDTO> candidates = result.tracks().items();
+        Integer[] order = new Integer[candidates.size()];
+        double[] scores = new double[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            order[i] = i;
+            scores[i] = candidates.get(i) == null ? -1 : this.score(candidates.get(i));
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a])); // Stable - ties keep Spotify's order
+
+        List<TrackDetailsDTO> ranked = new ArrayList<>(candidates.size());
+        for (Integer i : order) {
+            if (candidates.get(i) != null) {
+                ranked.add(candidates.get(i));
+            }
+        }
+        return new TrackMatchDTO(new SearchTrackResponseDTO(new TrackDetailsFromSearchDTO(ranked)), Math.max(0, scores[order[0]]));
+    }
+
+    double score(TrackDetailsDTO candidate) {
+        double genrePresence = this.genrePresence(candidate);
+        double artistOverlap = this.artistOverlap(candidate);
+        double score = NAME_WEIGHT * this.nameSimilarity(candidate)
+                + GENRE_WEIGHT * genrePresence
+                + ARTIST_WEIGHT * artistOverlap
+                + DURATION_WEIGHT * this.durationSimilarity(candidate)
+                + EXPLICIT_WEIGHT * this.explicitAgreement(candidate);
+        boolean original = genrePresence == 0 && artistOverlap > 0 && this.sourceArtistIds.length > 0;
+        return original ? score * ORIGINAL_PENALTY : score;
+    }
+
+    private double genrePresence(TrackDetailsDTO candidate) {
+        if (this.compactGenre.isEmpty()) {
+            return UNKNOWN;
+        }
+        if (this.namesGenre(candidate.name()) || (candidate.album() != null && this.namesGenre(candidate.album().name()))) {
+            return 1;
+        }
+        if (candidate.artists() != null) {
+            for (ArtistDetailsDTO artist : candidate.artists()) {
+                if (artist != null && this.namesGenre(artist.name())) {
+                    return 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private boolean namesGenre(String text) {
+        return text != null && compact(text).contains(this.compactGenre);
+    }
+
+    private double nameSimilarity(TrackDetailsDTO candidate) {
+        if (candidate.name() == null) {
+            return 0;
+        }
+        return dice(this.sourceBigrams, bigrams(this.withoutGenreWords(TrackNameNormalizer.normalize(candidate.name()))));
+    }
+
+    private double artistOverlap(TrackDetailsDTO candidate) {
+        if (this.sourceArtistIds.length == 0) {
+            return UNKNOWN;
+        }
+        String title = candidate.name() == null ? "" : candidate.name().toLowerCase(Locale.ROOT);
+        int matched = 0;
+        for (int i = 0; i < this.sourceArtistIds.length; i++) {
+            if (this.isCredited(candidate.artists(), this.sourceArtistIds[i], this.sourceArtistNames[i])
+                    || (this.sourceArtistNames[i] != null && title.contains(this.sourceArtistNames[i]))) {
+                matched++;
+            }
+        }
+        return (double) matched / this.sourceArtistIds.length;
+    }
+
+    private boolean isCredited(List<ArtistDetailsDTO> artists, String id, String lowerCaseName) {
+        if (artists == null) {
+            return false;
+        }
+        for (ArtistDetailsDTO artist : artists) {
+            if (artist != null && ((id != null && id.equals(artist.id()))
+                    || (lowerCaseName != null && lowerCaseName.equalsIgnoreCase(artist.name())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double durationSimilarity(TrackDetailsDTO candidate) {
+        if (this.sourceDurationMs == null || this.sourceDurationMs <= 0 || candidate.durationMs() == null) {
+            return UNKNOWN;
+        }
+        double deviation = Math.abs(candidate.durationMs() - this.sourceDurationMs) / (double) this.sourceDurationMs;
+        return Math.max(0, Math.min(1, 1 - (deviation - 0.1) / 0.4));
+    }
+
+    private double explicitAgreement(TrackDetailsDTO candidate) {
+        if (this.sourceExplicit == null || candidate.explicit() == null) {
+            return UNKNOWN;
+        }
+        return this.sourceExplicit.equals(candidate.explicit()) ? 1 : 0;
+    }
+
+    private String withoutGenreWords(String normalizedName) {
+        if (this.genreWords.length == 0) {
+            return normalizedName;
+        }
+        StringBuilder kept = new StringBuilder(normalizedName.length());
+        int keptUntil = 0; // Up to the last kept word with letters or digits - drops the dash a genre suffix leaves behind
+        for (int start = 0; start < normalizedName.length(); ) {
+            int end = normalizedName.indexOf(' ', start);
+            if (end < 0) {
+                end = normalizedName.length();
+            }
+            String word = compact(normalizedName.substring(start, end));
+            if (!this.isGenreWord(word)) {
+                if (!kept.isEmpty()) {
+                    kept.append(' ');
+                }
+                kept.append(normalizedName, start, end);
+                if (!word.isEmpty()) {
+                    keptUntil = kept.length();
+                }
+            }
+            start = end + 1;
+        }
+        kept.setLength(keptUntil);
+        return kept.toString();
+    }
+
+    private boolean isGenreWord(String compactWord) {
+        if (compactWord.isEmpty()) {
+            return false;
+        }
+        if (compactWord.equals(this.compactGenre)) {
+            return true; // e.g. "lo-fi" for "lofi", or the other way around
+        }
+        for (String word : this.genreWords) {
+            if (word.equals(compactWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The text lower-cased with everything but letters and digits left out, so `Lo-Fi` and `lofi` compare equal.
+     */
+    static String compact(String text) {
+        StringBuilder compacted = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                compacted.append(Character.toLowerCase(c));
+            }
+        }
+        return compacted.toString();
+    }
+
+    /**
+     * The text's character bigrams, each packed into an int and sorted - so two sets intersect in a single merge.
+     */
+    static int[] bigrams(String text) {
+        if (text.length() < 2) {
+            return text.isEmpty() ? new int[0] : new int[]{text.charAt(0)}; // A lone character still has to match itself
+        }
+        int[] bigrams = new int[text.length() - 1];
+        for (int i = 0; i < bigrams.length; i++) {
+            bigrams[i] = (text.charAt(i) << 16) | text.charAt(i + 1);
+        }
+        Arrays.sort(bigrams);
+        return bigrams;
+    }
+
+    /**
+     * Dice coefficient of two sorted bigram multisets: twice the shared bigrams over the total.
+     */
+    static double dice(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int shared = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return 2.0 * shared / (a.length + b.length);
+    }
+}
@@ -0,0 +1,119 @@
+package cloud.loify.packages.track;
+
+import cloud.loify.packages.common.cache.CacheStats;
+import cloud.loify.packages.common.cache.ExpiringLruCache;
+import cloud.loify.packages.common.client.SingleFlight;
+import cloud.loify.packages.common.ratelimit.AdaptiveRateLimiter;
+import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
+import cloud.loify.packages.track.dto.TrackDetailsDTO;
+import cloud.loify.packages.track.dto.TrackMatchDTO;
+import cloud.loify.packages.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Executes track searches for loify conversions.
+ * <p>
+ * Each conversion runs at most `loify.search.max-concurrency` searches at once, and every search on the node
+ * draws from the shared Spotify rate limiter - so a large playlist is fed to `/search` at a steady pace
+ * instead of in a single burst that ends in 429s.
+ * <p>
+ * Results are shared across users: they are cached by normalized query, and concurrent lookups for the same
+ * query wait on a single upstream call instead of each issuing their own.
+ * <p>
+ * Each search asks for `loify.search.candidates` tracks, which {@link #resolve} ranks locally against the source
+ * track (see {@link TrackMatchRanker}) - with a single candidate, that is Spotify's first hit as before.
+ */
+@Service
+public class TrackSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackSearchEngine.class);
+    private final TrackService track;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final int maxConcurrency;
+    private final int candidates;
+    private final ExpiringLruCache<String, SearchTrackResponseDTO> searchCache;
+    private final SingleFlight<String, SearchTrackResponseDTO> inFlightSearches = new SingleFlight<>();
+
+    public TrackSearchEngine(TrackService trackService,
+                             AdaptiveRateLimiter spotifyRateLimiter,
+                             @Value("${loify.search.max-concurrency:8}") int maxConcurrency,
+                             @Value("${loify.search.candidates:5}") int candidates,
+                             @Value("${loify.search.cache.max-size:10000}") int cacheMaxSize,
+                             @Value("${loify.search.cache.ttl:6h}") Duration cacheTtl) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("loify.search.max-concurrency must be at least 1");
+        }
+        if (candidates < 1 || candidates > 50) {
+            throw new IllegalArgumentException("loify.search.candidates must be between 1 and 50");
+        }
+        this.track = trackService;
+        this.rateLimiter = spotifyRateLimiter;
+        this.maxConcurrency = maxConcurrency;
+        this.candidates = candidates;
+        this.searchCache = new ExpiringLruCache<>("track-search", cacheMaxSize, cacheTtl);
+    }
+
+    /**
+     * Searches for a single (already customized) track name.
+     * Served from the cache when possible; otherwise joins an identical in-flight search or starts a new one
+     * once the rate limiter allows it.
+     *
+     * @param query the customized track name to search for.
+     * @return a Mono containing the search result, candidates in Spotify's order.
+     */
+    public Mono<SearchTrackResponseDTO> search(String query) {
+        String key = StringUtils.normalizeSearchQuery(query);
+        return Mono.defer(() -> {
+            SearchTrackResponseDTO cached = this.searchCache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return this.inFlightSearches.execute(key, k -> this.rateLimiter.acquire()
+                    .then(Mono.defer(() -> this.track.searchTracksByTrackName(k, this.candidates)))
+                    .doOnNext(result -> this.searchCache.put(k, result)));
+        });
+    }
+
+    /**
+     * Finds the loify version of `source`: searches for its customized name, then ranks the candidates against it.
+     * Ranking runs on the parallel scheduler rather than on the event loop that delivered the response.
+     *
+     * @param source the track to find a loify version of.
+     * @param genre  the genre to loify it with.
+     * @return a Mono containing the ranked search result and the best candidate's confidence.
+     */
+    public Mono<TrackMatchDTO> resolve(TrackDetailsDTO source, String genre) {
+        return this.search(StringUtils.customizeTrackName(source.name(), genre))
+                .publishOn(Schedulers.parallel())
+                .map(result -> new TrackMatchRanker(source, genre).rank(result));
+    }
+
+    /**
+     * Resolves every source track with bounded concurrency, emitting matches in the same order as the sources.
+     *
+     * @param sources the tracks to find loify versions of.
+     * @param genre   the genre to loify them with.
+     * @return a Flux of matches, one per source track.
+     */
+    public Flux<TrackMatchDTO> resolveAll(Flux<TrackDetailsDTO> sources, String genre) {
+        logger.info("Resolving tracks from {} candidates each with max concurrency: {} (current rate: {}/s)",
+                candidates, maxConcurrency, rateLimiter.getPermitsPerSecond());
+        return sources.flatMapSequential(source -> this.resolve(source, genre), maxConcurrency);
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public CacheStats getCacheStats() {
+        return searchCache.stats();
+    }
+}
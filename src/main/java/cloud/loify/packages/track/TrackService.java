@@ -24,9 +24,20 @@ public class TrackService {
      * @return a Mono containing the TrackSearchResponseDTO with the track details.
      */
     public Mono<SearchTrackResponseDTO> getFirstTrackByTrackName(String trackName) {
-        logger.info("Searching for track with name: {}", trackName);
+        return this.searchTracksByTrackName(trackName, 1);
+    }
+
+    /**
+     * Retrieves up to `limit` tracks that match the specified track name, in Spotify's order of relevance.
+     *
+     * @param trackName the name of the track to search for.
+     * @param limit     the maximum number of candidates to return (Spotify allows up to 50).
+     * @return a Mono containing the TrackSearchResponseDTO with the candidates.
+     */
+    public Mono<SearchTrackResponseDTO> searchTracksByTrackName(String trackName, int limit) {
+        logger.info("Searching for up to {} tracks with name: {}", limit, trackName);
         return this.webClient.get()
-                .uri("/search?q=track:" + trackName + "&type=track&limit=1")
+                .uri("/search?q=track:" + trackName + "&type=track&limit=" + limit)
                 .retrieve()
                 .bodyToMono(SearchTrackResponseDTO.class)
                 .doOnSuccess(track -> {
@@ -3,5 +3,5 @@ package cloud.loify.packages.track.dto;
 import java.util.List;
 
 
-public record GetTracksFromPlaylistResponseDTO(List<TrackDetailsFromPlaylistDTO> items) {
+public record GetTracksFromPlaylistResponseDTO(List<TrackDetailsFromPlaylistDTO> items, String next, Integer total) {
 }
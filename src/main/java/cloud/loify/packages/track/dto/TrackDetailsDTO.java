@@ -1,6 +1,7 @@
 package cloud.loify.packages.track.dto;
 
 
+import cloud.loify.packages.common.client.SpotifyField;
 import cloud.loify.packages.common.dto.AlbumDetailsDTO;
 import cloud.loify.packages.common.dto.ArtistDetailsDTO;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -9,5 +10,6 @@ import java.util.List;
 
 @JsonDeserialize(using = TrackDetailsDTODeserializer.class)
 public record TrackDetailsDTO(String id, String name, AlbumDetailsDTO album,
-                              List<ArtistDetailsDTO> artists, Boolean explicit,  String url) {
+                              List<ArtistDetailsDTO> artists, Boolean explicit, Integer durationMs,
+                              @SpotifyField("external_urls(spotify)") String url) {
 }
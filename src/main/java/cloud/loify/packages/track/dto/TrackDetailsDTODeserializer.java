@@ -2,40 +2,47 @@ package cloud.loify.packages.track.dto;
 
 import cloud.loify.packages.common.dto.AlbumDetailsDTO;
 import cloud.loify.packages.common.dto.ArtistDetailsDTO;
+import cloud.loify.packages.utils.JsonUtils;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
 import java.util.List;
 
+/**
+ * Reads a track straight off the token stream, keeping only the fields {@link TrackDetailsDTO} needs.
+ * Everything else (available markets, popularity, preview URLs, ...) is skipped without building a tree.
+ */
 public class TrackDetailsDTODeserializer extends JsonDeserializer<TrackDetailsDTO> {
     @Override
     public TrackDetailsDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-        ObjectMapper mapper = (ObjectMapper) parser.getCodec();
-        ObjectNode node = mapper.readTree(parser);
+        String id = null;
+        String name = null;
+        Boolean explicit = null;
+        Integer durationMs = null;
+        String url = null;
+        AlbumDetailsDTO album = null;
+        List<ArtistDetailsDTO> artists = null;
 
-        // Extract basic fields
-        String id = node.get("id").asText();
-        String name = node.get("name").asText();
-        Boolean explicit = node.get("explicit").asBoolean();
-        String url = node.get("external_urls").get("spotify").asText();
+        // Inlined rather than JsonUtils.readObject() - this is the hottest path when decoding search results
+        JsonToken token = parser.isExpectedStartObjectToken() ? parser.nextToken() : parser.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = JsonUtils.readText(parser);
+                case "name" -> name = JsonUtils.readText(parser);
+                case "explicit" -> explicit = JsonUtils.readBoolean(parser);
+                case "duration_ms" -> durationMs = JsonUtils.readInteger(parser);
+                case "external_urls" -> url = JsonUtils.readSpotifyUrl(parser);
+                case "album" -> album = JsonUtils.readAlbum(parser);
+                case "artists" -> artists = JsonUtils.readArtists(parser);
+                default -> parser.skipChildren();
+            }
+        }
 
-        // Deserialize the album details
-        AlbumDetailsDTO album = mapper.convertValue(
-                node.get("album"),
-                AlbumDetailsDTO.class
-        );
-
-        // Deserialize the artists into a list
-        List<ArtistDetailsDTO> artists = mapper.convertValue(
-                node.get("artists"),
-                mapper.getTypeFactory().constructCollectionType(List.class, ArtistDetailsDTO.class)
-        );
-
-        // Create and return the TrackDetailsDTO instance
-        return new TrackDetailsDTO(id, name, album, artists, explicit, url);
+        return new TrackDetailsDTO(id, name, album, artists, explicit, durationMs, url);
     }
 }
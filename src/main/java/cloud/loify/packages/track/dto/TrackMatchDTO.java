@@ -0,0 +1,10 @@
+package cloud.loify.packages.track.dto;
+
+/**
+ * A search result ranked against the source track it should stand in for.
+ *
+ * @param result     the search result, its candidates ordered best match first.
+ * @param confidence how well the best candidate matches the source track, from 0 (no candidates) to 1.
+ */
+public record TrackMatchDTO(SearchTrackResponseDTO result, double confidence) {
+}
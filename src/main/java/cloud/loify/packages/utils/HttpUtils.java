@@ -0,0 +1,34 @@
+package cloud.loify.packages.utils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class HttpUtils {
+
+    /**
+     * Parses a `Retry-After` header, which is either a number of seconds or an HTTP-date.
+     * Falls back to the given duration if the header is missing or malformed.
+     */
+    public static Duration parseRetryAfter(String retryAfterHeader, Duration fallback) {
+        if (retryAfterHeader == null || retryAfterHeader.isBlank()) {
+            return fallback;
+        }
+
+        String value = retryAfterHeader.trim();
+        try {
+            long seconds = Long.parseLong(value);
+            return seconds >= 0 ? Duration.ofSeconds(seconds) : fallback;
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds - try the HTTP-date form below
+        }
+
+        try {
+            Duration untilDate = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+}
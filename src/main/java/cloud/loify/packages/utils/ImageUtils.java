@@ -1,17 +1,31 @@
 package cloud.loify.packages.utils;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Iterator;
 
 public class ImageUtils {
 
     public static final String DEFAULT_BASE_IMAGE_64 = "iVBORw0KGgoAAAANSUhEUgAAAQAAAAEACAIAAADTED8xAAC0hElEQVR42uy96ZNk13UndpZ733uZWUsvWEgQ4iZRlCiNNJJHthV2hCcc4wgvf6Y/+IM/TDjs8DbW2JqRSHFIiuACEmig0Y1eq6try/Ut955z/OG8fJVdXd1oQA0QjckbHUBWVebL7eznd34HzQy2Z3t+F0dVicjWBwCIaPgrIn4BryFsv4bt+V0dRBxEX0RUFRGZeVMNPm9l2CrA9vzu1QAAUkp1U3dtN5lMJjsTQkJEdxFbD7A9X1nRd6vvP4rIcrkUERHZ2dmJMbqL2HqA7flqns38k5mZOKWUUmrbtigLZkbEQQc+JzWg7dewPb9DDzDIdFEUk8nk+vXrMcbVajU9nS4Wi0vvuVWA7Xm1Tb5tnMHGE1GMcTKZFEVhYKvValWvVNXvs1kp2oZA2/Nq57ubttzluzfGROPJuGmblNKqXtncxqPxeDyOMbr0fx4J8dYDbM/v2ANs/hcBq7Ka7EwQsGu7xWLRdZ2qwrpmulWA7fnqKMDwm82GQFEUk/EkFtHMFotFXdc5581AaKsA2/Oqyj08WfnZDPGHQCiEMKpGk/GEmeumXi6XdVNfCKK2CrA9r2Tov3kA4dIqJyIS0Wg0qqpKRZumqVd1ztk7BlsPsD1fEQ+AgAMQaNMJICISVlVVlAUgtG1b13WXuk0FGC7ydFLxtJ95/tlWgbbni1AAl11RyTmbWoiBiYloCGmGG37nWMSqrKqialNb1/VquWLiEALCE/HShfDpM0RKWw+wPV9QCORBf+pS13Ue0lyaHPuNwCHEEIsIADnnpmlSTmYGCBc8wGaXYPMKL+gEtgqwPV+cHxCRPqRpOxFxxdgU3M00IIZYliUzq+pyuWzqJssl5SC/oaqOJx0u+IIJwzYE2p4vTgFMbZDUp6Xzgg4MyXLOGRHbrk1dopI2+8cXCkqAgIDEBE+22LYeYHu+RIHQhZjngpgOf3I/AAhmliWnLjVNMwROmw80MANTVcmipp8qFd4qwPZ8YS7gfOArSxYVuAwcMWgLIhITIZmZinZd5wqwGTgNd2ZiZkbCTd3YKsD2fJnkHz0CUhW90Aa+EPkMYh1DHCpFKaW6rlNKWfJm/cfMwICQ+hka008Fn94qwPZ8cTmAS7+oIJwL/RAIuX8YxJeIQgiDAvS1oJREZDMNQEQwQEIkJCB/lgsB1VYBtudLEQKBgZqqqdjFJPhCIQgAPPofFEBE3Al0bbfpJbyp3M/UM6lq1nwhyX6OGmwVYHu+uCRYTQ3M1C7I5RMQiY3TD4WtI3sR8R5Cry0Gm6jS8+sAbmLsnh8LbRVge74wB2AI6EUaeIZcbprqgSFis9XVtE3btn29H+1iLAQQQwwcLpSYth5ge74ECqCWUhYRAEAguMwqP10SdYs+6EDO2bvIF0R/+NEjJccOvUgItG2Ebc/nnvsONwbZJSL6RONrAAgG520BAJAsfR8NDO0J+JBrSMopdSmlNBqPPLF+/jzxVgG253MP/Tc6U7rWAQU4l9pnzjoaiIjXPWET9dnrxXmiPOhA6tJ8MV8ullfkCiFVVfV0yXUbAm3PF2f+N/NRr2C64G5mqM8KUfqH67n4eifB0+inoaB9xmzQdm3d1HVdX8iPtznA9vwOzD+smwB9CZ+Qqef8cUN+qWgO5l7hiVEYv5SZGdoFeIXDSB0/1zZt3dSDyj0LH7pVgO35fD2Ay6iqOuNVzhkNY4wetwwl/Esei+fxznkopX072eX/YrqMWFblaDQaj8YislwsU0qb2fBWAbbnd6EAZh7Kd6kbmr5D3P/MDPU8VjpvGKvp0EYAvMTVMHIIIYQAACmnzcGDrQfYni86+u/NNkCWnFLquk5BKZC3bwcpf1b4tFaEjUkXtR7sYHC5WCMwc1EUQ0nUG2fPSja2CrA9n1f0f45yQ+i6rm3bLAkBmZmZCcmF+1kewNRSTpLFxMBgGIZch0RP6Mnm0yGiewBV9c7x4EO2VaDt+UI9wDqNta7t2qbVrITIRMT0BJzzsuNpg4h4zKOmz+lnbf7JUXSIqNJfATZ6BVsF2J4vNAFQ1ZTTarVqmlrMkJhDcPP/HCiEK45k8ckBtT7medaky4VLhRiICbBPA56YnnnysVsF2J7PRfSHaEREurarm7rtOjAIgYtYPM0HcWGe3R/Ytu0aOoEIaBuwOXt29kBEgYNXWnOSlPKlE5hbBdiezzEBGKRZVJqu6VKXUybEEKJvvuhx/M8Aq/kDB/Q/ABgabhKiAD7n2R1G6q03PwZ2KYfKVgG25/MKfvy/Xdst5ovUdgDmbD/OeDUksgPZST8GSYSIOae2aetVLaIOmzM1U9C1c7nACnGpHyCkLCnnJCJeS3o6Ddhigbbnc0l/vc8lIl3qmrpRVSSKIcYiDPxW57JooKYptXU3Z4qBoimklFLyCqb/AwNDA3R/8BSj1iU1KAQ3/w6fYOSnx/C3CrA9L9/2wxqw0LTNarVarVZZhUMoqrIoyxjiYLnVFBHMLOX2bHl469GvJtWVq+M3C9rtupTzE1Q/feiDyMSuNs+MgshhQSQqopIll1Zeni5vv7PteemRz5DF1qt6tVqllMwsMI9HkxgiEqEZIBpY261mq+PD6Z2Dk48enN68+eiX333jz77/1l+9Pvl9TWHtIkx62p/z2YC+lWaXVPfPRwhgPYWc5VmR0lYBtufl575e/exSt1wsuqZVVY6hiGVVVjFEU2lz2+ZV3S2OpvcOzz7++Oi9u4fvPTy7/eDkJhhenXytsjdCnqiJX1lN/MJAQETDkCQ8t5ZKSK4DF5gYtwqwPS/f9l/4Tdu2i/l8Ojtr2gYQyjgejXZH47IoCtFuujr8+PA3tx+9e+PBTw6md6aLxyl3WaTrUkrJA6fCAigAASKaopriRpEHANALQ5d5gIF7HQENTE03UXdPrCPYfnnb81JsPwD4Xmu3/bPZ7PTsrGlaVSyoGlVVUVCTF/cfvvfw9IM7j3/76Oz20fzeyezRspm3XWsKCBQoaNa2bTrumATIEEHX+GckjCEOzNKXSj9swOace6tnjNtgV98mwdvzedl+jzeaupnNZov5vEuJMVJk49Rou5gufnv/h7+9/+Nbj3+5bKYpNwQBlAiCAqJRJELDnFPOosHTXzAbdslQCCHG2Jf5wZ415uJx/8Af4Zzsl46GbRVge15CzcftKyKmlJbL5aPDw/lsmRoMOM6wPEmH9w4Pj1a3bz3+xfHi4bI9M0tMTFyJoqhJCykBGDIUuea8UisNQs8kcV7uQQghOF0crHthl7KL9nPDes6eciFR2SrA9rwE0b8w1qiqdVMvlst61bRt23SrpKu5HEzzw2l372R1/8HpR003F+sYgxloBslgElDipBiPi71RMbk+ebvkq4ikpoa98KsqMRHzYP4R0dQ8G376teWcz1vIYAr6dKa+VYDt+SdJ/5M5JeWc6qY+OTqeTRf1sq3bxVlz//7i3UeLD46Wt6ftcdYuUGDCAEXKllvILVoKAUeT6srbr33nrde+/dre2xPeL3DCVKjJACpFBEIOIZRl6Qsk3SFcmgN4EpJyEhFmRsNN3MS2EbY9L0f6vdbpHd+mqRfzxWy2mM8WZ4vjR9Nbj+YfHi4+PK7vLPNpK0uzTAYiualBOtTMu+X1N6+88fVrv/falbdev/L2W69/a6+6mpM1i9zWwkjQs2d5AIMhcFkWRVHEEC+QYV2SlAM6Vy4AiImjSodXu1WA7fns+e6FTXUpp9R1i8Xy7PT05OTkaH5wvLh3f/bbg/l7x/WdJs0UBIgYWIUkAUo14d3J+Nrbr33nG69/9ztv/eEb17/xxpW39neuW8bDw8OzdpbbGkkBAM2HAMzMOHBZVkVZcOCnbflmB3qYmh9+FJVhkHKbA2zPCwU2T9/eZPhBRFGVnFdNvVws63lzenp6dHb/vcc/ujf9zeHyVqdzpcyBCNgM2yan2toVvXX1a9/7vT/953/0199883tvXn17d3yljBURpZRmy9lsOqvrlUgXKQCgWM+lbqZFjKOqKouSmZ/mkrhQ4uxSv4aMmQeVcA8A2zLo9lweNjy1q+JpCRt0QERSlrZt6mUzm04fndy9ffju7aNfHcxvTNtHrS0AFBQMLXXWNQZSXKne+O63f/BH3/rL33/7T95+49v7O9fH5W7giEgislosZmeLZV1nkbWN7wcgPceIRTGejInovCb01MqZoQTkZBDD9gBQAIRLAdRbBdieF/UAnl/Cutjfte1quZzN5kdnDz969OsPDn9y6/gfa5kqdjFEBDTBrJpb0o73ize/9foP/ss/+2//5Lv/4q3Xvx1DOUitqHSpm88Xs9k8dS0CUoy4sUUJEIi4LMrxaDxw5T4dAg1bh3POeWMI5pxJzrZVoO15AQXYjKc3oZ0OKlZREZOcm6adL+cfPnznt/d+/JsHP5p1hxmWHImhAoEkmjttlnm/euObb3znX/6L//6PvvUX33rzD6tyB4kG80xEOaXZ2XQ6PVnWc0AE7IV/3bkCJi6LsixL53q4dAHM8HtRUfEXKarq0/FD1Qie6txtFWB7LgmBhg5rv3iCegYHFU05p9QtlrOT+dHdww8+ePDzW49/fVofJF1iUNAIipotJ0MNe6Or33rzj3/wrb/8/jf/4vfe/IO9yfWeD2v9jD73uFjO264VU0ICQDMXVgPo1x9Vo6osSw59B2DYFHbh9buSeghkasPUwSbB1jYE2p6nbD+YTyf2m0YRL3RP3fbnnLuuWzWLxWp67/GtWw9/+85Hf3f35P1p87gaMwcijLkFyaaikmC33Pv+N//yr//kv/nrf/av9sfXiqK6cFkza9tusVyenU1Tyr7nywAMDQxMey5Rjry3tzcej2OIz18sCQCSZXMQvufS6h9m2xBoey6J+BHWsMpztp1zsyoqdbuazU+Pzg4ePL7z4PjOg5M7909unSwO5s1xshVHUkUVAMuSUUQt21vXv/ODb/7lf/HP/rvvvvWDKzvXIxcI5NNcm3o1nZ7NplNJyUwRcYPzTd1ixyKOR+O9vb2iLDbD/Qu2f3g7XXICouxvZ5gcGHhItyHQ9jzVygUDNTe9knPKqUttl7suN03XLOvZyezx49ODR8f37h/dfnR2//H8wVlzmLSORSiKEJhNTNRUTbIShEm194dv//lf/fF//eff++v9yfWeA8t0yFMRMefcdu18Pq9XS5/Z7Xkf/K7rl1qV1c7OzmRnEmPcZJt7muak3w/Qpa7rzlFAaAjoIwT+MrYh0H+M4n7ZL700aABoAIS9eW5Tczo7Ppo+Ojp7dHh28PDxnYfHd+8d3j6ZP543s5xbKixWEEdUxTExmoKqGZgaqGES2S3L73zjD/7qB//VX/3Rv5xUe7h+lnOVQ0TEpm1n0+lyuWzbZADMbACi4rKtWUwVCUej0WQyKYuSiQcA0nNUOqXkA2ge1Hm2UMQicBj8xrYR9h+XmX8GXgABIIuumvl8eXa2PJsuT06mhy76R2ePpsuT2fK0bperdrlo5l1uBDKXGisKFYYCOPT5queshmBohLC/c/XPfv8/+/bXvr83vkLk9CRA9MTAQJvSarVaLBYuoERs65QXQM16d1GW5e7uzs7uDhEh4LBV4NIM2MupdV23baumhn3106lCnSsOtlig/wirOk+SL4iaZhHV3OZ21SxPZ0cHx/centw/OLl3//D249OD09nj08Vx09UptRyImY2AI8eIxSjGgrhAZgPqtxeBIRqiKRow097kyh98409f3/96CIVXXxAvNKpyXder1bJuah9zgTXzAyKqGoCZGkWqqmqyszMejftdqHrJDOTgFlS1a7uu7dwD9PqP5lShQwPhgg/ZKsBXPNRxuR+GaFftarY4OTx9ePfxrbuPbx2ePHg8PTg8fThfzuquBlCxrCYYtIpFYQzYm3gKGAqKFVIAQy9DmgEBAqICA4ARYhGrncn+3vhaEaoByIlIw8CAi+nJyclqucwpGwIyaRL3SZ6LqwgzjUbVtWvXxuNxCGGTau5p6e8TALW2a7vcDX7GK6EDVeh2JPIrHu08gQwD9LWkYpqla1b1opnNFqePpwePzw4eHT94dHb/8dnBdHEyW57NVqdt12ZJPYCSXdQMsUcQECIXFArEgEier3pIYogAhABAawYHAAGUNdcVAOCmmLZdu1qtOuc89MKQgRGqrfcHu82OcTQa7e7uxhj7Z7pslZhrFKxbCqk7Z5Lzmo+XVs9HCLYjkV/5ko5nnGJipmbQpWa+nD44uXP30c2b93/78aOPHhzfPV2epNSCqYsfgIWCyKKZGhiCAvgCIgAEIuJAoYRQusj3IB0kBARGMyJQw4AiYJqS1Itm3uUWANb7MdYZak7z2Xw6m67q1kCJ2OUUAVEQAXvsPsFkMtnb39/d3Q0hrOFAeGkHYPhNllzXteZ+g6q6nhJyYEdQPw2g2CrAVyTHfVI+EAzqZnmyOD44uvPw+M6Dozv3j24fTx+frU5W7bJp65xbNTHz7XMKpoagpgjDDmvruXUCEGMokUOf6RIiEiAhsSGCkdeTDAAIMbdp2Z49OLr5rdf+8I39b3hGC4AI2KXubHY2nU5XqxWuF7+YAZCRoWLf+0KkIoarV67u7e594uzv5kchWVJKPgjvv0bAfob42S3k8BX47gdv+JwJia+k9A+bRr3AkjXXzWrZzOers8OThwcn9+48uvng+M7h2YOjs4O6XWXIw35RAw85HCqpQ/8VnIYW3SwbMXGBXAAiABoREhkxEAMRIoEZ+MpTJjAlzdDkxZ3H73//7b/8pnwPkRAJwLqclqvl9HS6qldZs5tkf9lmuBGUYFEU49Fod293Mpn0E48GSJeb/wED5/2vpmkGJjlfMxxiKGIRYniWeISvgPRvlre+2jowlFQ2NF+dMU1U6mZ599FHtx5+8N7Hv7r76KOHx/cW9bTLbbaslny7lqg5GyGgwTqeB2DsA3vzJUQu3MBAAULwP/huC8QARBYCISOhGZCpoaCBGZrFkKy9d/Lh4ezesp2Py92ApGaLxXI2nc3mM2IqyzJgcJDCeqjXFJnA0GBUVVeuXtkZ78QYXYg/Mfgxs3pVr+pV13W+PcmrT0QYY+TIgcOzpOLVU4ALE0mwpiSAZ+zA+apZfScV3BjOarrV/aO7dw5u3np44/aDDx+dPDyZHS3qRd0sWmkVBFBhnaGqyzv19JlOO4X97LmZqe+wUzMPc2KEEEFBEYgROQIzMCMSEiMFdyEIjKbgmmXSPZ7dvXP43rdf/6Pvfu1PCUPXpflsvlgukZGZGZmQFJWMBpQOghLRaDze39+/evWq22zt4XHPFIOBYHS5XK6WK9+GhISiAmAAFEK4dB3Bq6oAFyp9TzO9fFV14Nzj9YGziUiXu2U9f3x28Nvb77x7653377x7//DOol6Y9vUXQwVUAMU+Du+nZZHIccfIhAiE0BvOtYQYICIyEzMQm2UP+jEECAGIkQiJgKJjRJ28Ck0BjXKry2b26Oz2g5MPv3H9902padq6WaXUBQq+xxcRGXhzgzwixhhH49Hu7u7OZOdCcv8s/sMe7iY69L8YGQDEhID8mkMiAQav9kzw5iD2MJnxnPb4V7PO0wspLZrTj+7feOfGj9/58Ccf3X9/Nj9LkrOI+vZcU4B+KwQgu6UnRsTe9Hv5sq+8gGEwMCMzlZ6EgRmrCon7azBBCBADhoiBkQISIwff3AiaTTOoGhqAgmV8dHbnxv1ffOeNP5/QtXrVmlgRCg5MRMTExAjoIFMiAkDmUJbF/tUrk52J13AvNdib0b//KaW0qlfL1bLrOkLyPhoBE1IIPBqNiqIYIHFP28dXSQEuhP6b86mD+X+6VPwV6G1tzKmQaK671cHxvdsPP3z35s8+uPfe7YcfHp89blMLBGhkffF+XcYhQiREQAIkIAIkA0RCQ7QeoQNGAIagBmRoikTEASmYt7kIkAkDQwhYRIiRKKA7BzBQteTJc0YjIDIknK6O7h/fvP/41hsTiDAhZmLqO7KETOz2WFQAIQAzRV9wHTj0veFPkgT/ulOX6lXdtV2/TAn7jQLESHxOI/csdQqvlihs/vi0+f/q+YELG4RE87JZHBzf+9uf/x8/v/EffnnjJ21qswgREaERIGjfCCAbMJBI/X4gBAACIGBXk3Uq3N/2eg4hAseCYwQiBfUiDAfCGLFgKCNVY+IIFAxQQUz6Ni6IKQkQAwY8q48/Przx3p2fwdfCN6//gMqyfy3oZdT+rZEQKyvLaDQaT8bj0ZiQnhX2PJ0Bm9mqWU2nU98mFgL7KiVFYI5lUboCPJ03v3oKcCH4MTMxCRSGOf+vXvS/2bp3Y/nw5N6vPvzpj3/9/71/993Dk4NOkkLfkAIyQrB+m5whIyIQ9dPgSEoISEAMxC6BgP39zREIamBGiMSRQgQmMDUwQkQm5AAhQCxCUWFVUjkGYhNBUU1Js6hmEGcrdNANSp0XHx39+vru29968weBAhN7wZOenL5nZgrVeDQqy9I1ydSeDtafrn7mnFNK8/l8NpsZABIBoKjvVTUOVBRFjGFQgEuv9ip5gAvBD20YkkubfF8B8z/0+Zf14vHZwc/e+/ufvvfDd278+OjscZvbwGyAGPq+LFG/TtE/FiJEMERzq0+IjIhsA7BS0WekDNCcOMeMmCgEZA8kBQ3Q6fiZKUSKgctIZYXjCjlaFkkZECEnFTZ/GUiIwZCgy83dow+/9drdRlZ7xV4RS6c4H6D5BuZeKsaiLIphc8wnkF6tv3ER8eJP3TTMjOdRsfk6yrIseCiArgFRr5gCXOoNs2QAYOLNGtlXSfQvohsQD07u/fzGP/wv/+5/+vjBzVWzUtBA3If1jERrOvzQl/CJANGIhrWiTqvvTQQAQ8dc9kAIR/UDeFspBARfy8uEhgZISIQhEMVAseCioLIEDsAAlEAVQsTcuq4a9NrIkuVweu9ofm/VHe1NdmMsVPP5CwIwNeAerryZvD1zd/zG2L57gMVi0TSNqrCrtc8lIDBSEYuyKn0jdx+ifTF9gJfboN008IjYtm3XdV3XhRB2dnaesyvzla/3r8t2y2Z55+Dmv3/n//7hL/7t/Ud3Vs1KTNyiI3uqh8xelUcmY0YMwF72Qd8Dup5zhx6+r2qohmqGtmZ6QFBiQg5IZCkTggUyAyRDA+7VCpmJYkAOGApgZETI2YpEuTBuNYtaD8IhA6hTfTx7dPfo5mtXvlHEmHU9mugyGdCZ/oco5TkCc6EqmlKq63o6m6aUen1CEFUFJSBmjjGWRekEic+RwPA5Sf+lnHWfVg0uDFCbWdu28/kcDMqqhJ49G7960t/3d0Cly4cnD9+58Q8/+80P3/3w50akpsSECOh1GJdFBorIjBysVwYEIgRa8ys7xAdR18tGHcLvPVMRU0EACMGIERBtjYkwBb8vKAGgB1quV8jARKIWIoaCOCoHw4QOTXZss6hO65MHp7f+JP+nxMhIRDwMIgPAMKfyiebyAp65aZrFclmv6ixCxF79MVAzI6YixqIsfCHx88Pj8DlJ/9Me4DM4gSEI7seI2nY2m02n0/F4XJQv5DRfUenvIS6qdw9v/eN7P/yf/5//8WT6mJAMkYi9zEIBOUIMFCJyYSESB6AAfdTizR80NVTxDLcfu7X19IrCmjNQzAwIMRaGDNkHahUUEIE8h9DNNdWooKhCQEAEIUBgCBFCCdT21XYD9UHHWTP9+OjDVbcwM2JmZDXtO22X0Vo9K/HtPx9CMBCR09PT4+OjVb1CpMC8fiPqbrMsy6qsnEfo+RLyMhXgQpK6Gb5/tkDoAhffarVq29bMyqrsKwYbn91XQAc2ealS7k7mx7/44Kfv3PjJyfSw7RogZCRgoGgUkAOEAkPEWCAH4GgckKOh91XJ65cAqmZm2jM/+PCVoamZmrlDMANEokDcZ6FeJPLVEv3jTN1RmJqXRgFAwQDJhjCMA3JU7NBM/bKAVKf6aHGwauZZUsGF236k80zgRQKEwRQCQM55uVotl8u2afu2HqJuGFxiKsoyxuju5Vk8Qi9TAS6YLiflEhEiChyA4II+fKr4x6+cc57NZkP0Px6NX0qO8WVL94d3PV2cfnj3t//2p//7uzffaZolEMUQAJEYiI0ihAixoFBAKCxEpGgUxFM+EZeVYcOEGqKpWyY0A/VJdnG+NwNFjhQLDsFUQNQcIgGgaIiKqKgCOUPOpgKq0F9NEQGYjftIjDgaBTUwx0cghVW7fHR273R1XHersigGuR8Ysj4xSD7fEAwIBl3XnZ2dzuaztm195zaYuRczMOYQQ6yqKsZ+kczzxSO8XNvvz9Q0Tdu1qUtVVY3Go4jxUjjri8Q/fbs7p6Zp2rYlotFoVMTiQtr01Qh+/P2qapOa9++8+3/98F9//OBm06wQqQ/sGTAAReRgIRhHpaDAhgGIgdHhmdajF5zwytCkzwFMQdREwQRNUdUkgxohcygoxt7iExuYTzAy8rlwqkDbQtFqmSxG4gjE5q20EIEDQuhh0oCoZlkNBDppZ3Z2tni8qE/3dvbDs5G8z6F7UFUkNLWc83K5nJ5NU5eG7E/XIBEfAKiqajwZF0XxIpknvUTrNTRou65r6qbr+u705kTPi19w8yGpS3Vdp5xCCOPx2OcbNu+zGXS9+LN82YKftbZ3tx988MsbP3nn/Z+cTo9EM67RZ8hrD8AKrECCKEyKZOtJGA9xXNbBq5uqvflXQ1XoqdLU1AwAmShGjgED9xa91zZC38mL3KMmNGPqtOusay2LOrLawdjMGCJywHU45F8iGKCING17PD84WR6a2mYZ9DlYt0s+GQMzW61W8/l8sVjknPvBTTCF/u0gYlkUo/FoPBo7K+jTlNcvzQNcLtMGWXLbtjlnL28FDp9NIAY2dy/+1HVNSGVZTiYT75Y/K7955RzCBb1dNsuf/uaHP/vtPzx8fI+ZYyjcFgMbsGFQRDXfHep23bypBP2kOgAoiCehiiZqhg4bMesLoeLgTzSiEJjKkpDNzFARiYwQhFyViNaYIkNTzIJdq21t1QhCBmLrx+EjcbQQiVmZLUavgoKjt03t0fTB4fThH5tTntgLxq7DJ+ON8Jzz6enp2dlZXdeOqOuNIKB4hoBYVdVkPKlG1WaN5HMpg27q1lCrSZq6rksp5Zwnk8kmDunTJgDD3rWB7CWEUBR9bevptPufkm3/LkUfnyiU3T+88+7Nn//dz//m5t33aW0qmQHIjBRAxNRQUW39fzIDAzJFMwTo18GJd7YEzAe9+saTOwBzNAIjIXFkCgWpiU98MSMhKqApejUH0QxBwbIhCKRkTaNlvbb3aA7eIYaiIqqRCgpRYgRGEOwBF0eLg6PFwyxdGcvzt/5JX9MTjrFLi+Xi9OxsuVo5vt8VU83zGGPioihGo1FVVdzzEX1y+ZE+8ze3eQasqWRxZkYACDEMCvCpQqAhmHHVSl1yl1IURVEUm0p1IfJ55UKgfpV5P9MoTVffun/jJ+/+/c1775/NT0Lsm91GZiiGIihqYuD/+lBHlVRJFUVMFFTAFPq6p/UpgRt+AEXsKR2IkIhjYI5EwQBRAZmIiNgL9tgjK/wlet9MFXLCrrG21bbTnDeYZxE4UIjEEWOBIWKI/iwICNPlyfH8UZ1WotIPLr+YgPVxtelqtZqeTVerZeo6L/0YmPSerac/KcpiNBqVZYkb5/nyED5z8DOsHOspXwANLefcNI2peX+bA/vX8KkM82ZoKCo+6gYAVVV5YWuoiG2S3b1ywc/mqkMiarvm4Pj+j375t//mx/+bShqVJRChVyBJPATpKY7RCIGdccTb/0mBh7agmhqS9ejOPjIVb4QhAPv6dSWwno9ZNJsGBA4FR0YCSAaWAbwG4eB8M1MUsZyt67CrLUYrSyNGBvK6PwGEgKGgrpBYQdlBSkAZQexsfnJ0djBdnEyK3XEVHbX/IpAHvyEi8/n8+Pi4aztfmQqD4RB1efD8cDwZl2V56U7sl6YAm0sCXQGICBBUNOecckLCYaGxrQe3Xxypv1kXkyxN3YgKEcUQnSPpgge48MBXRQ364gYggKnKyezox7/+97fu31g1i8gBCRHUaRd6cD8bkjEbETAjB6CgRIQ4QKA98u4DbTCggGaGYh7SE5gKqIEZghEY9f1TIQAOHGIMRQRE01pNFXt2wfWAioEpmqII5GQ5Qc7EgsjaV5nQiDEEZEaOvRPgjGawaufT1cmiPk3ydXcXm3xBz4E8AICILBaLxWJR1zUCbpL89DwuiMxcluXOZKeIxWaS/YnCED6j3VrHJ6oqJgEDI6eUuq5r266qqlgUMcYhW/1UQukNP9PzBEBFOXAsIzHBU1uah7f6CvmB81EeADFd1otb9z/4P//+Xz94fNdMrG/kChIQe2lSKXj9B7wHzAQhKhAQE4L1DamACIAC4iaWEZQUAXoKW6/fgyihMREjChhYDiGGIhRVxUUJhGqaTC1Lv1sIUNAIFAFRxVQsZe0StB2GCMTebjADC8FCRI4YCgwFFgXkjKq0qGcns8dHs4OvX//2Hlx9Vk749AZiAKib+ujoaDqbNU0bCyc5dAz8uk+HEGMcjUb7+/vDFpkXFIPw2cz/5m8YmMCpKVLK2XntQgznzYtPn/56q7xt27Zp2671JTkxRiaGp9ZXPV2K/ZLrwBMbF5GyyD/+9h/+4dd/e/fR7S41ZVEigyMPzGspZEhGZCEaMTikmdhZ/4DIEI0CoNcfffhLUAWdvhPXoZKoZiUxIuMQKEYERFMWiDGGqgqjEZVjQzZRE8G27TdVIGSAAMa2Ds5FIGfLWbpMEJC5ZxhCQCLlAByAvUmXMCdQ01VXH84O6nblmSte5gEuSJeBzabzk5Pj46OjrutC5HX+YOfYBwBCmkwmu7u7o9Focw/ki4hB+Gy2fzD/AMDMPoefUpdyAkBmLjhu0pG+oFCeZxdIaurAT8kSq1gUxXNS+89Wa/oyQB5W7fLR8f2fvffDX9z4yapZEGMMwUABFannlPKYJ0SMBREbIhIDB2QmCoZkhOBDusieGlkG7LEKfaCIBl4yctsfioixBMmsFhBjEWNZ0WgM1Y4igSbMyVaLddnSFEABCAxVQRWyWM6WE+Rk7FC0fqsvEjomAkNELjC0ENgQse3qg7O782bqLBA9NAnwWTKWJTd1Mz07m55N61WtAMy9QtuaTNeszzZ3d3d9h8CFCuHLDIGGpZNIqKq+hKMfuluTnmoWIiq4GAhNP5VJPn/RCKbWtm3btoDAgS8Md8JTZBCvivRfKFWdTh//6sOf/vy9H926935ZjREVSAF1Tb8JhECBYrRYQiyNCNi5OBm4MGJCNkIgAiJTJENgAyVUNRQU9Y6ViVEf9wMF5lBYiGo5AAQkLspQjaga62gkQKYZ2gZDQCfaQfRNE8pCgOakciKYO0jROACy9bP4YDD0xSLGiDlYDhAIU64fHn88X50OlA3PEv0eDdWls7Ozk5OT2WymYACoakg+hO90RqCqVVVNJpPdvd3xeOzFGDV9cXhY+FRfW197EnHqXfJZVMScc9d2TduoaowxFE+Q0X2q9HdwLyLSdm1KqadsoieqWq8oLdyTxBayWM3f+/gXf/PT//VkcRgKIpb1VtA+0HVLHwsLJcTCihJCAA62JicEJENWj3LMYZqOZ0BAMlPtOZcBDUAV0IcegyIaKKiw5QDABBgDjEZaVm7KqW10NTEzSEkR0AABUAHR0IxMTUVFULLlBESAoY94EYyIOJjvECAGQgyMoulofjBdnXRdUxajYfZ303INAfBqtZpOpycnJ3Wz8hLIenkAKBgiePCDiKPxaH9/39PfC32Vl5YDnMes8MTOPUJy4Xb4g48mFEURIjtW5zMjQEUl5eQNNX+fhNTXtS/DX7wqxZ/NmLBN7d1HH7338a9u3PtV0zWhCF67RKS+lhKIAoSIRQWhsCJaLDFGYzaIfSEFSYHQ0EEoa5SD4sYPZtJDQD3rZvS01VQIxGtBzAwhWBEsBjOy0nA0xvEOSgJ1OAuaoYL33QTVy0EKkiEnJSZGQ3Y6XE9RkJxDJSCTMqFantWni3radKsiVpd+lbBeQrxYLhbzxWq1Smuuq57BEft7e10xxjgejXd2drxB9BmqIOHFpX/AG3kBfqhGIWJOuWs7yRJjjEXwdTQDOPTT4n+cMUaySJZh3fF6PwheMBufOPHw5Qx+DHRZz//uF//mZ+/93WI188aTGRIyU4gFhAK57Asp5chCtBg0lsgBmM1A3Ci73RWFnEFUDUzVkohkEDHJmtUESJOpIRr3XFdofSUUuJ+CZwhsyMZkxIYRR2Pav0qSVARTMjN1KL4COchaFHw1mCilDIDu6t0wEzOGCFJRKJRJmVFVmnYxb2fLbrk7voIYNjHCA5tnSqmpm7OTs/l8nnI2BCTQrAO51XrsF0Lgqhrt7e3t7+9vytunkoTwgkZrwGM4Czs66yLyAIDLks3A8c/PWkbwItgKl3UVbbvWY61e34iHfOmJT+3TpPxfisI/IiIcz05vPbzx4b3fHJ4+JEDsvSmHQCF4+gihhBAd7WwhaCiUAjAbMyio9i1eBc921dRMxSSbOOpTLAuKmIiZz3Ox86aggfMHMQARUWAkMkAFEydVJoIYoRxTNaGUQJcK7gfAO28EgiCmgiZgYqqQFTirs41ivzQGORgXyCVRY9Jq2zWrel63iwu8V31kaKqiq3o1n83btnE8wTDH82SHGIipKMq9/b3RaDSMlX2GSDi8oN0aQPlt09Z17Smp579qmiWnnBCAiS9k4p+qADqojT+Rl4CQsB8btWeCkV6J0H+j+gkPDj9+5/0fvX/nl8fTR5PRjhkRUYgUIsaIFDGUxgUUhXI0ZuNCKCqwAns0DgAmWTzyN0MV06w5W866Nv+QE0h2pBYzUWDfVdQXhcjIw60YkFkI1PtkGIARYoRyhJNdVgHJ1nWmPnLuyAQBTSDZZyxVE/lSaooOivE6NjFLKDCMKCw1tVa3q0U9XTWzYQ3kE6uTVFKX5rP5yelJ17bqROe+X8DMx6BTEi/DhBBGo9G1a9fHkzEzD/QZn1YewgvWPf12UzfT6TTnPB6PxzoGBjPLKbdt27YdEIYXG8N5fgPYFaBpm/5tO78T0QX8yKVLM7/kdU8iSrmr2/q9O7/80bv/b5fbMlRgHCJSQGYjBsf3IwORQQ91FgNRUEIUMzEjctZ8NQNRkKw5Q0qWs0kGSZqFcraURAXNKAbiACFITmaChsEHHUPkwMSFIftAraeahGSBsGCoSshjTC0CQtea8NrlKIigZTMBVURTFU+1Dcl5SPuBTKR+t1LOoAJZuiY1TwcIPvJ6djZdLJc5Z6dcx82OgJqsbxLS7u7O1WtX9/f2fH3qZ7aG4RNjkvMVxF23qler1corPD0oX63rui51IhJCCIE58GcYf9l8OjVNKaUuDaub+1Kr4aW2/1Up/nj42nTNh/d+8+Hdd+8c3ESEECMzUXB0g2E/gtuzN/T8/SgAPsOI3pwl9Ck78AhHBFKCnEyyZbGcMWWTbCIIiojEAUMAjioCKqACSBiYmCkEWu97NDNU891Khl6AKrHIWLbYQ6+zae9DQBSymGRQAQoA6l1mIwAgB+lj79MJKCAFpWBqOUuyJ790VW2aZrlYLpfL1LUmtobxgampGiCaqjsZJq6qan9vf39v33Fvm8j5z8UD9CREq2W9qtuu3R/tl2XpbSmxvlipKiH2zdrPxtTgBlJV0/oMoLeeAAsvZguvSvxzzmuLsKhn79z48e2DD+p2MRntxkhARgGJnW3BZ6wcz+8gHzWSnvFTwcCyGpm3pVwtMCdL2bJaVsgZkkDOIgKmTMgxcBGIo2IAZERxGmcmZI7IETxwt35cxkUNAQEZOGIssRijM0eoQO43KIEqpIwxaxAjx0SrCoKPH6v5ZLCJmagqGrA/l7eWzx24Wj/nNZvNmmWdJFs//WJqoiKqa/OhBgAxxt293f39/clksgkbe/ke4Im6pMhysey6LnDYmexUo2qItySLiJhp5OD0v59NQM/pQNaguj4DZnpOWvJK5L6DG6/r1YPHd9758O+PpgdVVfmWISCk3tIDkCIbofgiFkAFNEHwrrCucc0quF6PgaK9d5DeHpvkXhIDcgghRsSowGpgxGBMptQnVgS0NizWX98A0NdmE1tgjBHLgrVyzinrWms6hZ4UGnLC1BkFMzCfyAQxpKxGIpaHyQQDRMNg/cwknAtu6rrFYlE3tYggIRmB9vT+Jv32GFFFBUTkIkx2J6+99tpkMtnEGn9mMXihKpCIpJz8JcYYq7LywGuo2qoIAg7U773f+/RkDX2qLTnnrNJz3/bLAy8TqVcK9waqcnj68M6jm/eObtfNPETu41wCJEA0ICWvQpIRGzOit7rAIV8I2vfiN8h+zIHF5vQP63kAUCTgwCFECoUhqVeavGmswEwcAlJAf2pkh9g4X4oZI6IxoDIExliAZFJxyw05W1bykeKcjZPFDICGAdVs3TQTVcjS16Mctw8IyIhMtk6KUk6+2ih1ydSAALR3Dn1GMgyzIRDReDTa29vb29srisLxMv9EMQifWLQmopRS27Rt08YYJ5NJKELP7WgmIiklEQXDEGKgcGnZ+1PBgdqmTSn5PPF5CPFqDr6fl7oBVeXGvV+9+9FPl/XcLAUOTkuIZEAGbMaKbLTGujFrDEhEPsXlNtZDo/XMu4FLP1qPLXAKCA0+1suBYmFFaVmBEEJAVFZiYeZIXGLgPmdFp003VEXN60lIAKdELEoVIVGkIEqWFWVlIgZoqQNiiIUyupKbAQCbGWQBySpZNWsWEwUQJKSexhDAw4q6qQdvDwD9HidVUwXrIWcGCIQh8GuvvebLgwfz+k8MBMLzO/ZuZlJOXeqG3tuAcnPAQtd1ZuYmZdPqb7r+y5YZvkBD4EIA/QpK//B22tydzU8+fnjj3uFHXrv0nVxI3vvraZUJkbBn+OFgfdQOzvFmRGBOCbzOkUGAzUcWwUGbfbaEhMyxhBAB2QITM4RIJJSJEZkZiQ3ZNpgz0Zf99h63VwBgxsAUWJnBAEOAqrSuWY/eJ8vBUgeGwKjeR7AM5uObnnMrmIBmMFGGGKgAsJxz13Upp55paL3ZbhgaNlNR3/EBADYajXd3d/b29gbI50uhhAqfAEoDAIOu7eq6VtMQQlmWjuJw8+8U1aYaiiJwnwCoqm/hRCSmcJ6m4Hk95FmJ8oCzsH50td+Bc54QvzrnnNkOsW6WDx5/fPPBu3cf3wRDZAJQZECPwp1+lowJiSwUGKNxNC6AyOsyigQhIJINnIZkoKBoBoSKlEmxR00RUmDHUESvIwMHKgpKmYk5MTECo57na2g9kNrUUUPkaDwCZogBc8AUwJRiUBgpLxE7EwEDw9aYzRAMUdEMTA0NVcRyBsmmasMKGcIYqTDFLKlu6pyz13AQ+530Hv6Iqor6vK/Pu+zu7b7+2mv7+/vDwNdLSQLDc6TQazKi0rZt13be5Co2uI08/vHNZIGZAyEjACyb2aKeThcPr+y+eW3/rTJUANDLP35SrWpd8Onrng76c2jLq8Z3cu4BEE/nR7+5/Y+Pzw7a1AQuBkNH0K8tIkZin6iyQBACxgI4GPX8noTgmGcA1B4iIg6SdLCnScaUUDMBhrKiaoRlJcSASLHgWFIZqUPunE29r6P2C2O816piGhEAxJ7o1VKwUEIQ6DoANI4YS+gS5MYUzBJgB4ZmAMruGNZt6WQq1ne0wCwDGiOE3HVm5GhixR631H/LYKYKoqY97LIsy739K9evX792/VqM8TP0WD9jCDSQ/LRtm1LyncPe53piNbFIiIGYQ4iel9x6+N7Hj967/eAXb157+1tf+8Nre2/tja+Nqt1RsRtD4f4fnkEK0A+Jr71w7w3VVPWVSwPWH6O2KR2e3r/x8S9mi1PzNBEIEKjfPUGhwBgwFBwihAKKCooSY2FcKBCg9f6PIiCZgUIW6FtPoAgKIgZq6OsmmONkAqOxUWBi4shlRWXJZYEpYheBCFR8TEYRCPsWlok6yMfQV2ZQv2oPwJixiFBjT8ZTFJYKa2pzNonUeR3VLIJh3zNWVck9NMNXjwUOkQqmqNqPbQ74Lp+q1D7k17yeNimKYjKZvHb92v7e3qiqHHX9Tw/9n6cAm5G6h/gpJTUNMYQYhqKkl2tSTgq9k/IJ4CTplx/9h5+89zfvfvDvvn7ta9/7vT/+1jf+9Pfe+P6bV7/51uvf2xldixT7hcyXjoQ63HrD3vcfiugrlAZsLi8Tsfni7OHhxx/df79ulv1QGxESBcDIVFTspPtFxbHEWFCIGEuLpXI0QOvR56bEvpJLRAhA1FQMBKGnfkMIITCFqgqTXalGphBCpLKkyYTKgmKBWkE7MiRra0tdT4ILwQesHD5kpEhq6GN+PQ4HA5uyBUbJIAKxtCIbTlVMTRWyARl4GEP91VRUs0k2FVQVBK6KURnKiAxAPU67P76z3nqqdtHsKoI4Go2vXL3y+huvj6oRuK6+1Ap4eC5mC0WkbdqcMxiUZRk4DAmA94YdrgMRfBVH3S5P58fv33735scfaBOOTs5W7S9vPvhwf2d/f/fqf/6n/8MfvP0X3/vGf8IYnrUCdl0C862ddp5Ew7lXfiWi/406mD48vnvv8e3TxXFWIY6MxMwxcCioHHFRUTWKZUFFxaGEWFooNEQNEQwVwBS9HSTgzBCiFAVB0QTFLJn3vBiprGJZ8HhisWAKFImriiY7tLODRQQASAEwWDYoSkst1I2JihoRgfaAItBgxkPtjXpOaQUkKipJGXIDSBAixAqkBRUggpxQDckE2RR6RrosYGoq6EDXGIqyGBdxjITgKyXd5PXfuld/xExVMhFW1ej11167/vr1qqyIyMA5BF4m8vd5HgDWQH9RAQAnZRg0pE8AUj8XFpgQsW5Xh6cHB8cPjk6PK4C6bpvcns0PH5+F8ah87epbk9He73/9nzOGZ72NIfO2foEV9t7A4JXzAGZgoF3uHh59/Oj0fps6ImYK3oJiplBQiBALCIWEyuIIQmmxsBBziMpRRXxrqTEKqgqoKSg4HFqd6kqzb6jGgkNVclVyNQIg8q3UZUnjMe7uALNlNUumCFWCQBCiKWrXUcq9uItaFiMBVgN1yOgG/oQslEbturqNFgtLuacoUkUV5Wxopn38bCpmgs5JyogxlEUYxVAOnHG2nu7tpxek9wCIUBTF/t7+/pX93Z1djy88DH65zZ/wLEjCOctn02hWpD7IGRyQqGTJjlklJuZIRMt6+eDxnensrKnrWJWMTAgxRABrkz46vfvo7GORFLhAeKYXG8ZunJCvp+LegNZ9+dkfhuaXiDTt4uODGwfH95iC4+Q5YiCgqEhiZBbA2CSCFmDBrOe7NSS0bCLmphLNRCw51Nksi6WkKWnOYJkicVWE0TgUkUJkA/KRsbLAyQjHY0WyJks2xGRIUFYQCxMDQF8PAOJJgCgl8xHH6EXXfi4TgCEAhgK5sK5GyRpLi9my75YkMxIV59cFMRU1UzLxVR+KAUdhVMVx4LIPfpzTUxXMxAM9A8nadbksi/29/bfeest7XuezIi+7/R+eA0nwEL9LnaEFDmG9cG8ozKvoejkrEhMiJUnLdiWqYLSmZULnikdFDkXgEhzX+YwkuDf8TwI81t0QeyWIT2yD8qnp6pPZ8cHx/bPFSf9XVDPnHe+5a8Usg5KZGJIZmbGaCoKReCfVhwABkjrewVGflkVzAhFk4jJSNcIYndyQTQAUY4FFwOCL8RhJkfq1YkZgRFiWoAo5QxYwM0FEhSRGoj6TyWiE4KsyfK8wM8YCctcvHma2GEzBbMgB+uUACNqPCqiiqiHyqNgtY8XEjpgevtO+p5S1y0lBiyJeu3bt2tWrk8lkc4XM5wGAD88BwDknYUoJAJjZia56iew5KVR8irWfjUSR3HQNCBDSOp5fh5OAk3J/Z3SFkD2wufTN9EQBuA7GAAHBsRimhgE/w6qBLzoBsGG3BC7q2YOjOw9P7p0tzogCgIlzk6MhqoIISDYgyKQggsRGggIAQEicM6haBqcutOSI/840W86WEogwGlcFj8pQRuLAiMGMTIwQCsLIxASIGfAcZIFkaEYEZQkq0DWoZllAVbMYklE2IDXC8/ViPRObEUNRQBcBM6BACKBqnSqQIYMpgqGoqreuxUxIxbIaQtyfvDaKO4w82LI+9DcVEZGcJYfAVVl+7c039/f3R6PR4Pw/J+hXeFb9BwBSTpJFRWMR+wmYYb7RIOcskk2ln30gdJOWpKWAIRCiv27zTc1qNh7t7YyuYs9lhM+yn2tkFgCvy005Ozj0OVt0vkQeAM365j2eLU5vHXw4W01TTiHy/8/emy3ZlR1nmj6stYczxYhAYEjkPJDM1ECJpEwlFVVVfVNtbWVWb9CPoifquzbr7pvuslJZV6uKkooS52TOABJTzGfYey137wtf+8QBEpmkSOZEIWSSwCRBBE6swZf7/38/gZCZIpCpgRT1MRV3l2TzWOtcoQJ45psbAMrzUCBlSxlyZzlhShypqto4nSIYSWaSAEigqArEGAIhmaqouTDaCmIIXWVqHqLHbOjcEx1WczaHSGBx3JQRmXcvMUCoLAj0yYwMImL2pg5iADOAjKY++QIVA0URCFzvj66N6y1i1vK28ZPUchbJYmZMuLO9s7Ozsx54bSI+P4+fe3hq8eNleOqLJ52ghHwXFRYWaoN7dh2ASh5JiBhDxEErMeBoNBDFGGejvdlor4BEPw0NiVD4P1C2iTdGc8reHn1q7+gr2P73JviDk7u/vPPT+epCwSMjpMQ/orKr39gGARxi6Q0OjH/E7FATVX+eikBKljJKh2BcUT1uQ9sykuXEWUIVEQz7FRARuDrHF6EYkQIO2XiIgA4JAkdLkMvyzUyNsmYyFCDBjGiewK0I5u9vQzSKyGqhxyyIqiGggqm/GcyQYejw+GsYTKDi9mD7uUk7IyQ1KWSrrOsxf1VV09lkZ3t3Z2enrms3uf/GCYu/4Q0A6xwdtZRSklSoj8OB7avShwCSxdQolIxmA4wcJ+0klKcCrMs7oljX4+3x/my0g/jYQnnaIPgy3NavFzcJiGeA81fX/16Y34ZOClss5x8/+ui9uz/r+hUimKXiNUHnmihVwNFiwBAhROTgOOWCFFczcRCVYPaDP0NKmAU1h4rjpK2nU6gbOD+jvifRAASWIa8w1OSNlpKEJIpkSIo+sPUfDioQGJERFKcjqKoBQM5GZBogCYv759dsIEMgxKCkGCtLCVL2YG00UyM3BSuqS1xBwVSADFseHcxujOqpPwtFSo/LJ1+hCm3T7u3tT8bjpmnW0OXPu9z91Eew+99dkF2kUj7Th8ucblc6MQViIiYAa+rxldlhXY+Bwjp93BQYQ1u342a7rWZgnylmxqEIGrjXjJRz7lPf9Z0fDF9ZJ0DxNyEgQJL+zqMPbz949+NHHwAAMQIX4TFHDDVVozhqrWoh1hBqI1aEjKCmmARQEZDQWSb+EbOZqSQkoVEdm4rHY1Ogizn2wshcB2AiMczi2jlQU3PLACqCuqgCB8WZh/YCAYJguS3c9QVRTdT6hGxKZESDYsi3pSIYEhJXxomCqBgQIhEmMTWzjOaDy0J2t3E73Z0dXN25Na4nYCoifvL3qVfTKlbjyXg6mU4mk18z2eVzfAQXUb5mFyoNusDHKHauV3Jrs0vWPIa5qdr92cFsvNs0436+8hk3kCFS5CqEiinCZ/+t1t0hBC3pDqCqOeVu1eU2e/bTV3MPDDeAGcCyW7z/8c/undxe9fOqrgdxP4WIVYV1w01D9cjqBkO0UCmxIBi57H89A1S8HIkgMWIk4shtE+uKiCFl7jMZESNFRiYyb1x67eGHkJl6fobBwGxwtT0i2WAqwEGCaG7jQhlilwxE3T8PoFBet4aAQIwcgANKGowNWvy7nsNaRluK29P9g60bu9P9KtSlgyLiWQExxrqup9PpeDx2pdlvY3H8HTyCfQCc++zfohfr5ceKl2dz1qxDFGep0wBG9ejKzrWDvWvbW7t350egyubnmPO44Vcqm3GIafCg3LLZzHLOy+ViMplsDqq/aqvfbOAkm50vTv7x3f/v3vGHHL1FjBSII8WaqhbbFtsxtmOoauAAoRIiDhhc6aAKopq9r2iWJIMgGldYVVUA5LZFI1qlIBKQqK6MCQmQiTRjjEBkapac22OgpqSg6AIkMDQFAFVCKIgHcSl/EVypoMBgamdEAPP8PZcGGa6j+JiBIkIyUwAEL/6TqgoWEUQyUDjcuvXc7ivT0Q5R9Lecv+tiFZummU6nTd2scZpfJOg7PHWAvwazqWgpygmJLrti/hdAMM+q8TewG5bbut2fHexOr9yFX7rLuhwt5TKBz3YMG/pzkKBI5sAB+GqaUs45f5If/9V5+EK5AOD47OFHD9577+OfncwfMQfk4KK3qqaqodEI2xGOxtg0VNfIESi4aUvUDSRZcmkzaBboe9JMkDlGburQtITEagTAIRIxhug/AGYjZQiVQyXUoGQHmKAiYPAjzBBKfl6paFGLqwbBxBRKMpJSMQe4FkKNNn+vKRgCMhAbMqqYJUA2BEMX1YnfA4aGt/ZfuXXwahVrA8s5SRYiapqmaZqqrryyhS8DdRM+OQEopNvU55xFxN+iawzoZXXuQQvDl99ZgQNWzbW9G4d7N38MrFb4FiKWNWfJUsaOn30DMCGW0fc6J0dt1a28GfoVTANY35B+N350/91ffPDDDx6826U+hjoECpFjTU1L7YjGU2xG1oywbriuKLBZAEPP7c2QRREFclbNmVLS1JH0DBoCxcDc1NRrZZmJKNZWVRADmpFmRjEiiBUAGYZBWWyguiHhQgNEVfPHaxkyXzoxXApvqCZmrrMD8PJJPY1SnY9rBRMKBBjMxESM1nJ3NVWQrAxxFCevHL754sEbgYIMw9NYxSpWPupa20g+147nr9gA6+/AF7eLfMreULNBrLFWaIqIwaVibb0WmePBzvXDnZvIQVOvhqSmIl3fp9yJ9J+tava95HvNNZAI6gLqvuucQBGr+JVqhl6aPxFUZD4//6f3/tsP3/lbE4pcVXWMlVU1tSMaTcJohM0IqlpDrRULcbZggppNcjZRzWKq2edDYmDGaNTUIYYwapkrXgnnngA5Vty22jbKDLmHTvyTMqoUSEvUnYAkkEoJAJVccA+IApAEKkVAowptVTJPDX3Ir0oGAj7cJQQTQDVB886OaEF04rpxZ2iGmpwpUY7ynPsr7fUX919/4epre1uHBphzNjBP8nKoyZqS+8Wv/idvgEsuleTUp8c8KBsod38B++TCWT1rD5crove29q/sHlbVqJNONSNQFum65cXidN6df7atxb8NYsZCw1XA4Is9pdytuuVqGUIw/ArFYVxSwBAW3fyD+7989+7P7jz6gANw5Lqx2EDTWNNqO0pVA6E2DGooAuDHSAbNpr2bp9REQMQuVW41x4hVQKrQgCSRaHDSW1Nh0yACuFDOUI0M2MrqVxsYiW57N3HGEKAaiFpSMyuz4eJo8SeXAQoggKPniizRLof0Wob76GlfBTZnkH3XKpijFns7vHrzT1/+11e3bzRVnXIi5oa5rusQwmXZY/BlNTbCU8fAIpKlcBnWHsW1EC9rFhHvyrug3M07xSujNhvv7s2ujNtp7i4kJzITlV66s8Xx+eLk0x7Bm2O/gTvtcil/WYKpdl23mC9Go9FalfTrw3c/Z91b8fGczo9+cftHtx++f7Y4Hk9GsdaqyXWLTQOxAarEz3sFJXHEtwpZNhAzccSnghpKQs2EisRUVxCiUVCxYJk0ExoRUQxWR6ijZ435ulUr7R50f4m3G31chaTqbKHyH7UuG6ESGrISmACUcTsUBhH5yICBSnV+iSrUdYLjgMAyUxFUMVIEUTZusHl+75XvvvZXW9Ndj5Woquj5cZvSxs972vXrlkD+f33C5Qf8Yw37wa3s6QYF2e4kDisUW+8DTtrJ7mz/yu5h152fny8CgJrklC+Wp/PV6VPvnM0DwK1nsapwuVBTHKa/orLqVvP5fHd3F6vLgu1LvAEe5/3r+fLs3Y9/9t9//p9Ou4f1mELdhUq4UmIzMkXJaiZqycxMyaC0FK1AzxA0g2aHjxMYVBFCNI4qOXRzBA2EIYRACDFaW2NgIDRxNxaogM+WSFF8oJx6XbFSECjhkKiZMkBSzaqWM6EV4RYpiAGaKphHyztDGlAViQwRgQBRAUiyK9l8Tl8KYQG0bJYxG3SrNOLRH778vT9++V/duvZqVdWIWNc1B/ZJ/xN9ly+rrRc+eZXL8PVE8u5lNN+lT0UHE5v6yeHTgDrW0/Fsf+fq0cmdszPvgZqaLlfni9XZ+kr5NIJiCGGTMVpYUIgImFNeLBZ937s26Sv19hVLtx++88u7/3Tn5O1ez2MlHIWiUlAgM5RsggoqplT0n+4UGZYbgjl+xwkRWsbDDGYoCSUxASETAUbGKmAIRkVxooZiqGpZFF3QVlKEUF01DeQ/SsrZsjhmTXIW10yo+dUh7gAo14BrJQAISsvI4Stomsv1b+BVVgYVMwEVkAyatcbJ4fT577zyr1+9+QfTyczzMNdI/SeOvC/xCAuf7GSXW3NIQIbHU4vXnNdhgKI55cdA/gCBua3Gh3s3bt97uzyqDMHsYnV+sTorOw30qYpo/zhiCFUVAQr9Fbl0mnLOy+XS8dQuFfxyw5EufQtgXep+8v4Pfvrhfz/v7iHnUBlWiSIggwXJoCSiBKQQcslclDyMzryIFsgJNFMVoGqgrQUjqIXUcc6VaRWRGJAR6mh1gIBoqBmzQjbKwGLJRCH1RMGntqBokK3PamSiDhsx6U3VFFXFUCCjZHHIovNWRABUwQDZlEQHSgEVDz/A2qZpYCKYepMM/miRrP1Sb8yufePGd/7irX9//eAFQkK+LPSfWP1f7hH2tDmAmpiIiG3w69ZKzPVPXVTUTBSIbHP1AwAA1VV7sHM4ncw4sBVlFM5X5+fzk5Q75vBJb9slRITcMRidoOSbzRVcomK9LZbLuq7btv1yP8SNqFOcd+cfH7//waOfPLz4gFgoGLIhg5EamYEiKlBBbhatW2m3gKqVznomRAwB24abNsQ6qLEZI3IIEYmr6DgTYyZiUBCwBJKBspmYiqKoYTamXKR1qJpEuVcDZTYDNrWsqGrgrXoXoqpbcksfyHQAEXAxuHjzD4fRwRr2ZmYiKMmkB0m4WiVMYavaf+v57/3ZG/9mZ7ZXhWCfOKG+OoP8p/sBvKRZ27FsqHUu3yvDzNxKyVQYRus10VTNtb0bW+MdpIhejyLOl6dni6MuL2KsI1VPXAKbjyEi8tAbQpQB/V6M25YWF/Omrre2tr7gqeHTmz+Ahna2OHr/3k8+PPrp0eJOCMTBOCgxeKppgR8GJEZCdBQoONPTT30BU0LhqqGm4tG4qutIIaTMAGTMQMxAdXSFAHjfRiCJJbRMpgbZLKtlMRStBAgVkUxBCQVJxJSDbzqShFLaTbbuZRhiedGWM64g2VSA+NLj5qqYUiArqIGKpQ5yAulVOpiE2cv7b3739X/7p298f9pOmYOaEdAmaOWrI2MJT5FzITjl03MgPbGrFEU++yNmLkEY7lHNkvrUbxZIgcPe1sF4PAsVg4oLcVf9YrE6W67mbTWJHFEfGwpvNhNDCFVVxRhK9oFtNFsU5vN50zQiQkxf4kBgXfwQ0vHFvZ/f/fuL1TGiEBFF5ECBLEQKkcDj7hjIwf+IaiYAOZkm0B7BMBA1o9COqnZcjdqKOZhB0c+5kgQtsLnW34IIZ8KkkgByqEBRlNwrRslcsoNEgCJooiDBLBoACIC6ylENfMdIthAHCSqAayZAfBMAomku8URYghKhJM4rgKKKSYZ+Jf1SRrb9yv6b//Ev/9dvvfjt6WhWktKHNvpXMM/hKWrQtQ7psgRyRJGoq5HJIyugiPU9H8n1+hbKMmUKW+OdrdHOuJl2q2MDBcTF8vzk/NHp4uGomTZxvM69ebITZUhEdV1XVR1ClzyhykPBARBx1XXL5bLrurquOfKX1Q4a2L3aWf/w7KMPH/6skwtk4AghuNudOAIP6dZMhgHQ0R5KikRmDIgEgSkEapqqaau2qTgyEZgpQ3bzHBEHAjQDAgQFEqUEkBSyqoCAqgA5jdPUsimDYolKNVF0lyICKAAKmCmqgPilqkKyHq6XihMKLAhU0dwTUIbCXjKBKZiAqUnW5TxBii1s/8nLf/knr/zlt1749pWtw0DBi4J1q/orGOoTPu1ht0b3rL97x3S5YqmElno859qwkkVjiWhlonE73RrvzsY7j/oztQxm89X56fzR0fn9nclVGz8938WbKswcYqjqKsa4XC6HWGRw1VFK/bJbLZdLZnb1bMmM+GKXfsHjWT6bP3x4fvf+2YdJO4qEAUMgj4nmYBwc8KbARmwGCAIAgTSQQUCkCFVFVc2hbuo6xsBABiSIgpApqxVynGPDEUgNklkWSGKqqJBMRBRE1bKaqBQvIiqgoKqhrQ0rrmowQxHUkjBgqkbu4vXpJkLBlIqzDkGdz+itDx9WqJmgiUmv3dxmPL02e/H7b/4vf/LGXxzsXo8c1fRLGe7+tm8Ax5F7j7IsfZXsJ8tGP7SkUqqtr4j1pMxvgOloa3f7yu72lZOzu5I6U0upv1ic3T/+4HD3+c1y/5ONRSKKITZNs6pXUAJuL68jFekWi0ePHjFz3dTFOfOFtIOeaIURUZb8/oNffPTol8cX96oYq8jRE9IrqiJSVI5OwPWaG1VJUzRBEGa0EJGRQgwcAleBK8SgQMIsFDMAmBICESKjCYJBBnQYR6aQxUzBVCxn1QyiKKrZMg5W7LLcswmYqJ9chuRiFhMjRQO05A0i/3kOICYgGHhM5rB6AFMB8cpHTVNanPfW8U649mev/7t/++3/8Mbzbx3sHDok/GuRXRueWoT4+X8pgVYocePDIhsEy4NHXtQZQVrr4GSjJrY7k739rcMPw0+75DGzuuoXdx+++8LVbzr66onjYfMXRNTUTVVVSGSly0Q4aERTyifHJ6N25KoSAvJ88C/g4bvZe025O5nff/vjv7939r5AgsAUqbx9qeQOqRkImpKIqZIpqbgtTJkNiQ0JAmNg534qeD9IhtAun4Wom4N9A6gmQMGsTvP32Oo8kPgHDzCAqZIaGCYVdYKVUjAPWMoKJqLq4StuHytWMd8AikW+W8JjXCQh3vZRS2Y9zmh//8qNN67+6fe++W/+8NXvbo136qrWjb4FfLUpHk9zhLk/dJ1PIWUPlKAKA6TyDvZCCABUc0p9SilL9lVIhMT1zvTK4e6NGBo/opGoz937937+2nPfztIzBqLwRJbeZuivy2WZKamYGgcfxAOFIKpnZ2ftqG2aJuwFCrT5UP4cK35bm/bRwM6Wx3eO3/3h+3/z8cl7VYgUAYMRApICqgCAGAqKkGSSHlXIoeYcgKIpEgExQwgI0VyDopZDJVkNE6bMOSOCeIMzD90eooxWGqxmoKJJLAnk0p73Kp/c5OhwNxIQtBCVzTigmhMLfemjePdHSpGviIoA4vBOUzQxD5wsBqV+nnUJ2NVv3Hrrz7/5P33/2//zjYNb43YCAF+LyuezNgCsLWDrNt965Gu6tkeGEJgKr0vE+j6tVsumaeqq9nuTwMbtZHfrIIYKChKdUk73j28/OL1zOn+4Nd4n409eAmt9QaxiVVUxRBVNml1qD1aGw2CwWCxOTo/Hk8nmdP23/9yfKtgeNDAGgETUpeWj87s/fP+//PzO390/+3CVLog9GhEEwcTEAJNraR2gtI5cBwNgMUb0hgIFJgZETSLMwqgChqKmlJIMtScamEAyE0TPzXIGG5ipGiSB1Lu/3ERAspMXoKS+ABm5l8u/H1MAUXVAFaB598cU3ZJfHgbuZ3foOhqA5j5LZ7LEKe8e7N785nN/+q0Xv/36rbcOdg/rqvlcAT5f4A0w6PsdCbpOrREV08vwi8DBl533SVNKq1W3YVgBA5i0s/3tq20zYYoGCRGzpIen9z4+ev/+8YfjZity/cnG8Pogr2JV13Xd1AMWZbiCEJFQ1eaLBUfe2dkNgeu6Xs/Rfjd1zuP2Nbv8hSz71f2z2z+//YO/ffv/eufjfzxbHRFZjAgORpaim/eFq1IQmQAApIQGhApoRKD+CEYAEYcpgyJ5RJZJbzmbKBSxp5pCNhAg9WiZAkc3U4UklpMl0aQmCpLRc8TMA+tAoBi5wLwzBJ67Ug68Yb0jODMI/H0MqmjqXgAwQc6xkqYKk+d3v/HGjT/6qz/+9y/dfG1vZx8eR8p+Lc7+T30DYInlHbLnwT8Rc4tw0cMhcfQLgFTVNbLrZDsi8lO6rUa7kys72wdH53eXyxNEUNBlv7h3cvvDh7+8eeXVUT39JOpn/Qn6OGw8GnerzqdgTukrrjyEPqWLi/nJ6WlVVVVd/a5EhetQo7X6dzDmgiGk3P3s9t/9j/f+5gfv/N9HF3e6NC/JEgggJm4NhOFgFVMpxbMDZjEQ10DMFCviCgnN+j5lS2Kag4EaYkI1EFHJxbvuwAYRMxRg96q4o9dHUSre//EsXgA1ERnGLAXwbKAoJQj48q/o3kZ1U4xL4JAKCWRgl6cup4WFVB2E66/ceusbz333jeffvHnwwu7WFa/4kXA90/warf6nd4EKst1TPop3VFU05VQMYgBIGEP0DVBWhlnOOaecs8SIiIQIdWy2xjv724f3Hr23XJ64tE3Njs4+/uDeT9984c8mzTYNY8anPoVDDNPpdD5fzBcLUwXAQnVCI7c19en4+HjUtq6R/p0cP6UGAz1fHF2sThf9fNpsNXG0Ssuji/t3jt758Yd/+/bdH945ejfbCkCJWc1AfLF61wTNDBXWA1Uv3dztScwcAhEDiUDqc1bLpmJoUTF7VqJvnqGzpQUhntWrbF/AMhjQxd+43pcvkVT+hzpmA4uZt9gPTNYRDd7zd6J/SUXyP9GzuqRT6Qm70c3JzRduvv7qwVsvXH391sErV/euTcdbpQf9tVrxv0IMt25drYOMvBJwUK5XOL4BAgeHJTo3T03dRpxSF0LJHIyhmo5mh9vXPhxt3z/60O9sIjydP/ro4dvH8/vbkyujaopUoiA3LZe+lAOHyWTSjs7ieey7rrhuBi2BWxfOzs9m59PJZDIej30P/JY/lSHpXs6Wj24fvXP70Qf7s8NJMztfnHz48Bc/+ejvPnzw85P5A0BjBkRSMw+xGU7NEnCITk32iDtEZqLIITLHwMxEZpCzpGTJSWmGlpWilFRwr8gBAclMUNeKRG/wuOfEN5hYQTBgwRSUWwgATRFAFQGcV+UuM0/Us6Gf6z4Y9HxHl7yZGCbDFTcymtKVP7j65999/ftvvvztndleXTd+Pa4bGF+uJPF3KYZb1x4Fz1ZkbGBofdfnnNXrRCSOXNd10zQpZzBjYsnSdd2q66u69nlZoDhqpodXnt+6vY9EBkqgRHC+OLl9/90P7/10Z3xlvDd7whC0OSIgotF4NG7bpq5T35cIHTDz1BQDAOi7/vTsrKqqpm1DCJs9uN/w51H8JKBm908//pt/+j/OLk5VsrKKdr0se1khkXdXPFulgC/KiVEWa/HxgKcUAQWkCBDUICVJoh6veykzAVAVEzbydr2h9wjIzARVSuvJSIeJlau2TFyYAB5XbaCIzi3xATqilQhUIELQkoCEruRwWFxpfkLqcu41L5VyXenotcM/fO36W9968TsvHL5yuHe9bcaRq8uZIwHC1/Xsf/oNsH4GeNpXqYgAHQaac5YsnoYdOFRVVVUVE/liLUChAeIJgEgYud6Z7k/H21zoGYYAktP58uT9+z+/sf/Kjb2X7VMGAuW/1rBtR+PxeLFYaB6E6gDrmYCqLhaL45OTnd0dQgwc4BOc03/e+kenF+K42jqY3njuyiu/WP7o3tnt88WxghADMREaMhCDh0MXlRi5cc4VTWV5+fdJAZAN3EIopmpIxgAGIFrmLgBkBqpGoB6NTW7BdViDw6PB6xVQLf16VROFdfCUFUuYIdrwGilBLzg85T1cDMwQ3HitImYZIQNJ3dJ4NtrdaQ+uTK6/ceOPXr7+jZduvr4z223r1h5rFJam8KdSLr+ObwC4tKV7kx/V2xDrDSDCzMSEhFVVxSquGY7EZGYpJcli1eXIbGe8M21nMdbi1GAwA+vS8p07//ji4be+8fz3AgWEx0KPnzDitKN2OpuenJ5kyaAmDGhAhCJej9FiuUySd092CGm2NfstZwLrLvD+7Nq4nl7dee6/TP/Pf/jF//ujt/9+vpoLZGYorBM2CkCI6ER+ctUaIiMSAfkE2/xu8HwXEMuiyMYA4oYTVUXHwBCqgTi235BQwTcYmiioIYMNZPECIR9mtwoABGTkTUz0HDAnwCGB+g8IEDwPHsGFnAqSNfe5X6isEFPYqmdXd15567nvfOP5t954/s2DvauT8cyFL7oRgLspFftaXwLh6T9/bwXhBsIWwYNd3Y3ly6uu61E7WjSLLNnFEf5bXDrhvk8ino33dmcH29Pd0/P7KSenqavlj48++ujh2/eO3r+ydaOuRpsOgSdaot4Lauom9SlpwiFxkgi0rALVlI+PjglpPB5vElx+g20wDLzQzEKodyeH33n1r27uvfTN5/7kwenHj87vnc2Pzpen8/4ipXlOqTfvTgo5/o0RCZCRIxCDg6WGIxjQ0V+MFEoIPAAXHq55fAAWmwz5xBYKbn99rJvT+Iey2wVubjYIUIhujIDM7tTQ8gmpmWSTpKkDSWYZNANbVeHs2uhgf/fajb0Xb+zeur73/HNXX9idHezMdtt65CsBCv7Mx9Jf4yP/MzeA32taZj3r8AIoERXSdd1ytWzaJoSgpjHG0WjUtm3f92rqfSEw8PxgL0WYeHu8tzc72N0+WCxPUpqbERKo6dH5vdsP3n7v3o+n7U4dR36J08bSX5cxMcZ21I7H467r+5QHQNnlpN0Qs+Tjk2Nm3t3drZs6hvgb2+02nQmB4la7s/XczkvXvvnac39w//jOnYfv3z+5ff/47tHFg/PFyapf9LrK2mXtAdVIjRx9ng2y42QAve4GRKBSkqPLHgasngdfr13CgARoymCKaBkGBJ/7g2zgJZGVCE0ABiRDBMmWe8c2gLeScgbN3oBATSQSsA+VhgBV5HYUprNq96Vrr7947dXXbr353MHz+zv7o/GknEeuQfRAI8Q1/RF+X77CEw1QL7uZGdmBz+CvXr+/U07dqivOGMAYo6i4M8tzVP0SkCw5ZQmZORDRaDTZ27p6uHPj/sMPLpZEav7AUJX7Z7d//OF/e+naW9uTK3aJxHyyn+AEya3trcVqOV/OnRlautVDxroBLRfLs3h2dHy0t7tXxeoyZf6feQlsilj8v8IngLuTq9uj/ZeufWOVFovVxcXyfN6drfr5Ms27tFj1i0V30eVFn5bz/vxiefLw/OOL7vyiP1v2iyydeicUHSQLSABWfkE4EHbKrkYiI1IMHrSEoFD0ybgB8S4QCDNBYwVSM8wd9HMVdVSbaQbLYIqMzBhH1das2tqZXrkyOzzcvnF9/+b+9tW9rYO9rYPpeGvUjGKIhOwKgI17eLNFAb9PX0+hQgAAEjCRn4FDTgWoWU55uVw6zQMAmLmK1Wg08qqJA7uTxqsgUUUyQorM09H2/vZhFRs/9lDMGa7HZx///MMffPjivxrV463RgUvlnzBJ+ikeQpjNZhfz+XyxWC2WqlpES5uL22C1Wj148CAWrET1RHfrNxC9rT8WgsvU+4lt5XFKuU+5z9InTVn6lLskfcopa++b4Xh+f746P1+dnK9Ol/28S8skfZe7Li27vOpzr5pduKyiCiJlZqYAYKjKjqUCV7Z5HTWQCsmJbijej0RiokCgBMKAgWIMdQhQ1aEdVeNxM2urcVu3k2Z70m5vjbZ3Jrs7k/2tyc6knYzaSV01MURCh6o//bP6fVv7nzEHIHQgdokz97k+AIiIIxPX8fbM7DR3P4qZOHAolIQsRIQcyHDcTPe2rtVVi0QuXQQCZjxfnuQHv/j57X+o4/ibt7YiV0Xw84kPHRHbtp1MJtP5PHWdqqiV7qk/tT2NKed8cnwyHo+btmHmNT7oN3wNX6rfnhwSR64iV1Cvi2MY8s38sNAk/XJ1sewXi+583p3Nu7N5d7Fczufdxdny+GJ1Pl9d9LJKqc+SUu6TpCRJVcRb+qhGJUZR2bVpeCkEUUJ0zi2AIgLFEDlGUg5UV9jUVdvEtqlGW+Od3dne/uxgNt6ajGZNPWrrpqmbKtaBAwJdij42OH9P/K1/L5f+028A2GCzUVk9CkAwjMNyn/q+y7nx0HpErOrKW+8eJ7OWiIoIZSIkCziqp9d3b03HO1VoUrdQRRMkAhFddct/+MV/yql//uD1cbNVx9ZhY76m18p732zj8WRvN5+fn6ecRdVNw2ZlHONDgL7vjx4dEVJTN03TbC7i3+AH+Rm/pfQAN2RCl2vJIFCctFvjZiq6X/y3KmCgKr0mySlJL5rFRKTPkrNKlqRlrGVDHoVDGsrsBdDfukyE66ntwBELzIGpJM8TlzzWyDGGGDgSkmtXhkC3Mie7fP8B/P6u81/vDbDZBg0hlKU8hEl5Iyylkpy33gA+EBgoB4aIjOyzkoGhC6N6fGX7+s50fzyanvRLMwMxZSAwBbl79H4V2//xzn9+6fDNG/uveB6TPdF0c4F0XclkMh6NRGS1Wg1Ps8tulf9oV6vV2dnZ2dkZEjZ1A78jhtxnY30f2zaE5MGiAPFTRm2mouBvZFURNQ9DMivz3IGX4u4UJCwtmBJZh4NWyf81IaMzgzywzau2z+hQPvmXsaHWh9+zZ+4/4wZ4Yg8M80ifkhMTiUif0mKxHI3Go9GoCOOIQgw+lxURMCCmS/eWKhg09Xh/69r+9uHWdPfk7IGpgZGKIJIBnlw8UvjJ//OP/5uB7W9dr0IbmJ56C8cqTmg825plycvF0l+AtCHf8JeJiMwXi+Pj47qum7rZLOh/S4nEr6Wi28SHPX31F8EVQzA2NkAelAtrFYOVtuOv3pWXgrcye76Uual99qn+1A/kX9Q98CkpkYTrlk6x43r/DkFNl8vlarXaDC4mJB8OrC0E/gP2l5mBBQptNd6e7M1GO+6VAlB/DRMaEfZp8e7dH7fVOOXuD1/6y73ptcC1R/Z4LVROcSQmns1mqc8X5+flGUCIfkAWxxh653o+n88X86ZpnLDyBcRqfFLP91SRRXFwIoG3hEu/sXz3ft4TrjdEwTEMK3v471j/WIbfRWWadrnN1vfwZ+x8/BdY93y2FsjP/hACBx4MX0ZYeo8Atlqtlsvluu/pv5GZYxUpkwwJmGUDoA9GuQ713vTqzvRgnTjrJDJVi4xZ+gfHH/3IpOsXdWxfuvYH+7PDOo4Iudgy7dKoMJvMcsqnpyervss5lz8Fiv6AhvKp67vFfNE27ZpA/6Vj5B57VW9Mu9dFyGVA2sY/2/j/6yeGPfbmsKdXaJvW1n/hC/3Tvviv//qvP3keeCdosVh2KfV9hwiI66A0M7Oqqtq2jTFuFtblxsDLV0Tg4Axd7+edLU7O5kc/fu8HItk1N0hABETATCHErl+dXDy8d/K+aJo0W6N2FrmywRi7LjBchZuzuDqjijEQly/izT/ab4921K5Vol/igrj8bL/Yr2fH/D9TCgGF/BOrGJgHBLR4XW+ASaTruvliXtf1WhaxfoNGjGtn1lpG4UXRtN2ejXaYY8r9Ywfe0NKwlBfLi48evG0Aj87u/vHL37+598rh7osxuNmlFAJEVNfNzu6uirhx3G3K/jikIuModX/XdRfnF6o6akdfR8fGs68vugS6dGOFGAK7qHboBXlwi3Z9P5/PZ9PZpp9rvQdKl20zXRgA0Np6Mm636qpNeaWSSiFbuhoeIUqW9Wxxsvjgh3fuv9t3q+ObDxB53G619YRdQ4OEhiHQbDpJXSciXd+VP7fAhwdwC7HHuc4XcySs63ptHd6sFp5VCM82wGNF6mUnNMYYYggxpd6ZcKV6V019fzGfd13XjlpfVX7qP9ZOBXwCo9BU7XS0tTO7IrmbL09cFOPDNj+7iU0BoMOk6bQ/+c8//N9//N4P/umX//Xlm2+9fOOtw53nZ5MrbT0m8BIryo4w88X50kyJaWgHDRzjoUWCBpK0W6WmwSejCPEx5elnFTCwzkh59vV7fQPAgGerYqyqyonwap4KXN6ZorJcLJar5agbNU0Dn0JBGuCB5lVQW49no52dyf75xaOLxYlR6Sy5cN5UkYAYKEBOmpOs+q7rUt91R+cPPnrwzrW9W7uz67Px7riZVqGpYgMCKck8LTwcKxSHmsv1icjp9qBq0Ge7ELG2rmtCx057JDv9+p3vZ+v/9/8NUOoBQNe6xRhDCK59UFUiRkIKwVT6btWtOgd0PqE93my2FNQeIKCN6vHWaGdnun//0QeqxmQEyENXUNQCEQf0WE8BJQt9n+4efXTn0Ufxnb/dmu5c2b62Nzvcme5PR7vbk/1Zu1txu1isTAyBmnrEg1efKdShQg6IaKa94DKFXsZt2zZNS8SEFLlCZCKC0jAf4o6x3BsG62b88E9/1SgMsTgN4dle+Zo+gs3MpQ+OgK6buu97W9tIh0M9i3qXfTabbaZ7wyeEnEViYkjEsapHzSzEysM6XeFoSh40AqiRqG6QCYmpX6gomCAgqsjF4jyn9OjkXgx1FWJV1TE0gSpQZ1aHGCJzICby752qEGLg4MMEJqpi3dRNXY/qWFexqqtxFZo6tFVsYmwi11Vsq9A2oeUQmQIhMwcqg4tf1eX0/7msp+wpJ8uzl8ZXfwOsU/tCDFVV1XW94MV6HSNeyl2Wy+V8Pk85fXZwL2JR8yJSHdrt8W4dWydcWQmYMAMQUUhIBHUV6oaYwUSsM8mAAGrS9/OuvwA3A3oblZGIAzEhI1Jgdg0CEjFx5CpwDCGWmGPGgCHGqo5NFesqVE09qkLTxFGMbRXbKrZtPWmr6bTZiqEJ3ASOVWjqehQw+vubkJCY3fFVVAcESAS0iQaB9bWxIbJ5tvq/NhvAh6YE5J6vMz4zKAgAh61612W1Wl1cXHSrzifBg5f8yW1Q3pqAYBa52t+61jZTV52UFO6AqmoGuVdTC5HbhkYNqhqirhaAaETElYu5CLnQR4okzKDAmzCbgSqAYibK0DMQGxEFUiSlQERCyy7ohpCawK27CAhVVVehHtWzGNqK2zrUTTWdjHbaaqsJo6pq69g21bgKbRNHVair0IRQ17EJHAMMUxE3VmgphJwe/Mk75Nmd8NUtgcpxTuBqZx8IFDb3xldOeblYHh8dwy64Hu6pmrPhXWGIxBxm451RPQ4cnFvmg34XMziXqVtlZubA7ZiZ0SBLBlAFJbfolIqcDAeBRsmytUEdCUTMzFQUTT6RQARTBc2QVUEH7u9QryAgLPslcThdXBAyAwEgY2SuA9dMIVAIHEOoqtA2samrURPbOrajelxXo1E9rapRG8ejelrXkyrUdWiqUFehLhlDj78LNhUKz3bCV/EGAAMiqpu6ilUIoe9zsUL7gjX0HvzRyVHVVJPJZLMQetqNjwDAFEbNtIlNoOJqRSpJiVTsMJCT9h0SYTtCYlKlbmWpg5LESkACSP5+IEKwQFzq9FCKEgzEHEMRJREiDNJ69SjqtYWG0LR0OcEBbFlEVgammiVrliEB04kLgAAUQ4ihqmNThbqKTVuP2moyqmejZjZpt7dG+5PR9riZjZvtcTOd1LMYq0g1IgUOSEyDjHmTBPxsD3xVNgBsiIL8BvBLoOs63KhrFQ0AJMvp0Wlbt5PxZDQarbE8n6Y9RsCqEMQJLKPHvuSC+uFgRCVpcLXUWMUYabZVnVMSkbSSlIuKkgiJUSNooKAKyMDMcZAgoSFldReu+Qo3M/TkdM1D3hkxGIORGYEzSBgoYKgADUFDZgg6YEWspHYrKBhmTTnleX+OVmInqODwCDE0oW7r8Wy8vzXe3Z0e7M2uX9m6cbB9c2d6MGm2iMMTM5PHZEIIz7qtX/IG2NwDVazqpm7q5uL8ws/BtWG0gCNzOr84Pzo6CjH8SjAbIgYKiAyO0yzAcwUzAmQGYrSCWrRuJabQNtSOAgFdAKSk6rHMCoomudwD3sNUMSQkUkUkg8JZAc95AFOQIdpEFQEQFdA5o2iEQEgUgRxWrqiAHBHVRKwI9P2fKg08fTNT8c9jHR1rYGZzZF7Go/mjphqN6vG03ZmNdrcmV/ZnV3cmBwdbN6aj3Wm701ajyBVuaDY/WSk9+/rSboC1JqKu6qqqiMgDtNF8vlSEyiIyny8eHT/a3tmuq3oT7fbUjpD36YuCvVhfDNDIypQtRlJTFV2tRNWqKjZNqCswgOU8913hk4J6WMkgoUewpEjABBzQqDieygvBShqpCYo6NoScO0sMhMiEHJACMRMBC5IiEgGSOR+eAAwIycjJ+c7fZPIp36YBX83MUNTOu7Oz1Yk5MBcghGprvHOwdePVG9+6uf/qzf3XD2bXJ+125DJIIaB1S/VZUfRlboBNLggAbFIH189cn+8WOGHq5nM6PzuPIW4aZZ7yI3SHsZXo8SLid8ahs3QYmSEAKXPOYgrzizweY1XxdFYhIRBI8gBPctugJBdXCwck12yr58kUto8OAmxVEiEFIgVAi4GYkTkQsCe1ILAZKRASRoaCBmJPyi3oHhU1ZDMn7qipldxfZ1aDeiQoK6iwGaqxZ90D0qKf3zl5/3T16Gd3/mF7fOXG3gs39165uffKwdatSbPNYXAwP3sif3VuAN8AbdNUVSUiKaU1EnXtRRSR1WJ1dn7WjlqnpHzaDbARQFukdUjob1IkGzo4yExufRWRlHLfCzPGOowsIMJykSUNbArPNMtihgpEiMEIzJhRAYjMUeDmh7iSOcfNISGBiBmJCYa0CiQkAm/skwOVi5rbrxMzU6MCplVQJSu4Wccyow3/rlup1dhBnGpgpllX/Wp+urhHxBXXd45/eef4nY9P33/+yjeubj23Nz1sqknFLQ0J4c/EzF/mG2D966ZpVHU0HmWRvk9q6vLjcukzOYX19OR0NBrNpjNX5q/lcY///Ew0qWUzBS5Bqz40KhBSh36wMVNVRxFdLiglMU2jqVV1CLFCxK6TfpnV0EARVIVUAbMSk0ceqnmrZZ355kUXMUFkrSoKkUADGJuxEjIbo3LwDGqPoyznL4IaDtRxc6ftAGxTMwXxxDgxRSgccwUjMMayAQdjb8RgxpYrZ0Y/OL97PL/38zv/cLh387n9V79147vP7b1xuP1SFRqm8ElTaIF8PnsifAEbYPPMJqIY42Q8WS27C7sAACwx8oXpCgCmenFxcXZ6Op1MZ7PZGtX/RDtIzfo+pZzVcmQucCs1AMSA5gef55qQMRsRWhNSQhVZzrWqJEYejUIIiGh9b9IXN5QObMFspGJCQOQnN5ohIYQAkTQE9KwxkWEQR8IM5KQqAqDiNdcy8zZvoq4fp+V/EQn9PQyoIApIQFoM1EBOjHYmIalfU8MQUQJg9vQA7bOknG4//OBscXr/9PbN3Zee23/9ud1XD2a3tsZXAlZPLYSeFUVfxAbY/NCZeTweX5xfMKKuT7RLdB4qYt/3Fxfzs7Oztm1DDE99yanKql8l6aSQhUi1YE0MqYwEPBwdPA2DmjYgYr+ylBVQkKCqAjOomlk2dc6rFfOyemXibK9LoQWyERozMAMAiXrmtBArIzowtoSk+J+tvs710mLrnoayH1wZSgPsE4oRoWQtei1U6iUkQPWILRyCZsECoZRXhakuu8Wynz+4uH3v7IO7J+8eX7374sGbN/ZemzQ7dRgFjoRMSDZMlJ89DL6IDbB58CDieDwejUd103RdV3j2Pn0yLXBCxNVq9ejRo9lsVjf1Ez4BP0GzpEfn9xarc7OMGM3MssO8QU3J6yBDUPRsciQDwxgImmirLEmXonFbQ4TxpMBychLLhjLoDlA97019TIwYKiSGwAgEWSCLoiGQxaqHAs5XRJPsQELvjyKCk3hAyVjX5jZQLfRoK8Aw3xXEyBbADNHIBoQnqqEBEZiSslLZGKAKyiV4VoFIyk14en66WP7ko0fv/Oij//rCwRtvXP/ejd1XD7de5BjWyWubT+RnFdHnfgP4rz2ua9SORuNxzlmSwCYgG5ERjVlELi4uzs7OnGS4tqXaIDLOmk/nx12/BDBVcyICsDmIEWjoSxJCYRwgIDKDGWpEBc9gLZTMELHSAsHJVJixKpsOcjeckRlkURBfr65MUA+aIDViIDMi8MwVQv9diq42clin/wpLYhwMATpFRYQ6qN4QDdW7CARmwEae6qGKUCJ4QQ1VB7KngpB/56ggXZZOFllTl1eny6PDhz95bu+1K7Nbe5Prk2anCjViWMtyHaf7bA98Xm+A9RHuVvSmbSaT8cX5ObjLhNaxjQAAgVlVV113enYWY5xOp5f2mhJFBaLpYnnW5w4BVMxtKUaFCVJAsWSepTUIGcwAKWAELJYcAjNLYsQQa0BgAwRUFVO9DIlAAEIlAkBTha4ro2FiZDYySwmZzRjUgAgZgEqT1oHTgKZIxACKQwCFed3iFVLBPLOh4RBCBAAADOuULneSkRmyK5+0RPcaoaoZsJXOkYnvczVQWvSLxfG7d0/fmbbbt/ZeefHgj1658sc391/bavZibIqLtIy6Sy/uWVH0uTyCN3XOdV2Px+OmaXLOKiW1dANN63MuWi6X5xfnXddVVcWeylAmtqiqKXcGgoylr8humS9UE0BkJCJiKg9TIhJQdMoTQWBkpCyQU68KZsAVVITMlJOJmJB6HwbKBYWSbV0uEIIqqiIzEqkpkAIzDm90IKLyr8znCAqKyFb0gUREgEwDeM1ldh6CAeg1IQIoKAIXaQMxFOq/AZgRq6mh512oIIjvaAuDHNCj0FSBUPvc3Tl+73x58tHRT249fOPW7hs3d9/Ym95o4tgut+RjYopn2+B3vAHWv4gxTiaTpm26ruukW9Ml1/UxECFA6vvlYjmfzwGhbdoC9kEwkyTdsr/ImgZ8WkmNsEtciCGVDHokD2siVEC0jREBooFmEHUglPf/vTVjkM0fEf5IVzWTEilHnt9Swi+84veD2djAmNCKeBvJbwMCNQUXTgy3Q5Fe0CbEB9eRi74DCMjvDPSnPRCYrjMHjazoYEGZTJFt6KuCZzaWYYkBiKaz1fHF6ujRxZ3z5YPji7vH8wfPH3xrb3JtUu9WoWGKz57Fn28bdH3AhBCapplMJqvVqus6X/00CFgKmZLQAFJKp6enzLwmE6qpiKy61cXqpM+rQcGA5D32AZNCREa+XdZcG0QiECAyJiBED2QkZlFRs75XZkA/uhEAWMTTXaGgZhFMXfcP7h42VAAUJSNSADZURczg1REEI0NFXOs2TQARODAAqaFJcfMDCg45gliKJyaMvnNLTFp5ziMjIJARloXqF4W/BzxKSQvyX81U0dRMyMw8/z1Jvn3ywcOLj9978I/PP/rWC1feev3wz3Yn16fNjt9N8HVOa/wa3ADrPbC9vd13/WI+TzmbGhDZmpFIvg4LoXa1Wnmkkuv6V/3yYnl+fPZw2a1MEQIWBQFtrPYh5A3JxcrkBRIRBeMQMERQcYelBnZVtKoqmPqDnBkQURAge92OJqZFcld6m+URC+pJ4ICm7qFXAEXwdzA7Eg8CE5KCYU5mmAERhu+XPVI8uOeguNH8H+MQkmdQ9Njlsxw6vIjoryhd94UMRVQV1bDEnjKKAGQk9F0hXVqdaJb7PzpZPPz45N3n9968tf+tw+2X2mrib3BV83QfsGfb4HexAdZL312/zDyejCfzcd3UslBPDrahU+Sr31GEKaeu61arledpA0BK/bK7uFid9KnzJWCI5upPHLQ2RuaNGIBSJ5jXVkAQYsAQsBdDMGYiBA6mgqL+WPecUGCCYsfK4D19nw9fyjHUUcjDXxA9dpWNjRTUgNAoAzIQI4B5IKqUPwIA3WRcxBwOJWfigmTh0pga3tN4mTo/TDjWGfRWhKRgihmMBVVMjVTBDEWRxJSw1ERKppY1Hy/uXXTHD88+OFs+XKRTBbkyudlW08DVJVj72eL/XW2Ax4aRgE1dj6eTrdlW3/UpleRTYvbH2yYVtO/7+XxeN3UI0QxEc5Kuz0vVPABWfEBKJf9WwTPd1KnP/h9ST0KEEChECgyJmAiqQF7QAEDOImJZsqkqqakhWRUhoYECChRPgPhuUzCCIT0XvIozA9JspWlKiERKBqQoQqYApp6MHSI7ij9GCh4CRUxkDrQmAmQd9lZJTS1JHiV12Xx2YuRCEHeFIiJWoMDrZHJUITUTQ80oqiqogqKm4iq8vOgXb9/7+3un73588vY3rv/F69f/fNbuBuKN2cuzS+B3sQHWn2MxuyDVdb21vX1xMU85lz6pr6OhknFfOgCISt/1TBwCZ8spp1W/zJpL5rO6k8QF+0ODXFQJVU29DicfoCKxp3YgghBAYCQ2D5mvYlS1nLKoJMki6uh99hIeTBERyQhUTK2w7orDUjzIHVHVKxczUzQiRFVEQypT3xCRiZiImQIhkSGUtTYoQ1ABCQYMtfl8wAgHzRMOwLCS+DVsCOVN93zh5BGUIqnkIbkgA4FMDdQ0W58TiOR3H/woi8z709eufmd/erOtZ87ze7og99nXb7AB4HF2Woxxa2vr+Ph41a9Wy6XLhkvnHi7JhC4U7fsUQuRAOac+rfrUqYovGDMCQzMFAl+WaiYCzH4PuJKsNBCRiZmIEIARKRJSJGYwd+uDaYop5y6lPuVsWez/Z+/NmiXLjiu95e77nIi4c957c54ra0QVqgACYFEAZ2uSrbZ+aLPuH8Q/pBe1nvQik2QtSlQTbJBgkyDmQk2ZVZXTnSLO2e5LD75PZKKAlolkCTXlNVgiYciMuHnj7L19u6/1Lc+boQOa+pyACDBGyDr7EAGIZ62eLdn25zzaU6rKRt0taqYZw6KKDF1HUCRCNXO7BIS0UVp7oLUlmTKIiQWGllutTMK5k4noynzgSV5KijAEIdkugEpuC4pMiafYEPWDR++cLh89Onu3k17FLnULlfJ0X+hZe/QTWABP34ZLKbrQ7e3t1bBani1bEoywBdtOXZEJVt6EarWOwzishsEjpGR/hw4UpLC/uRYhIIMhVGfQBcEpt8wUKqSK0DotxaxR3gJCLMJrmQ3dauXL1TCOwzhWr0FEZPZrgabT3TO5o+3MMpnWwykSeT2BhggTNJd2GZDuQbJkTHveeDWVSE4hNAcDzIGAGFuyafrerI2sIosjB7WFvHraGNgCmlO7qoLIMbSJgBKilTSBBFwAhSEcFIhi5HD/5O5fv/0fHy7feq3+6YWdW9sb+2ubzjMq8CewAJ4uhLIY2dnZGet4dHQ0DmNElOy/tHyKJ4xRTrOd5er0bHniXiOiSONONzvwFMQBIqge1HCjOEFHhJlqKemBbyVCch+6YmqiStFQBSP6Wel6L8WWK1Mb6lgx1myqC0BVgqIUT7Ea4EzVRZtLRLRJMKEqMDzJ9B0jtH0PgIrCUjTdFEGRlgYy0xvXPLlJ2tcKvVSo5lYyvW/LXgCgk0dZVRSU1HGDT0bU7lNnWNVKi88Ah9PVw1989Hgcl8p+vPzmNX1l3m3llODZCfDJLICnchvI4ObmZkQ8uP/ghCfDMIREkspT+9B4/W12igg/Wj4+Wj52+pPTPy+5ou3+zCx+6RQExCMopgFoJ9oXFaCOwZSFTUEE1sFMTUwVkOjgXa99X/qzbnnWrcZBh+VYq1dnKMi+Q1CcqKOIT9MnQMEIpscABALpviejVhGHSJipdWzXCg/Njn+BNCJQEAJtOqEJFNei0/InQzZDkUwDY2C6IAgIZQhFFUqqiU2NAAaVItGaxoCiK2KiQESwjjKO9CHee/ju47P/8Ww8qnW4deGNjdke8FQC8RQ18uzR/+efAJimVl3XLRaLc/vngjEMg3Bd+EjLLUUTzOWnXOs41iGCnAKoEa3LmbXIJDVr4uZQFyCiKwZRFkMEnEKPICLoZAg7TWcjzbJVZWZRCrsifSerldmZDsOw0pWPzGs8IoTUDq7N1ZWehOlOCjWkK40kHRDPKEYhJKiW/UupFSgsDoBMRR2EASqDobK2kzGrqtz1HWEpZC20kOZcTu2SqopmTGariKah2cQuggm6dlRGGyB4Ov3JkOW48ogf3v3ucjwe4+z6wav7W9dbExZT7+lZLfTPWwAf64qqaD/rz+2dG4bh7PQskTt4iuuReuXM9iSkeh29RpA6dX2iXQfZipDJS9WMthLMK0doCTW6wyvdI/svQYlkVouKiilFAUYx6Qq6oqWTfqZisloqzjjC6+gtmgYkYUb3KcGU1Iwe1YZdWTe+pua9cHrOIhXh3tzMShrAQCgFaNohMAfjzLQzobZ0RwK6jncktQUoTH20RCZNwgpMmc3QvGbk4UFWp0czlDb7vzBNNvcev72qx33pg5XQrfm5vsxVng3IPokF8CS+V5g3gdVqdXZ69vjxYw9393VsTC6Dphcjq9dax+YQ13VbnNmVz+58Bj+LBEGPkjPR2cKtl2x81CFGrwRhWgwMDViOIgSidBFKMdEoHftearXS8+xUIHLGpQCBamy4CPdmvxGhO1RCn6Dep+pe1hiKSKuY5+yOYjlhoFphECop4KNEI6/nDq7ZbvVo0NLSNZ2opE2ZIMKjRm1zFFWBElrERSSKZW3UFViXcZ0YK2vkQQkzAhDTcNJznIzjk0fff/t/e3R699Hp+69e/ZP9ras6me6faYc+gRNgbZQppWxubp7bPzcMQ2ZlPymW+KQpBEG03baVv1wLAySNVJCACqApnpbwvN1WUt051qiVHtXDCdEK7xlwdwtjBEPzbqyq2dFnaLXCtBkwTKXXM4yV1QMBMVETK6xD4kdBTsm8qbJLZ0zusA2vwnBBTXdjhIqoengJmEOzsmmNKVAoEaoZ5piRURqUqATSFaytTGxNgGwla7J+BVZUTUWKJgG7lFYQ5a3ZkmIBaogKlKyKkPbdjxyPz/ydBz91MkJuHL52/eArnW2U0j27E/+LFsDTz3cqIDY2NiLi+Pj45Phkmou1D/xJcAYlz4cUfDEm+U1qILL0V0QK5KkBEScBLUGKVwwrr5WerUhBCQnCSY+o4RKobFgHExMJkVFEYJHzXlKJngKcemrkTC037CUJSqg0qA/DAzX4JOSsPTGtoGeF599QVWUoSaEnWA7KyEKeyowHKRCYqhmACLp73l882ug8D4+SalfJoYOpSCc5eCNNmikHcM8bC2ziaLhDFOJpNIhsb3mFO+4ff3Q2ng5+OvjR1vzczuLihu4+mxP/SxfAx87Qrus2Njb2z+2LyPHRMdCobJyaIGi66UCz3k7hRK0PqAhhyX2tcaxaySukcqiQFTdmXgPVk/OjLnR6dZpL8ZwRBcPSq5nZrBIRDC0o5HzuQaEYsHDXWisoZuh71BER1Ja6K3UUCLXNoyg5gGr1UGCKy4wQRoRQFKHiKhbUUDOoUpUmoko1qVockPBwdwZHNqx7KWqmOV8WNVHLFVy0hcJj7QACwdER3gKliCe52DJlxpccWRscFCPhQVmNy/cfvMWI1XjyytU/uH74+rxsqZa11enLXAv98xfA+qeWIrl+1u/u7rp7HWvrWTw1hiTTFZWdcJkqfgk24f2kAQUJjxzuEAYqPCt1hFd3RzCqF4gSmhup1/BSIxAhE6Inx69Zv2jaLK1HF5y5huu4inCoshhnM1meyYiEg2YtjdzBp5iYrOXWUdWcor4RaTyL3PMRTlWPknNicYWZaDRBBOC5uhVqWvJLrRgUaipadGobTA6i7BN47hJ5agQySyppdymmy1GDaGi6nZWMgLJS4Kjhj86WHsOqnqp21cerB69szfY7mxP8kt8E/qUnwJPFANnY3BjrOAzDcrV8woyY/nja99bG2QZWoIasORBTah7VcxRUHIJhMCGVkRIfkjGqqJISIeESQg+vgECNDC8uRLpkUtsWQhE1LSW6nlGtzjoJCdSuoBhUHKxrByMaYlrQGiwIj4iQNXliEq/mP346HZQuYqz09OioinnCUkcgBNHNSt9189msdKWUbHEqQtJknIbPYExBf1JTDmHRuvgAJP0C5Jq3lbh4NJ0FW+OIKd2jMH0FJ6uzob5VfXx48p6zXj94bW/zUgvynGb3a5P3swXwTxwLABAUKxuLDRzg/v37q9UqIsJjuiun+FIF4kLFNBQNsBU6Qs9eOQORjN2gkvShCWKqMypqBegMRFg4IhEQZAQjzCOqU1TFDBHaFKxpGRaBqqH06OYatKjoinQdrNBMOHo+D2KTlJ9TaVFsMu7m6+UUIuhteosGixFWCMgJLTrCRVw0SpGuK6UrXSmAhLM2UkCIKJgKIDS/WTSlUqQgKAmopEi7PclU/kQzf7aV6BRfy9NFNJedABoRPla7//juWIfRx+Plg5cufWdv61LRLs/wJ8O7L5PLvvzLX+KJcV4lGbrL5TJLI653KkGiDlWNlNzDUqcvDQ2S6lCJHAqkCiyEAa9UY5C1Bl3c29XCHWbinhkXZAhdc3zmAfHpwMmeekga2VVhnXS9MsRhxdB16DusOmHULGlEma7HRs6SJ1qaYDCUiMSut0uMJeOizXwR6XMAA4EQcSuatnuBRgjD0cQfKR1PbQNgkKwU21EwuSNzWo3W5o+gahu1tH9X3sIpTqa9po3V2iwNIUxd+el4OjweVuOpoBSZ3+YbOxvnu7KISVCYptQvj5fgE1gAT9f6SU/Z2d4ppRwdHbWGabTxS9G+SMkeebNzE7ZWBE1Vhab/lghnODOYxiGDB1wYmrndCLVghHgwSM++qYiFSqVAUcq6DksTTJq1KNIVoOPKWYoUk9lcqqtpV71d01WohsnrnhuxiIjCWDJqJsyjipMhymiyUoqolC6rdXIUpQi6Ujo1BFdndUUHihhN2fgUgice4dSDTjePNopmK7pyVdRASbV2olsCDElf3rq/GQm1yEsFJrEHCaByfLh8+Hfv/KcPj95ajv/+zsVvXjt8ZQr4a+Ch/HS+DOXQJ3MCPK0UEpHFYiHWogOIhlAW0a50Xdc/sUBlG1yCTRUpDc6WtQRAhwcQQCgdEQDpEU4SYs7qYu7FWZ1mKfhXB4UmPl0NwUDK9sVjLSylWLsha4/ZTL0WEN309sm3VaMoVdtZ5uHhbPEINhlhGJSoPrFfKIighEi0vD5VIWuNSpBKoUhoRTE3hRvEU/yZnDFqM+pMCsGW3UootK2x5iE2ahtII61BTV7ekHV5PxdAxXLWro0RH+5n4/Hdx7/4y5/8x/cf/+yl4zev7r+0t3nFJHH1wanV9YW/IpdP5FU+Nljp+k5UosbZ8mwcx/yMBOis622W+3u0ARCnaL3G40QKKqfJK6O5IlsniVFJz93M2eYA7aBgqOZlwCe7l7YFIJPvtrHHW8gTRQRWouu078Uj8XYMT9QzrcuQvfyrXiu9+lizplOBwTwBJ63XBWUw4CJVlEU11XpkhEdEOvLzakwGwiCB9F5Kw8BIpnU0YflUzXO6j8uUQpzy0HRNBIgWiKCgttGzTNeA5PZlQ1clgkI46/Hw8B/e/b/uH99djscqNiub836z6Ky9DfFlaJJ+Mgvgabn5OiJpsbHgdPAGCZHFfGsx31ZJKmZ2fhTJTRBpXb1AmivdiafGUBFSMxtGAHEADiBYHeGoTnXCoIF00TgC7kxNgUQE3BkhCWaPIEFnu+ZqYelEVzmIgs6ZSGhNHFzk9kyV3j3GcVytxlqd4WKloCNhQhUOdeVShWEFpk3R2Z77kKnAJiIcCEEl01gjPlFglFqojSrRjhNG5CUqJnd1NAh1AiMgUEiIKgiVKNrMc62zxgk2EXBClKGEK0dI6R8vP/reW//Lo9MPbn/4d69d+8OLe7c3ZttNx6hf/ICC8gm+1sfATF3XzXxG0mvkDrkx29ycbxXrwj08RG1Sz8skjmuKYRKecvzJUsJ8jJpQIfsfiWWWscIKNajO0LwzkMqMScrE0iC8lctTU5/CBg8Sy+deRBVa0M2kAa8UyPZUEhq1eIQVU5FhHGutTcSZfSaGmAYto/sEEi7uaIyT1vLKCV9etlsvwBuITpKTpwErWI/IiVQYJvEh2tXX8+ecC0UURbLtSjOVYmJWirZGbiKznc2VHCSVLgwQjtHPzsZHP71Xj5cPRl89d/a1q/svbc8PujK3qfH17AT4Jx8F+Wvf92KyOlulFH7RbWzNtufdRvUx3LXxRzQlECGiNikO8jR3pkFgimBpr00BQUMAEi5VZXSgsiBCpBrMAiLhOQRDywVjSuzSo64QiaA7oooKWioqoICpWkHXIUmH7gyXYPOHqZqqllGHgdUZrKCaEcK+WOZp1xq1cvB856mE05AgEKG/pCpnZLIHJJd9shMlQECyx2n5ExHkYAAkTErfl9J1pXQGFSmmCsCKWIe1JTNAR9PWFomYGnCa9aaGaSlRTsZHJx99/72HP377o//61Rt/+NKVb+9tXuzLIqcpyQprqZ5frMVQPvFXXJ8DqhoRnXWYtZ5d6fv5fHN7Y2dVz06H0+JUMHNcQoFoFXBEZrMQJm0fRPb4QrK4CRexmCR2I00rVKQaNahjhAsKpTiCDfFGETIi1TPJq4J7DWe4qmhCq1ILLRAz6bpmum/sOjKc1WMcnVDxTsEiI8S7GcI5DjFWjBVQMoRUK1C1ziQa2wpBD2jytDlltVKeTHPzX1odglCZRs+NEkQyTLTTzqxYKaXvLGPrIZITZ4oHfeDEUG8xgM2xBmVzYIggRKmpTHEaGKyrevKje999cHb3rQ///oVL33rp6n+3Pd+3Mp8EIV/AdIJPfgE8EUs/pRTKbWtWZpvzzb2tg0cnD7wemURIap81RNFoymhNvyR1gq0EDvUqifdpjE1OnsagO6uyBrWGgigq3p70aBn1koJTTtHwFDDCAymLiwTcptwtpUQKLTBjk6EJI3ysVAuogkrv6xAi7Ixi2pscn4TXGL2pWbO1ZSZKCVUGvf0LNCFwT0yTjYyI5olrZuXWkmSEo81NREylqHaqJlSGRDO45EAEbRbcUKiUyaa01riuM8iCuSanQQ3h9EdnHxydPTg6fXg6HAfj+sFXDrevzrpN07I+Ab5Ih8D/LyfAr3YP8gNYzDe2N3f3dy7c/ehtjiOtyzAVCbGkgAgRUsnkI6q28UAqILw+mSpAgfaJg8IaUGf1UMBUsroXzymrqLRUvxQaxaT1DyCIgSgBZ3ZLmk4jZ1/ZlTGhFUm/b0fvNqI75VIN6OpYvToHzje7+U5HWeJkrKfh4Z5h9DlZVhFVKyiwNCC3+O0cKERCr1IKoWpQRloiRBREdU/KYil90WJaEKyD1zZVbzt885M+WVWQ7LuqtHPvibBJSNJbuhkmRAchKoXBu49/8ej0ox+++1e/9/J/eP3GH9248NVfjnr4dVKAZwvg154DT7soS+k2ZlsX9q78bPaDcOTsKqNLc3NrFrBmLk4df+oeSdIdkQDNJPWTaAm+oZAqGEdKRpYJhQENFVeFqTyNEQ8GQ7zCg+4yicymfnvb6Jjcn3Vq78QpNcC88zLz3kEvdZBaV8MIsSilm800OFanRz5ezWOJ1p2CTLJqSaOAGArD6WTLXk2tc+btTX/foKIm1AgO7Q/mfj+1LHOnZ0xka6wxvW3AOEVy5v+dpK8Ms4lJ791UiYFgrMaz6vf+80/+54+O3vvm6l9f33/l3NalNhhnfDzb+NkC+LU3gfWvOWlXkcVs42Dn4qLf9CQgU9QREkIRKVxDkhNHFSIaiqY6cG/6GCgzDSPVRKgMpVdUDRVUE6lQEubWzIaa1+HJ7wIGvTLaM6oxafODiKas0OzhpgxNJ4CjqBRRsyglYg6gmNrpcR1GQKlq/UyD0FwAqRRiAAjmFo/GiUiCTAggqhJGaxcF98T3hgrUmQbOhp1ErlW221Ckr07WY3RoaxBIlmAmyunWLFOuWVpqgoiUVa//aclvAQGYGMnBlz+5971Hp/cW/aZpN59t9WVhUnI+/ewE+CfUQuvW0LyfXz9/e2u2V2skHk6E3kpRkhKeGLfcaNjyJ0QIemRTg2KBIjqR1kh6CJUWooGakB1Jv2BukyVHSU2TEeknpnsaZBERHqieIX1iLtXhVczSm79+RJI9UaILSQ2eB0O72TxHUqImMXUuA52ZiJqi9BDDlFUcTq/Vx9Hr6B4+uqpQVDotZAlGOALhrBKOxG6TtXq4PKEuknBWzSr/qTuqYF3pOCJx69MmMN1LEi5DaWx5lTXLVPDUSSgGLWfD8V/88H+6f/L+h8fvvnHjj3Y3DgWGj0VYfm4XQ/kNvMdTtZD0ZXb54Nre1mFfZhk63eyvTc4pgty8M3e3tdcjAkRmqza1l5AdW4PDEQYQNajOGiJIignMIyTnTFSBe6tJ3OnROqsh4SHV0VQOIRZRg2OdsL2iQYoDFkZRWK+Gwug8N3V3Y1VGmJp0nM8Vy6gVajkKlr6Xhm7PfOG0R3sMq1rHGu6JLUogqtAUcIHQMplART3AyqTReAvGSJAqktfbpNvTVh7NJzCNvVvDrEEmRNZnQfsO28WH60Z2y4QNYKzD6eq9f3zvr8dwod08/Mql3Zt9v8gg12cl0D/pNGBX+ot7l8+fu7S7de7k7HF40EwRaMDLIBCqhe0DRDT4ByftRIbFiCYtK4OCKVS6hEZ1DlVYWtFOhQowjCIFCoYiQEh1jrWNwmrAQ6tjrFQhQsx9HGXVPSl73JMakS4dLVJo8F6IKhJkX5cagxYRKdJ1IvDVaopaUgoyUkYmsUPrbNbBx8SlDsM41NXgLWTHxEwJqPYAolIqMvEedBkzIJntjAQQIoQm1rrlU2aBlV0lERMJFdcoydmGCtQkyawiLY8tYgp4bedY48B3Or//6P2jk4cPHt99/cbvf+vOn+3vXN2c7wCq63Pnn78tfppf9ud//ue/wbcTgajZ2/d+9s69nz08ul+jqpmW7E0m/knWbPGcr0KzMAdVMnC9RV5bqggwzQpSTNbUBi1KsVUDTWbnwcpIZfVYY6yuhtLBkyQ6tiG0tqfWW/kcoSKimlfGpFY83S3KKEuGAWami5mlpUZEus5m89LPtOu176TvUYoURVEpKqJazLqum89ns3k/682SgigJ5QWDtWL0xka1rFfSrZPA0UxIbsOStaJWphF6m+w1CGPjHTVEZGZ4ZOafp6iEORyMqHBvt+QkDkUg3I/OHt0/vvf2w58qpLP55mzHtMhTQNh1pskTRNR/4+szUjWV39g7radjG/ONSwfXrl987mfv/djHZXgWNuFwUkUQmLKSMsA3PU2c+uOtRc4gJUTzlFfCkZfOKtM6IWBhACUa2C3aRKc6PevskLEKPTzgKWkOGSmoOYOwFKUi6bVFJHLTU1hL8jPzUhg9vSJGiRCDzHsVIZdU1WJaCrqScOm0TzRBRymI0HCDMKIMvXZLW9k41hpBgMPQ0pATad3wVkmNzm0cmpEIaITqScycGbONh5ElD8SiYX11uopnLyg4bSzR8ASOKQQ2vRdMy8/x8tGqru6f3lPgePngzqWvndu6sOh3epuZJclC88I2ueVaj7f64F496qxbzPqFqT3JMfgynADrEkhEVO349OjB0f3/+qO/Pl2ela5oEVMBJVxalFdidyZBTutxhEoyM0mooMg6Xa85XyZUOUBNHUMmn7plXJLnrbXdAbwyRGlKD6kB90BSvJ7yfqUQOSXcxlTFTZQgiaigN4O6AB45lJXSixUZhnYqWYe+l77TeV/6TkunpcAKimFaEvnEdaV0fd93xfrOuoaG4DiOtY5DrV4j3AnPODEkH7WzRLEkARuTEwZUyUpHpXTsCrtOtAhUEj8aIQzJ6Xhu83mtD7aeRCYTMtaGDhQtIhx9+e6jn/zi/g8enN4b66po15e+aCdJztYmqgIlGOM4nC5P7h/f++DxO+/f/6lAZ91GV7rPyAIov7HtX9aaHpHD3Qu3Lj+/v3P+ZHnM6hLGYAZ7iWqEZ/SWI+c82QXNLU5lGpI29UAaoND0Ygz4KAJUoYpEhQpUvJkAvEVNeuRfyNFYE9lFihgSNijhETKatLfJ6FZr+tYi6T6YyqAsLWDKqFiuYm6EwIq4x+giVYpJMXh6CZRmkuzbwuiCfbXRZXSvo1TVghIiVWSuWkrpSjcMdTVUH1s2Z9aKmRsvkNzSCRROUL1oIA5VqqGzls7krebRKZYtxROT8C4m4UmuoPROUEgq2v6e2xidRycPf/CL/3L3wbvf3/rL/Y1LOxv7G7PdeVlkSo1HHevqbDw5WR0dnz28+9F7xydHvhr+6Gv/7luv7M5nC1lDZ74kl+C1OILkztbelcPrB7sXPnj4/unqmDQ6a4UqUyOZU/yWQOnrIMaE6afQa0oT5VT/oql+EeIGJUeSVVSo6gqoZOgG4Fgbkrl2HkbjTUVI3sZF0osWVKoncUvE85FL4JtOfrNmyE9rWB2hhaVAtUG4tNpYogTVs+GZFbLCYDBERKE6MQShQUUpLXPYaIV91w/D2K/qOFZ390ZEpCO9mS1jJjNYmREylADBMEUxqqJZnCPrwEkqMXnFGhHeZW3GyAuuJMwx/Wfawm4hGkQd671Hv3j/4S9KmW3P93bm+zvzvXm/3ZW5io4+LoeTk9Wjo7PHRyeP7t67O6zqQrdeu/Wm1/HpUNcvyx1gwmNRRBazjQvnLj1/89UPH7//03ceuhtp8AiKIgU6ApVMEJ4+KkTLTMlPiHD4NGloqpqQEMAgDk8tgVI1iZyuTO1B3h6l6cMC3vwsQFrTmHPZrK4CFKkcIQBNJcfKEtRQuDxhvATcAWUIRg9ZSVehColIvVByQDljdKJVjKKmEoyJJlwMOuuL+qAxrjBSBV3NPAKEWCkzUy05vGtnYCQoe2oJSd7FWSuzsgdMhNn+jPxvZeIn2oCsseInh08HhugUzKnN9zYNzjK4ssWHi/Ri7IA8YU8fLM8enr2z/ojI8MphiJNHw9mRl9i6c/j8H3ztX//2V35v/9ylbKF+iUqgdQ8oxzhd6Xa29l668dpP3/2HH//iH6OS6uGNPhXCpmHOELCYIlUyvm6K5c3hamqU2/wz5wIhuQAsPy+C3lyywclM3qg6GYohqpzodCHargAezY4oeTsUWqWgiAJjDiAS/5x0FoY3YZKDqxHhMp+1c2+oNd3pFK0hpSTqlypUzdTtzNRJyq6zSxdbsl3IaabnYuKAp4ot78GTX+KpIVZXGiZj0rxl+gaozb3MIlkNTpEIMkHv2mWGLaC58f1IKMUju3HTNDvPaYJofCZO8WXj6MMqxhWGU8xl98L21dsXXn7pxhvfevUPrpy/0Xezz87s7De6ADjVLhBszje/cvurf/fT75buL6bLqZRCUcgoNLpCCQkNb+GKnBKTpiCNYGg02WW7/IqmzRAQuE2UlZRj6JRQ0QK1m4AmYhKQTSllPjmpqoslkkgBxErbMoYphKQ17O0oiVLMcRYU4xAuKL2GAIW1NjNmDRuLdAWlaHEtKsUERaEmGb5NCKFW1YOWCyBtNInJlmBEpQcZEBFLDaE1wER7fttVIIJ0Rg33GspJXdL0Q2mTACgIRQu6zS6STAmaAgMEmjNKgbf4b2aQFBsCsJ0g2a/wCowcztyPNc708uUX33j+t3/vt/7k9tXntzf2zGy98X/pFsATpymkK/31i7fvXHv5uevP/+Ldn5wtz7qutBHM1MuLKr5G6CYpQlHTEptOxcYbokwGKlAiZ10hMdILqFSseQvTvJQExYM0qiBNWYGpJnAG4EIVBjgANubOSQ2YEiiRoCHN5g88UB1OeAAS1SNIWzI1bOHhQRklOFbXGtp59FXYaSqRst6QDPcmshumQKylDwIIisCKFuUwMBxTrp6sn6hJCC1iAlULilNhXta+SFJoIiaJ9WVEkmbAZMvna3iqx1uagGfDVAmfii+O6+arAqKMynHF44fj6ZGfPo7t+eHtw+e+9uLvvHj9tVtXXjx/7tLmfMvUFBLyGcJTl9/s20nz9QFmZW97//aVF1577rc+/PDuyckputT+N54TKaEQwKf4CIGEQISapA+QGbOl0qJWU7UWQZV8kjI7LDctjSlMiGvciEREDW3NViIYuUQ4dZcyMYYgPeNTQ8f04sKVqtbMOgEPhmf/EMFw53IVpVMtmjSfATSIBSvphihwWgmahWmoqonkrtwWgFCzk+uNV5fDvqJK0J1eJ5L1OmamZcc0Z3xCWVSmmKrIKpIqsOz3FgShJu4Nc0QgJm10RJsLNNAr1oVnYIJRiMDJqFyexeqY42nX+d71vfM3Lt55+dbr33j1O9cu3Dy3c5Dd4RZ2OP3+S3cC/NIMHNoVvXXpzptf+f3/+2//8u6HHzbWH1Tzg6TmnuwkEpogYMAq2KGd1+kopjUfJZRJLsyPygTRUrZyzJDM8rzS5YwXIVERRTQ4KWtAVQalIkpiujRfc4AnxAFkaJgGNJJgyjxPnJFuHhU6z1acI3qLNRsGLqmnoNNDKmm+3tfVOoM3vJdQVJuYMw80CL1SBKa0IlDUxGSnJUYhVEqAGaM01YVFtGTe33rmRVKCkQoNFTGyCqrHMLJ6Kqak/YAi4xvWaCVG0GvGYLaDt448uj8++mg4ehAHO5efv/rqH3/z37z23G9dv3Cr72ellAn88UsC0s+IiOjTWQBow3vZ3z186dZrL916dTmcfnj/fS1qYJCmGZYIQOjJZ86eDyXFnSmMnqi6oK1VNtRUMydRKgU/k4mmHfNt44zQBj4ImDDQSgQDQ6UytIoIQmPic8roIeLhUkxVQjQ7PEZqNk9zH1VAFcNQq5mNqiTBsXojTWiYIsORokgotEZV7RgCRbRBYLvhp/Bbm8bfg+FhRVSk9FKHcA8I6GDUHAoYxVvSALJ/LyDW8X7JrguNYK2Ahiq1Q2eEQCohrB6Rmmsn8wTCpNUiRds0cnVWTx/72VGMp3pp78Vvv/DqSzdfv3X5xVuX7xzsnt+Yb2pOO36ZsfWZktB9CgtgUkdDRTYXO9fO33jxxiv3H9/74KO79BQgZtdwKrKjRcekP0ANjCb+JTNyPZeLpRYIAkFkrGNTzWfKowrWmndvUwQEXKCtJmrDgWy1RkimV6tSDDBIwJ01m6gRWkKjJVoTQVrT/Ke7zZnpemZQcHJ9SUtWVWFaXACaSBZVYSKRgp32KuvgDDReOkmvjdxYVFwZ3tLCWs5ZXhsoGlBFiJhnO1PEFDH1/8ms5FrrpwAGZSavRkZBeeTJxUl1jnAmujqgPnJ1FKcPUJfzjbJ359Lrv/fGv/rqC9+8dHC1sy6zbic5+pOW/2fNUfnplUAiBLtSthbbb776nbEOf/OP3/O68urW9dm2yy5DGnuTVquCcGiqmlXZiBLKJvucSJ4tWYvNLmYEEJGIq3U1K9npbKwQa9H1hLqLBsWySd96f/pElJpRBhQPxShiEhCYZLWG1hHJuqlGxSCzvk1im5zbBAiKyIhGahGIiJdQiFGqpPHAnMonJkeaSpY6wxBmYZ2awIDKtCY0Lm4VyawdtckpOaqaWbHm+pkaPZl1FjVYkzyTfSSaJdkRjTuUeZ5KNagaqMcP/Pj++Oje6uLeza+8/Ft/8I3//s7Vly/tX5nPNjTHG816gDZf/Kyqpsun8q5PBwuU0j139YUHR/dfuPnSO3d/8fDxfTXSI1rzRsCULgLpiXGkfVEEEZJmMoaEijUgekqy8mkVSjNfKmoSYKduaJsiExoGIYyTNxaagrP84FTUn3KUT0I2aEDg0my5gWYwbAj4IFXgQQ83a97OyJgxSo58peXttTjBCFERF5hEaKgzkO3RlpyQbK2Wj+2EOQRagLGxG9OIzARcTMqgxqNz1bCpD810Snqy0z2C4cHJuNea/art/GQS41VEdDzl8sRPHrjV7VeuvfGV577++gvf+vpLbx7snp91syfD3fVxK59pz8CnswDW3dAkFFw6uPLSza/8zld/9//w//3BwwfJHac9lSCZHf1kymmO+mEEC+BUU4Yyki2YBpCUr6nCKZAogtpSFCXEUvWTROdUFmmzf0Ty+YUU9QS7Z1c2qKzuhRntOi0OEYEXIBst0hZA63IoWD1q1NLRVBVS27VEEAglghFSXFNqFEUt6YWgBgQ1sbfNzUXNHAbpBCEeEkNYgXVUhoxZsXvDpwBJSMwpGSN9Pe0pbg5owaQCYa0cK73m6SBFVQ2dQSDuIFRNqYpRlo/j0b3AanH5/K1/853/8Fsv/87Nyy+UUlS0BSBPicdT2sBn2jHzaZ4AAFL6bFYO9y5+5/U/unv/7s/f+8mwOgsPSypVa8ursP2Ax+SgAWSYECIZuyeBCNXUqMmULJp3ifYbptEK1VL369E0Xx6iJq2+gUhGNlkbsAZo0aqnYNQp90mlTSJCQydRQkv5EA2m4DI8uFp6rgE2ZXeQInlmBFhCW6ESNDEIm7vX4QAUKKLWfOihrTIDhhoFNMuJMl1aatoYjYWkE6EmxbRw6QpNECRjmhwAKSw3ItvH2VcIF4h0nc7mCtXVKY8f+f13VzIstsrh73/zT7/2wpuvPPfGwd75vuufEvw+gWR+LiDr5VN8b8lmO6EqWxtbL9967bXn3vj5uz/+8c9+sBpOWyoEtOnUJee7pITWYIM2UIRipDOSgZNcHAVV2zVscn0gWlnzBC+b1wxXYyLXNduqoE6djsQw57wzsnJnhJKenEPN6V7E061t5px4CnBhDKME2XdsXuSYSDwGBwpCFOJQlQhoJLg6lDmFUCBETcQAzRInJWxBevVE3uW9Xya0tbdKS54CpUyKQpWYUsGnGr1Zy9JowxbTlE4xhcu4ktNHXD3sFty9dHjzuasv/e4bf/LK7df3dg5Mleth3S+zMT8XX5/mAsgJU/7UZt38yuHVb7z82/cf3Xvv7jvL1QndYS1mIvVYiYpVRx0yPDQd60l8JQQyEqR0oaEtpVot50LCyChrgKA3j1hGVorQC0zYoLpkdp+qtLBsIPOEoQoGRJ0gXT0TKHL0oJrwNaTc1NOpnuPq0SPGXCIRwRoZ4wdNuxsgtdGBrUgxqEXa8zW/c7i4Kkqu7FYRAUKOTogXmyQJKUVzUqSlyAuSuphro9YIEVNJ/F5bBi3AUFq2JzTZ72ZWHWen8fCD8dEHo9Xtr95+49tv/NEffvNPdzbPLeaL1k6WX9r48bn6+lRPgEmYFhGqQurNy3fefO33fvz2j77/o+/e/eC9Ik+Uns0AkNWOOItEozXk9id5btPhEFjilKXp2cSAAqx98FBBS1+hAkb2pIUIOZAhYhCl2Dp7K0IEIUmow4SzENcIUVqjaEWLoGiSp+zlp9tN2uZrQaRWAw7V3KRj0ueB6mIqppz8ntPS1xAZJWTyfWoGKzDcPahN1ezu7shjz1onFo6QyWIUOlmJNcAU8zEbCRBRsWImMNKGs1iejsePoy67mVz4+u0XX77x+mvPfe3GpefO7Rx01qto5N1i6vN8Hg3y5dN9+6dSy0HG/s7BnWsvvvLcVz94cPejBx/k3EVy6EKET5FvmVgXkJYIACZbVyLSOImgwkTTJG6qhBFGOqENLJeS4DTMoAAdMmimFcwmUtqOnnjlECrTjRjr6I10t2tM5uNk+mgbUjQ3J9AARJIj6xQlOIUibUzXFjrE6UZrM1qqUkRzaWt729SAZ6KluUd4MKiWYX7NDNA6wRDPvqc080sbg2ij7maMTAYHtOExldQ6yOpETx9jPJ732L6we+v127/z5mvfuXP9hcV8o13fWt33+Y7W+5QXwNM06bwNH+ye/+Nv/tnxyeO799+7/+Ce+1gmmSGAqCQCCoSClBqpfc7Ou0OVNI2oWSZQGVBUthFxbpXZnmv5xOmdZBH2cANALNu3w9KuDzUPgmANWuMxpqdF6SqeMwlrhLaGfgMzs0vSoYXQsQphaqKoDKQJOiPJWiwIVUTUhdbYSKop0svci4wGS6tWpoQ1ZaiThdJZiid8GKqamklRybKseht4T276Nocx1UwszuUWbsdHcfJoePRgVN/YsP1vPP+tV29/7eXnvnr58Ore1l7XzYLpTH0y0vpcJ4qVz8I38fRYYDHbeO7K819/+VsfPfrgL773vz54/GFCXtf0PkQwJJyiERBXEXPUyRxGEbpAVBL2lkM0peb22mwjqqIQujZthOdEuQN75PgAAlp7ntNpxdQANWKUtLuEUhACC8+I3my8owGf2+iAE1vBq5GGkpVRxo+JUknH5K5hKKIFZ4S3O3zK9a0ZEmPSteZFm9UTqQigZRuFB0OYl9l8qXYgKSFQimoOh0H1UYYV6sDVWfVhVrh96+D8+Z1rVw5uvXr79eeuPX/5/LWN+ULVPnbHfcYF+sQLIZqVvZ3DN57/hgreev9nq3E1jKdtCiWZdSHiKgioRuL9FJbhjQEUejGVkGZrgWS9EJw0cCRJ0xChWzZNqoc6BIWcZRAxRJKOgrZXtti+PA0wpfFm5QXLh43KBlJEu5JI63umVZOBoaMqUCPVSSwZeS9tBKcNJGSwIBGieZ/IkyiRAHkOpIXdc2oVle5SjbPOVKQ0KyarSDHpCoS0ZOVVYagHtKRMp/godSmrEx1OdFx2G93+5YPb33jlzZdvvvrCjZe2t3fnswWjMVXXQs7PlKDtC3ICrMtKkBcOLn+9vPm73/iHxcbGd//uLyJaMGkD/0Xb+xVuyqiCHIpJFZ9SZ1hNtMl62LbFxpZOl5Sg0Ug9dKimo4pBDJjlwnGnBqAS2XHJR3vyfwCt3SmguCTjgLk31yZ6F0n+eGqkHR5O9SiBkoUN0It0gDIG0DP6KBHZEKEqPFqHprl4W60lje6cLgKJIIOeTDkRFctEgepw4Wg0k1KkdAYThowrGU7ldMXV6XJcYjwruxvnL+xdffGV11+49vKNy3cuH17d2dhdzBfFOkyRCsIvYGRY+ex8K2uBEIiN2Wa3X978yrcFfO/Ddx48+PDk6DEmZDgZpEaEqIQzTZMZnt3MSdYGDa33gabdbcHTkIQwJiiaQa91HEbRTlWFRpYsLVIfBm+hdBHaEOINutWmvmgA8hah3XrigADBmGQUeRWuyKyWJtHMOj8ZIQ44wkNccp1Nt4nGvGC6GiXSxgsmR0kgSG62xDiINRZ2KkkbCFoIpyZw1EesTsVXhtotdHt/c3fr3P6V87euX7z98s3Xbly+df7chcVsQ1V/ybT+BQ0L+wwtgMk13/6nafeNF97sS//WvZ99/wd/fXT0OOVkknAHhBDuQqAZ/ZrHHdEMTgjNGx+BlLiEt1lvWmEdTbqgtQZQRcZSiqpCCoORMF5AodlWj7z/PknfZovEZvJCkjfF1CchBwypvM+BH0iORIRb9k0BF3Fab9qLAHSiMqrLqEhGUhPvsY1NmrpB2wQ3vC0TAxmUYRVmKJ1Kyp9LnlqgY6xYVoynsTqLs2Oq97uLc7duvPbija+8eueNm1dunz93cT7bMLXs6nxM1dOG8l+4sLDymfpuGksdrdZcLDZvXXn+337738/LfDUOH3xwd+BK0xaGxOhLCnk8iBoNvQB4spqlqK6drmzuGni7EAAiNfvjnlv2AEZfrKhmO8gjm4gZO83sGpH0bKMGcqaaNxOIaIb7rtFsCS+MSWInCWKhkyuwiBSiZqJ7sV7VRIpIUXWgMAbnmHEJufUDCaTm1DJFsxZqWonTxZw9UjUAgtUSwxjDGMOSPghGO7d16eLepRsv3Ll8ePPywfXLh9cOdi8c7BxsLDb7fmZqH+PaP/25fCHz4z9bC+DJzz0AwKzs7xx+7YVvvP/R2+9+8M7p2Wkce7hPs5cGTkiiLkioaZYqGYqU1sA160nI3JHZvK6JwFEBw+AuKjKSHt1s0SI4IjJtWCYSyfRgp01dJw5ttNDtTKTgFPXXBNbNeiBtisHgmMRyAJSqADs1E7OkkGgT90dj/6SMYdKiUgAY1z0YTQGSCtCAnvnDcJdxiWGQOhYZywzzvtu8snvn1uUXXrvz9TvXnr98eG1ne68v/dOtiPWvT6+BZymRv9lCKBMeICSLdue2D7/z+h9vzDed9R9/+g/3H34EUjJENT8v90zHQs00ClNm7RKRt0Rtw35O/2l7qEEkPFAsgPAapFcZRXs1gwrS4KLNFSwTehaRFYJH3gQobezbJlCtcYM1zHeKiUm5RdAj0u6jIByDuKh6KW6lWClAlxqmaBQrbyk2IVNgTJZB+WoQVXGQGIcYR69D9ZE+Sh1s0e0c7Fy8deuFW5dfeOHaK1fP37ywf2lzY3vezcyKia0lnL/6oH+xM+I/owsAwDrsIScDqv3lw2vu44Ojjxazjb//8ffvP/xorAOTzTEFXLXukEhG4GaQj054cFFQMxNs8ixKEogyMLuGmCjDRwRFl10367rOExsyZdZJU6Glgnqao1EDNWuEaW6wtnI9oQ+l9C7VfwF4eAQkSqPeySAS1Vmqm1XVzMfUDEFITQMxNaDS/NKa/QlA8QjQhW6dzhf91vbuuZ2N/Z3Fwf72xQvnLl+/cPvywZVLh9d2t/Y2FpuWNd6v3Gi/8LHYn48F0OqbKVoPxOZs8+bl5/9stpj3i87sb3/4Nw8e36/jqsU+MFIpGtJI+dTckmHwlv8QgOWIKiBKb/VP3lndHXQrnbtHreQpAqYl2VLQSKNNSypoIYu5ASupfApOlHV+tLCJlnuTugtM2fR5f05IA2iTYdyB8MxCMlOxKQe7UKZwqCkUw9NWPyDcIh1CYYZ+Vjb3Nw4vH964feXOzct3bl64c+Hg8rntg63FVlc6riVH0wX3Y3DCL3zB8/lYAL/0GbTWP/oyu7B/5duv//GVw+uLxf/w9z/525+89cNWf2tjPqRIB0DEOggIFHqqSSspIWu2ogApshANcUht1nlwODthQLQTIwRwQkzWWmpkPS+gMDSoQX16ONRwiZn2klTzBM0m3oGMCWobmQwDUUROEkCNMPdRVFRNVEzEtGQTdqzLcTWuVmMdwCqkbc4WO5vnLuxfuXJw/crBjSvnrx/uXTrYvbC7tbe12F30876fmZWi9hSP4cv1iH8uF8DHTuRcEot+4+r569uL7Ucnj85t7Rct9+7ffXT0MFv2eW5EQHIZNBgBUsXTwt90PcaSCaSS8QEBuIqnPCx8HFdL1d66zkr7YyrakPdNlgSK5kSiDcgazbddl2UKI0XzGKAFFU/ulPadURmcMhcjJ7bMnEt3QGsqGDw96mqyuTdfbO/ubc52N+e7e5vnDnbPXzi8emn/2qX9K4d7F3a29jYXW13ps875+Db/lHjzS1XqfC4XwNP2+Ty45928273wp7/9b29fvrPo5//n3/2nk9WJV29O74mMkDzBaMEQ0zOoeBKKm5mhARBmAk/azdgVFbXAGcfliqXf2CAKEMVAbWFbFDYuRZu0MaLNwBBr8mggzTRZakm7SEyTBObQTgUNMOhrpBsppsZ2XXavo6/Oxqiky6zrz+8d3r70/Cu3Xr956fnrF2/vbu3vbO5tbmzN+kWxsg50/dXyZv3zXLfznz39rb/2Gf8W1xtV9itIBOvRyaN3Pnj7b370n7/7g7/83g//6oP7906Xp22DXxM818kZ0oiXbVyWfZ10mLd84oCIls60qIiPp6yKmHeLza7vpWDC1+b4NibZWaO8OT31dDnNFfGpN5pabZ+8UiGpR4qnBn6QaMO1JrBmiAdiZIwMl77024vdK+evX7t4+8bFm1fP37hy/sbh7sWtjZ2N+UaxvpSuWNF0cfFXGsq/LLV69tB/nk6Ap+8Dk+UCJIt1e9v7W5s7fdf1Xb8azrrSf/jwg7PVSY0ak95nukOss64bQXr99LWwiHXgXK1iCtNG1/Ix3N2j+VbapLfxtiaTVYtyJdMww6nYb8lOawdmU/NN7p4nNggQ0S7LEIlcSm4aNrO+6+Y7W7uXz199/vorL9589flrL146uLq/c9h3i489yZPx9+NRDE/7VJ49/Z/LE+DjH/P0G5I1xqPTR2+9/5O//se//Nsf/5e/+dFf3X98/2y1yko9q5z0gKTuJhr0JoH4U9N+WhIUmHYiVnQAwSrQhdncSpfbazMPtjUgTZgjkQliJClV6AInAgyhc3LA4Cmu+JpSnW5iH1HH8IQyuAq6rfnmpcOrz1176eUbr928fPv65Vv7O+d3N8+Vru+sU827MX4JuDAFon4hBQtf6hPgV2uh9cY2s3nZ6srVru/mV87fuHr++tsfvPWLez//6NGHj08eLpfLVBGsrQQNIZq4oCZVaI9oBjswIiWXIoHiEUN1EC4Z+du0B2jGsbB16HqjTq8hIC2gUtaY/qSVC5FMF6Zaw4UhQjGZbZT59vbO3vbh4e6FCwdXr1+4ef3irWsXbx7sHu5t789ni670a8hmapyeQNfy6W+67WdP/xf3BPjYMsC6kiGHOrzzwc/fuvvT7/34r37yzg9+/v5P7z9+cLY6qz5Wr0EnaptNaahiepq5xiMky0dESlEooTVGZRjQi5mKpgtLgGzE58UBEKIyMyPXhpVMipDmfcyVxUDUgCf7WgWq6Ip2Xem3Fjv7u4fXL926ffX5O9devHHpzoX9S7vbu511kqRe+fhm/2taxs++vgwL4Ncug1R/DnVYrc4enz56//4773341s/v/vTn7//kvY/evfvgvaOzx6dnxzU8IjJ7uKWrK0RiiotGGtpV1BRmMcHKVbQTMZUWgNjyJ+gRGgGG52kypSpFhr9HzVEXEdKgDVL6Mtucb+5s7e/vHF46uHL+3MXD3Qvnz13c3z3MJubWxvasm3elMy0yAW0z+2KtEHn20H/ZF8DHmht5EIjmKIAny8ePjh98+Pjeux+8fe/h++/ff/fh8f37jz88WR6dLE+G1dmynq18WevorB51Cth9MiNQRbFWt4SDMBHV/DUhn83o2GKZMt+9aDG1oqpSLNNQtSvWFe2Kdp11i35zMd/c3drd3drf3zk83LtwsHu4s7m7u31uc761WGx01pkW4td9KNJISs+KnGcL4P+tIsIUKinAalwth+Wjo/sPjz+6++C9ew/eu/vgvftHH3z46N7Dk4dHZ4+Ww3K5OnXWYETkZIoATEW14fAjiZ5QhU03z3ZzTtm9qHWlm3X9ot9c9Bsb/WJzvr0x39rZ3N2cb29t7C66jc355uZia3/7YHtzd2tzZzHb2Jht9F1v1rXaPeOW5Nd0wJ59PVsA/1+PgvWBkM9SRHh49XH0YRiWqzqcrU5Ozo6Ozh6fLI9PVyfLYXm6OlkNZ8M4eNTqXuu4GlfudfDl2XC6XC1rHVNj3/8/7V1BTsQwDGztsZ0uIP7/TQTbJnYSDtmuBOwiDiAuzSmHHBJprEyU8QxUWBSqsGTLog8mJlBTM7EkJ9NkkhRqmkzMNClMJDERGBiZvwxAmMajgonoK7n/JMo/OM9RAD+9Cj7xovmWZ0fxnH3dPBfPxfNW1jWfc9miRoR7+JrPJUr27XV7Wbe34j4YjqmqpEUW03Syx6flOVlSsaSLiZkkhgiLsAJMDDBGi8mdDU/TLapzIP4ogN/iRTcOt6sq2nDKH5lltdXaYp9Uj1JrRK3Zz8W9RsxETCyiYDBDGYApFMAw8r/EiV5cSa6fT/Negv0bk+QD8UcB/O2F8BFnU99bza9rRlpK71PrtY4wl15b7zWitaitzRMRzUwYdjo0z8wYuolLt8Gu3Z4+4Hj3gb+fin6g/3/HO/vMuhIbPKgfAAAAAElFTkSuQmCC";
-    private static final float IMAGE_OPACITY = 0.9f;
+
     private static final String EMOJI = "\uf06c";
     private static final int EMOJI_FONT_SIZE = 70;
     private static final float EMOJI_OPACITY = 0.7f;
@@ -19,64 +33,174 @@ public class ImageUtils {
     private static final Color FONT_COLOUR = Color.WHITE;
     private static final double REDUCTION_FACTOR = 0.85;
     private static final int MAX_DIMENSION = 200;
-
+    private static final float[] JPEG_QUALITIES = {0.9f, 0.75f, 0.6f, 0.45f}; // Tried in turn until the cover fits
+    private static final int MAX_COVER_SIZE = 256 * 1024; // Spotify's cap on an uploaded cover's Base64 payload
+    /**
+     * Everything that determines what a cover looks like, apart from its source image - so that caches of generated
+     * covers never serve one rendered with different settings.
+     */
+    public static final String RENDER_SIGNATURE = String.join(";", "jpeg", "max=" + MAX_DIMENSION, "reduction=" + REDUCTION_FACTOR,
+            "emoji=" + EMOJI + "@" + EMOJI_FONT_SIZE + "/" + EMOJI_OPACITY, "font=" + FONT_FAMILY,
+            "colour=" + Integer.toHexString(FONT_COLOUR.getRGB()), "interpolation=bilinear");
+
+    private static final Font EMOJI_FONT = new Font(FONT_FAMILY, Font.PLAIN, EMOJI_FONT_SIZE); // Font lookup is costly - do it once
+
+    // Encoding buffer per rendering thread, so every cover doesn't grow a fresh one up to the image's size
+    private static final ThreadLocal<ByteArrayOutputStream> ENCODING_BUFFER = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(64 * 1024));
+
+    /**
+     * Downloads and loifys the image at `imageUrl`. Blocks on the download - reactive code should fetch the image
+     * itself and use {@link #loifyPlaylistImage(byte[])} instead (see {@code CoverArtService}).
+     */
     public static String loifyPlaylistImage(String imageUrl) throws IOException {
+        try (InputStream in = new URL(imageUrl).openStream()) {
+            return loifyPlaylistImage(in.readAllBytes());
+        }
+    }
 
-        BufferedImage originalImage = ImageIO.read(new URL(imageUrl));  // Download image
-        BufferedImage resizedImage = resizeImage(originalImage);
-
-        Graphics2D g2d = resizedImage.createGraphics(); // Use resizedImage as the base and add an overlay
-
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, IMAGE_OPACITY));   // Set the composite for partial opacity
+    /**
+     * Loifys an already downloaded image and returns it as a Base64-encoded JPEG within Spotify's 256 KB upload cap.
+     * CPU-bound - never call it on an event loop.
+     * <p>
+     * Large sources are subsampled while decoding, so their full-size pixels are never materialized; the scaled image
+     * and the emoji are then composited in a single pass onto the output image.
+     */
+    public static String loifyPlaylistImage(byte[] image) throws IOException {
+        BufferedImage source = decode(image);
+        Dimension size = targetSize(source.getWidth(), source.getHeight());
+        BufferedImage cover = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB); // JPEG has no alpha
+
+        Graphics2D g2d = cover.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.drawImage(source, 0, 0, size.width, size.height, null);
+
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, EMOJI_OPACITY));
+            g2d.setColor(FONT_COLOUR);
+            g2d.setFont(EMOJI_FONT);
+
+            // Calculate position to center the emoji
+            FontMetrics fontMetrics = g2d.getFontMetrics();
+            int centerX = (size.width - fontMetrics.stringWidth(EMOJI)) / 2;
+            int centerY = (size.height + fontMetrics.getAscent() - fontMetrics.getDescent()) / 2;
+            g2d.drawString(EMOJI, centerX, centerY);
+        } finally {
+            g2d.dispose();
+        }
 
-        g2d.drawImage(resizedImage, 0, 0, null);    // Draw the resized image onto itself for opacity effect
+        return encodeCover(cover);
+    }
 
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, EMOJI_OPACITY));    // Set composite to full opacity and prepare to draw the emoji
-        g2d.setColor(FONT_COLOUR);
-        g2d.setFont(new Font(FONT_FAMILY, Font.PLAIN, EMOJI_FONT_SIZE));
+    /**
+     * The default cover, as a Base64-encoded JPEG ready for upload.
+     */
+    public static String defaultCover() {
+        return DefaultCover.BASE_64;
+    }
 
-        // Calculate position to center the emoji
-        FontMetrics fontMetrics = g2d.getFontMetrics();
-        int centerX = (resizedImage.getWidth() - fontMetrics.stringWidth(EMOJI)) / 2;
-        int centerY = (resizedImage.getHeight() + fontMetrics.getAscent() - fontMetrics.getDescent()) / 2;
+    public static BufferedImage resizeImage(BufferedImage originalImage) {
+        Dimension size = targetSize(originalImage.getWidth(), originalImage.getHeight());
 
-        g2d.drawString(EMOJI, centerX, centerY); // Draw the emoji in the center
+        // Create resized image with calculated dimensions
+        BufferedImage resizedImage = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = resizedImage.createGraphics();
 
-        g2d.dispose(); // Release graphics resources
+        // Draw the original image into the resized image with scaling
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(originalImage, 0, 0, size.width, size.height, null);
+        g2d.dispose();
 
-        // Convert final image with emoji overlay to Base64
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            ImageIO.write(resizedImage, "png", baos);
-            return Base64.getEncoder().encodeToString(baos.toByteArray());
-        }
+        return resizedImage;
     }
 
-    public static BufferedImage resizeImage(BufferedImage originalImage) {
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-
-        int newWidth;
-        int newHeight;
-
+    private static Dimension targetSize(int originalWidth, int originalHeight) {
         if (originalWidth <= MAX_DIMENSION && originalHeight <= MAX_DIMENSION) {    // Reduce by 15% if the image is already within the limit
-            newWidth = (int) (originalWidth * REDUCTION_FACTOR);
-            newHeight = (int) (originalHeight * REDUCTION_FACTOR);
+            return new Dimension(Math.max(1, (int) (originalWidth * REDUCTION_FACTOR)), Math.max(1, (int) (originalHeight * REDUCTION_FACTOR)));
         } else if (originalWidth > originalHeight) {    // Resize to fit within the max width while maintaining aspect ratio
-            newWidth = MAX_DIMENSION;
-            newHeight = (int) (originalHeight * ((double) MAX_DIMENSION / originalWidth));
+            return new Dimension(MAX_DIMENSION, Math.max(1, (int) (originalHeight * ((double) MAX_DIMENSION / originalWidth))));
         } else {    // Resize to fit within the max height while maintaining aspect ratio
-            newHeight = MAX_DIMENSION;
-            newWidth = (int) (originalWidth * ((double) MAX_DIMENSION / originalHeight));
+            return new Dimension(Math.max(1, (int) (originalWidth * ((double) MAX_DIMENSION / originalHeight))), MAX_DIMENSION);
         }
+    }
 
-        // Create resized image with calculated dimensions
-        BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = resizedImage.createGraphics();
+    /**
+     * Decodes an image, skipping every n-th row and column when the source is at least twice the target size -
+     * the subsampled image is still at least as large as the target, so the final scaling only ever shrinks it.
+     */
+    private static BufferedImage decode(byte[] image) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                Dimension size = targetSize(width, height);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.min(width / size.width, height / size.height));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
 
-        // Draw the original image into the resized image with scaling
-        g2d.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-        g2d.dispose();
+    /**
+     * Encodes the cover as JPEG, Base64-encoding it on the fly into the thread's buffer, lowering the quality until it
+     * fits Spotify's upload cap. The Base64 text is the only copy of the encoded image the caller ever sees.
+     */
+    private static String encodeCover(BufferedImage cover) throws IOException {
+        ByteArrayOutputStream buffer = ENCODING_BUFFER.get();
+        for (float quality : JPEG_QUALITIES) {
+            buffer.reset();
+            try (OutputStream base64 = Base64.getEncoder().wrap(buffer)) {
+                writeJpeg(cover, quality, base64);
+            }
+            if (buffer.size() <= MAX_COVER_SIZE) {
+                return buffer.toString(StandardCharsets.ISO_8859_1); // Base64 is plain ASCII
+            }
+        }
+        throw new IOException("Cover exceeds Spotify's upload limit even at the lowest quality");
+    }
 
-        return resizedImage;
+    private static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) { // Avoids ImageIO's temp-file cache
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * {@link #DEFAULT_BASE_IMAGE_64} is a PNG, while Spotify only accepts JPEG covers - converted once, on first use.
+     */
+    private static final class DefaultCover {
+
+        static final String BASE_64;
+
+        static {
+            try {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(DEFAULT_BASE_IMAGE_64)));
+                BufferedImage opaque = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+                Graphics2D g2d = opaque.createGraphics();
+                g2d.drawImage(image, 0, 0, null);
+                g2d.dispose();
+                BASE_64 = encodeCover(opaque);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not convert the default cover", e);
+            }
+        }
     }
 }
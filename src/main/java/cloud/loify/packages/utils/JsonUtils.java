@@ -0,0 +1,163 @@
+package cloud.loify.packages.utils;
+
+import cloud.loify.packages.common.dto.AlbumDetailsDTO;
+import cloud.loify.packages.common.dto.ArtistDetailsDTO;
+import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token-streaming helpers for the hand-written Spotify deserializers.
+ * <p>
+ * Every reader expects the parser to be positioned on the value it reads and leaves it on that value's last token,
+ * the same contract as {@link JsonParser#skipChildren()}. Fields the DTOs don't keep are skipped without being
+ * materialized.
+ */
+public class JsonUtils {
+
+    @FunctionalInterface
+    public interface FieldReader {
+        /**
+         * Reads (or skips) the value of `field`; the parser is positioned on that value.
+         */
+        void read(String field, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Walks the fields of the object the parser is positioned on, handing each value to `reader`.
+     * Accepts both `START_OBJECT` and `FIELD_NAME`, since Jackson may hand a deserializer either.
+     */
+    public static void readObject(JsonParser parser, FieldReader reader) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            parser.nextToken();
+            reader.read(field, parser);
+            parser.skipChildren(); // No-op for scalars or values the reader consumed fully
+        }
+    }
+
+    /**
+     * Returns the current scalar value as text, or null for JSON null, objects and arrays (which are skipped).
+     */
+    public static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    public static Boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        parser.skipChildren();
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean();
+    }
+
+    /**
+     * Returns the current value as an integer, or null for JSON null and anything that isn't a number.
+     */
+    public static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Reads `external_urls` and returns its `spotify` entry.
+     */
+    public static String readSpotifyUrl(JsonParser parser) throws IOException {
+        String[] url = new String[1];
+        readObject(parser, (field, p) -> {
+            if ("spotify".equals(field)) {
+                url[0] = readText(p);
+            }
+        });
+        return url[0];
+    }
+
+    /**
+     * Reads an `images` array, keeping only the first image - the largest one, as Spotify orders them by size.
+     */
+    public static CoverImageDetailsDTO readFirstImage(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        CoverImageDetailsDTO first = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first == null && parser.currentToken() == JsonToken.START_OBJECT) {
+                String[] url = new String[1];
+                readObject(parser, (field, p) -> {
+                    if ("url".equals(field)) {
+                        url[0] = readText(p);
+                    }
+                });
+                first = new CoverImageDetailsDTO(url[0]);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return first;
+    }
+
+    public static AlbumDetailsDTO readAlbum(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String[] idAndName = new String[2];
+        CoverImageDetailsDTO[] image = new CoverImageDetailsDTO[1];
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "id" -> idAndName[0] = readText(p);
+                case "name" -> idAndName[1] = readText(p);
+                case "images" -> image[0] = readFirstImage(p);
+            }
+        });
+        return new AlbumDetailsDTO(idAndName[0], idAndName[1], image[0]);
+    }
+
+    public static List<ArtistDetailsDTO> readArtists(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        List<ArtistDetailsDTO> artists = new ArrayList<>(4);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String[] idAndName = new String[2];
+            readObject(parser, (field, p) -> {
+                switch (field) {
+                    case "id" -> idAndName[0] = readText(p);
+                    case "name" -> idAndName[1] = readText(p);
+                }
+            });
+            artists.add(new ArtistDetailsDTO(idAndName[0], idAndName[1]));
+        }
+        return artists;
+    }
+}
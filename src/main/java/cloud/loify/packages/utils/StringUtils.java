@@ -10,11 +10,39 @@ public class StringUtils {
         return "a " + genre.toLowerCase() + " version of playlist: " + playlistName;
     }
 
+    /**
+     * Builds the search query for a track's loify version: its normalized name (see {@link TrackNameNormalizer})
+     * followed by the genre.
+     */
     public static String customizeTrackName(String trackName, String genre) {
-        return standardizeTrackName(trackName) + " " + genre.toLowerCase();
+        StringBuilder query = new StringBuilder(trackName.length() + genre.length() + 1);
+        TrackNameNormalizer.normalize(trackName, query);
+        query.append(' ');
+        for (int i = 0; i < genre.length(); i++) {
+            query.append(Character.toLowerCase(genre.charAt(i)));
+        }
+        return query.toString();
     }
 
-    private static String standardizeTrackName(String trackName) {
-        return trackName.toLowerCase().replaceAll("\\(.*?\\)", "").trim();
+    /**
+     * Normalizes a search query so that equivalent queries share the same cache key:
+     * lower-cased, trimmed and with runs of whitespace collapsed into a single space.
+     */
+    public static String normalizeSearchQuery(String query) {
+        StringBuilder normalized = new StringBuilder(query.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
     }
 }
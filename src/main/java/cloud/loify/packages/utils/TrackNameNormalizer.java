@@ -0,0 +1,204 @@
+package cloud.loify.packages.utils;
+
+import java.util.Set;
+
+/**
+ * Reduces a Spotify track name to the part worth searching for, in a single pass and without regexes:
+ * <ul>
+ *     <li>bracketed parts are dropped - `(2004 Remaster)`, `[Live]`, `{Demo}`, `(with Artist)`, nested or not;</li>
+ *     <li>`feat.`/`ft.`/`featuring` clauses are dropped, together with everything after them;</li>
+ *     <li>dash suffixes describing a version are dropped - `- Remastered 2011`, `- Radio Edit`, `- From "8 Mile" Soundtrack`,
+ *     `- From the Film "Up"` - but not `- Take Me Home` or `- Stay With Me`;</li>
+ *     <li>the rest is lower-cased (locale-independently) and its whitespace trimmed and collapsed.</li>
+ * </ul>
+ * E.g. `Old Town Road (feat. Billy Ray Cyrus) - Remix` and `old town road` both normalize to `old town road`, so they
+ * share a search cache entry. If nothing would be left, the name is only lower-cased and collapsed instead.
+ */
+public final class TrackNameNormalizer {
+
+    // Words that mark a dash suffix as a version descriptor rather than part of the title - as prefixes ("remastered")
+    // or, where a prefix would be ambiguous ("monologue", "feather"), as whole words. Words as common in titles as
+    // "from" or "with" only count as part of a fixed phrase - see isVersionSuffix
+    private static final String[] VERSION_WORD_PREFIXES = {"remaster", "remix", "edit", "version", "stereo",
+            "acoustic", "instrumental", "soundtrack", "deluxe", "anniversary", "recorded", "session"};
+    private static final Set<String> VERSION_WORDS = Set.of("live", "mix", "mixed", "demo", "mono", "bonus", "single",
+            "radio", "extended", "original", "feat", "feat.", "ft.");
+    private static final String[] FEATURE_MARKERS = {"feat.", "feat ", "ft.", "ft ", "featuring "};
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private TrackNameNormalizer() {
+    }
+
+    /**
+     * Normalizes `trackName` and returns the result - uses a per-thread buffer, so only the result is allocated.
+     */
+    public static String normalize(String trackName) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        normalize(trackName, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Appends the normalized form of `trackName` to `out`, leaving whatever `out` already holds untouched.
+     */
+    public static void normalize(CharSequence trackName, StringBuilder out) {
+        int start = out.length();
+        appendNormalized(trackName, out, start, true);
+        if (out.length() == start) {
+            appendNormalized(trackName, out, start, false); // e.g. "(Intro)" - better to search for that than for nothing
+        }
+    }
+
+    private static void appendNormalized(CharSequence name, StringBuilder out, int start, boolean strip) {
+        int depth = 0;               // Bracket nesting depth
+        int bracketMark = -1;        // Output length when the outermost open bracket was seen
+        int dashMark = -1;           // Output length when the last ` - ` separator was seen
+        boolean pendingSpace = false;
+        boolean atWordStart = true;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (strip) {
+                if (isOpenBracket(c)) {
+                    if (depth++ == 0) {
+                        bracketMark = out.length();
+                    }
+                    pendingSpace = out.length() > start;
+                    atWordStart = true;
+                    continue;
+                }
+                if (isCloseBracket(c) && depth > 0) {
+                    if (--depth == 0) {
+                        out.setLength(bracketMark); // Drop the whole bracketed part
+                    }
+                    pendingSpace = out.length() > start;
+                    atWordStart = true;
+                    continue;
+                }
+                if (depth == 0 && atWordStart && (c == 'f' || c == 'F') && startsFeatureClause(name, i)) {
+                    break; // Featured artists are never part of the title
+                }
+                if (depth == 0 && isDash(c) && pendingSpace && i + 1 < name.length() && isWhitespace(name.charAt(i + 1))) {
+                    dashMark = out.length(); // Written out below - only dropped if what follows turns out to be a version
+                }
+            }
+
+            if (isWhitespace(c)) {
+                pendingSpace = out.length() > start;
+                atWordStart = true;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(toLowerCase(c));
+            atWordStart = false;
+        }
+
+        // An unbalanced bracket simply never truncates, so what followed it is kept - as with the regex this replaced
+        if (dashMark > start && isVersionSuffix(out, dashMark)) {
+            out.setLength(dashMark);
+        }
+    }
+
+    /**
+     * Whether any (space-separated, already lower-cased) word from `from` on marks a version - a keyword or a year - or
+     * the suffix is a `from ... film` phrase or empty.
+     */
+    private static boolean isVersionSuffix(StringBuilder out, int from) {
+        int wordStart = from;
+        int words = 0;
+        boolean fromClause = false;
+        for (int i = from; i <= out.length(); i++) {
+            if (i < out.length() && out.charAt(i) != ' ') {
+                continue;
+            }
+            if (i > wordStart && !(i - wordStart == 1 && isDash(out.charAt(wordStart)))) {
+                if (isVersionWord(out, wordStart, i)) {
+                    return true;
+                }
+                if (words++ == 0) {
+                    fromClause = isWord(out, wordStart, i, "from");
+                } else if (fromClause && isWord(out, wordStart, i, "film")) {
+                    return true;
+                }
+            }
+            wordStart = i + 1;
+        }
+        return words == 0; // A dangling dash, e.g. left by a dropped feature clause
+    }
+
+    private static boolean isWord(StringBuilder out, int start, int end, String word) {
+        return end - start == word.length() && regionMatches(out, start, word);
+    }
+
+    private static boolean isVersionWord(StringBuilder out, int start, int end) {
+        int length = end - start;
+        if (length == 4 && (out.charAt(start) == '1' || out.charAt(start) == '2') && Character.isDigit(out.charAt(start + 1))
+                && Character.isDigit(out.charAt(start + 2)) && Character.isDigit(out.charAt(start + 3))) {
+            return true; // A year, e.g. "Song - 1999"
+        }
+        for (String prefix : VERSION_WORD_PREFIXES) {
+            if (length >= prefix.length() && regionMatches(out, start, prefix)) {
+                return true;
+            }
+        }
+        return length <= 8 && VERSION_WORDS.contains(out.substring(start, end));
+    }
+
+    private static boolean startsFeatureClause(CharSequence name, int index) {
+        for (String marker : FEATURE_MARKERS) {
+            if (regionMatches(name, index, marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether `text` continues with `lowerCaseWord` at `index`, ignoring case.
+     */
+    private static boolean regionMatches(CharSequence text, int index, String lowerCaseWord) {
+        if (index + lowerCaseWord.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCaseWord.length(); i++) {
+            if (toLowerCase(text.charAt(index + i)) != lowerCaseWord.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ASCII fast paths - most track names never leave ASCII
+
+    private static char toLowerCase(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c); // Locale-independent, unlike String.toLowerCase()
+    }
+
+    private static boolean isWhitespace(char c) {
+        if (c < 128) {
+            return c == ' ' || (c >= '\t' && c <= '\r') || (c >= '\u001C' && c <= '\u001F');
+        }
+        return Character.isWhitespace(c);
+    }
+
+    private static boolean isOpenBracket(char c) {
+        return c == '(' || c == '[' || c == '{';
+    }
+
+    private static boolean isCloseBracket(char c) {
+        return c == ')' || c == ']' || c == '}';
+    }
+
+    private static boolean isDash(char c) {
+        return c == '-' || c == '\u2013' || c == '\u2014'; // Hyphen, en dash, em dash
+    }
+}
@@ -0,0 +1,171 @@
+package cloud.loify.packages.common.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedLogStoreTest {
+
+    private static final int FILE_HEADER = 8;
+    private static final int RECORD_HEADER = 19;
+    private static final long NEVER = 0;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysPutsAndDeletesOnReopen() {
+        try (MappedLogStore store = this.open(4096)) {
+            store.write("a", bytes("one"), NEVER);
+            store.write("b", bytes("two"), NEVER);
+            store.write("a", bytes("three"), NEVER);
+            store.remove("b");
+        }
+
+        try (MappedLogStore store = this.open(4096)) {
+            assertArrayEquals(bytes("three"), store.read("a"));
+            assertNull(store.read("b"));
+            assertEquals(1, store.getEntryCount());
+        }
+    }
+
+    @Test
+    void dropsTornRecordOnReplay() throws IOException {
+        try (MappedLogStore store = this.open(4096)) {
+            store.write("a", bytes("intact"), NEVER);
+            store.write("b", bytes("torn"), NEVER);
+        }
+        // Flip a byte of the last record's value, as if the process died before all of it reached the page cache
+        int tornValueOffset = FILE_HEADER + recordSize("a", "intact") + RECORD_HEADER + 1;
+        try (FileChannel channel = FileChannel.open(this.directory.resolve("store.log"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), tornValueOffset);
+        }
+
+        try (MappedLogStore store = this.open(4096)) {
+            assertArrayEquals(bytes("intact"), store.read("a"));
+            assertNull(store.read("b"));
+            store.write("c", bytes("after"), NEVER);
+        }
+
+        try (MappedLogStore store = this.open(4096)) {
+            assertArrayEquals(bytes("intact"), store.read("a"));
+            assertArrayEquals(bytes("after"), store.read("c"));
+            assertEquals(2, store.getEntryCount());
+        }
+    }
+
+    @Test
+    void compactsOnceTheLogIsFull() {
+        try (MappedLogStore store = this.open(256)) {
+            for (int i = 0; i < 100; i++) {
+                store.write("key", bytes("value-" + i), NEVER);
+            }
+            store.write("other", bytes("kept"), NEVER);
+
+            assertTrue(store.getCompactionCount() > 0);
+            assertEquals(256, store.getCapacity());
+            assertEquals(recordSize("key", "value-99") + recordSize("other", "kept"), store.getLiveBytes());
+            assertArrayEquals(bytes("value-99"), store.read("key"));
+        }
+
+        try (MappedLogStore store = this.open(256)) {
+            assertArrayEquals(bytes("value-99"), store.read("key"));
+            assertArrayEquals(bytes("kept"), store.read("other"));
+        }
+    }
+
+    @Test
+    void readsStayConsistentWhileCompacting() throws InterruptedException {
+        try (MappedLogStore store = this.open(512)) {
+            store.write("stable", bytes("value"), NEVER);
+            AtomicReference<String> failure = new AtomicReference<>();
+            Thread reader = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    byte[] value = store.read("stable");
+                    if (value == null || !"value".equals(new String(value, StandardCharsets.UTF_8))) {
+                        failure.set(value == null ? "missing" : new String(value, StandardCharsets.UTF_8));
+                        return;
+                    }
+                }
+            });
+            reader.start();
+            for (int i = 0; i < 2000; i++) {
+                store.write("churn", bytes("value-" + i), NEVER);
+            }
+            reader.interrupt();
+            reader.join();
+
+            assertTrue(store.getCompactionCount() > 10);
+            assertNull(failure.get());
+        }
+    }
+
+    @Test
+    void expiresEntries() {
+        try (MappedLogStore store = this.open(256)) {
+            store.write("expired", bytes("gone"), System.currentTimeMillis() - 1);
+            store.write("live", bytes("here"), System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+            assertNull(store.read("expired"));
+            assertArrayEquals(bytes("here"), store.read("live"));
+
+            for (int i = 0; i < 20; i++) {
+                store.write("churn", bytes("value-" + i), NEVER);
+            }
+            assertTrue(store.getCompactionCount() > 0);
+            assertEquals(2, store.getEntryCount()); // Compaction dropped the expired entry
+        }
+
+        try (MappedLogStore store = this.open(256)) {
+            assertNull(store.read("expired"));
+            assertArrayEquals(bytes("here"), store.read("live"));
+        }
+    }
+
+    @Test
+    void expiresEntriesOnReplay() {
+        try (MappedLogStore store = this.open(4096)) {
+            store.put("short", bytes("lived"), Duration.ofMillis(1)).block();
+            store.put("long", bytes("lived"), Duration.ofHours(1)).block();
+        }
+        sleep(Duration.ofMillis(20));
+
+        try (MappedLogStore store = this.open(4096)) {
+            assertNull(store.get("short").block());
+            assertArrayEquals(bytes("lived"), store.get("long").block());
+            assertEquals(1, store.getEntryCount());
+        }
+    }
+
+    private MappedLogStore open(int initialCapacity) {
+        return new MappedLogStore("test", this.directory, initialCapacity, 4096, false);
+    }
+
+    private static int recordSize(String key, String value) {
+        return RECORD_HEADER + key.length() + value.length();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
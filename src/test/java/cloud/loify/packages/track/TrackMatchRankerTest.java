@@ -0,0 +1,104 @@
+package cloud.loify.packages.track;
+
+import cloud.loify.packages.common.dto.AlbumDetailsDTO;
+import cloud.loify.packages.common.dto.ArtistDetailsDTO;
+import cloud.loify.packages.common.dto.CoverImageDetailsDTO;
+import cloud.loify.packages.track.dto.SearchTrackResponseDTO;
+import cloud.loify.packages.track.dto.TrackDetailsDTO;
+import cloud.loify.packages.track.dto.TrackDetailsFromSearchDTO;
+import cloud.loify.packages.track.dto.TrackMatchDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackMatchRankerTest {
+
+    private static final ArtistDetailsDTO THE_WEEKND = new ArtistDetailsDTO("1Xyo4u8uXC1ZmMpatF05PJ", "The Weeknd");
+    private static final ArtistDetailsDTO LOFI_ARTIST = new ArtistDetailsDTO("4YRxDV8wJFPHPTeXepOstw", "Chill Beats Club");
+
+    private static final TrackDetailsDTO SOURCE = track("source", "Blinding Lights", "After Hours", List.of(THE_WEEKND), false, 200_040);
+
+    @Test
+    void prefersTheGenreVersionOverTheOriginalRecording() {
+        TrackDetailsDTO original = track("original", "Blinding Lights", "After Hours", List.of(THE_WEEKND), false, 200_040);
+        TrackDetailsDTO lofi = track("lofi", "Blinding Lights - Lo-Fi", "Lofi Covers", List.of(LOFI_ARTIST), false, 164_000);
+
+        TrackMatchDTO match = new TrackMatchRanker(SOURCE, "lofi").rank(result(original, lofi));
+
+        assertEquals(List.of("lofi", "original"), ids(match));
+        assertTrue(match.confidence() > 0.8, "confidence: " + match.confidence());
+    }
+
+    @Test
+    void findsTheGenreInAlbumOrArtistNames() {
+        TrackDetailsDTO unrelated = track("unrelated", "Blinding Light Show", "Stage", List.of(LOFI_ARTIST), false, 200_040);
+        TrackDetailsDTO byLofiArtist = track("artist", "Blinding Lights", "Covers", List.of(new ArtistDetailsDTO(null, "Lo-Fi Fruits")), false, 190_000);
+
+        TrackMatchDTO match = new TrackMatchRanker(SOURCE, "lofi").rank(result(unrelated, byLofiArtist));
+
+        assertEquals(List.of("artist", "unrelated"), ids(match));
+    }
+
+    @Test
+    void prefersTheCloserNameAmongGenreVersions() {
+        TrackDetailsDTO other = track("other", "Save Your Tears (Lofi)", null, List.of(LOFI_ARTIST), false, 200_040);
+        TrackDetailsDTO same = track("same", "Blinding Lights (Lofi)", null, List.of(LOFI_ARTIST), false, 200_040);
+
+        assertEquals(List.of("same", "other"), ids(new TrackMatchRanker(SOURCE, "lofi").rank(result(other, same))));
+    }
+
+    @Test
+    void keepsSpotifysOrderOnTiesAndDropsMissingCandidates() {
+        TrackDetailsDTO first = track("first", "Blinding Lights Lofi", null, List.of(LOFI_ARTIST), false, 200_040);
+        TrackDetailsDTO second = track("second", "Blinding Lights Lofi", null, List.of(LOFI_ARTIST), false, 200_040);
+
+        TrackMatchDTO match = new TrackMatchRanker(SOURCE, "lofi").rank(result(null, first, second));
+
+        assertEquals(List.of("first", "second"), ids(match));
+    }
+
+    @Test
+    void scoresNothingWithoutCandidates() {
+        SearchTrackResponseDTO empty = new SearchTrackResponseDTO(new TrackDetailsFromSearchDTO(List.of()));
+
+        TrackMatchDTO match = new TrackMatchRanker(SOURCE, "lofi").rank(empty);
+
+        assertEquals(0, match.confidence());
+        assertEquals(empty, match.result());
+    }
+
+    @Test
+    void bigramsAreSortedPairsOfCharacters() {
+        assertArrayEquals(new int[]{('a' << 16) | 'b', ('b' << 16) | 'c', ('c' << 16) | 'a'}, TrackMatchRanker.bigrams("cabc"));
+        assertArrayEquals(new int[]{'x'}, TrackMatchRanker.bigrams("x"));
+        assertArrayEquals(new int[0], TrackMatchRanker.bigrams(""));
+    }
+
+    @Test
+    void diceCountsSharedBigrams() {
+        assertEquals(1, TrackMatchRanker.dice(TrackMatchRanker.bigrams("night"), TrackMatchRanker.bigrams("night")));
+        assertEquals(0.25, TrackMatchRanker.dice(TrackMatchRanker.bigrams("night"), TrackMatchRanker.bigrams("nacht")));
+        assertEquals(0, TrackMatchRanker.dice(TrackMatchRanker.bigrams("abc"), TrackMatchRanker.bigrams("xyz")));
+        assertEquals(0, TrackMatchRanker.dice(TrackMatchRanker.bigrams(""), TrackMatchRanker.bigrams("abc")));
+        // Multisets: "aaa" has "aa" twice, "aa" once - one shared
+        assertEquals(2.0 / 3, TrackMatchRanker.dice(TrackMatchRanker.bigrams("aaa"), TrackMatchRanker.bigrams("aa")), 1e-9);
+    }
+
+    private static TrackDetailsDTO track(String id, String name, String album, List<ArtistDetailsDTO> artists, Boolean explicit, Integer durationMs) {
+        AlbumDetailsDTO albumDetails = album == null ? null : new AlbumDetailsDTO(null, album, (CoverImageDetailsDTO) null);
+        return new TrackDetailsDTO(id, name, albumDetails, artists, explicit, durationMs, null);
+    }
+
+    private static SearchTrackResponseDTO result(TrackDetailsDTO... candidates) {
+        return new SearchTrackResponseDTO(new TrackDetailsFromSearchDTO(Arrays.asList(candidates)));
+    }
+
+    private static List<String> ids(TrackMatchDTO match) {
+        return match.result().tracks().items().stream().map(TrackDetailsDTO::id).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package cloud.loify.packages.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrackNameNormalizerTest {
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', textBlock = """
+            # Brackets
+            Yesterday (2009 Remaster)                      | yesterday
+            Hurt [Live]                                    | hurt
+            Creep {Demo}                                   | creep
+            Sunflower (with Swae Lee)                      | sunflower
+            Song (Live (At Wembley) Version) Part 2        | song part 2
+            Song [Live {Demo}]                             | song
+            Song (Unfinished                               | song unfinished
+            Song) Again                                    | song) again
+            # Feature clauses
+            Old Town Road feat. Billy Ray Cyrus            | old town road
+            Old Town Road Feat Billy Ray Cyrus             | old town road
+            Lean On ft. MO                                 | lean on
+            Lean On Ft MO                                  | lean on
+            Stay featuring Justin Bieber                   | stay
+            Fake Love Song                                 | fake love song
+            Often                                          | often
+            # Version and year dash suffixes
+            Here Comes the Sun - Remastered 2009           | here comes the sun
+            Blinding Lights - Radio Edit                   | blinding lights
+            Lose Yourself - From "8 Mile" Soundtrack       | lose yourself
+            Married Life - From the Film "Up"              | married life
+            Party Like - 1999                              | party like
+            Hallelujah – Live                              | hallelujah
+            Old Town Road (feat. Billy Ray Cyrus) - Remix  | old town road
+            # A dash left dangling by a dropped clause
+            Song - feat. Somebody                          | song
+            Song - (Bonus Track)                           | song
+            # Dash suffixes that are part of the title
+            Stay - Take Me Home                            | stay - take me home
+            Too Good at Goodbyes - Stay With Me            | too good at goodbyes - stay with me
+            Interlude - Monologue Of A Stranger            | interlude - monologue of a stranger
+            Bird - Feathers                                | bird - feathers
+            Far From Home - The Film                       | far from home - the film
+            Spider-Man                                     | spider-man
+            # Case and whitespace
+            '  DONT   Stop\tMe  Now  '                     | dont stop me now
+            ÉCLAIR Über                                    | éclair über
+            # Nothing left once stripped
+            (Intro)                                        | (intro)
+            [Untitled]   feat. Nobody                      | [untitled] feat. nobody
+            """)
+    void normalizes(String trackName, String expected) {
+        assertEquals(expected, TrackNameNormalizer.normalize(trackName));
+    }
+
+    @Test
+    void appendsWithoutTouchingWhatIsAlreadyThere() {
+        StringBuilder out = new StringBuilder("artist:");
+
+        TrackNameNormalizer.normalize("Yesterday (Remastered)", out);
+        TrackNameNormalizer.normalize("(Intro)", out);
+
+        assertEquals("artist:yesterday(intro)", out.toString());
+    }
+}